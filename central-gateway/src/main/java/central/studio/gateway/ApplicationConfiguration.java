@@ -24,6 +24,8 @@
 
 package central.studio.gateway;
 
+import central.identity.EnableCentralIdentity;
+import central.identity.client.SessionVerifier;
 import central.pluglet.PlugletFactory;
 import central.pluglet.binder.SpringBeanFieldBinder;
 import central.pluglet.lifecycle.SpringLifeCycleProcess;
@@ -34,10 +36,14 @@ import central.studio.gateway.core.filter.FilterResolver;
 import central.studio.gateway.core.filter.predicate.DefaultPredicateResolver;
 import central.studio.gateway.core.filter.predicate.PredicateResolver;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
 
 /**
  * 应用配置
@@ -48,6 +54,7 @@ import org.springframework.context.annotation.Configuration;
 @EnableProbe
 @Configuration
 @EnableCentralProvider
+@EnableCentralIdentity
 @EnableConfigurationProperties(ApplicationProperties.class)
 public class ApplicationConfiguration {
 
@@ -79,4 +86,27 @@ public class ApplicationConfiguration {
     public PredicateResolver predicateResolver(PlugletFactory factory) {
         return new DefaultPredicateResolver(factory);
     }
+
+    /**
+     * 会话校验
+     * <p>
+     * 用于按用户限流时校验会话凭证
+     */
+    @Bean
+    @ConditionalOnMissingBean(SessionVerifier.class)
+    public SessionVerifier sessionVerifier() {
+        return new SessionVerifier();
+    }
+
+    /**
+     * Redis
+     * <p>
+     * 网关默认不连接 Redis，限流等需要共享计数的功能使用本地计数。
+     * 多个网关实例需要共享计数时，设置 studio.gateway.redis.enabled=true，并通过 spring.data.redis 配置连接
+     */
+    @Configuration
+    @ConditionalOnProperty(prefix = "studio.gateway.redis", name = "enabled", havingValue = "true")
+    @Import({RedisAutoConfiguration.class, RedisReactiveAutoConfiguration.class})
+    public static class RedisConfiguration {
+    }
 }
@@ -72,8 +72,15 @@ import java.util.stream.Collectors;
 @ExtensionMethod(ServerWebExchangex.class)
 public class ApplicationDispatcher implements WebHandler, HandlerMapping, Ordered {
 
-    @Setter(onMethod_ = @Autowired)
-    private List<GlobalFilter> filters;
+    /**
+     * 全局过滤器调用链，所有请求共享
+     */
+    private StandardFilterChain filters;
+
+    @Autowired
+    public void setFilters(List<GlobalFilter> filters) {
+        this.filters = StandardFilterChain.of(List.copyOf(filters));
+    }
 
     @Setter(onMethod_ = @Autowired)
     private ApplicationProperties properties;
@@ -126,7 +133,7 @@ public class ApplicationDispatcher implements WebHandler, HandlerMapping, Ordere
                         .build())
                 .build();
 
-        log.info("接收请求: '{} {}'", request.getMethod().name(), originUri);
+        log.debug("接收请求: '{} {}'", request.getMethod().name(), originUri);
 
         // 租户标识
         final var tenantCode = Objectx.getOrDefault(request.getHeaders().getFirst(XForwardedHeaders.TENANT), "master");
@@ -174,7 +181,7 @@ public class ApplicationDispatcher implements WebHandler, HandlerMapping, Ordere
 //                        .build().toString());
 //                exchange.getResponse().getHeaders().set(XForwardedHeaders.LOCATION, location.toString());
 
-                log.info("租户标识: {}, 路径: {}, 路径重写: {} -> {}", tenantCode, tenantPath, originUri, exchange.getRequest().getURI());
+                log.debug("租户标识: {}, 路径: {}, 路径重写: {} -> {}", tenantCode, tenantPath, originUri, exchange.getRequest().getURI());
             } else {
                 // 添加请求头
                 exchange = exchange.mutate().request(exchange.getRequest().mutate().headers(headers -> {
@@ -188,7 +195,7 @@ public class ApplicationDispatcher implements WebHandler, HandlerMapping, Ordere
 //                        .port(originUri.getPort())
 //                        .build().toString());
 //                exchange.getResponse().getHeaders().set(XForwardedHeaders.LOCATION, location.toString());
-                log.info("租户标识: {}", tenantCode);
+                log.debug("租户标识: {}", tenantCode);
             }
         } catch (ResponseStatusException ex) {
             log.error("{}({}): {}", HttpStatus.resolve(ex.getStatusCode().value()).name(), ex.getStatusCode().value(), ex.getLocalizedMessage());
@@ -198,21 +205,21 @@ public class ApplicationDispatcher implements WebHandler, HandlerMapping, Ordere
         SaasContainer container = this.dataContext.getData(DataFetcherType.SAAS);
         var tenant = container.getTenantByCode(tenantCode);
         if (tenant == null) {
-            log.info("租户[{}]不存在", tenantCode);
+            log.debug("租户[{}]不存在", tenantCode);
             return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, Stringx.format("Invalid tenant '{}'", tenantCode)));
         }
         if (Objects.equals(Boolean.FALSE, tenant.getEnabled())) {
-            log.info("租户[{}]已禁用", tenantCode);
+            log.debug("租户[{}]已禁用", tenantCode);
             return Mono.error(new ResponseStatusException(HttpStatus.BAD_REQUEST, Stringx.format("Disabled tenant '{}'", tenantCode)));
         }
 
-        log.info("匹配租户成功[code: {}, name: {}]", tenant.getCode(), tenant.getName());
+        log.debug("匹配租户成功[code: {}, name: {}]", tenant.getCode(), tenant.getName());
 
         // 将租户信息放到 Attributes 中，后面的 Filter 可以通过 Attributes 获取
         exchange.setAttribute(ExchangeAttributes.TENANT, tenant);
         exchange.getRequiredAttribute(ExchangeAttributes.TOKEN).withClaim("tc", tenant.getCode());
 
-        return StandardFilterChain.of(this.filters).filter(exchange);
+        return this.filters.filter(exchange);
     }
 
     private URI rebuildUri(ServerHttpRequest request) {
@@ -24,10 +24,12 @@
 
 package central.studio.gateway;
 
+import central.studio.gateway.core.accesslog.AccessLogField;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.http.HttpMethod;
 
+import java.time.Duration;
 import java.util.List;
 
 /**
@@ -44,4 +46,95 @@ public class ApplicationProperties {
      * 当前网关支持的方法
      */
     private List<HttpMethod> supportedMethods = List.of(HttpMethod.GET, HttpMethod.POST, HttpMethod.PUT, HttpMethod.DELETE, HttpMethod.PATCH, HttpMethod.HEAD);
+
+    /**
+     * 转发令牌
+     */
+    private Token token = new Token();
+
+    /**
+     * 指标
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * 访问日志
+     */
+    private AccessLog accessLog = new AccessLog();
+
+    @Data
+    public static class Token {
+        /**
+         * 是否缓存已签名的转发令牌
+         * <p>
+         * 开启后，相同租户、应用和声明的请求在缓存期内共用同一个令牌（包括 jti）
+         */
+        private boolean cacheEnabled = false;
+
+        /**
+         * 令牌缓存时间
+         * <p>
+         * 需要小于令牌的有效期，保证下游收到的令牌仍有足够的剩余有效时间
+         */
+        private Duration cacheTtl = Duration.ofSeconds(60);
+    }
+
+    @Data
+    public static class Metrics {
+        /**
+         * 指标查询路径
+         */
+        private String path = "/__gateway/metrics";
+
+        /**
+         * 指标查询密钥，通过 Authorization 请求头传递。为空时不开放指标查询
+         */
+        private String secret;
+
+        /**
+         * 最大路由数
+         * <p>
+         * 超过该数量后，新路由的指标汇总到同一个统计项中，避免指标无限增长
+         */
+        private int maxRoutes = 10000;
+    }
+
+    @Data
+    public static class AccessLog {
+        /**
+         * 是否输出访问日志
+         */
+        private boolean enabled = true;
+
+        /**
+         * 日志名称，可以在日志配置中将访问日志输出到单独的文件
+         */
+        private String logger = "central.studio.gateway.access";
+
+        /**
+         * 采样率（0-1）
+         * <p>
+         * 服务端错误（5xx）和慢请求总是输出
+         */
+        private double sampleRate = 1.0;
+
+        /**
+         * 慢请求阈值
+         */
+        private Duration slowThreshold = Duration.ofSeconds(1);
+
+        /**
+         * 输出的字段
+         */
+        private List<AccessLogField> fields = List.of(AccessLogField.TIME, AccessLogField.TENANT, AccessLogField.APPLICATION,
+                AccessLogField.METHOD, AccessLogField.PATH, AccessLogField.STATUS, AccessLogField.LATENCY, AccessLogField.UPSTREAM_LATENCY,
+                AccessLogField.RECEIVED_BYTES, AccessLogField.SENT_BYTES, AccessLogField.REMOTE_ADDRESS, AccessLogField.ERROR);
+
+        /**
+         * 缓冲区大小
+         * <p>
+         * 缓冲区满时丢弃新的日志，不会阻塞请求处理线程
+         */
+        private int bufferSize = 8192;
+    }
 }
@@ -26,6 +26,9 @@ package central.studio.gateway;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisReactiveAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.redis.RedisRepositoriesAutoConfiguration;
 
 /**
  * Gateway Application
@@ -33,7 +36,10 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
  * @author Alan Yeh
  * @since 2022/10/09
  */
-@SpringBootApplication
+@SpringBootApplication(exclude = {
+        // 只有开启 studio.gateway.redis.enabled 时才连接 Redis，见 ApplicationConfiguration.RedisConfiguration
+        RedisAutoConfiguration.class, RedisReactiveAutoConfiguration.class, RedisRepositoriesAutoConfiguration.class
+})
 public class GatewayApplication {
     public static void main(String[] args) {
         SpringApplication.run(GatewayApplication.class, args);
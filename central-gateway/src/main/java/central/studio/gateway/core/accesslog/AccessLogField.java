@@ -0,0 +1,69 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.accesslog;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * 访问日志字段
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Getter
+@RequiredArgsConstructor
+public enum AccessLogField {
+    TIME("time", record -> Instant.ofEpochMilli(record.getTime()).toString()),
+    TENANT("tenant", AccessLogRecord::getTenant),
+    APPLICATION("application", AccessLogRecord::getApplication),
+    ROUTE("route", AccessLogRecord::getRoute),
+    METHOD("method", AccessLogRecord::getMethod),
+    PATH("path", AccessLogRecord::getPath),
+    QUERY("query", AccessLogRecord::getQuery),
+    STATUS("status", AccessLogRecord::getStatus),
+    LATENCY("latency", record -> record.getLatency() / 1000.0),
+    UPSTREAM_LATENCY("upstreamLatency", record -> record.getUpstreamLatency() < 0 ? null : record.getUpstreamLatency() / 1000.0),
+    RECEIVED_BYTES("receivedBytes", AccessLogRecord::getReceivedBytes),
+    SENT_BYTES("sentBytes", AccessLogRecord::getSentBytes),
+    REMOTE_ADDRESS("remoteAddress", AccessLogRecord::getRemoteAddress),
+    FORWARDING_URI("forwardingUri", AccessLogRecord::getForwardingUri),
+    USER_AGENT("userAgent", AccessLogRecord::getUserAgent),
+    REFERER("referer", AccessLogRecord::getReferer),
+    ERROR("error", AccessLogRecord::getError);
+
+    /**
+     * 日志中的字段名
+     */
+    private final String name;
+
+    /**
+     * 取值，耗时的单位为毫秒
+     */
+    private final Function<AccessLogRecord, Object> extractor;
+}
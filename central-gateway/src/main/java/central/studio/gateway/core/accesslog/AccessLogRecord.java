@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.accesslog;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 访问日志记录
+ * <p>
+ * 在事件循环线程上只收集原始值，格式化由后台线程完成
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Getter
+@Builder
+public class AccessLogRecord {
+    /**
+     * 请求完成时间（毫秒时间戳）
+     */
+    private final long time;
+    private final String tenant;
+    private final String application;
+    private final String route;
+    private final String method;
+    private final String path;
+    private final String query;
+    private final int status;
+    /**
+     * 总耗时（微秒）
+     */
+    private final long latency;
+    /**
+     * 上游耗时（微秒），没有转发到上游时为 -1
+     */
+    private final long upstreamLatency;
+    private final long receivedBytes;
+    private final long sentBytes;
+    private final String remoteAddress;
+    private final String forwardingUri;
+    private final String userAgent;
+    private final String referer;
+    private final String error;
+}
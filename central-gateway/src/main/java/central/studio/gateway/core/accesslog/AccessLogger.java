@@ -0,0 +1,219 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.accesslog;
+
+import central.data.saas.Application;
+import central.data.saas.ApplicationRoute;
+import central.data.saas.Tenant;
+import central.starter.web.reactive.extension.ServerWebExchangex;
+import central.studio.gateway.ApplicationProperties;
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.metrics.RequestMetrics;
+import central.util.Jsonx;
+import jakarta.annotation.Nullable;
+import lombok.Setter;
+import lombok.experimental.ExtensionMethod;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 访问日志
+ * <p>
+ * 每个请求输出一条 JSON 格式的访问日志。请求处理线程只负责采样和收集字段，
+ * 日志通过环形缓冲区交给后台线程格式化和输出，不会阻塞 Netty 事件循环线程
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+@Component
+@ExtensionMethod(ServerWebExchangex.class)
+public class AccessLogger implements InitializingBean, DisposableBean {
+
+    @Setter(onMethod_ = @Autowired)
+    private ApplicationProperties properties;
+
+    private ApplicationProperties.AccessLog config;
+
+    private List<AccessLogField> fields;
+
+    private long slowThreshold;
+
+    private Logger logger;
+
+    private RingBuffer<AccessLogRecord> buffer;
+
+    private Thread writer;
+
+    private volatile boolean running;
+
+    /**
+     * 因缓冲区已满而丢弃的日志数
+     */
+    private final LongAdder dropped = new LongAdder();
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        this.config = this.properties.getAccessLog();
+        if (!this.config.isEnabled()) {
+            return;
+        }
+
+        this.fields = List.copyOf(this.config.getFields());
+        this.slowThreshold = this.config.getSlowThreshold().toNanos();
+        this.logger = LoggerFactory.getLogger(this.config.getLogger());
+        this.buffer = new RingBuffer<>(this.config.getBufferSize());
+
+        this.running = true;
+        this.writer = new Thread(this::drain, "gateway-access-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.writer != null) {
+            this.running = false;
+            LockSupport.unpark(this.writer);
+            this.writer.join(TimeUnit.SECONDS.toMillis(5));
+            this.writer = null;
+        }
+    }
+
+    /**
+     * 记录访问日志
+     *
+     * @param exchange 当前请求
+     * @param metrics  当前请求的指标
+     * @param status   响应状态码，没有状态码时为 0
+     * @param error    请求异常
+     */
+    public void log(ServerWebExchange exchange, RequestMetrics metrics, int status, @Nullable Throwable error) {
+        if (this.writer == null) {
+            return;
+        }
+
+        var elapsed = metrics.getElapsed();
+        if (status < 500 && elapsed < this.slowThreshold && this.config.getSampleRate() < 1.0
+                && ThreadLocalRandom.current().nextDouble() >= this.config.getSampleRate()) {
+            // 未被采样
+            return;
+        }
+
+        Tenant tenant = exchange.getAttribute(ExchangeAttributes.TENANT);
+        Application application = exchange.getAttribute(ExchangeAttributes.TARGET_APPLICATION);
+        ApplicationRoute route = exchange.getAttribute(ExchangeAttributes.TARGET_APPLICATION_ROUTE);
+        URI originUri = exchange.getAttribute(ExchangeAttributes.ORIGIN_URI);
+        URI forwardingUri = exchange.getAttribute(ExchangeAttributes.FORWARDING_URI);
+        var remoteAddress = exchange.getAttribute(ExchangeAttributes.REMOTE_ADDRESS);
+        var headers = exchange.getRequest().getHeaders();
+
+        var record = AccessLogRecord.builder()
+                .time(System.currentTimeMillis())
+                .tenant(tenant == null ? null : tenant.getCode())
+                .application(application == null ? null : application.getCode())
+                .route(route != null ? route.getContextPath() : application != null ? application.getContextPath() : null)
+                .method(exchange.getRequest().getMethod().name())
+                .path(originUri != null ? originUri.getRawPath() : exchange.getRequest().getPath().value())
+                .query(originUri != null ? originUri.getRawQuery() : exchange.getRequest().getURI().getRawQuery())
+                .status(status)
+                .latency(TimeUnit.NANOSECONDS.toMicros(elapsed))
+                .upstreamLatency(metrics.getUpstream() < 0 ? -1 : TimeUnit.NANOSECONDS.toMicros(metrics.getUpstream()))
+                .receivedBytes(metrics.getReceivedBytes())
+                .sentBytes(metrics.getSentBytes())
+                .remoteAddress(remoteAddress == null || remoteAddress.getAddress() == null ? null : remoteAddress.getAddress().getHostAddress())
+                .forwardingUri(forwardingUri == null ? null : forwardingUri.toString())
+                .userAgent(headers.getFirst(HttpHeaders.USER_AGENT))
+                .referer(headers.getFirst(HttpHeaders.REFERER))
+                .error(error == null ? null : error.getClass().getSimpleName() + ": " + error.getMessage())
+                .build();
+
+        if (!this.buffer.offer(record)) {
+            this.dropped.increment();
+        }
+    }
+
+    /**
+     * 后台线程输出日志
+     */
+    private void drain() {
+        while (true) {
+            var record = this.buffer.poll();
+            if (record != null) {
+                this.write(record);
+                continue;
+            }
+
+            var dropped = this.dropped.sumThenReset();
+            if (dropped > 0) {
+                log.warn("访问日志缓冲区已满，丢弃了 {} 条日志", dropped);
+            }
+
+            if (!this.running) {
+                if (this.buffer.size() > 0) {
+                    // 停止时仍有生产者申请了槽位但还没有完成写入，等待写入完成后再输出
+                    Thread.onSpinWait();
+                    continue;
+                }
+                break;
+            }
+            // 没有日志时暂停 1 毫秒，请求处理线程不需要唤醒后台线程
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    private void write(AccessLogRecord record) {
+        if (!this.logger.isInfoEnabled()) {
+            return;
+        }
+        try {
+            var content = new LinkedHashMap<String, Object>(this.fields.size() * 2);
+            for (var field : this.fields) {
+                var value = field.getExtractor().apply(record);
+                if (value != null) {
+                    content.put(field.getName(), value);
+                }
+            }
+            this.logger.info(Jsonx.Default().serialize(content));
+        } catch (Exception ex) {
+            log.warn("输出访问日志失败: " + ex.getLocalizedMessage(), ex);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 环形缓冲区
+ * <p>
+ * 多生产者、单消费者的有界无锁队列。生产者（Netty 事件循环线程）通过 CAS 申请槽位，缓冲区满时直接放弃，
+ * 不会阻塞；消费者只有一个后台线程
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class RingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+
+    private final int mask;
+
+    /**
+     * 下一个写入位置
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * 下一个读取位置，只由消费者修改
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * 环形缓冲区
+     *
+     * @param capacity 容量，向上取整为 2 的幂
+     */
+    public RingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive");
+        }
+        var size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 写入元素（任意线程）
+     *
+     * @return 缓冲区已满时返回 false
+     */
+    public boolean offer(E element) {
+        while (true) {
+            var tail = this.tail.get();
+            if (tail - this.head.get() > this.mask) {
+                return false;
+            }
+            if (this.tail.compareAndSet(tail, tail + 1)) {
+                this.slots.lazySet((int) (tail & this.mask), element);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 读取元素（只能由消费者线程调用）
+     *
+     * @return 缓冲区为空，或下一个槽位的生产者还没有完成写入时，返回 null
+     */
+    public E poll() {
+        var head = this.head.get();
+        var index = (int) (head & this.mask);
+        var element = this.slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        this.slots.lazySet(index, null);
+        this.head.lazySet(head + 1);
+        return element;
+    }
+
+    /**
+     * 当前元素数量（近似值）
+     */
+    public int size() {
+        return (int) Math.max(0, this.tail.get() - this.head.get());
+    }
+}
@@ -29,16 +29,19 @@ import central.data.saas.ApplicationRoute;
 import central.data.saas.Tenant;
 import central.studio.gateway.core.body.EmptyBody;
 import central.studio.gateway.core.body.HttpResponseBody;
+import central.studio.gateway.core.body.transform.BodyTransformer;
 import central.lang.Attribute;
-import central.util.Guidx;
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.JWTCreator;
+import central.studio.gateway.core.cache.CacheLookup;
+import central.studio.gateway.core.filter.global.routing.upstream.UpstreamGuard;
+import central.studio.gateway.core.filter.predicate.PathIndex;
+import central.studio.gateway.core.metrics.RequestMetrics;
+import central.studio.gateway.core.token.ForwardingToken;
 import reactor.netty.http.client.HttpClientResponse;
 
 import java.net.InetSocketAddress;
 import java.net.URI;
-import java.time.Duration;
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 响应属性
@@ -100,7 +103,34 @@ public interface ExchangeAttributes {
     Attribute<InetSocketAddress> REMOTE_ADDRESS = Attribute.of(ExchangeAttributes.class.getName() + ".remote_host");
 
     /**
-     * JWT Token
+     * 转发令牌
+     * <p>
+     * 转发时由 {@link central.studio.gateway.core.token.TokenSigner} 签名为 JWT Token
      */
-    Attribute<JWTCreator.Builder> TOKEN = Attribute.of(ExchangeAttributes.class.getName() + ".token", () -> JWT.create().withJWTId(Guidx.nextID()).withExpiresAt(new Date(System.currentTimeMillis() + Duration.ofMinutes(3).toMillis())));
+    Attribute<ForwardingToken> TOKEN = Attribute.of(ExchangeAttributes.class.getName() + ".token", ForwardingToken::new);
+
+    /**
+     * 租户过滤器路径断言的匹配结果
+     */
+    Attribute<PathIndex.Matches> PATH_MATCHES = Attribute.of(ExchangeAttributes.class.getName() + ".path_matches");
+
+    /**
+     * 上游服务保护（并发限制与熔断）
+     */
+    Attribute<UpstreamGuard> UPSTREAM_GUARD = Attribute.of(ExchangeAttributes.class.getName() + ".upstream_guard");
+
+    /**
+     * 响应缓存查找结果
+     */
+    Attribute<CacheLookup> RESPONSE_CACHE = Attribute.of(ExchangeAttributes.class.getName() + ".response_cache");
+
+    /**
+     * 响应体转换（如压缩），在写响应时按顺序执行
+     */
+    Attribute<List<BodyTransformer>> BODY_TRANSFORMERS = Attribute.of(ExchangeAttributes.class.getName() + ".body_transformers", ArrayList::new);
+
+    /**
+     * 当前请求的指标
+     */
+    Attribute<RequestMetrics> METRICS = Attribute.of(ExchangeAttributes.class.getName() + ".metrics");
 }
@@ -0,0 +1,63 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.body;
+
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Cached Body
+ * <p>
+ * 网关缓存的响应体
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class CachedBody implements HttpResponseBody {
+    @Getter
+    private final HttpHeaders headers = new HttpHeaders();
+
+    private final ByteBuffer content;
+
+    public CachedBody(ByteBuffer content) {
+        this.content = content;
+    }
+
+    @NotNull
+    @Override
+    public Flux<DataBuffer> get(DataBufferFactory bufferFactory) {
+        if (!this.content.hasRemaining()) {
+            return Flux.empty();
+        }
+        // 缓存的响应体会被多个请求同时读取，因此每次都需要使用独立的读取位置
+        return Flux.defer(() -> Flux.just(bufferFactory.wrap(this.content.duplicate())));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.body;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * Caching Body
+ * <p>
+ * 在向客户端写响应体的同时，将响应体复制一份，响应体完整读取后保存到堆内存中。
+ * 如果响应体超过了最大大小，或者读取过程中发生了异常，则放弃缓存
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class CachingBody implements HttpResponseBody {
+
+    private final HttpResponseBody delegate;
+
+    /**
+     * 最大缓存大小
+     */
+    private final int maxSize;
+
+    /**
+     * 响应体读取完毕后的回调
+     */
+    private final Consumer<ByteBuffer> consumer;
+
+    /**
+     * 已经读取的响应体
+     */
+    private final AtomicReference<ByteBuf> accumulator = new AtomicReference<>();
+
+    public CachingBody(HttpResponseBody delegate, int maxSize, Consumer<ByteBuffer> consumer) {
+        this.delegate = delegate;
+        this.maxSize = maxSize;
+        this.consumer = consumer;
+    }
+
+    @NotNull
+    @Override
+    public HttpHeaders getHeaders() {
+        return this.delegate.getHeaders();
+    }
+
+    @NotNull
+    @Override
+    public Flux<DataBuffer> get(DataBufferFactory bufferFactory) {
+        return Flux.defer(() -> {
+            // 订阅时才分配缓冲区，保证缓冲区一定会被释放
+            this.accumulator.set(ByteBufAllocator.DEFAULT.buffer());
+            return this.delegate.get(bufferFactory)
+                    .doOnNext(this::append)
+                    .doOnComplete(this::complete)
+                    .doFinally(signal -> this.discard());
+        });
+    }
+
+    private void append(DataBuffer buffer) {
+        var accumulator = this.accumulator.get();
+        if (accumulator == null) {
+            return;
+        }
+        if (accumulator.readableBytes() + buffer.readableByteCount() > this.maxSize) {
+            this.discard();
+            return;
+        }
+
+        // 只复制，不改变读取位置
+        if (buffer instanceof NettyDataBuffer netty) {
+            var source = netty.getNativeBuffer();
+            accumulator.writeBytes(source, source.readerIndex(), source.readableBytes());
+        } else {
+            for (int i = buffer.readPosition(); i < buffer.writePosition(); i++) {
+                accumulator.writeByte(buffer.getByte(i));
+            }
+        }
+    }
+
+    private void complete() {
+        var accumulator = this.accumulator.getAndSet(null);
+        if (accumulator == null) {
+            return;
+        }
+        try {
+            // 缓存淘汰后由垃圾回收释放，不需要手动释放
+            var content = ByteBuffer.allocate(accumulator.readableBytes());
+            accumulator.getBytes(accumulator.readerIndex(), content);
+            this.consumer.accept(content.flip());
+        } finally {
+            accumulator.release();
+        }
+    }
+
+    private void discard() {
+        var accumulator = this.accumulator.getAndSet(null);
+        if (accumulator != null) {
+            accumulator.release();
+        }
+    }
+
+    @Override
+    public void dispose() {
+        this.discard();
+        this.delegate.dispose();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.body;
+
+import central.io.IOStreamx;
+import lombok.Getter;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Flux;
+
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * File Body
+ * <p>
+ * 文件的全部或部分内容。写响应时，如果服务器支持零拷贝（Zero Copy），则直接将文件发送到客户端，不经过用户态内存
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class FileBody implements HttpResponseBody {
+    @Getter
+    private final HttpHeaders headers = new HttpHeaders();
+
+    /**
+     * 文件
+     */
+    @Getter
+    private final Path path;
+
+    /**
+     * 开始位置
+     */
+    @Getter
+    private final long position;
+
+    /**
+     * 长度
+     */
+    @Getter
+    private final long count;
+
+    public FileBody(Path path, long position, long count) {
+        this.path = path;
+        this.position = position;
+        this.count = count;
+    }
+
+    @NotNull
+    @Override
+    public Flux<DataBuffer> get(DataBufferFactory bufferFactory) {
+        var content = DataBufferUtils.readAsynchronousFileChannel(() -> AsynchronousFileChannel.open(this.path, StandardOpenOption.READ), this.position, bufferFactory, IOStreamx.BUFFER_SIZE);
+        return DataBufferUtils.takeUntilByteCount(content, this.count);
+    }
+}
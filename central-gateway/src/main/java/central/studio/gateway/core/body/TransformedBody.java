@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.body;
+
+import central.studio.gateway.core.body.transform.BodyTransformer;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+
+/**
+ * Transformed Body
+ * <p>
+ * 经过响应体转换的响应体
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TransformedBody implements HttpResponseBody {
+
+    private final ServerWebExchange exchange;
+
+    private final HttpResponseBody delegate;
+
+    private final List<BodyTransformer> transformers;
+
+    public TransformedBody(ServerWebExchange exchange, HttpResponseBody delegate, List<BodyTransformer> transformers) {
+        this.exchange = exchange;
+        this.delegate = delegate;
+        this.transformers = transformers;
+    }
+
+    @NotNull
+    @Override
+    public HttpHeaders getHeaders() {
+        return this.delegate.getHeaders();
+    }
+
+    @NotNull
+    @Override
+    public Flux<DataBuffer> get(DataBufferFactory bufferFactory) {
+        var body = this.delegate.get(bufferFactory);
+        for (var transformer : this.transformers) {
+            body = transformer.transform(this.exchange, body);
+        }
+        return body;
+    }
+
+    @Override
+    public void dispose() {
+        this.delegate.dispose();
+    }
+}
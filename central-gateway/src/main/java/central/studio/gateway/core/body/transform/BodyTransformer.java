@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.body.transform;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+/**
+ * 响应体转换
+ * <p>
+ * 网关过滤器通过 {@link central.studio.gateway.core.attribute.ExchangeAttributes#BODY_TRANSFORMERS} 注册响应体转换，
+ * 在写响应时按注册顺序逐个数据块地转换响应体，不需要将整个响应体读入内存
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public interface BodyTransformer {
+
+    /**
+     * 准备转换
+     * <p>
+     * 在写响应头之前调用，此时可以读取和修改响应头（如移除 Content-Length）
+     *
+     * @param exchange 当前请求
+     * @return 是否需要转换当前响应
+     */
+    boolean prepare(ServerWebExchange exchange);
+
+    /**
+     * 转换响应体
+     * <p>
+     * 转换后不再使用的数据块需要释放
+     *
+     * @param exchange 当前请求
+     * @param body     响应体
+     * @return 转换后的响应体
+     */
+    Flux<DataBuffer> transform(ServerWebExchange exchange, Flux<DataBuffer> body);
+}
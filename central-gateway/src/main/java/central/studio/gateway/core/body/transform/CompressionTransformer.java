@@ -0,0 +1,374 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.body.transform;
+
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 响应体压缩
+ * <p>
+ * 逐个数据块地压缩响应体。使用 Netty 缓冲区时，压缩器直接读取上游响应的缓冲区，并直接写入新分配的池化缓冲区，
+ * 不需要在堆内存中中转。流式响应（上游没有返回 Content-Length）在每个上游数据块之后都会刷新压缩器，
+ * 避免客户端要等到压缩数据攒满一个缓冲区才能收到
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class CompressionTransformer implements BodyTransformer {
+
+    /**
+     * 输出缓冲区大小
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * 上游响应是否为流式响应（没有 Content-Length）
+     */
+    private static final String STREAMING = CompressionTransformer.class.getName() + ".streaming";
+
+    /**
+     * 压缩级别
+     */
+    private final int level;
+
+    /**
+     * 最小压缩大小（字节）
+     */
+    private final long minSize;
+
+    /**
+     * 需要压缩的媒体类型
+     */
+    private final List<MediaType> mediaTypes;
+
+    /**
+     * 响应体压缩
+     *
+     * @param level      压缩级别（1-9）
+     * @param minSize    最小压缩大小（字节），响应体长度已知并且小于该大小时不压缩
+     * @param mediaTypes 需要压缩的媒体类型
+     */
+    public CompressionTransformer(int level, long minSize, List<MediaType> mediaTypes) {
+        this.level = level;
+        this.minSize = minSize;
+        this.mediaTypes = mediaTypes;
+    }
+
+    @Override
+    public boolean prepare(ServerWebExchange exchange) {
+        if (exchange.getRequest().getMethod() == HttpMethod.HEAD) {
+            return false;
+        }
+
+        var response = exchange.getResponse();
+        var status = response.getStatusCode();
+        if (status != null && (status.value() < 200 || status.value() == HttpStatus.NO_CONTENT.value()
+                || status.value() == HttpStatus.PARTIAL_CONTENT.value() || status.value() == HttpStatus.NOT_MODIFIED.value())) {
+            return false;
+        }
+
+        var headers = response.getHeaders();
+        var contentEncoding = headers.getFirst(HttpHeaders.CONTENT_ENCODING);
+        if (contentEncoding != null && !"identity".equalsIgnoreCase(contentEncoding)) {
+            // 上游已经压缩
+            return false;
+        }
+        if (headers.containsKey(HttpHeaders.CONTENT_RANGE)) {
+            return false;
+        }
+        var cacheControl = headers.getCacheControl();
+        if (cacheControl != null && cacheControl.toLowerCase().contains("no-transform")) {
+            return false;
+        }
+        if (!this.isCompressible(headers.getContentType())) {
+            return false;
+        }
+        if (headers.getContentLength() >= 0 && headers.getContentLength() < this.minSize) {
+            return false;
+        }
+
+        var encoding = Encoding.negotiate(exchange.getRequest().getHeaders());
+        if (encoding == null) {
+            return false;
+        }
+
+        if (headers.getContentLength() < 0) {
+            exchange.getAttributes().put(STREAMING, Boolean.TRUE);
+        }
+        headers.set(HttpHeaders.CONTENT_ENCODING, encoding.getValue());
+        headers.remove(HttpHeaders.CONTENT_LENGTH);
+        if (headers.getVary().stream().noneMatch(HttpHeaders.ACCEPT_ENCODING::equalsIgnoreCase)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        var etag = headers.getETag();
+        if (etag != null && !etag.startsWith("W/")) {
+            // 压缩后的内容与原内容不是逐字节相同的
+            headers.setETag("W/" + etag);
+        }
+        return true;
+    }
+
+    private boolean isCompressible(@Nullable MediaType contentType) {
+        if (contentType == null || MediaType.TEXT_EVENT_STREAM.isCompatibleWith(contentType)) {
+            return false;
+        }
+        for (var mediaType : this.mediaTypes) {
+            if (mediaType.includes(contentType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Flux<DataBuffer> transform(ServerWebExchange exchange, Flux<DataBuffer> body) {
+        var encoding = Encoding.negotiate(exchange.getRequest().getHeaders());
+        var bufferFactory = exchange.getResponse().bufferFactory();
+        boolean streaming = exchange.getAttributeOrDefault(STREAMING, Boolean.FALSE);
+
+        return Flux.defer(() -> {
+            var encoder = new Encoder(encoding, this.level, streaming, bufferFactory);
+            return body.concatMapIterable(encoder::encode)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(encoder.finish())))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .doFinally(signal -> encoder.end());
+        });
+    }
+
+    /**
+     * 压缩编码
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Encoding {
+        GZIP("gzip"),
+        DEFLATE("deflate");
+
+        private final String value;
+
+        /**
+         * 根据客户端的 Accept-Encoding 选择压缩编码
+         *
+         * @return 客户端不接受压缩时，返回 null
+         */
+        public static @Nullable Encoding negotiate(HttpHeaders headers) {
+            boolean gzip = false, deflate = false;
+            for (var header : headers.getOrEmpty(HttpHeaders.ACCEPT_ENCODING)) {
+                for (var token : header.split(",")) {
+                    var parts = token.split(";");
+                    var name = parts[0].trim().toLowerCase();
+                    if (isRejected(parts)) {
+                        continue;
+                    }
+                    switch (name) {
+                        case "gzip", "*" -> gzip = true;
+                        case "deflate" -> deflate = true;
+                    }
+                }
+            }
+            return gzip ? GZIP : deflate ? DEFLATE : null;
+        }
+
+        /**
+         * q=0 表示不接受
+         */
+        private static boolean isRejected(String[] parts) {
+            for (int i = 1; i < parts.length; i++) {
+                var parameter = parts[i].trim().toLowerCase();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) <= 0;
+                    } catch (NumberFormatException ignored) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 压缩器
+     * <p>
+     * 每个响应使用独立的压缩器，压缩器持有本地内存，使用完毕后必须调用 {@link #end()}
+     */
+    private static class Encoder {
+        /**
+         * GZip 文件头（RFC 1952）
+         */
+        private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+
+        private final Encoding encoding;
+        private final Deflater deflater;
+        private final CRC32 crc = new CRC32();
+        private final DataBufferFactory bufferFactory;
+        /**
+         * 是否在每个数据块之后刷新压缩器
+         */
+        private final boolean flush;
+
+        private boolean headerWritten;
+        private boolean ended;
+
+        private Encoder(Encoding encoding, int level, boolean flush, DataBufferFactory bufferFactory) {
+            this.encoding = encoding;
+            // GZip 使用原始 Deflate 数据，文件头和校验由压缩器自己写入
+            this.deflater = new Deflater(level, encoding == Encoding.GZIP);
+            this.bufferFactory = bufferFactory;
+            this.flush = flush;
+        }
+
+        /**
+         * 压缩一个数据块
+         */
+        private synchronized List<DataBuffer> encode(DataBuffer buffer) {
+            try {
+                var output = new ArrayList<DataBuffer>(2);
+                if (this.ended) {
+                    return output;
+                }
+                this.writeHeader(output);
+
+                var input = this.toByteBuffer(buffer);
+                if (this.encoding == Encoding.GZIP) {
+                    this.crc.update(input.duplicate());
+                }
+                this.deflater.setInput(input);
+                while (!this.deflater.needsInput()) {
+                    this.deflate(output, Deflater.NO_FLUSH);
+                }
+                if (this.flush) {
+                    // 输出缓冲区被填满时，压缩器可能还有待刷新的数据
+                    int count;
+                    do {
+                        count = this.deflate(output, Deflater.SYNC_FLUSH);
+                    } while (count == BUFFER_SIZE);
+                }
+                return output;
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        /**
+         * 输出剩余的压缩数据
+         */
+        private synchronized List<DataBuffer> finish() {
+            var output = new ArrayList<DataBuffer>(2);
+            if (this.ended) {
+                return output;
+            }
+            this.writeHeader(output);
+
+            this.deflater.finish();
+            while (!this.deflater.finished()) {
+                this.deflate(output, Deflater.NO_FLUSH);
+            }
+
+            if (this.encoding == Encoding.GZIP) {
+                var trailer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN);
+                trailer.putInt((int) this.crc.getValue());
+                trailer.putInt((int) this.deflater.getBytesRead());
+                output.add(this.bufferFactory.wrap(trailer.flip()));
+            }
+            return output;
+        }
+
+        /**
+         * 释放压缩器
+         */
+        private synchronized void end() {
+            if (!this.ended) {
+                this.ended = true;
+                this.deflater.end();
+            }
+        }
+
+        private void writeHeader(List<DataBuffer> output) {
+            if (this.encoding == Encoding.GZIP && !this.headerWritten) {
+                this.headerWritten = true;
+                output.add(this.bufferFactory.wrap(GZIP_HEADER.clone()));
+            }
+        }
+
+        /**
+         * 压缩到新的缓冲区中
+         *
+         * @param flush 刷新模式
+         * @return 写入的字节数
+         */
+        private int deflate(List<DataBuffer> output, int flush) {
+            var buffer = this.bufferFactory.allocateBuffer(BUFFER_SIZE);
+            int count;
+            if (buffer instanceof NettyDataBuffer netty && netty.getNativeBuffer().nioBufferCount() == 1) {
+                // 直接写入 Netty 缓冲区
+                var target = netty.getNativeBuffer();
+                count = this.deflater.deflate(target.nioBuffer(target.writerIndex(), BUFFER_SIZE), flush);
+                target.writerIndex(target.writerIndex() + count);
+            } else {
+                var bytes = new byte[BUFFER_SIZE];
+                count = this.deflater.deflate(bytes, 0, bytes.length, flush);
+                buffer.write(bytes, 0, count);
+            }
+
+            if (count > 0) {
+                output.add(buffer);
+            } else {
+                DataBufferUtils.release(buffer);
+            }
+            return count;
+        }
+
+        private ByteBuffer toByteBuffer(DataBuffer buffer) {
+            if (buffer instanceof NettyDataBuffer netty) {
+                return netty.getNativeBuffer().nioBuffer();
+            }
+            var bytes = new byte[buffer.readableByteCount()];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.getByte(buffer.readPosition() + i);
+            }
+            return ByteBuffer.wrap(bytes);
+        }
+    }
+}
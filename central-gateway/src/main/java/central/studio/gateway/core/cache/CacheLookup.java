@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.cache;
+
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.body.CachedBody;
+import central.studio.gateway.core.body.CachingBody;
+import central.studio.gateway.core.body.EmptyBody;
+import central.studio.gateway.core.body.HttpResponseBody;
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 缓存查找结果
+ * <p>
+ * 由响应缓存过滤器放到 {@link ExchangeAttributes#RESPONSE_CACHE} 中，转发过滤器根据查找结果
+ * 直接返回缓存、向目标应用验证缓存，或者缓存目标应用的响应
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class CacheLookup {
+
+    /**
+     * 304 响应需要携带的响应头
+     */
+    private static final List<String> NOT_MODIFIED_HEADERS = List.of(HttpHeaders.CACHE_CONTROL, HttpHeaders.CONTENT_LOCATION,
+            HttpHeaders.DATE, HttpHeaders.ETAG, HttpHeaders.EXPIRES, HttpHeaders.LAST_MODIFIED, HttpHeaders.VARY);
+
+    private final ResponseCache cache;
+
+    /**
+     * 缓存键
+     */
+    @Getter
+    private final String key;
+
+    /**
+     * 已缓存的响应
+     */
+    @Getter
+    private final @Nullable CachedResponse entry;
+
+    /**
+     * 缓存是否可以直接使用
+     */
+    @Getter
+    private final boolean fresh;
+
+    /**
+     * 请求是否携带了凭据（Authorization 或 Cookie）
+     */
+    @Getter
+    private final boolean credentialed;
+
+    CacheLookup(ResponseCache cache, String key, @Nullable CachedResponse entry, boolean fresh, boolean credentialed) {
+        this.cache = cache;
+        this.key = key;
+        this.entry = entry;
+        this.fresh = fresh;
+        this.credentialed = credentialed;
+    }
+
+    /**
+     * 缓存需要向目标应用验证时，添加条件请求头
+     *
+     * @param headers 转发的请求头
+     */
+    public void applyConditions(HttpHeaders headers) {
+        if (this.entry == null || this.fresh) {
+            return;
+        }
+
+        headers.remove(HttpHeaders.IF_NONE_MATCH);
+        headers.remove(HttpHeaders.IF_MODIFIED_SINCE);
+        if (this.entry.getHeaders().getETag() != null) {
+            headers.setIfNoneMatch(this.entry.getHeaders().getETag());
+        } else {
+            headers.setIfModifiedSince(this.entry.getHeaders().getLastModified());
+        }
+    }
+
+    /**
+     * 目标应用的响应是否表示缓存仍然有效
+     *
+     * @param status 目标应用的响应状态码
+     */
+    public boolean isNotModified(int status) {
+        return this.entry != null && !this.fresh && status == HttpStatus.NOT_MODIFIED.value();
+    }
+
+    /**
+     * 目标应用验证缓存仍然有效，更新缓存并返回缓存的响应
+     *
+     * @param exchange 当前请求
+     * @param headers  304 响应的响应头
+     */
+    public void revalidated(ServerWebExchange exchange, HttpHeaders headers) {
+        var entry = Objects.requireNonNull(this.entry);
+
+        // 使用 304 响应的响应头更新缓存的响应头
+        var merged = new HttpHeaders();
+        merged.putAll(entry.getHeaders());
+        merged.putAll(this.cache.getCacheableHeaders(headers));
+
+        var now = System.currentTimeMillis();
+        var ttl = this.cache.getTtl(entry.getStatus(), merged, this.credentialed);
+        var updated = new CachedResponse(entry.getStatus(), merged, entry.getBody(), now, now + Math.max(0, ttl));
+        if (ttl < 0) {
+            this.cache.remove(this.key, entry);
+        } else {
+            this.cache.put(this.key, updated);
+        }
+        this.serve(exchange, updated);
+    }
+
+    /**
+     * 缓存目标应用的响应
+     *
+     * @param status  目标应用的响应状态码
+     * @param headers 目标应用的响应头
+     * @param body    目标应用的响应体
+     * @return 如果响应可以缓存，则返回在读取响应体时同时缓存响应体的响应体
+     */
+    public HttpResponseBody store(int status, HttpHeaders headers, HttpResponseBody body) {
+        var ttl = this.cache.getTtl(status, headers, this.credentialed);
+        if (ttl < 0) {
+            return body;
+        }
+        if (headers.getContentLength() > this.cache.getMaxEntrySize()) {
+            return body;
+        }
+
+        var cacheable = this.cache.getCacheableHeaders(headers);
+        var storedAt = System.currentTimeMillis();
+        return new CachingBody(body, this.cache.getMaxEntrySize(), content -> this.cache.put(this.key, new CachedResponse(status, cacheable, content, storedAt, storedAt + ttl)));
+    }
+
+    /**
+     * 使用缓存的响应响应当前请求
+     * <p>
+     * 如果客户端的条件请求与缓存匹配，则返回 304
+     *
+     * @param exchange 当前请求
+     * @param entry    缓存的响应
+     */
+    public void serve(ServerWebExchange exchange, CachedResponse entry) {
+        var response = exchange.getResponse();
+
+        if (this.isNotModified(exchange.getRequest().getHeaders(), entry.getHeaders())) {
+            response.setRawStatusCode(HttpStatus.NOT_MODIFIED.value());
+            for (var name : NOT_MODIFIED_HEADERS) {
+                var values = entry.getHeaders().get(name);
+                if (values != null) {
+                    values.forEach(value -> response.getHeaders().add(name, value));
+                }
+            }
+            exchange.setAttribute(ExchangeAttributes.RESPONSE_BODY, new EmptyBody());
+            return;
+        }
+
+        response.setRawStatusCode(entry.getStatus());
+        entry.getHeaders().forEach((name, values) -> values.forEach(value -> response.getHeaders().add(name, value)));
+        response.getHeaders().setContentLength(entry.getSize());
+        response.getHeaders().set(HttpHeaders.AGE, Long.toString(Math.max(0, System.currentTimeMillis() - entry.getStoredAt()) / 1000));
+        exchange.setAttribute(ExchangeAttributes.RESPONSE_BODY, new CachedBody(entry.getBody()));
+    }
+
+    /**
+     * 客户端的条件请求是否与缓存匹配
+     */
+    private boolean isNotModified(HttpHeaders request, HttpHeaders cached) {
+        var etag = cached.getETag();
+        var noneMatch = request.getIfNoneMatch();
+        if (!noneMatch.isEmpty()) {
+            if (etag == null) {
+                return false;
+            }
+            // 弱比较
+            var weak = etag.startsWith("W/") ? etag.substring(2) : etag;
+            return noneMatch.stream().anyMatch(it -> "*".equals(it) || weak.equals(it.startsWith("W/") ? it.substring(2) : it));
+        }
+
+        var modifiedSince = request.getIfModifiedSince();
+        var lastModified = cached.getLastModified();
+        return modifiedSince >= 0 && lastModified >= 0 && lastModified <= modifiedSince;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.cache;
+
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 已缓存的响应
+ * <p>
+ * 响应体保存在堆内存中，不可修改，可以被多个请求同时读取
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Getter
+public class CachedResponse {
+
+    /**
+     * 状态码
+     */
+    private final int status;
+
+    /**
+     * 响应头
+     */
+    private final HttpHeaders headers;
+
+    /**
+     * 响应体
+     */
+    private final ByteBuffer body;
+
+    /**
+     * 缓存时间
+     */
+    private final long storedAt;
+
+    /**
+     * 过期时间
+     */
+    private final long expiresAt;
+
+    public CachedResponse(int status, HttpHeaders headers, ByteBuffer body, long storedAt, long expiresAt) {
+        this.status = status;
+        this.headers = HttpHeaders.readOnlyHttpHeaders(headers);
+        this.body = body.asReadOnlyBuffer();
+        this.storedAt = storedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * 响应体大小
+     */
+    public int getSize() {
+        return this.body.remaining();
+    }
+
+    /**
+     * 是否在有效期内
+     *
+     * @param now 当前时间
+     */
+    public boolean isFresh(long now) {
+        return now < this.expiresAt;
+    }
+
+    /**
+     * 是否可以向目标应用验证缓存是否有效
+     */
+    public boolean isValidatable() {
+        return this.headers.getETag() != null || this.headers.getLastModified() >= 0;
+    }
+}
@@ -0,0 +1,316 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.cache;
+
+import central.lang.Stringx;
+import central.starter.web.reactive.extension.ServerWebExchangex;
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+import lombok.experimental.ExtensionMethod;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 响应缓存
+ * <p>
+ * 按最近最少使用（LRU）淘汰，缓存的响应体总大小不超过容量。响应体保存在堆内存中，淘汰后由垃圾回收释放
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@ExtensionMethod(ServerWebExchangex.class)
+public class ResponseCache {
+
+    /**
+     * 逐跳（Hop-by-hop）响应头，不能缓存
+     */
+    private static final Set<String> HOP_BY_HOP_HEADERS = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    static {
+        HOP_BY_HOP_HEADERS.addAll(List.of(HttpHeaders.CONNECTION, "Keep-Alive", HttpHeaders.PROXY_AUTHENTICATE, HttpHeaders.PROXY_AUTHORIZATION,
+                HttpHeaders.TE, HttpHeaders.TRAILER, HttpHeaders.TRANSFER_ENCODING, HttpHeaders.UPGRADE));
+    }
+
+    /**
+     * 缓存容量（字节）
+     */
+    private final long capacity;
+
+    /**
+     * 单个响应体的最大大小（字节）
+     */
+    @Getter
+    private final int maxEntrySize;
+
+    /**
+     * 目标应用没有指定缓存时间时使用的缓存时间（毫秒）
+     */
+    private final long defaultTtl;
+
+    /**
+     * 参与计算缓存键的请求头
+     */
+    private final Set<String> varyHeaders = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+
+    /**
+     * 缓存键 -> 缓存的响应
+     */
+    private final LinkedHashMap<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 当前缓存的响应体总大小
+     */
+    private long size;
+
+    /**
+     * 响应缓存
+     *
+     * @param capacity     缓存容量（字节）
+     * @param maxEntrySize 单个响应体的最大大小（字节）
+     * @param defaultTtl   目标应用没有指定缓存时间时使用的缓存时间
+     * @param varyHeaders  参与计算缓存键的请求头
+     */
+    public ResponseCache(long capacity, int maxEntrySize, Duration defaultTtl, Collection<String> varyHeaders) {
+        this.capacity = capacity;
+        this.maxEntrySize = maxEntrySize;
+        this.defaultTtl = defaultTtl.toMillis();
+        this.varyHeaders.addAll(varyHeaders);
+    }
+
+    /**
+     * 查找当前请求的缓存
+     *
+     * @param exchange 当前请求
+     * @return 如果当前请求不能使用缓存，则返回 null
+     */
+    public @Nullable CacheLookup lookup(ServerWebExchange exchange) {
+        var request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET) {
+            return null;
+        }
+        var headers = request.getHeaders();
+        if (headers.containsKey(HttpHeaders.RANGE) || headers.containsKey(HttpHeaders.UPGRADE)) {
+            return null;
+        }
+
+        var directives = parseCacheControl(headers.getCacheControl());
+        if (directives.containsKey("no-store")) {
+            return null;
+        }
+
+        var key = this.getKey(exchange);
+        var now = System.currentTimeMillis();
+        var entry = this.get(key);
+        if (entry != null && !entry.isFresh(now) && !entry.isValidatable()) {
+            // 已过期，并且不能向目标应用验证
+            this.remove(key, entry);
+            entry = null;
+        }
+
+        // 客户端要求重新验证
+        var revalidate = directives.containsKey("no-cache") || "0".equals(directives.get("max-age"))
+                || headers.getOrEmpty(HttpHeaders.PRAGMA).contains("no-cache");
+
+        // 携带凭据的请求
+        var credentialed = headers.containsKey(HttpHeaders.AUTHORIZATION) || headers.containsKey(HttpHeaders.COOKIE);
+
+        return new CacheLookup(this, key, entry, entry != null && !revalidate && entry.isFresh(now), credentialed);
+    }
+
+    /**
+     * 计算缓存键
+     * <p>
+     * 租户标识 + 请求方法 + 请求地址 + 参与计算缓存键的请求头
+     */
+    private String getKey(ServerWebExchange exchange) {
+        var request = exchange.getRequest();
+        var key = new StringBuilder(exchange.getRequiredAttribute(ExchangeAttributes.TENANT).getCode())
+                .append(' ').append(request.getMethod().name())
+                .append(' ').append(request.getURI().getRawPath());
+        if (request.getURI().getRawQuery() != null) {
+            key.append('?').append(request.getURI().getRawQuery());
+        }
+        for (var name : this.varyHeaders) {
+            key.append('\n').append(name).append(':').append(String.join(",", request.getHeaders().getOrEmpty(name)));
+        }
+        return key.toString();
+    }
+
+    /**
+     * 计算响应的缓存时间
+     *
+     * @param status       状态码
+     * @param headers      响应头
+     * @param credentialed 请求是否携带了凭据（Authorization 或 Cookie）
+     * @return 缓存时间（毫秒）。如果为 0，表示每次使用前都需要向目标应用验证；如果小于 0，表示不能缓存
+     */
+    public long getTtl(int status, HttpHeaders headers, boolean credentialed) {
+        if (status != HttpStatus.OK.value() || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return -1;
+        }
+        if (headers.getContentType() != null && MediaType.TEXT_EVENT_STREAM.isCompatibleWith(headers.getContentType())) {
+            return -1;
+        }
+
+        // 响应内容随请求头变化时，这些请求头必须参与计算缓存键
+        for (var vary : headers.getVary()) {
+            if ("*".equals(vary) || !this.varyHeaders.contains(vary)) {
+                return -1;
+            }
+        }
+
+        var directives = parseCacheControl(headers.getCacheControl());
+        if (directives.containsKey("no-store") || directives.containsKey("private")) {
+            return -1;
+        }
+        if (credentialed && !directives.containsKey("public") && !directives.containsKey("s-maxage") && !directives.containsKey("must-revalidate")) {
+            // 携带凭据的请求的响应可能与用户相关，只有目标应用明确允许共享缓存时才缓存
+            return -1;
+        }
+
+        long ttl;
+        if (directives.containsKey("no-cache")) {
+            ttl = 0;
+        } else if (directives.containsKey("s-maxage")) {
+            ttl = parseSeconds(directives.get("s-maxage")) * 1000;
+        } else if (directives.containsKey("max-age")) {
+            ttl = parseSeconds(directives.get("max-age")) * 1000;
+        } else if (headers.getExpires() >= 0) {
+            ttl = headers.getExpires() - (headers.getDate() >= 0 ? headers.getDate() : System.currentTimeMillis());
+        } else {
+            ttl = this.defaultTtl;
+        }
+
+        // 减去响应在上游缓存中已经存在的时间
+        if (Stringx.isNotBlank(headers.getFirst(HttpHeaders.AGE))) {
+            ttl -= parseSeconds(headers.getFirst(HttpHeaders.AGE)) * 1000;
+        }
+        ttl = Math.max(0, ttl);
+
+        if (ttl == 0 && headers.getETag() == null && headers.getLastModified() < 0) {
+            // 无法验证的响应不需要缓存
+            return -1;
+        }
+        return ttl;
+    }
+
+    /**
+     * 过滤掉不能缓存的响应头
+     */
+    public HttpHeaders getCacheableHeaders(HttpHeaders headers) {
+        var result = new HttpHeaders();
+        headers.forEach((name, values) -> {
+            if (!HOP_BY_HOP_HEADERS.contains(name) && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                result.put(name, values);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 获取缓存
+     */
+    public synchronized @Nullable CachedResponse get(String key) {
+        return this.entries.get(key);
+    }
+
+    /**
+     * 保存缓存
+     * <p>
+     * 缓存的响应体总大小超过容量时，淘汰最近最少使用的缓存
+     */
+    public synchronized void put(String key, CachedResponse response) {
+        if (response.getSize() > this.maxEntrySize) {
+            return;
+        }
+
+        var previous = this.entries.put(key, response);
+        if (previous != null) {
+            this.size -= previous.getSize();
+        }
+        this.size += response.getSize();
+
+        var iterator = this.entries.values().iterator();
+        while (this.size > this.capacity && iterator.hasNext()) {
+            this.size -= iterator.next().getSize();
+            iterator.remove();
+        }
+    }
+
+    /**
+     * 移除缓存
+     *
+     * @param key      缓存键
+     * @param response 只有当前缓存的响应仍是该响应时才移除
+     */
+    public synchronized void remove(String key, CachedResponse response) {
+        if (this.entries.remove(key, response)) {
+            this.size -= response.getSize();
+        }
+    }
+
+    /**
+     * 清空缓存
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.size = 0;
+    }
+
+    /**
+     * 解析 Cache-Control
+     */
+    private static Map<String, String> parseCacheControl(@Nullable String value) {
+        if (Stringx.isNullOrBlank(value)) {
+            return Map.of();
+        }
+
+        var directives = new HashMap<String, String>();
+        for (var directive : value.split(",")) {
+            var index = directive.indexOf('=');
+            if (index < 0) {
+                directives.put(directive.trim().toLowerCase(), "");
+            } else {
+                directives.put(directive.substring(0, index).trim().toLowerCase(), Stringx.removeSuffix(Stringx.removePrefix(directive.substring(index + 1).trim(), "\""), "\""));
+            }
+        }
+        return directives;
+    }
+
+    private static long parseSeconds(@Nullable String value) {
+        try {
+            return value == null ? 0 : Math.max(0, Long.parseLong(value.trim()));
+        } catch (NumberFormatException ignored) {
+            return 0;
+        }
+    }
+}
@@ -27,6 +27,8 @@ package central.studio.gateway.core.filter;
 import central.provider.scheduled.event.DataRefreshEvent;
 import central.provider.scheduled.fetcher.DataFetcherType;
 import central.provider.scheduled.fetcher.gateway.GatewayContainer;
+import central.studio.gateway.core.filter.predicate.CompiledPath;
+import central.studio.gateway.core.filter.predicate.PathIndex;
 import central.studio.gateway.core.filter.predicate.PredicateResolver;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -38,6 +40,8 @@ import org.springframework.context.ApplicationEvent;
 import org.springframework.context.event.GenericApplicationListener;
 import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
 
 import java.util.*;
 
@@ -58,39 +62,47 @@ public class Container implements DisposableBean, GenericApplicationListener {
     private PredicateResolver predicateResolver;
 
     /**
-     * 过滤器
+     * 过滤器执行顺序：排序号大的先执行
+     */
+    private static final Comparator<DynamicFilter> ORDER = Comparator.comparing(DynamicFilter::getOrder).reversed()
+            .thenComparing(it -> it.getData().getPath(), Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(it -> it.getData().getId(), Comparator.nullsLast(Comparator.naturalOrder()));
+
+    /**
+     * 过滤器快照
      * <p>
-     * tenant -> id -> filter
+     * 每次刷新数据时都会创建新的不可变快照再整体替换，请求线程读取时不需要加锁、复制或排序，
+     * 也不会读到来自不同版本的过滤器、调用链和路径索引
      */
-    private final Map<String, Map<String, DynamicFilter>> filters = new HashMap<>();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
 
     /**
-     * 获取过滤器
+     * 获取过滤器（已按执行顺序排序，不可修改）
      *
      * @param tenant 租户标识
      */
     public List<DynamicFilter> getFilters(String tenant) {
-        return new ArrayList<>(this.filters.computeIfAbsent(tenant, key -> new HashMap<>()).values());
+        return this.snapshot.filters().getOrDefault(tenant, List.of());
     }
 
     /**
-     * 获取过滤器
+     * 获取过滤器调用链
      *
      * @param tenant 租户标识
-     * @param id     主键
+     * @return 调用链，没有过滤器时返回空
      */
-    public DynamicFilter getFilter(String tenant, String id) {
-        return this.filters.computeIfAbsent(tenant, key -> new HashMap<>()).get(id);
+    public @Nullable TenantChain getChain(String tenant) {
+        return this.snapshot.chains().get(tenant);
     }
 
     /**
-     * 保存过滤器
+     * 获取过滤器
      *
      * @param tenant 租户标识
-     * @param filter 主键
+     * @param id     主键
      */
-    private @Nullable DynamicFilter putFilter(String tenant, DynamicFilter filter) {
-        return this.filters.computeIfAbsent(tenant, key -> new HashMap<>()).put(filter.getData().getId(), filter);
+    public DynamicFilter getFilter(String tenant, String id) {
+        return this.getFilters(tenant).stream().filter(it -> Objects.equals(id, it.getData().getId())).findFirst().orElse(null);
     }
 
     @Override
@@ -105,47 +117,134 @@ public class Container implements DisposableBean, GenericApplicationListener {
                 return;
             }
 
-            var container = (GatewayContainer) refreshEvent.getContainer();
-
-            {
-                // 初始化过滤器
-                for (var tenant : container.getFilters().entrySet()) {
-                    for (var data : tenant.getValue()) {
-                        var current = this.getFilter(tenant.getKey(), data.getId());
-                        if (current == null || !Objects.equals(data.getModifyDate(), current.getData().getModifyDate())) {
-                            // 如果当前没有，或者已经过期了，就创建新的过滤器
-                            var filter = new DynamicFilter(data, this.filterResolver, this.predicateResolver);
-                            var old = this.putFilter(tenant.getKey(), filter);
-                            if (old != null) {
-                                try {
-                                    old.destroy();
-                                } catch (Exception ex) {
-                                    log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                                }
-                            }
+            this.refresh((GatewayContainer) refreshEvent.getContainer());
+        }
+    }
+
+    /**
+     * 根据最新的数据重建过滤器
+     * <p>
+     * 未修改的过滤器会被复用，已修改或已删除的过滤器在新数据发布之后销毁
+     */
+    private synchronized void refresh(GatewayContainer container) {
+        var current = this.snapshot.filters();
+
+        // id -> filter
+        var instances = new HashMap<String, DynamicFilter>();
+        for (var list : current.values()) {
+            for (var filter : list) {
+                instances.put(filter.getData().getId(), filter);
+            }
+        }
+
+        var retained = Collections.newSetFromMap(new IdentityHashMap<DynamicFilter, Boolean>());
+        var filters = new HashMap<String, List<DynamicFilter>>();
+        for (var tenant : container.getFilters().entrySet()) {
+            var list = new ArrayList<DynamicFilter>(tenant.getValue().size());
+            for (var data : tenant.getValue()) {
+                var filter = instances.get(data.getId());
+                if (filter == null || !Objects.equals(data.getModifyDate(), filter.getData().getModifyDate())) {
+                    // 如果当前没有，或者已经过期了，就创建新的过滤器
+                    try {
+                        filter = new DynamicFilter(data, this.filterResolver, this.predicateResolver);
+                    } catch (Exception ex) {
+                        // 创建失败时，保留原来的过滤器
+                        log.error("实例创建失败: " + ex.getLocalizedMessage(), ex);
+                        if (filter == null) {
+                            continue;
                         }
                     }
                 }
+                retained.add(filter);
+                list.add(filter);
             }
+            list.sort(ORDER);
+            filters.put(tenant.getKey(), List.copyOf(list));
         }
-    }
 
-    @Override
-    public void destroy() throws Exception {
-        {
-            // 销毁过滤器
-            for (var tenant : this.filters.entrySet()) {
-                var ids = new HashSet<>(tenant.getValue().keySet());
-                for (var id : ids) {
-                    var filter = tenant.getValue().remove(id);
-                    if (filter != null) {
-                        try {
-                            filter.destroy();
-                        } catch (Exception ex) {
-                            log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                        }
+        var chains = new HashMap<String, TenantChain>(filters.size());
+        for (var entry : filters.entrySet()) {
+            if (!entry.getValue().isEmpty()) {
+                var paths = new ArrayList<CompiledPath>(entry.getValue().size());
+                for (var filter : entry.getValue()) {
+                    if (filter.getPath() != null) {
+                        paths.add(filter.getPath());
                     }
                 }
+                var index = PathIndex.of(paths);
+
+                // 构建调用链时就确定每个过滤器在路径索引中的编号，请求时不需要再查找
+                var indexed = new ArrayList<IndexedFilter>(entry.getValue().size());
+                for (var filter : entry.getValue()) {
+                    indexed.add(new IndexedFilter(filter, index.slot(filter.getPath())));
+                }
+                chains.put(entry.getKey(), new TenantChain(StandardFilterChain.of(List.copyOf(indexed)), index));
+            }
+        }
+
+        this.snapshot = new Snapshot(Collections.unmodifiableMap(filters), Collections.unmodifiableMap(chains));
+
+        // 销毁已经不再使用的过滤器
+        for (var filter : instances.values()) {
+            if (!retained.contains(filter)) {
+                this.destroy(filter);
+            }
+        }
+    }
+
+    private void destroy(DynamicFilter filter) {
+        try {
+            filter.destroy();
+        } catch (Exception ex) {
+            log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
+        }
+    }
+
+    /**
+     * 租户的过滤器调用链
+     *
+     * @param chain 调用链
+     * @param index 路径索引，调用链中的过滤器记录了在该索引中的编号
+     */
+    public record TenantChain(@Nonnull StandardFilterChain chain, @Nonnull PathIndex index) {
+    }
+
+    /**
+     * 过滤器快照
+     *
+     * @param filters tenant -> filters（已排序）
+     * @param chains  tenant -> chain
+     */
+    private record Snapshot(Map<String, List<DynamicFilter>> filters, Map<String, TenantChain> chains) {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+    }
+
+    /**
+     * 记录了路径索引编号的过滤器
+     *
+     * @param filter 过滤器
+     * @param slot   路径规则在租户路径索引中的编号
+     */
+    private record IndexedFilter(DynamicFilter filter, int slot) implements Filter {
+        @Override
+        public boolean predicate(ServerWebExchange exchange) {
+            return this.filter.predicate(exchange, this.slot);
+        }
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
+            return this.filter.filter(exchange, chain);
+        }
+    }
+
+    @Override
+    public synchronized void destroy() throws Exception {
+        // 销毁过滤器
+        var filters = this.snapshot.filters();
+        this.snapshot = Snapshot.EMPTY;
+        for (var list : filters.values()) {
+            for (var filter : list) {
+                this.destroy(filter);
             }
         }
     }
@@ -28,9 +28,13 @@ import central.data.gateway.GatewayFilter;
 import central.lang.Assertx;
 import central.lang.Stringx;
 import central.lang.reflect.TypeRef;
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.filter.predicate.CompiledPath;
 import central.studio.gateway.core.filter.predicate.Predicate;
 import central.studio.gateway.core.filter.predicate.PredicateResolver;
+import central.studio.gateway.core.filter.predicate.impl.PathPredicate;
 import central.util.Jsonx;
+import jakarta.annotation.Nullable;
 import lombok.Getter;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.Ordered;
@@ -57,6 +61,14 @@ public class DynamicFilter implements Filter, Ordered, DisposableBean {
         return this.data.getOrder();
     }
 
+    /**
+     * 路径断言
+     * <p>
+     * 单独保存，可以通过租户的路径索引一次性计算所有过滤器的路径断言
+     */
+    @Getter
+    private final @Nullable CompiledPath path;
+
     private final List<Predicate> predicates = new ArrayList<>();
 
     private final Filter delegate;
@@ -73,7 +85,14 @@ public class DynamicFilter implements Filter, Ordered, DisposableBean {
         {
             // 初始化断言
             // 1. 初始化路径断言
-            this.predicates.add(predicateResolver.resolve("path", Map.of("path", data.getPath())));
+            var path = predicateResolver.resolve("path", Map.of("path", data.getPath()));
+            if (path instanceof PathPredicate pathPredicate) {
+                this.path = pathPredicate.getCompiled();
+                this.predicates.add(pathPredicate);
+            } else {
+                this.path = null;
+                this.predicates.add(path);
+            }
 
             // 2. 初始化其它断言
             for (var predicate : data.getPredicates()) {
@@ -100,7 +119,33 @@ public class DynamicFilter implements Filter, Ordered, DisposableBean {
 
     @Override
     public boolean predicate(ServerWebExchange exchange) {
-        return this.predicates.stream().allMatch(it -> it.predicate(exchange));
+        return this.predicate(exchange, -1);
+    }
+
+    /**
+     * 判断是否执行过滤器
+     *
+     * @param exchange 待过滤的 Server Web Exchange
+     * @param slot     路径规则在租户路径索引中的编号，不在索引中时为 -1
+     */
+    public boolean predicate(ServerWebExchange exchange, int slot) {
+        int i = 0;
+        if (this.path != null) {
+            // 优先使用租户路径索引的计算结果
+            var path = exchange.getRequest().getPath().value();
+            var matches = slot < 0 ? null : exchange.getAttribute(ExchangeAttributes.PATH_MATCHES);
+            if (!(matches != null ? matches.matches(slot, this.path, path) : this.path.matches(path))) {
+                return false;
+            }
+            // 路径断言已经判断过了
+            i = 1;
+        }
+        for (int size = this.predicates.size(); i < size; i++) {
+            if (!this.predicates.get(i).predicate(exchange)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -59,7 +59,11 @@ public enum FilterType implements OptionalEnum<String> {
     REQUEST_DETAILS("请求详情（Request Details）", "request_details", RequestDetailsFilter.class),
 
     CROSS_ORIGIN("跨域（Cross Origin）", "cross_origin", CrossOriginFilter.class),
-    TIMEOUT("设置超时时间（Timeout）", "timeout", TimeoutFilter.class);
+    TIMEOUT("设置超时时间（Timeout）", "timeout", TimeoutFilter.class),
+    CONCURRENCY_LIMIT("并发限制与熔断（Concurrency Limit）", "concurrency_limit", ConcurrencyLimitFilter.class),
+    RATE_LIMIT("限流（Rate Limit）", "rate_limit", RateLimitFilter.class),
+    RESPONSE_CACHE("响应缓存（Response Cache）", "response_cache", ResponseCacheFilter.class),
+    COMPRESSION("响应压缩（Compression）", "compression", CompressionFilter.class);
 
     private final String name;
     private final String value;
@@ -32,6 +32,9 @@ import java.util.List;
 
 /**
  * 标准的网关过滤器调用链
+ * <p>
+ * 调用链在创建时就为每一个位置创建好节点，执行过程中不再创建新的调用链对象，
+ * 因此同一个调用链可以被所有请求共享
  *
  * @author Alan Yeh
  * @since 2022/10/13
@@ -50,20 +53,24 @@ public class StandardFilterChain implements FilterChain {
     private final List<? extends Filter> filters;
 
     /**
-     * 获取下一个调用链
+     * 调用链节点，nodes[i] 表示从第 i 个过滤器开始执行的调用链
      */
-    private StandardFilterChain next() {
-        return new StandardFilterChain(this, this.index + 1);
-    }
+    private final StandardFilterChain[] nodes;
 
     public StandardFilterChain(List<? extends Filter> filters) {
         this.filters = filters;
         this.index = 0;
+        this.nodes = new StandardFilterChain[filters.size() + 1];
+        this.nodes[0] = this;
+        for (int i = 1; i < this.nodes.length; i++) {
+            this.nodes[i] = new StandardFilterChain(this, i);
+        }
     }
 
     public StandardFilterChain(StandardFilterChain parent, int index) {
         this.filters = parent.getFilters();
         this.index = index;
+        this.nodes = parent.nodes;
     }
 
     public static StandardFilterChain of(List<? extends Filter> filters) {
@@ -77,21 +84,25 @@ public class StandardFilterChain implements FilterChain {
      */
     @Override
     public Mono<Void> filter(ServerWebExchange exchange) {
-        return Mono.defer(() -> {
-            if (this.index < filters.size()) {
-                // 还有下一个
-                var filter = this.filters.get(this.index);
-                if (filter.predicate(exchange)) {
-                    // 断言成功，则执行过滤器
-                    return filter.filter(exchange, next());
-                } else {
-                    // 断言失败，直接执行下一个过滤器
-                    return next().filter(exchange);
-                }
-            } else {
-                // 完成所有过滤器
-                return Mono.empty();
+        if (this.index >= this.filters.size()) {
+            // 完成所有过滤器
+            return Mono.empty();
+        }
+        // 断言需要在订阅时才执行，因为前面的过滤器可能在订阅时才修改请求
+        return Mono.defer(() -> this.invoke(exchange));
+    }
+
+    private Mono<Void> invoke(ServerWebExchange exchange) {
+        var size = this.filters.size();
+        for (int i = this.index; i < size; i++) {
+            var filter = this.filters.get(i);
+            if (filter.predicate(exchange)) {
+                // 断言成功，则执行过滤器
+                return filter.filter(exchange, this.nodes[i + 1]);
             }
-        });
+            // 断言失败，直接执行下一个过滤器
+        }
+        // 完成所有过滤器
+        return Mono.empty();
     }
 }
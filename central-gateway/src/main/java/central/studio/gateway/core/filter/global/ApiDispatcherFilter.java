@@ -39,7 +39,7 @@ import reactor.core.publisher.Mono;
  * @since 2022/10/13
  */
 @Component
-@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
 public class ApiDispatcherFilter implements GlobalFilter {
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
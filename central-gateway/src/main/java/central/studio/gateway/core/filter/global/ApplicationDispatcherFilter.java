@@ -24,19 +24,20 @@
 
 package central.studio.gateway.core.filter.global;
 
-import central.bean.Orderable;
 import central.data.saas.ApplicationRoute;
 import central.data.saas.Tenant;
 import central.studio.gateway.core.filter.FilterChain;
 import central.studio.gateway.core.filter.GlobalFilter;
 import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.routing.RoutingTable;
 import central.lang.Stringx;
 import central.starter.web.reactive.extension.ServerWebExchangex;
 import central.starter.web.reactive.render.RedirectRender;
-import central.util.Listx;
 import com.auth0.jwt.RegisteredClaims;
+import lombok.Setter;
 import lombok.experimental.ExtensionMethod;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
@@ -47,7 +48,6 @@ import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.publisher.Mono;
 
 import java.net.URI;
-import java.util.*;
 
 /**
  * 网关分发
@@ -57,52 +57,34 @@ import java.util.*;
  */
 @Slf4j
 @Component
-@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
 @ExtensionMethod(ServerWebExchangex.class)
 public class ApplicationDispatcherFilter implements GlobalFilter {
+    @Setter(onMethod_ = @Autowired)
+    private RoutingTable routingTable;
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
         Tenant tenant = exchange.getRequiredAttribute(ExchangeAttributes.TENANT);
 
-        var application = tenant.getApplications().stream()
-                // 过滤掉已禁用的
-                .filter(it -> Objects.equals(Boolean.TRUE, it.getEnabled()) && Objects.equals(Boolean.TRUE, it.getApplication().getEnabled()))
-                // 确认匹配度
-                .map(it -> {
-                    var path = exchange.getRequest().getPath().value();
-                    if (path.equals(it.getApplication().getContextPath()) || path.equals(Stringx.addSuffix(it.getApplication().getContextPath(), "/"))) {
-                        // 全匹配，匹配度最高
-                        return Orderable.Holder.of(it, Integer.MAX_VALUE);
-                    } else if (path.startsWith(Stringx.addSuffix(it.getApplication().getContextPath(), "/"))) {
-                        return Orderable.Holder.of(it, it.getApplication().getContextPath().length());
-                    } else {
-                        // 不匹配
-                        return Orderable.Holder.of(it, 0);
-                    }
-                })
-                // 过滤掉不匹配的
-                .filter(it -> it.getOrder() > 0)
-                // 排序
-                .sorted(Comparator.comparing(Orderable::getOrder))
-                .map(Orderable.Holder::getData)
-                // 取匹配度最高的应用
-                .findFirst().orElse(null);
-
-        if (application == null) {
-            log.info("应用匹配失败");
+        var routes = this.routingTable.getRoutes(tenant);
+        var path = exchange.getRequest().getPath().value();
+
+        // 取匹配度最高的应用
+        var matched = routes.match(path);
+
+        if (matched == null) {
+            log.debug("应用匹配失败");
             // 如果访问的路径是空的，就重定向到默认的应用
-            if (Stringx.isNullOrEmpty(exchange.getRequest().getPath().value()) || "/".equals(exchange.getRequest().getPath().value())) {
-                var defaultApp = tenant.getApplications().stream()
-                        .filter(it -> Objects.equals(Boolean.TRUE, it.getEnabled()))
-                        .filter(it -> Objects.equals(Boolean.TRUE, it.getPrimary()))
-                        .findFirst().orElse(null);
+            if (Stringx.isNullOrEmpty(path) || "/".equals(path)) {
+                var defaultApp = routes.getPrimary();
 
                 if (defaultApp == null) {
                     // 找不到默认应用，则直接返回错误信息
                     return Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, exchange.getRequiredAttribute(ExchangeAttributes.ORIGIN_URI).toString()));
                 }
 
-                log.info("重定向到默认应用[code: {}, name: {}, contextPath: {}]", defaultApp.getApplication().getCode(), defaultApp.getApplication().getName(), defaultApp.getApplication().getContextPath());
+                log.debug("重定向到默认应用[code: {}, name: {}, contextPath: {}]", defaultApp.getApplication().getCode(), defaultApp.getApplication().getName(), defaultApp.getApplication().getContextPath());
                 return RedirectRender.of(exchange).redirect(URI.create(Stringx.addSuffix(defaultApp.getApplication().getContextPath(), "/"))).render();
             } else {
                 // 找不到默认应用，则直接返回错误信息
@@ -110,38 +92,10 @@ public class ApplicationDispatcherFilter implements GlobalFilter {
             }
         }
 
-        var target = application.getApplication();
-
-        ApplicationRoute route = null;
-
-        if (Listx.isNotEmpty(target.getRoutes())) {
-            // 是否有路由
-            route = target.getRoutes()
-                    .stream()
-                    .map(it -> {
-                        // 子应用的 contextPath 已经以应用的 contextPath 开头了
-                        var contextPath = it.getContextPath();
-                        var path = exchange.getRequest().getPath().value();
-
-                        if (path.equals(contextPath) || path.equals(Stringx.addSuffix(contextPath, "/"))) {
-                            // 全匹配
-                            return Orderable.Holder.of(it, Integer.MAX_VALUE);
-                        } else if (path.startsWith(Stringx.addSuffix(contextPath, "/"))) {
-                            // 根据路径匹配长度
-                            return Orderable.Holder.of(it, contextPath.length());
-                        } else {
-                            // 不匹配
-                            return Orderable.Holder.of(it, 0);
-                        }
-                    })
-                    // 过滤掉不匹配的
-                    .filter(it -> it.getOrder() > 0)
-                    // 根据匹配度排序
-                    .sorted(Comparator.comparing(Orderable.Holder::getOrder))
-                    .map(Orderable.Holder::getData)
-                    // 获取匹配度最高的
-                    .findFirst().orElse(null);
-        }
+        var target = matched.getApplication().getApplication();
+
+        // 子应用的 contextPath 已经以应用的 contextPath 开头了，取匹配度最高的子路由
+        ApplicationRoute route = matched.match(path);
 
         // 目标路径
         String url;
@@ -150,20 +104,20 @@ public class ApplicationDispatcherFilter implements GlobalFilter {
 
         if (route == null) {
             // 没有子路由匹配上，那么就转发到主应用
-            log.info("匹配应用成功[code: {}, name: {}, contextPath: {}, url: {}]", target.getCode(), target.getName(), target.getContextPath(), target.getUrl());
+            log.debug("匹配应用成功[code: {}, name: {}, contextPath: {}, url: {}]", target.getCode(), target.getName(), target.getContextPath(), target.getUrl());
             contextPath = target.getContextPath();
             url = target.getUrl();
         } else {
             // 子路由匹配上了
-            log.info("匹配应用路由成功[code: {}, name: {}, contextPath: {}, url: {}]", target.getCode(), target.getName(), route.getContextPath(), route.getUrl());
+            log.debug("匹配应用路由成功[code: {}, name: {}, contextPath: {}, url: {}]", target.getCode(), target.getName(), route.getContextPath(), route.getUrl());
             contextPath = route.getContextPath();
             url = route.getUrl();
         }
 
-        if (exchange.getRequest().getPath().value().equals(contextPath) && !exchange.getRequest().getPath().value().endsWith("/")) {
+        if (path.equals(contextPath) && !path.endsWith("/")) {
             // 这里用于修复 SpringMVC 项目自定重定向到 / 的问题
             // 意思是网关已经帮 SpringMVC 项目做了重定向了，那么项目就不需要处理了
-            log.info("重定向: '{}'", Stringx.addSuffix(contextPath, "/"));
+            log.debug("重定向: '{}'", Stringx.addSuffix(contextPath, "/"));
 
             URI originUri = exchange.getRequiredAttribute(ExchangeAttributes.ORIGIN_URI);
             return RedirectRender.of(exchange).redirect(URI.create(UriComponentsBuilder.fromUri(originUri).replacePath(originUri.getPath() + "/").build().toString())).render();
@@ -185,7 +139,7 @@ public class ApplicationDispatcherFilter implements GlobalFilter {
 
         // 将目标应用的 URI 放到 Attributes，后面的 Filter 可以通过 Attributes 获取或修改
         exchange.setAttribute(ExchangeAttributes.TARGET_SERVER, targetUri);
-        log.info("目标地址: {}", targetUri);
+        log.debug("目标地址: {}", targetUri);
 
         // 将目标应用放到 Attributes，后面的 Filter 可以通过 Attributes 获取
         exchange.setAttribute(ExchangeAttributes.TARGET_APPLICATION, target);
@@ -36,8 +36,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.Comparator;
-
 /**
  * 用户自定义网关
  *
@@ -45,7 +43,7 @@ import java.util.Comparator;
  * @since 2022/10/13
  */
 @Component
-@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+@Order(Ordered.HIGHEST_PRECEDENCE + 4)
 @ExtensionMethod(ServerWebExchangex.class)
 public class DynamicGatewayFilter implements GlobalFilter {
 
@@ -56,12 +54,20 @@ public class DynamicGatewayFilter implements GlobalFilter {
     public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
         var tenant = exchange.getRequiredAttribute(ExchangeAttributes.TENANT);
 
-        var filters = container.getFilters(tenant.getCode()).stream()
-                .sorted(Comparator.comparing(DynamicFilter::getOrder).reversed())
-                .toList();
+        // 调用链在数据刷新时就已经创建好了
+        var dynamic = container.getChain(tenant.getCode());
+        if (dynamic == null) {
+            return chain.filter(exchange);
+        }
+
+        // 所有过滤器共用路径的解析结果和匹配结果
+        var matches = dynamic.index().match(exchange.getRequest().getPath().value());
+        if (matches != null) {
+            exchange.setAttribute(ExchangeAttributes.PATH_MATCHES, matches);
+        }
 
         // 执行用户定义的过滤器
-        return StandardFilterChain.of(filters).filter(exchange)
+        return dynamic.chain().filter(exchange)
                 .then(chain.filter(exchange));
     }
 }
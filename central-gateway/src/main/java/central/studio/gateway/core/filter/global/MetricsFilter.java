@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global;
+
+import central.data.saas.Application;
+import central.data.saas.ApplicationRoute;
+import central.data.saas.Tenant;
+import central.starter.web.reactive.extension.ServerWebExchangex;
+import central.studio.gateway.core.accesslog.AccessLogger;
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.filter.FilterChain;
+import central.studio.gateway.core.filter.GlobalFilter;
+import central.studio.gateway.core.metrics.GatewayMetrics;
+import central.studio.gateway.core.metrics.RequestMetrics;
+import lombok.Setter;
+import lombok.experimental.ExtensionMethod;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 指标过滤器
+ * <p>
+ * 位于全局过滤器的最外层，记录包括写响应在内的整个请求的耗时，并在请求结束时输出访问日志
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ExtensionMethod(ServerWebExchangex.class)
+public class MetricsFilter implements GlobalFilter {
+
+    @Setter(onMethod_ = @Autowired)
+    private GatewayMetrics metrics;
+
+    @Setter(onMethod_ = @Autowired)
+    private AccessLogger accessLogger;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
+        var metrics = new RequestMetrics();
+        exchange.setAttribute(ExchangeAttributes.METRICS, metrics);
+
+        // 统计请求体字节数
+        var request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public @NonNull Flux<DataBuffer> getBody() {
+                return super.getBody().doOnNext(buffer -> metrics.received(buffer.readableByteCount()));
+            }
+        };
+
+        var status = new int[1];
+        var error = new Throwable[1];
+        return chain.filter(exchange.mutate().request(request).build())
+                .doOnError(throwable -> {
+                    // 异常由 WebFlux 的异常处理器在本过滤器之后写响应
+                    status[0] = throwable instanceof ResponseStatusException ex ? ex.getStatusCode().value() : 500;
+                    error[0] = throwable;
+                })
+                .doFinally(signal -> {
+                    if (signal == SignalType.ON_COMPLETE) {
+                        var code = exchange.getResponse().getStatusCode();
+                        status[0] = code == null ? 200 : code.value();
+                    }
+                    this.record(exchange, metrics, status[0]);
+                    this.accessLogger.log(exchange, metrics, status[0], error[0]);
+                });
+    }
+
+    private void record(ServerWebExchange exchange, RequestMetrics metrics, int status) {
+        Tenant tenant = exchange.getAttribute(ExchangeAttributes.TENANT);
+        Application application = exchange.getAttribute(ExchangeAttributes.TARGET_APPLICATION);
+        ApplicationRoute route = exchange.getAttribute(ExchangeAttributes.TARGET_APPLICATION_ROUTE);
+
+        this.metrics.record(tenant == null ? "-" : tenant.getCode(),
+                application == null ? "-" : application.getCode(),
+                route != null ? route.getContextPath() : application != null ? application.getContextPath() : "-",
+                metrics, status);
+    }
+}
@@ -28,15 +28,17 @@ import central.studio.gateway.core.filter.Filter;
 import central.studio.gateway.core.filter.FilterChain;
 import central.studio.gateway.core.filter.GlobalFilter;
 import central.studio.gateway.core.filter.StandardFilterChain;
+import central.studio.gateway.core.filter.global.routing.CacheRoutingFilter;
 import central.studio.gateway.core.filter.global.routing.HttpRoutingFilter;
 import central.studio.gateway.core.filter.global.routing.NotSupportedProtocolRoutingFilter;
 import central.studio.gateway.core.filter.global.routing.ResourceRoutingFilter;
 import central.studio.gateway.core.filter.global.routing.WebSocketRoutingFilter;
 import central.pluglet.PlugletFactory;
 import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationContextAware;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
@@ -51,26 +53,60 @@ import java.util.List;
  * @author Alan Yeh
  * @since 2022/10/13
  */
+@Slf4j
 @Component
 @Order
-public class RequestRoutingFilter implements GlobalFilter, ApplicationContextAware, InitializingBean {
+public class RequestRoutingFilter implements GlobalFilter, InitializingBean, DisposableBean {
 
-    @Setter
-    private ApplicationContext applicationContext;
+    /**
+     * 使用 Spring 插件工厂，这样转发过滤器可以获取环境配置，并在网关关闭时释放连接池等资源
+     */
+    @Setter(onMethod_ = @Autowired)
+    private PlugletFactory factory;
 
     private final List<Filter> filters = new ArrayList<>(5);
 
+    private StandardFilterChain chain;
+
     @Override
     public void afterPropertiesSet() throws Exception {
-        var factory = new PlugletFactory();
-        this.filters.add(factory.create(WebSocketRoutingFilter.class, null));
-        this.filters.add(factory.create(HttpRoutingFilter.class, null));
-        this.filters.add(factory.create(ResourceRoutingFilter.class, null));
-        this.filters.add(factory.create(NotSupportedProtocolRoutingFilter.class, null));
+        this.filters.add(this.factory.create(CacheRoutingFilter.class, null));
+        this.filters.add(this.factory.create(WebSocketRoutingFilter.class, null));
+        this.filters.add(this.factory.create(HttpRoutingFilter.class, null));
+        this.filters.add(this.factory.create(ResourceRoutingFilter.class, null));
+        this.filters.add(this.factory.create(NotSupportedProtocolRoutingFilter.class, null));
+        this.chain = StandardFilterChain.of(List.copyOf(this.filters));
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        for (var filter : this.filters) {
+            try {
+                this.factory.destroy(filter);
+            } catch (Exception ex) {
+                log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
+            }
+        }
+        this.filters.clear();
+    }
+
+    /**
+     * 获取转发过滤器
+     *
+     * @param type 转发过滤器类型
+     * @return 没有该类型的转发过滤器时，返回 null
+     */
+    public <T extends Filter> T getFilter(Class<T> type) {
+        for (var filter : this.filters) {
+            if (type.isInstance(filter)) {
+                return type.cast(filter);
+            }
+        }
+        return null;
     }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
-        return StandardFilterChain.of(this.filters).filter(exchange);
+        return this.chain.filter(exchange);
     }
 }
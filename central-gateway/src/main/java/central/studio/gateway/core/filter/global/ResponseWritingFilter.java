@@ -27,11 +27,15 @@ package central.studio.gateway.core.filter.global;
 import central.studio.gateway.core.filter.FilterChain;
 import central.studio.gateway.core.filter.GlobalFilter;
 import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.body.FileBody;
+import central.studio.gateway.core.body.HttpResponseBody;
+import central.studio.gateway.core.body.TransformedBody;
 import central.starter.web.reactive.extension.ServerWebExchangex;
 import lombok.experimental.ExtensionMethod;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.http.MediaType;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
@@ -47,7 +51,7 @@ import java.util.List;
  * @since 2022/10/13
  */
 @Component
-@Order(Ordered.HIGHEST_PRECEDENCE)
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
 @ExtensionMethod(ServerWebExchangex.class)
 public class ResponseWritingFilter implements GlobalFilter {
     @Override
@@ -55,14 +59,37 @@ public class ResponseWritingFilter implements GlobalFilter {
         return chain.filter(exchange)
                 .doOnError(throwable -> cleanup(exchange))
                 .then(Mono.defer(() -> {
-                    var body = exchange.getRequiredAttribute(ExchangeAttributes.RESPONSE_BODY);
+                    HttpResponseBody body = exchange.getRequiredAttribute(ExchangeAttributes.RESPONSE_BODY);
 
                     var response = exchange.getResponse();
 
+                    // 响应体转换需要在写响应头之前确定
+                    var transformers = exchange.getRequiredAttribute(ExchangeAttributes.BODY_TRANSFORMERS).stream()
+                            .filter(transformer -> transformer.prepare(exchange))
+                            .toList();
+                    if (!transformers.isEmpty()) {
+                        body = new TransformedBody(exchange, body, transformers);
+                    }
+
+                    var metrics = exchange.getAttribute(ExchangeAttributes.METRICS);
+
+                    if (body instanceof FileBody file && response instanceof ZeroCopyHttpOutputMessage zeroCopy) {
+                        // 零拷贝发送文件
+                        if (metrics != null) {
+                            metrics.sent(file.getCount());
+                        }
+                        return zeroCopy.writeWith(file.getPath(), file.getPosition(), file.getCount());
+                    }
+
+                    var content = body.get(response.bufferFactory());
+                    if (metrics != null) {
+                        content = content.doOnNext(buffer -> metrics.sent(buffer.readableByteCount()));
+                    }
+
                     if (isStreamingMediaType(response.getHeaders().getContentType())) {
-                        return response.writeAndFlushWith(Flux.just(body.get(response.bufferFactory())));
+                        return response.writeAndFlushWith(Flux.just(content));
                     } else {
-                        return response.writeWith(body.get(response.bufferFactory()));
+                        return response.writeWith(content);
                     }
                 }))
                 .doOnCancel(() -> cleanup(exchange));
@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing;
+
+import central.starter.web.reactive.extension.ServerWebExchangex;
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.filter.Filter;
+import central.studio.gateway.core.filter.FilterChain;
+import lombok.experimental.ExtensionMethod;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 使用网关缓存的响应，不再转发请求
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@ExtensionMethod(ServerWebExchangex.class)
+public class CacheRoutingFilter implements Filter {
+
+    @Override
+    public boolean predicate(ServerWebExchange exchange) {
+        var lookup = exchange.getAttribute(ExchangeAttributes.RESPONSE_CACHE);
+        return lookup != null && lookup.isFresh();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
+        var lookup = exchange.getRequiredAttribute(ExchangeAttributes.RESPONSE_CACHE);
+        lookup.serve(exchange, lookup.getEntry());
+        return Mono.empty();
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing;
+
+import io.netty.channel.ChannelOption;
+import lombok.Data;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Http Client Registry
+ * <p>
+ * 转发客户端注册表
+ * <p>
+ * 所有转发请求共用同一个连接池，连接池内部按目标主机维护独立的连接，连接在请求之间复用。
+ * 每个目标主机（Schema、Host、Port）对应一个长期存活的 {@link HttpClient}，并记录获取连接的耗时
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+public class HttpClientRegistry implements DisposableBean {
+
+    private final HttpRoutingProperties properties;
+
+    private final ConnectionProvider provider;
+
+    /**
+     * 转发客户端
+     * <p>
+     * schema://host:port -> client
+     */
+    private final Map<String, PooledClient> clients = new ConcurrentHashMap<>();
+
+    /**
+     * 连接池指标
+     * <p>
+     * host:port -> metrics
+     */
+    private final Map<String, ConnectionPoolMetrics> pools = new ConcurrentHashMap<>();
+
+    public HttpClientRegistry(String name, HttpRoutingProperties properties) {
+        this.properties = properties;
+        this.provider = ConnectionProvider.builder(name)
+                // 每个目标主机的最大连接数
+                .maxConnections(properties.getMaxConnections())
+                // 超过连接数之后的队列大小
+                .pendingAcquireMaxCount(properties.getPendingAcquireMaxCount())
+                // 在队列的最大等待时间
+                .pendingAcquireTimeout(Duration.ofMillis(properties.getPendingAcquireTimeout()))
+                // 空闲连接回收
+                .maxIdleTime(Duration.ofMillis(properties.getMaxIdleTime()))
+                // 连接最大存活时间，避免长期持有已被上游下线的连接
+                .maxLifeTime(Duration.ofMillis(properties.getMaxLifeTime()))
+                .evictInBackground(Duration.ofMillis(properties.getEvictInterval()))
+                // 连接池指标
+                .metrics(true, () -> new ConnectionProvider.MeterRegistrar() {
+                    @Override
+                    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+                        pools.put(getAddressKey(remoteAddress), metrics);
+                    }
+
+                    @Override
+                    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+                        pools.remove(getAddressKey(remoteAddress));
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * 获取目标服务器对应的转发客户端
+     *
+     * @param target 目标服务器地址
+     */
+    public PooledClient get(URI target) {
+        var scheme = target.getScheme().toLowerCase();
+        var port = target.getPort() > 0 ? target.getPort() : ("https".equals(scheme) ? 443 : 80);
+        var address = target.getHost() + ":" + port;
+        return this.clients.computeIfAbsent(scheme + "://" + address, key -> new PooledClient(address, this.create(scheme)));
+    }
+
+    private HttpClient create(String scheme) {
+        var client = HttpClient.create(this.provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, this.properties.getConnectTimeout());
+
+        if ("https".equals(scheme)) {
+            if (this.properties.isHttp2()) {
+                client = client.protocol(HttpProtocol.HTTP11, HttpProtocol.H2);
+            }
+            // 需要在设置协议之后再启用 SSL，这样 ALPN 才会协商 HTTP/2
+            return client.secure();
+        } else {
+            if (this.properties.isH2c()) {
+                client = client.protocol(HttpProtocol.HTTP11, HttpProtocol.H2C);
+            }
+            return client;
+        }
+    }
+
+    private static String getAddressKey(SocketAddress address) {
+        if (address instanceof InetSocketAddress inet) {
+            return inet.getHostString() + ":" + inet.getPort();
+        }
+        return String.valueOf(address);
+    }
+
+    /**
+     * 获取所有目标主机的连接池指标
+     */
+    public List<PoolStatistics> getStatistics() {
+        var result = new ArrayList<PoolStatistics>(this.clients.size());
+        for (var entry : this.clients.entrySet()) {
+            var client = entry.getValue();
+            var statistics = new PoolStatistics();
+            statistics.setTarget(entry.getKey());
+            statistics.setAcquireCount(client.acquireCount.sum());
+            statistics.setAcquireTotalTime(Duration.ofNanos(client.acquireNanos.sum()).toMillis());
+            statistics.setAcquireMaxTime(Duration.ofNanos(client.acquireMaxNanos.get()).toMillis());
+
+            var pool = this.pools.get(client.getAddress());
+            if (pool != null) {
+                statistics.setAcquired(pool.acquiredSize());
+                statistics.setAllocated(pool.allocatedSize());
+                statistics.setIdle(pool.idleSize());
+                statistics.setPending(pool.pendingAcquireSize());
+            }
+            result.add(statistics);
+        }
+        return result;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        this.clients.clear();
+        this.provider.disposeLater().block(Duration.ofSeconds(30));
+    }
+
+    /**
+     * 目标主机对应的转发客户端
+     */
+    public static class PooledClient {
+        /**
+         * host:port
+         */
+        @Getter
+        private final String address;
+
+        @Getter
+        private final HttpClient client;
+
+        private final LongAdder acquireCount = new LongAdder();
+        private final LongAdder acquireNanos = new LongAdder();
+        private final AtomicLong acquireMaxNanos = new AtomicLong();
+
+        private PooledClient(String address, HttpClient client) {
+            this.address = address;
+            this.client = client;
+        }
+
+        /**
+         * 记录获取连接耗时（包含排队与建立连接的时间）
+         *
+         * @param nanos 耗时（纳秒）
+         */
+        public void recordAcquire(long nanos) {
+            this.acquireCount.increment();
+            this.acquireNanos.add(nanos);
+            this.acquireMaxNanos.accumulateAndGet(nanos, Math::max);
+        }
+    }
+
+    /**
+     * 连接池统计
+     */
+    @Data
+    public static class PoolStatistics {
+        /**
+         * 目标主机
+         */
+        private String target;
+        /**
+         * 获取连接次数
+         */
+        private long acquireCount;
+        /**
+         * 获取连接总耗时（ms）
+         */
+        private long acquireTotalTime;
+        /**
+         * 获取连接最大耗时（ms）
+         */
+        private long acquireMaxTime;
+        /**
+         * 正在使用的连接数
+         */
+        private int acquired;
+        /**
+         * 已创建的连接数
+         */
+        private int allocated;
+        /**
+         * 空闲连接数
+         */
+        private int idle;
+        /**
+         * 等待获取连接的请求数
+         */
+        private int pending;
+    }
+}
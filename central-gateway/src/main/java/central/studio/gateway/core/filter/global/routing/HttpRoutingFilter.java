@@ -28,24 +28,36 @@ import central.data.saas.Application;
 import central.starter.web.reactive.extension.ServerWebExchangex;
 import central.studio.gateway.core.attribute.ExchangeAttributes;
 import central.studio.gateway.core.body.ConnectionBody;
+import central.studio.gateway.core.cache.CacheLookup;
 import central.studio.gateway.core.filter.Filter;
 import central.studio.gateway.core.filter.FilterChain;
+import central.studio.gateway.core.filter.global.routing.retry.HedgingDelay;
+import central.studio.gateway.core.filter.global.routing.retry.RetryBudget;
+import central.studio.gateway.core.filter.global.routing.retry.RetryableStatusException;
+import central.studio.gateway.core.filter.global.routing.upstream.UpstreamInstance;
+import central.studio.gateway.core.filter.global.routing.upstream.UpstreamRegistry;
+import central.studio.gateway.core.token.TokenSigner;
 import central.web.XForwardedHeaders;
-import com.auth0.jwt.algorithms.Algorithm;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
-import io.netty.channel.ChannelOption;
 import io.netty.handler.codec.http.HttpMethod;
-import lombok.Data;
+import io.netty.handler.timeout.ReadTimeoutException;
+import jakarta.annotation.Nullable;
+import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.ExtensionMethod;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.core.env.Environment;
 import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBuffer;
 import org.springframework.core.io.buffer.NettyDataBuffer;
 import org.springframework.http.HttpHeaders;
@@ -53,15 +65,28 @@ import org.springframework.http.HttpStatus;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.netty.http.HttpProtocol;
-import reactor.netty.http.client.HttpClient;
-import reactor.netty.resources.ConnectionProvider;
+import reactor.core.publisher.Sinks;
+import reactor.netty.Connection;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.netty.http.client.PrematureCloseException;
+import reactor.util.retry.Retry;
 
+import java.net.ConnectException;
 import java.net.URI;
 import java.time.Duration;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 发送 http、https 请求
@@ -71,11 +96,24 @@ import java.util.concurrent.TimeoutException;
  */
 @Slf4j
 @ExtensionMethod(ServerWebExchangex.class)
-public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentAware {
+public class HttpRoutingFilter implements Filter, InitializingBean, DisposableBean, EnvironmentAware, ApplicationContextAware {
 
     @Setter
     private Environment environment;
 
+    @Setter
+    private ApplicationContext applicationContext;
+
+    /**
+     * 转发令牌签名器
+     */
+    private TokenSigner signer;
+
+    /**
+     * 上游服务注册表
+     */
+    private UpstreamRegistry upstreams;
+
     /**
      * 支持的协议
      */
@@ -83,7 +121,23 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
 
     private HttpRoutingProperties properties = new HttpRoutingProperties();
 
-    private HttpClient client;
+    /**
+     * 转发客户端
+     * <p>
+     * 连接池在整个网关生命周期内复用，不能在每次请求时创建
+     */
+    @Getter
+    private HttpClientRegistry registry;
+
+    /**
+     * 重试预算，按应用隔离
+     */
+    private final Map<String, RetryBudget> budgets = new ConcurrentHashMap<>();
+
+    /**
+     * 对冲延迟，按应用隔离
+     */
+    private final Map<String, HedgingDelay> delays = new ConcurrentHashMap<>();
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -94,18 +148,17 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
             this.properties = new HttpRoutingProperties();
         }
 
-        var provider = ConnectionProvider.builder("http-routing")
-                // 最大连接数
-                .maxConnections(this.properties.getMaxConnections())
-                // 超过连接数之后的队列大小
-                .pendingAcquireMaxCount(this.properties.getPendingAcquireMaxCount())
-                // 在队列的最大等待时间
-                .pendingAcquireTimeout(Duration.ofMillis(this.properties.getPendingAcquireTimeout()))
-                .evictInBackground(Duration.ZERO)
-                .metrics(false)
-                .build();
-
-        this.client = HttpClient.create(provider).protocol(HttpProtocol.HTTP11, HttpProtocol.H2, HttpProtocol.H2C);
+        this.registry = new HttpClientRegistry("http-routing", this.properties);
+        this.signer = this.applicationContext.getBean(TokenSigner.class);
+        this.upstreams = this.applicationContext.getBean(UpstreamRegistry.class);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.registry != null) {
+            this.registry.destroy();
+            this.registry = null;
+        }
     }
 
     @Override
@@ -117,64 +170,94 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
-        URI targetServer = exchange.getRequiredAttribute(ExchangeAttributes.TARGET_SERVER);
         final Application targetApplication = exchange.getAttribute(ExchangeAttributes.TARGET_APPLICATION);
         final HttpHeaders headers = new HttpHeaders(new LinkedMultiValueMap<>(exchange.getRequest().getHeaders()));
 
+        // 如果服务地址配置了多个服务实例，则按负载均衡策略选择实例
+        URI logicalServer = exchange.getRequiredAttribute(ExchangeAttributes.TARGET_SERVER);
+        var upstream = this.upstreams.get(logicalServer);
+        UpstreamInstance instance = upstream == null ? null : upstream.choose();
+        final URI targetServer = instance == null ? logicalServer : instance.resolve(logicalServer);
+
         exchange.setAttribute(ExchangeAttributes.FORWARDING_URI, targetServer);
 
         if (targetApplication != null) {
             // 已注册的应用系统需要生成 token 传递过去
             // 该应用系统在接收到请求后，需验证该 token，用于防止其它系统非法调用
-            var token = exchange.getRequiredAttribute(ExchangeAttributes.TOKEN)
-                    .sign(Algorithm.HMAC256(targetApplication.getSecret()));
+            var token = this.signer.sign(exchange.getRequiredAttribute(ExchangeAttributes.TOKEN), targetApplication);
             headers.set(XForwardedHeaders.TOKEN, token);
         }
 
-        var provider = ConnectionProvider.builder("http-routing")
-                // 最大连接数
-                .maxConnections(this.properties.getMaxConnections())
-                // 超过连接数之后的队列大小
-                .pendingAcquireMaxCount(this.properties.getPendingAcquireMaxCount())
-                // 在队列的最大等待时间
-                .pendingAcquireTimeout(Duration.ofMillis(this.properties.getPendingAcquireTimeout()))
-                .evictInBackground(Duration.ZERO)
-                .metrics(false)
-                .build();
-
-        this.client = HttpClient.create(provider).protocol(HttpProtocol.HTTP11);
+        // 缓存已过期时，向目标应用验证缓存是否仍然有效
+        var lookup = exchange.getAttribute(ExchangeAttributes.RESPONSE_CACHE);
+        if (lookup != null) {
+            lookup.applyConditions(headers);
+        }
 
         // 设置超时时间
         int timeout = exchange.getAttributeOrDefault(ExchangeAttributes.TIMEOUT, this.properties.getTimeout());
-        var responseFlux = this.client
-                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, timeout)
-                // 转发请求头
-                .headers(it -> {
-                    headers.forEach(it::add);
-                    it.remove(HttpHeaders.HOST);
-                })
-                .responseTimeout(Duration.ofMillis(timeout))
-                .request(HttpMethod.valueOf(exchange.getRequest().getMethod().name()))
-                .uri(targetServer)
-                .send((req, nettOutbound) -> {
-                    return nettOutbound.send(exchange.getRequest().getBody().map(this::getByteBuf));
-//                    return nettOutbound.withConnection(connection -> )
-                }).responseConnection((res, connection) -> {
-                    exchange.setAttribute(ExchangeAttributes.RESPONSE, res);
-                    exchange.setAttribute(ExchangeAttributes.RESPONSE_BODY, new ConnectionBody(connection));
-
-                    exchange.getResponse().setRawStatusCode(res.status().code());
-                    res.responseHeaders().forEach(entry -> exchange.getResponse().getHeaders().add(entry.getKey(), entry.getValue()));
-
-                    return Mono.just(res);
-                });
+        var retry = this.properties.getRetry();
+
+        Mono<Attempt> attempts;
+        if (retry.getMaxRetries() > 0 && isRetryable(exchange, retry)) {
+            // 幂等请求，缓存请求体后允许重试和对冲
+            var key = targetApplication != null ? targetApplication.getCode() : logicalServer.toString();
+            var budget = this.budgets.computeIfAbsent(key, it -> new RetryBudget(retry.getBudgetRatio(), retry.getMinRetriesPerSecond()));
+            budget.deposit();
+            var hedging = retry.getHedging().isEnabled() ? this.delays.computeIfAbsent(key, it -> new HedgingDelay(retry.getHedging().getPercentile(), retry.getHedging().getMinDelay(), retry.getHedging().getMinSamples())) : null;
+
+            // 没有指定单次尝试的超时时间时，将全局超时时间平均分配给每次尝试
+            var perTryTimeout = retry.getPerTryTimeout() > 0 ? Math.min(retry.getPerTryTimeout(), timeout) : Math.max(1, timeout / (retry.getMaxRetries() + 1));
+
+            attempts = this.readBody(exchange, retry.getMaxReplayBodySize()).flatMap(replay -> {
+                if (replay.bytes() == null) {
+                    // 请求体超过了可以缓存的大小，不重试也不对冲，直接转发已读取的部分和剩余部分
+                    return this.attempt(exchange, headers, logicalServer, instance, replay.streaming().map(this::getByteBuf), timeout, 0, new AtomicBoolean(), () -> false, null);
+                }
 
-        return responseFlux
-                .timeout(Duration.ofMillis(timeout), Mono.error(new TimeoutException("Response timeout: " + timeout)))
+                // 每次重试都重新发送缓存的请求体
+                var bytes = replay.bytes();
+                var body = bytes.length == 0 ? Mono.<ByteBuf>empty() : Mono.fromSupplier(() -> Unpooled.wrappedBuffer(bytes));
+                var tries = new AtomicInteger();
+                var previous = new AtomicReference<>(instance);
+                return Mono.defer(() -> {
+                    // 第一次请求使用已选择的实例，重试时尽量避开上一次请求的实例
+                    var chosen = tries.getAndIncrement() == 0 || upstream == null ? instance : previous.updateAndGet(upstream::choose);
+                    var last = tries.get() > retry.getMaxRetries();
+                    // 上游返回需要重试的状态码时，只有在重试预算允许的情况下才丢弃该响应，否则直接返回该响应
+                    BooleanSupplier retryable = () -> !last && budget.tryWithdraw();
+                    var won = new AtomicBoolean();
+                    var primary = this.attempt(exchange, headers, logicalServer, chosen, body, timeout, perTryTimeout, won, retryable, hedging);
+
+                    var delay = hedging == null ? null : hedging.getDelay();
+                    if (delay == null) {
+                        return primary;
+                    }
+                    return hedge(primary, delay, budget, () -> this.attempt(exchange, headers, logicalServer, upstream == null ? null : upstream.choose(chosen), body, timeout, perTryTimeout, won, retryable, hedging));
+                }).retryWhen(Retry.backoff(retry.getMaxRetries(), Duration.ofMillis(retry.getBackoff()))
+                        .maxBackoff(Duration.ofMillis(Math.max(retry.getBackoff(), retry.getMaxBackoff())))
+                        .jitter(0.5)
+                        // 因状态码重试时已经扣除了重试预算
+                        .filter(ex -> ex instanceof RetryableStatusException || (this.isRetryable(ex) && budget.tryWithdraw()))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+            });
+        } else {
+            attempts = this.attempt(exchange, headers, logicalServer, instance, exchange.getRequest().getBody().map(this::getByteBuf), timeout, 0, new AtomicBoolean(), () -> false, null);
+        }
+
+        var result = attempts
+                .flatMap(attempt -> this.apply(exchange, attempt, lookup))
+                .timeout(Duration.ofMillis(timeout), Mono.error(new TimeoutException("Response timeout: " + timeout)));
+        var guard = exchange.getAttribute(ExchangeAttributes.UPSTREAM_GUARD);
+        if (guard != null) {
+            // 并发限制与熔断
+            result = guard.protect(result, res -> res.status().code() < 500);
+        }
+
+        return result
                 .onErrorMap(TimeoutException.class, th -> new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, th.getMessage(), th))
                 .then(Mono.empty());
 
-
 //        var provider = ConnectionProvider.builder("http-routing")
 //                // 最大连接数
 //                .maxConnections(this.properties.getMaxConnections())
@@ -228,6 +311,226 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
 //        }).then();
     }
 
+    /**
+     * 单次请求结果
+     *
+     * @param response   上游响应
+     * @param connection 上游连接
+     * @param target     实际请求的服务地址
+     * @param elapsed    从发起请求到收到响应头的耗时（纳秒）
+     */
+    private record Attempt(HttpClientResponse response, Connection connection, URI target, long elapsed) {
+    }
+
+    /**
+     * 向上游服务发起一次请求
+     * <p>
+     * 在确定最终采用的响应之前，不修改 exchange 的响应
+     *
+     * @param instance      服务实例，未配置多实例时为空
+     * @param perTryTimeout 单次尝试的超时时间(ms)，0 表示不限制
+     * @param won           是否已有请求胜出，对冲请求之间共享
+     * @param retryable     上游返回需要重试的状态码时，是否重试。不重试时直接使用上游的响应
+     * @param hedging       对冲延迟，用于记录上游响应耗时
+     */
+    private Mono<Attempt> attempt(ServerWebExchange exchange, HttpHeaders headers, URI logicalServer, @Nullable UpstreamInstance instance, Publisher<ByteBuf> body,
+                                  int timeout, int perTryTimeout, AtomicBoolean won, BooleanSupplier retryable, @Nullable HedgingDelay hedging) {
+        final URI targetServer = instance == null ? logicalServer : instance.resolve(logicalServer);
+        var statuses = this.properties.getRetry().getStatuses();
+        var pooled = this.registry.get(targetServer);
+
+        Mono<Attempt> result = Mono.defer(() -> {
+            var begin = System.nanoTime();
+            return pooled.getClient()
+                    // 转发请求头
+                    .headers(it -> {
+                        headers.forEach(it::add);
+                        it.remove(HttpHeaders.HOST);
+                    })
+                    .responseTimeout(Duration.ofMillis(timeout))
+                    .request(HttpMethod.valueOf(exchange.getRequest().getMethod().name()))
+                    .uri(targetServer)
+                    .send((req, nettOutbound) -> {
+                        // 获取到连接之后才会开始发送请求
+                        pooled.recordAcquire(System.nanoTime() - begin);
+                        return nettOutbound.send(body);
+                    }).responseConnection((res, connection) -> {
+                        var elapsed = System.nanoTime() - begin;
+                        var status = res.status().code();
+                        if (hedging != null && status < 500) {
+                            hedging.record(elapsed);
+                        }
+
+                        if (statuses.contains(status) && retryable.getAsBoolean()) {
+                            // 读完响应后重试，使连接可以归还连接池
+                            return connection.inbound().receive().then(Mono.error(new RetryableStatusException(status)));
+                        }
+                        if (!won.compareAndSet(false, true)) {
+                            // 其它对冲请求已胜出，丢弃本次响应
+                            connection.dispose();
+                            return Mono.empty();
+                        }
+                        return Mono.just(new Attempt(res, connection, targetServer, elapsed));
+                    }).next();
+        });
+
+        if (perTryTimeout > 0 && perTryTimeout < timeout) {
+            result = result.timeout(Duration.ofMillis(perTryTimeout), Mono.error(new TimeoutException("Per-try timeout: " + perTryTimeout)));
+        }
+        if (instance != null) {
+            // 记录实例的请求结果，用于负载均衡和异常实例摘除
+            result = instance.observe(result, it -> it.response().status().code() < 500);
+        }
+        return result;
+    }
+
+    /**
+     * 对冲请求
+     * <p>
+     * 主请求在对冲延迟内没有响应时，在重试预算允许的情况下再发起一个请求，采用先返回的响应。
+     * 主请求在对冲请求发起之前失败时，直接返回失败，交由重试处理。先返回的响应胜出后，另一个请求会被取消
+     */
+    static <T> Mono<T> hedge(Mono<T> primary, Duration delay, RetryBudget budget, Supplier<Mono<T>> secondary) {
+        var failed = Sinks.<Boolean>one();
+        var failure = new AtomicReference<Throwable>();
+
+        var first = primary.onErrorResume(ex -> {
+            failure.compareAndSet(null, ex);
+            failed.tryEmitValue(Boolean.TRUE);
+            return Mono.empty();
+        });
+        var second = Mono.delay(delay)
+                .takeUntilOther(failed.asMono())
+                .filter(it -> budget.tryWithdraw())
+                .flatMap(it -> secondary.get())
+                .onErrorResume(ex -> {
+                    failure.compareAndSet(null, ex);
+                    return Mono.empty();
+                });
+
+        return Flux.merge(first, second).next()
+                .switchIfEmpty(Mono.defer(() -> Mono.error(failure.get())));
+    }
+
+    /**
+     * 使用胜出的响应作为网关的响应
+     */
+    private Mono<HttpClientResponse> apply(ServerWebExchange exchange, Attempt attempt, @Nullable CacheLookup lookup) {
+        var res = attempt.response();
+        var connection = attempt.connection();
+        exchange.setAttribute(ExchangeAttributes.RESPONSE, res);
+        exchange.setAttribute(ExchangeAttributes.FORWARDING_URI, attempt.target());
+
+        var metrics = exchange.getAttribute(ExchangeAttributes.METRICS);
+        if (metrics != null) {
+            // 上游耗时，从发起转发到收到响应头
+            metrics.upstream(attempt.elapsed());
+        }
+
+        if (lookup != null && lookup.isNotModified(res.status().code())) {
+            // 缓存仍然有效，读完 304 响应后使用缓存响应
+            var notModified = new HttpHeaders();
+            res.responseHeaders().forEach(entry -> notModified.add(entry.getKey(), entry.getValue()));
+            return connection.inbound().receive().then(Mono.fromSupplier(() -> {
+                lookup.revalidated(exchange, notModified);
+                return res;
+            }));
+        }
+
+        exchange.getResponse().setRawStatusCode(res.status().code());
+        res.responseHeaders().forEach(entry -> exchange.getResponse().getHeaders().add(entry.getKey(), entry.getValue()));
+
+        if (lookup != null) {
+            // 读取响应体的同时缓存响应
+            var upstreamHeaders = new HttpHeaders();
+            res.responseHeaders().forEach(entry -> upstreamHeaders.add(entry.getKey(), entry.getValue()));
+            exchange.setAttribute(ExchangeAttributes.RESPONSE_BODY, lookup.store(res.status().code(), upstreamHeaders, new ConnectionBody(connection)));
+        } else {
+            exchange.setAttribute(ExchangeAttributes.RESPONSE_BODY, new ConnectionBody(connection));
+        }
+        return Mono.just(res);
+    }
+
+    /**
+     * 判断请求是否允许重试
+     * <p>
+     * 请求方法是幂等的，或者携带了幂等键；并且请求体足够小，可以缓存下来重新发送。
+     * 没有 Content-Length 的请求（如 HTTP/2）在读取请求体时限制大小，超过限制时不再重试
+     */
+    static boolean isRetryable(ServerWebExchange exchange, HttpRoutingProperties.Retry retry) {
+        var request = exchange.getRequest();
+        if (!retry.getMethods().contains(request.getMethod()) && !request.getHeaders().containsKey(retry.getIdempotencyHeader())) {
+            return false;
+        }
+        if (request.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING)) {
+            // 分块传输的请求体长度未知
+            return false;
+        }
+        return request.getHeaders().getContentLength() <= retry.getMaxReplayBodySize();
+    }
+
+    /**
+     * 判断异常是否可以重试
+     * <p>
+     * 连接失败、连接被提前关闭、超时，或上游返回了需要重试的状态码
+     */
+    private boolean isRetryable(Throwable throwable) {
+        return throwable instanceof ConnectException
+                || throwable instanceof PrematureCloseException
+                || throwable instanceof ReadTimeoutException
+                || throwable instanceof TimeoutException
+                || throwable instanceof RetryableStatusException;
+    }
+
+    /**
+     * 读取请求体，用于重试时重新发送
+     * <p>
+     * 最多缓存 limit 字节。超过限制时不再继续缓存，返回已读取的部分与剩余部分组成的请求体，只能发送一次
+     *
+     * @param limit 可以缓存的最大请求体（字节）
+     */
+    private Mono<ReplayBody> readBody(ServerWebExchange exchange, int limit) {
+        var size = new AtomicLong();
+        return exchange.getRequest().getBody()
+                // 超过限制之前的数据合并为一组，超过限制之后每块数据单独一组
+                .bufferUntil(buffer -> size.addAndGet(buffer.readableByteCount()) > limit)
+                .switchOnFirst((signal, flux) -> {
+                    var first = signal.get();
+                    if (first == null) {
+                        return signal.isOnError() ? Flux.error(signal.getThrowable()) : Flux.just(new ReplayBody(new byte[0], null));
+                    }
+                    long length = 0;
+                    for (var buffer : first) {
+                        length += buffer.readableByteCount();
+                    }
+                    if (length > limit) {
+                        return Flux.just(new ReplayBody(null, flux.flatMapIterable(Function.identity())));
+                    }
+                    // 请求体在限制之内读取完毕
+                    var joined = DataBufferUtils.join(Flux.fromIterable(first), limit);
+                    return joined.map(buffer -> {
+                        try {
+                            var bytes = new byte[buffer.readableByteCount()];
+                            buffer.read(bytes);
+                            return new ReplayBody(bytes, null);
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    });
+                }, false)
+                .singleOrEmpty()
+                .defaultIfEmpty(new ReplayBody(new byte[0], null));
+    }
+
+    /**
+     * 用于重试的请求体
+     *
+     * @param bytes     已缓存的完整请求体，可以重复发送；超过缓存限制时为空
+     * @param streaming 超过缓存限制时，已读取的部分与剩余部分组成的请求体
+     */
+    private record ReplayBody(@Nullable byte[] bytes, @Nullable Flux<DataBuffer> streaming) {
+    }
+
     protected ByteBuf getByteBuf(DataBuffer dataBuffer) {
         if (dataBuffer instanceof NettyDataBuffer buffer) {
             return buffer.getNativeBuffer();
@@ -239,25 +542,4 @@ public class HttpRoutingFilter implements Filter, InitializingBean, EnvironmentA
         throw new IllegalArgumentException("Unable to handle DataBuffer of type " + dataBuffer.getClass());
     }
 
-    @Data
-    @ConfigurationProperties(prefix = "studio.gateway.filter.http-routing")
-    private static class HttpRoutingProperties {
-        /**
-         * 全局超时时间(ms)
-         */
-        private int timeout = 60000;
-        /**
-         * 最大连接数
-         */
-        private int maxConnections = Integer.MAX_VALUE;
-        /**
-         * 超过最大连接数之后，进入队列的请求最大限制
-         * -1 为不设上限（容易爆内存）
-         */
-        private int pendingAcquireMaxCount = -1;
-        /**
-         * 请求进入队列后的最大等待时间（ms）
-         */
-        private int pendingAcquireTimeout = 60000;
-    }
 }
@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpMethod;
+
+import java.util.List;
+
+/**
+ * Http Routing Properties
+ * <p>
+ * Http 转发配置
+ *
+ * @author Alan Yeh
+ * @since 2022/10/13
+ */
+@Data
+@ConfigurationProperties(prefix = "studio.gateway.filter.http-routing")
+public class HttpRoutingProperties {
+    /**
+     * 全局超时时间(ms)
+     */
+    private int timeout = 60000;
+    /**
+     * 连接超时时间(ms)
+     */
+    private int connectTimeout = 10000;
+    /**
+     * 每个目标主机的最大连接数
+     */
+    private int maxConnections = Integer.MAX_VALUE;
+    /**
+     * 超过最大连接数之后，进入队列的请求最大限制
+     * -1 为不设上限（容易爆内存）
+     */
+    private int pendingAcquireMaxCount = -1;
+    /**
+     * 请求进入队列后的最大等待时间（ms）
+     */
+    private int pendingAcquireTimeout = 60000;
+    /**
+     * 连接最大空闲时间（ms），超过该时间未被使用的连接将被关闭
+     */
+    private int maxIdleTime = 30000;
+    /**
+     * 连接最大存活时间（ms），超过该时间的连接在归还连接池后将被关闭
+     */
+    private int maxLifeTime = 300000;
+    /**
+     * 后台清理空闲、过期连接的周期（ms）
+     */
+    private int evictInterval = 30000;
+    /**
+     * 是否对 https 目标服务器启用 HTTP/2
+     * <p>
+     * 通过 ALPN 协商，如果目标服务器不支持，则使用 HTTP/1.1
+     */
+    private boolean http2 = true;
+    /**
+     * 是否对 http 目标服务器启用 HTTP/2 明文协议（h2c）
+     * <p>
+     * h2c 需要目标服务器支持 Upgrade 升级，默认关闭
+     */
+    private boolean h2c = false;
+
+    /**
+     * 失败重试
+     */
+    private Retry retry = new Retry();
+
+    @Data
+    public static class Retry {
+        /**
+         * 最大重试次数，0 表示不重试（默认）
+         * <p>
+         * 只有幂等的请求才会重试，启用前请确认目标应用的这些请求确实是幂等的
+         */
+        private int maxRetries = 0;
+        /**
+         * 可以重试的请求方法（幂等方法）
+         */
+        private List<HttpMethod> methods = List.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+        /**
+         * 幂等请求头
+         * <p>
+         * 带有该请求头的请求，无论请求方法是什么都可以重试
+         */
+        private String idempotencyHeader = "Idempotency-Key";
+        /**
+         * 可以重试的最大请求体（字节）
+         * <p>
+         * 请求体会被缓存以便重放，因此只有 Content-Length 不超过该大小的请求才会重试。
+         * 没有 Content-Length 的请求最多缓存该大小，超过时不再重试
+         */
+        private int maxReplayBodySize = 64 * 1024;
+        /**
+         * 需要重试的上游响应状态码
+         */
+        private List<Integer> statuses = List.of(502, 503, 504);
+        /**
+         * 单次尝试的超时时间(ms)
+         * <p>
+         * 0 表示将全局超时时间平均分配给每次尝试，避免第一次尝试就用完全部的超时时间，导致无法重试
+         */
+        private int perTryTimeout = 0;
+        /**
+         * 首次重试的退避时间(ms)，之后每次翻倍，并加上随机抖动
+         */
+        private int backoff = 25;
+        /**
+         * 最大退避时间(ms)
+         */
+        private int maxBackoff = 1000;
+        /**
+         * 重试预算：每个应用在 10 秒内的重试次数不超过请求数的该比例
+         */
+        private double budgetRatio = 0.2;
+        /**
+         * 重试预算：每个应用每秒至少允许的重试次数
+         */
+        private int minRetriesPerSecond = 10;
+        /**
+         * 对冲请求
+         */
+        private Hedging hedging = new Hedging();
+    }
+
+    @Data
+    public static class Hedging {
+        /**
+         * 是否启用对冲请求
+         * <p>
+         * 可以重试的请求在指定分位的延迟内仍未收到响应时，向另一个实例发起相同的请求，使用先返回的响应
+         */
+        private boolean enabled = false;
+        /**
+         * 触发对冲请求的延迟分位数
+         */
+        private double percentile = 0.95;
+        /**
+         * 最小对冲延迟(ms)
+         */
+        private int minDelay = 10;
+        /**
+         * 样本数少于该数量时不发起对冲请求
+         */
+        private int minSamples = 100;
+    }
+}
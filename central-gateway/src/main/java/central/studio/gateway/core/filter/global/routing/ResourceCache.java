@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing;
+
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 热点文件缓存
+ * <p>
+ * 将较小的文件读取到堆内存中，避免每次请求都读取磁盘。文件大小或修改时间变化后缓存失效。
+ * 缓存受容量限制，放在堆内由 GC 统一回收，不会因为堆外内存释放不及时而占用额外的内存
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+public class ResourceCache {
+
+    /**
+     * 缓存容量（字节）
+     */
+    private final long capacity;
+
+    /**
+     * 可以缓存的最大文件大小（字节）
+     */
+    private final int maxFileSize;
+
+    /**
+     * 文件 -> 缓存
+     */
+    private final LinkedHashMap<Path, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * 当前缓存的文件总大小
+     */
+    private long size;
+
+    /**
+     * 正在读取的文件
+     * <p>
+     * 同一个文件同时只读取一次
+     */
+    private final Map<Path, Mono<Void>> loading = new ConcurrentHashMap<>();
+
+    public ResourceCache(long capacity, int maxFileSize) {
+        this.capacity = capacity;
+        this.maxFileSize = maxFileSize;
+    }
+
+    /**
+     * 文件是否可以缓存
+     *
+     * @param size 文件大小
+     */
+    public boolean isCacheable(long size) {
+        return size <= this.maxFileSize && size <= this.capacity;
+    }
+
+    /**
+     * 获取文件内容
+     *
+     * @param path         文件
+     * @param size         文件大小
+     * @param lastModified 文件修改时间
+     * @return 如果没有缓存或缓存已失效，则返回 null
+     */
+    public synchronized @Nullable ByteBuffer get(Path path, long size, long lastModified) {
+        var entry = this.entries.get(path);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.size() != size || entry.lastModified() != lastModified) {
+            this.entries.remove(path);
+            this.size -= entry.size();
+            return null;
+        }
+        return entry.content().duplicate();
+    }
+
+    /**
+     * 在后台读取文件并缓存
+     * <p>
+     * 如果该文件正在被读取，则不会重复读取
+     *
+     * @param path         文件
+     * @param size         文件大小
+     * @param lastModified 文件修改时间
+     */
+    public void loadAsync(Path path, long size, long lastModified) {
+        if (!this.isCacheable(size)) {
+            return;
+        }
+        this.loading.computeIfAbsent(path, key -> Mono.<Void>fromRunnable(() -> this.load(key, size, lastModified))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .doFinally(signal -> this.loading.remove(key))
+                        .cache())
+                .subscribe();
+    }
+
+    /**
+     * 读取文件并缓存
+     * <p>
+     * 会读取磁盘，不能在事件循环线程中调用
+     *
+     * @param path         文件
+     * @param size         文件大小
+     * @param lastModified 文件修改时间
+     */
+    public void load(Path path, long size, long lastModified) {
+        if (!this.isCacheable(size)) {
+            return;
+        }
+
+        var content = ByteBuffer.allocate((int) size);
+        try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            while (content.hasRemaining() && channel.read(content) >= 0) {
+                // 读取到缓冲区满或文件结束
+            }
+        } catch (IOException ex) {
+            log.warn("[ResourceCache] 读取文件失败: {}", ex.getLocalizedMessage());
+            return;
+        }
+        if (content.hasRemaining()) {
+            // 读取期间文件被修改了
+            return;
+        }
+        content.flip();
+
+        synchronized (this) {
+            var previous = this.entries.put(path, new Entry(size, lastModified, content.asReadOnlyBuffer()));
+            if (previous != null) {
+                this.size -= previous.size();
+            }
+            this.size += size;
+
+            var iterator = this.entries.values().iterator();
+            while (this.size > this.capacity && iterator.hasNext()) {
+                this.size -= iterator.next().size();
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * 清空缓存
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.size = 0;
+    }
+
+    private record Entry(long size, long lastModified, ByteBuffer content) {
+    }
+}
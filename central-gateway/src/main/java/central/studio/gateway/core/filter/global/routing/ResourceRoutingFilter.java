@@ -24,27 +24,434 @@
 
 package central.studio.gateway.core.filter.global.routing;
 
+import central.data.saas.Application;
+import central.data.saas.ApplicationRoute;
+import central.lang.Stringx;
+import central.starter.web.reactive.extension.ServerWebExchangex;
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.body.CachedBody;
+import central.studio.gateway.core.body.EmptyBody;
+import central.studio.gateway.core.body.FileBody;
 import central.studio.gateway.core.filter.Filter;
 import central.studio.gateway.core.filter.FilterChain;
+import jakarta.annotation.Nullable;
+import lombok.Setter;
+import lombok.experimental.ExtensionMethod;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.http.*;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriUtils;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 本地资源托管
+ * <p>
+ * 服务地址为 file 协议的应用（如 file:///opt/central/views/dashboard）由网关直接返回本地文件，
+ * 请求路径去掉应用的上下文路径后，即为文件相对于服务地址的路径
  *
  * @author Alan Yeh
  * @since 2022/10/13
  */
-public class ResourceRoutingFilter implements Filter, InitializingBean {
+@Slf4j
+@ExtensionMethod(ServerWebExchangex.class)
+public class ResourceRoutingFilter implements Filter, InitializingBean, DisposableBean, EnvironmentAware {
+
+    @Setter
+    private Environment environment;
+
+    private ResourceRoutingProperties properties = new ResourceRoutingProperties();
+
+    /**
+     * 热点文件缓存
+     */
+    private ResourceCache cache;
+
+    /**
+     * 服务地址 -> 根目录（已解析符号链接）
+     */
+    private final Map<URI, Path> roots = new ConcurrentHashMap<>();
+
+    /**
+     * 预压缩文件
+     * <p>
+     * Accept-Encoding -> 文件扩展名，按优先级排列
+     */
+    private final List<Map.Entry<String, String>> encodings = List.of(Map.entry("br", ".br"), Map.entry("gzip", ".gz"));
 
     @Override
     public void afterPropertiesSet() throws Exception {
+        var binder = Binder.get(this.environment).bind(ResourceRoutingProperties.class.getAnnotation(ConfigurationProperties.class).prefix(), ResourceRoutingProperties.class);
+        if (binder.isBound()) {
+            this.properties = binder.get();
+        } else {
+            this.properties = new ResourceRoutingProperties();
+        }
+
+        this.cache = new ResourceCache(this.properties.getCacheCapacity(), this.properties.getCacheMaxFileSize());
+    }
 
+    @Override
+    public void destroy() throws Exception {
+        this.cache.clear();
+        this.roots.clear();
+    }
+
+    @Override
+    public boolean predicate(ServerWebExchange exchange) {
+        URI targetServer = exchange.getRequiredAttribute(ExchangeAttributes.TARGET_SERVER);
+
+        return "file".equalsIgnoreCase(targetServer.getScheme());
     }
 
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
-        return null;
+        var method = exchange.getRequest().getMethod();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return Mono.error(new ResponseStatusException(HttpStatus.METHOD_NOT_ALLOWED));
+        }
+
+        URI target = exchange.getRequiredAttribute(ExchangeAttributes.TARGET_SERVER);
+        var relative = this.getRelativePath(exchange);
+        var accepted = exchange.getRequest().getHeaders().getOrEmpty(HttpHeaders.ACCEPT_ENCODING);
+
+        // 查找文件需要访问磁盘，不能在事件循环线程中执行
+        return Mono.fromCallable(() -> this.lookup(target, relative, accepted))
+                .subscribeOn(Schedulers.boundedElastic())
+                .switchIfEmpty(Mono.error(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, exchange.getRequiredAttribute(ExchangeAttributes.ORIGIN_URI).toString())))
+                .flatMap(lookup -> this.render(exchange, lookup.resource(), lookup.variant()));
+    }
+
+    /**
+     * 查找文件及其预压缩文件
+     *
+     * @param target   服务地址
+     * @param relative 相对路径
+     * @param accepted Accept-Encoding 请求头
+     * @return 如果文件不存在，则返回 null
+     */
+    private @Nullable Lookup lookup(URI target, String relative, List<String> accepted) {
+        var root = this.roots.computeIfAbsent(target, this::getRoot);
+        if (root == null) {
+            return null;
+        }
+        var resource = this.resolve(root, relative);
+        if (resource == null) {
+            return null;
+        }
+        return new Lookup(resource, this.getVariant(root, resource, accepted));
+    }
+
+    private Mono<Void> render(ServerWebExchange exchange, StaticResource resource, @Nullable StaticResource variant) {
+        var method = exchange.getRequest().getMethod();
+        var response = exchange.getResponse();
+        var headers = response.getHeaders();
+        var filename = resource.path().getFileName().toString();
+        headers.setContentType(MediaTypeFactory.getMediaType(filename).orElse(MediaType.APPLICATION_OCTET_STREAM));
+        headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (filename.equals(this.properties.getIndexFile())) {
+            // 默认文件引用的资源可能会变化，每次使用前都需要验证
+            headers.setCacheControl(CacheControl.noCache());
+        }
+        if (this.properties.isPrecompressed()) {
+            headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        }
+
+        // 范围请求只返回原始文件
+        var ranges = this.getRanges(exchange, resource);
+        if (ranges == null && variant != null) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding());
+            resource = variant;
+        }
+
+        if (exchange.checkNotModified(resource.getETag(), Instant.ofEpochMilli(resource.lastModified()))) {
+            exchange.setAttribute(ExchangeAttributes.RESPONSE_BODY, new EmptyBody());
+            return Mono.empty();
+        }
+
+        long position = 0;
+        long count = resource.size();
+        if (ranges != null) {
+            if (ranges.size() != 1) {
+                // 暂不支持多个范围（multipart/byteranges），返回完整文件
+                ranges = null;
+            } else {
+                try {
+                    var range = ranges.get(0);
+                    position = range.getRangeStart(resource.size());
+                    count = range.getRangeEnd(resource.size()) - position + 1;
+                } catch (IllegalArgumentException ex) {
+                    headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + resource.size());
+                    return Mono.error(new ResponseStatusException(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE));
+                }
+                response.setStatusCode(HttpStatus.PARTIAL_CONTENT);
+                headers.set(HttpHeaders.CONTENT_RANGE, Stringx.format("bytes {}-{}/{}", position, position + count - 1, resource.size()));
+            }
+        }
+        headers.setContentLength(count);
+
+        if (method == HttpMethod.HEAD) {
+            exchange.setAttribute(ExchangeAttributes.RESPONSE_BODY, new EmptyBody());
+            return Mono.empty();
+        }
+
+        var content = this.cache.get(resource.path(), resource.size(), resource.lastModified());
+        if (content != null) {
+            exchange.setAttribute(ExchangeAttributes.RESPONSE_BODY, new CachedBody(content.position((int) position).limit((int) (position + count)).slice()));
+        } else {
+            // 在后台读取文件，后续请求直接使用缓存
+            this.cache.loadAsync(resource.path(), resource.size(), resource.lastModified());
+            exchange.setAttribute(ExchangeAttributes.RESPONSE_BODY, new FileBody(resource.path(), position, count));
+        }
+        return Mono.empty();
+    }
+
+    /**
+     * 解析服务地址的根目录
+     *
+     * @return 如果根目录不存在，则返回 null
+     */
+    private @Nullable Path getRoot(URI uri) {
+        // file:relative/path 是不透明 URI，只能按路径处理
+        var path = uri.isOpaque() ? Path.of(uri.getSchemeSpecificPart()) : Path.of(uri);
+        try {
+            return path.toAbsolutePath().normalize().toRealPath();
+        } catch (IOException ex) {
+            log.warn("[ResourceRoutingFilter] 根目录不存在: {}", path);
+            return null;
+        }
+    }
+
+    /**
+     * 去掉应用的上下文路径，获取文件的相对路径
+     */
+    private String getRelativePath(ServerWebExchange exchange) {
+        var path = UriUtils.decode(exchange.getRequest().getPath().value(), StandardCharsets.UTF_8);
+
+        ApplicationRoute route = exchange.getAttribute(ExchangeAttributes.TARGET_APPLICATION_ROUTE);
+        Application application = exchange.getAttribute(ExchangeAttributes.TARGET_APPLICATION);
+        var contextPath = route != null ? route.getContextPath() : application != null ? application.getContextPath() : null;
+        if (Stringx.isNotBlank(contextPath) && (path.equals(contextPath) || path.startsWith(Stringx.addSuffix(contextPath, "/")))) {
+            path = path.substring(contextPath.length());
+        }
+        return Stringx.removePrefix(path, "/");
+    }
+
+    /**
+     * 查找文件
+     *
+     * @param root     根目录（已解析符号链接）
+     * @param relative 相对路径
+     * @return 如果文件不存在，则返回 null
+     */
+    private @Nullable StaticResource resolve(Path root, String relative) {
+        if (relative.indexOf('\0') >= 0) {
+            return null;
+        }
+
+        var path = root.resolve(relative).normalize();
+        if (!path.startsWith(root)) {
+            // 不允许访问根目录之外的文件
+            return null;
+        }
+
+        var attributes = this.readAttributes(path);
+        if (attributes != null && attributes.isDirectory()) {
+            path = path.resolve(this.properties.getIndexFile());
+            attributes = this.readAttributes(path);
+        }
+
+        if ((attributes == null || !attributes.isRegularFile()) && this.properties.isSpaFallback() && this.isPage(relative)) {
+            // 前端路由
+            path = root.resolve(this.properties.getIndexFile());
+            attributes = this.readAttributes(path);
+        }
+
+        if (attributes == null || !attributes.isRegularFile() || !this.isInside(root, path)) {
+            return null;
+        }
+        return new StaticResource(path, attributes.size(), attributes.lastModifiedTime().toMillis(), null);
+    }
+
+    /**
+     * 判断文件解析符号链接后是否仍在根目录中
+     * <p>
+     * 防止通过根目录中指向外部的符号链接访问其它文件
+     */
+    private boolean isInside(Path root, Path path) {
+        try {
+            return path.toRealPath().startsWith(root);
+        } catch (IOException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * 路径最后一段不含扩展名时，认为是页面请求
+     */
+    private boolean isPage(String relative) {
+        var name = relative.substring(relative.lastIndexOf('/') + 1);
+        return !name.contains(".");
+    }
+
+    /**
+     * 获取预压缩文件
+     * <p>
+     * 按客户端的权重（q 值）选择编码，权重相同时按 {@link #encodings} 的顺序选择
+     *
+     * @param root     根目录（已解析符号链接）
+     * @param resource 原始文件
+     * @param accepted Accept-Encoding 请求头
+     */
+    private @Nullable StaticResource getVariant(Path root, StaticResource resource, List<String> accepted) {
+        if (!this.properties.isPrecompressed() || accepted.isEmpty()) {
+            return null;
+        }
+
+        StaticResource variant = null;
+        double quality = 0;
+        for (var encoding : this.encodings) {
+            var q = getQuality(accepted, encoding.getKey());
+            if (q <= quality) {
+                // 客户端不接受该编码，或已有权重更高的编码
+                continue;
+            }
+            var path = resource.path().resolveSibling(resource.path().getFileName() + encoding.getValue());
+            var attributes = this.readAttributes(path);
+            if (attributes != null && attributes.isRegularFile() && this.isInside(root, path)) {
+                variant = new StaticResource(path, attributes.size(), attributes.lastModifiedTime().toMillis(), encoding.getKey());
+                quality = q;
+            }
+        }
+        return variant;
+    }
+
+    /**
+     * 解析 Accept-Encoding 中指定编码的权重
+     * <p>
+     * 如 gzip;q=0 表示不接受 gzip。没有显式列出的编码使用 * 的权重，都没有时为 0
+     *
+     * @param accepted Accept-Encoding 请求头
+     * @param encoding 编码
+     */
+    private static double getQuality(List<String> accepted, String encoding) {
+        double wildcard = 0;
+        for (var header : accepted) {
+            for (var item : header.split(",")) {
+                var parts = item.split(";");
+                var coding = parts[0].trim();
+                var matched = coding.equalsIgnoreCase(encoding);
+                if (!matched && !"*".equals(coding)) {
+                    continue;
+                }
+
+                double q = 1;
+                for (int i = 1; i < parts.length; i++) {
+                    var param = parts[i].trim();
+                    if (param.length() > 2 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q') && param.charAt(1) == '=') {
+                        try {
+                            q = Double.parseDouble(param.substring(2).trim());
+                        } catch (NumberFormatException ex) {
+                            q = 0;
+                        }
+                        if (!(q >= 0 && q <= 1)) {
+                            // 无效的权重
+                            q = 0;
+                        }
+                    }
+                }
+                if (matched) {
+                    return q;
+                }
+                wildcard = q;
+            }
+        }
+        return wildcard;
+    }
+
+    /**
+     * 获取请求的范围
+     * <p>
+     * If-Range 与当前文件不匹配时，忽略范围，返回完整文件
+     *
+     * @return 如果不是范围请求，则返回 null
+     */
+    private @Nullable List<HttpRange> getRanges(ServerWebExchange exchange, StaticResource resource) {
+        var headers = exchange.getRequest().getHeaders();
+        if (!headers.containsKey(HttpHeaders.RANGE)) {
+            return null;
+        }
+
+        var ifRange = headers.getFirst(HttpHeaders.IF_RANGE);
+        if (Stringx.isNotBlank(ifRange)) {
+            if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+                // 弱 ETag 不能用于范围请求
+                if (!ifRange.equals(resource.getETag()) || ifRange.startsWith("W/")) {
+                    return null;
+                }
+            } else if (headers.getFirstDate(HttpHeaders.IF_RANGE) / 1000 != resource.lastModified() / 1000) {
+                return null;
+            }
+        }
+
+        try {
+            var ranges = headers.getRange();
+            return ranges.isEmpty() ? null : ranges;
+        } catch (IllegalArgumentException ex) {
+            // 无法解析的 Range 请求头
+            return null;
+        }
+    }
+
+    private @Nullable BasicFileAttributes readAttributes(Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * 文件查找结果
+     *
+     * @param resource 原始文件
+     * @param variant  预压缩文件
+     */
+    private record Lookup(StaticResource resource, @Nullable StaticResource variant) {
+    }
+
+    /**
+     * 静态文件
+     *
+     * @param path         文件
+     * @param size         文件大小
+     * @param lastModified 修改时间
+     * @param encoding     预压缩文件的编码
+     */
+    private record StaticResource(Path path, long size, long lastModified, @Nullable String encoding) {
+        /**
+         * 根据文件大小和修改时间生成 ETag
+         */
+        public String getETag() {
+            return Stringx.format("\"{}-{}{}\"", Long.toHexString(this.size), Long.toHexString(this.lastModified), this.encoding == null ? "" : "-" + this.encoding);
+        }
     }
 }
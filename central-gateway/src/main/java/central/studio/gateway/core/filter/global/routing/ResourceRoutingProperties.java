@@ -0,0 +1,67 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Resource Routing Properties
+ * <p>
+ * 本地资源托管配置
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Data
+@ConfigurationProperties(prefix = "studio.gateway.filter.resource-routing")
+public class ResourceRoutingProperties {
+    /**
+     * 默认文件
+     * <p>
+     * 访问目录时返回该文件
+     */
+    private String indexFile = "index.html";
+    /**
+     * 单页应用（SPA）支持
+     * <p>
+     * 页面请求（路径最后一段不含扩展名）找不到文件时，返回根目录的默认文件，由前端路由处理
+     */
+    private boolean spaFallback = true;
+    /**
+     * 是否使用预压缩文件
+     * <p>
+     * 客户端支持时，优先返回同目录下的 .br、.gz 文件
+     */
+    private boolean precompressed = true;
+    /**
+     * 热点文件缓存容量（字节）
+     */
+    private long cacheCapacity = 32 * 1024 * 1024;
+    /**
+     * 可以缓存的最大文件大小（字节）
+     */
+    private int cacheMaxFileSize = 64 * 1024;
+}
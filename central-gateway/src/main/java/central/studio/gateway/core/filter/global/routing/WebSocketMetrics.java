@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing;
+
+import lombok.Data;
+import org.springframework.web.reactive.socket.WebSocketMessage;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * WebSocket 转发指标
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class WebSocketMetrics {
+
+    /**
+     * 当前连接数
+     */
+    private final AtomicInteger active = new AtomicInteger();
+
+    /**
+     * 累计连接数
+     */
+    private final LongAdder connections = new LongAdder();
+
+    /**
+     * 客户端发往目标服务的帧
+     */
+    private final Direction upstream = new Direction();
+
+    /**
+     * 目标服务发往客户端的帧
+     */
+    private final Direction downstream = new Direction();
+
+    /**
+     * 建立连接
+     */
+    public void connected() {
+        this.active.incrementAndGet();
+        this.connections.increment();
+    }
+
+    /**
+     * 断开连接
+     */
+    public void disconnected() {
+        this.active.decrementAndGet();
+    }
+
+    /**
+     * 记录客户端发往目标服务的帧
+     */
+    public void upstream(WebSocketMessage message) {
+        this.upstream.record(message);
+    }
+
+    /**
+     * 记录目标服务发往客户端的帧
+     */
+    public void downstream(WebSocketMessage message) {
+        this.downstream.record(message);
+    }
+
+    /**
+     * 获取统计信息
+     */
+    public Statistics getStatistics() {
+        var statistics = new Statistics();
+        statistics.setActive(this.active.get());
+        statistics.setConnections(this.connections.sum());
+        statistics.setUpstreamFrames(this.upstream.frames.sum());
+        statistics.setUpstreamBytes(this.upstream.bytes.sum());
+        statistics.setUpstreamFrameRate(this.upstream.getRate());
+        statistics.setDownstreamFrames(this.downstream.frames.sum());
+        statistics.setDownstreamBytes(this.downstream.bytes.sum());
+        statistics.setDownstreamFrameRate(this.downstream.getRate());
+        return statistics;
+    }
+
+    /**
+     * 单个方向的帧统计
+     */
+    private static class Direction {
+        private final LongAdder frames = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+
+        /**
+         * 当前秒
+         */
+        private final AtomicLong second = new AtomicLong(currentSecond());
+        /**
+         * 当前秒的帧数
+         */
+        private final LongAdder current = new LongAdder();
+        /**
+         * 上一秒的帧数
+         */
+        private volatile long previous;
+
+        private void record(WebSocketMessage message) {
+            this.roll(currentSecond());
+            this.frames.increment();
+            this.bytes.add(message.getPayload().readableByteCount());
+            this.current.increment();
+        }
+
+        /**
+         * 最近一秒的帧数
+         */
+        private long getRate() {
+            var now = currentSecond();
+            this.roll(now);
+            return this.second.get() == now ? this.previous : 0;
+        }
+
+        private void roll(long now) {
+            var second = this.second.get();
+            if (second != now && this.second.compareAndSet(second, now)) {
+                var count = this.current.sumThenReset();
+                this.previous = now - second == 1 ? count : 0;
+            }
+        }
+
+        private static long currentSecond() {
+            return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        }
+    }
+
+    /**
+     * WebSocket 转发统计
+     */
+    @Data
+    public static class Statistics {
+        /**
+         * 当前连接数
+         */
+        private int active;
+        /**
+         * 累计连接数
+         */
+        private long connections;
+        /**
+         * 客户端发往目标服务的帧数
+         */
+        private long upstreamFrames;
+        /**
+         * 客户端发往目标服务的字节数
+         */
+        private long upstreamBytes;
+        /**
+         * 客户端发往目标服务的帧速率（帧/秒）
+         */
+        private long upstreamFrameRate;
+        /**
+         * 目标服务发往客户端的帧数
+         */
+        private long downstreamFrames;
+        /**
+         * 目标服务发往客户端的字节数
+         */
+        private long downstreamBytes;
+        /**
+         * 目标服务发往客户端的帧速率（帧/秒）
+         */
+        private long downstreamFrameRate;
+    }
+}
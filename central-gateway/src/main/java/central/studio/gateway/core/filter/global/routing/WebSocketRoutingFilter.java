@@ -28,31 +28,49 @@ import central.data.saas.Application;
 import central.studio.gateway.core.attribute.ExchangeAttributes;
 import central.studio.gateway.core.filter.Filter;
 import central.studio.gateway.core.filter.FilterChain;
+import central.studio.gateway.core.filter.global.routing.upstream.UpstreamInstance;
+import central.studio.gateway.core.filter.global.routing.upstream.UpstreamRegistry;
+import central.studio.gateway.core.token.TokenSigner;
 import central.starter.web.reactive.extension.ServerWebExchangex;
 import central.util.Listx;
 import central.web.XForwardedHeaders;
-import com.auth0.jwt.algorithms.Algorithm;
+import io.netty.channel.ChannelOption;
 import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.experimental.ExtensionMethod;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
 import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.socket.CloseStatus;
 import org.springframework.web.reactive.socket.WebSocketHandler;
-import org.springframework.web.reactive.socket.WebSocketMessage;
 import org.springframework.web.reactive.socket.WebSocketSession;
-import org.springframework.web.reactive.socket.client.ReactorNetty2WebSocketClient;
+import org.springframework.web.reactive.socket.client.ReactorNettyWebSocketClient;
 import org.springframework.web.reactive.socket.client.WebSocketClient;
 import org.springframework.web.reactive.socket.server.WebSocketService;
 import org.springframework.web.reactive.socket.server.support.HandshakeWebSocketService;
+import org.springframework.web.reactive.socket.server.upgrade.ReactorNettyRequestUpgradeStrategy;
 import org.springframework.web.server.ServerWebExchange;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.WebsocketClientSpec;
+import reactor.netty.http.server.WebsocketServerSpec;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * WebSocket 转发
@@ -62,7 +80,7 @@ import java.util.List;
  */
 @Slf4j
 @ExtensionMethod(ServerWebExchangex.class)
-public class WebSocketRoutingFilter implements Filter, InitializingBean {
+public class WebSocketRoutingFilter implements Filter, InitializingBean, EnvironmentAware, ApplicationContextAware {
     /**
      * Sec-Websocket protocol.
      */
@@ -72,10 +90,55 @@ public class WebSocketRoutingFilter implements Filter, InitializingBean {
 
     private WebSocketService service;
 
+    @Setter
+    private Environment environment;
+
+    @Setter
+    private ApplicationContext applicationContext;
+
+    private WebSocketRoutingProperties properties = new WebSocketRoutingProperties();
+
+    /**
+     * 转发指标
+     */
+    @Getter
+    private final WebSocketMetrics metrics = new WebSocketMetrics();
+
+    /**
+     * 转发令牌签名器
+     */
+    private TokenSigner signer;
+
+    /**
+     * 上游服务注册表
+     */
+    private UpstreamRegistry upstreams;
+
     @Override
     public void afterPropertiesSet() throws Exception {
-        this.client = new ReactorNetty2WebSocketClient();
-        this.service = new HandshakeWebSocketService();
+        var binder = Binder.get(this.environment).bind(WebSocketRoutingProperties.class.getAnnotation(ConfigurationProperties.class).prefix(), WebSocketRoutingProperties.class);
+        if (binder.isBound()) {
+            this.properties = binder.get();
+        } else {
+            this.properties = new WebSocketRoutingProperties();
+        }
+
+        // 连接超时与握手超时沿用 Http 转发的配置
+        var routing = Binder.get(this.environment).bind(HttpRoutingProperties.class.getAnnotation(ConfigurationProperties.class).prefix(), HttpRoutingProperties.class)
+                .orElseGet(HttpRoutingProperties::new);
+        // WebSocket 连接在会话期间一直被占用，不能复用，因此不使用连接池，也不会占用 Http 转发的连接池
+        var httpClient = HttpClient.newConnection()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, routing.getConnectTimeout())
+                // 只限制等待握手响应的时间，握手完成后不再生效
+                .responseTimeout(Duration.ofMillis(routing.getTimeout()));
+
+        // 客户端与服务端使用同一套 Reactor Netty，转发时可以直接传递帧的缓冲区，不需要复制
+        this.client = new ReactorNettyWebSocketClient(httpClient, () -> WebsocketClientSpec.builder()
+                .maxFramePayloadLength(this.properties.getMaxFramePayloadLength()));
+        this.service = new HandshakeWebSocketService(new ReactorNettyRequestUpgradeStrategy(() -> WebsocketServerSpec.builder()
+                .maxFramePayloadLength(this.properties.getMaxFramePayloadLength())));
+        this.signer = this.applicationContext.getBean(TokenSigner.class);
+        this.upstreams = this.applicationContext.getBean(UpstreamRegistry.class);
     }
 
     @Override
@@ -95,21 +158,28 @@ public class WebSocketRoutingFilter implements Filter, InitializingBean {
                 .host(targetServer.getHost())
                 .port(targetServer.getPort()).build().toString());
 
+        // 如果服务地址配置了多个服务实例，则按负载均衡策略选择实例
+        var upstream = this.upstreams.get(targetServer);
+        var instance = upstream == null ? null : upstream.choose();
+        if (instance != null) {
+            targetUri = instance.resolve(targetUri);
+        }
+
         exchange.setAttribute(ExchangeAttributes.FORWARDING_URI, targetUri);
         var headers = getFilteredHeaders(exchange);
 
         if (targetApplication != null) {
             // 已注册的应用系统需要生成 token 传递过去
             // 该应用系统在接收到请求后，需验证该 token，用于防止其它系统非法调用
-            var token = exchange.getRequiredAttribute(ExchangeAttributes.TOKEN).sign(Algorithm.HMAC256(targetApplication.getSecret()));
+            var token = this.signer.sign(exchange.getRequiredAttribute(ExchangeAttributes.TOKEN), targetApplication);
             headers.add(XForwardedHeaders.TOKEN, token);
         }
 
         List<String> protocols = Listx.asStream(exchange.getRequest().getHeaders().get(SEC_WEBSOCKET_PROTOCOL))
                 .flatMap(header -> Arrays.stream(StringUtils.commaDelimitedListToStringArray(header)))
                 .map(String::trim).toList();
-        log.info("WebSocket 转发: {}", targetUri);
-        return this.service.handleRequest(exchange, new ProxyWebSocketHandler(this.client, targetUri, headers, protocols));
+        log.debug("WebSocket 转发: {}", targetUri);
+        return this.service.handleRequest(exchange, new ProxyWebSocketHandler(targetUri, headers, protocols, instance));
     }
 
     private String convertToWebSocketScheme(String scheme) {
@@ -132,9 +202,78 @@ public class WebSocketRoutingFilter implements Filter, InitializingBean {
         return headers;
     }
 
-    private static class ProxyWebSocketHandler implements WebSocketHandler {
-        private final WebSocketClient client;
+    /**
+     * 桥接客户端会话与目标服务会话
+     * <p>
+     * 转发时只增加帧缓冲区的引用计数，不复制帧数据。send 按照对端连接的可写状态向 receive 请求数据，
+     * 对端写入较慢时停止读取，从而实现两个方向的背压
+     *
+     * @param session  客户端会话
+     * @param upstream 目标服务会话
+     */
+    private Mono<Void> bridge(WebSocketSession session, WebSocketSession upstream) {
+        this.metrics.connected();
+        var activity = new AtomicLong(System.nanoTime());
+
+        // Use retain() for Reactor Netty
+        Mono<Void> upstreamSend = upstream.send(session.receive().doOnNext(message -> {
+            activity.set(System.nanoTime());
+            this.metrics.upstream(message);
+            message.retain();
+        }));
+        Mono<Void> sessionSend = session.send(upstream.receive().doOnNext(message -> {
+            activity.set(System.nanoTime());
+            this.metrics.downstream(message);
+            message.retain();
+        }));
+
+        // 一端关闭时，使用相同的状态码关闭另一端
+        Mono<Void> sessionClose = session.closeStatus()
+                .filter(status -> upstream.isOpen())
+                .flatMap(status -> upstream.close(adaptCloseStatus(status)));
+        Mono<Void> upstreamClose = upstream.closeStatus()
+                .filter(status -> session.isOpen())
+                .flatMap(status -> session.close(adaptCloseStatus(status)));
+
+        var bridge = Mono.when(upstreamSend, sessionSend, sessionClose, upstreamClose);
+
+        if (this.properties.getIdleTimeout() > 0) {
+            var timeout = Duration.ofMillis(this.properties.getIdleTimeout());
+            var interval = Duration.ofMillis(Math.max(1000, this.properties.getIdleTimeout() / 4));
+            var idle = Flux.interval(interval)
+                    .filter(tick -> System.nanoTime() - activity.get() >= timeout.toNanos())
+                    .next()
+                    .flatMap(tick -> {
+                        log.info("WebSocket 空闲超时: {}", upstream.getHandshakeInfo().getUri());
+                        return Mono.when(session.close(CloseStatus.GOING_AWAY), upstream.close(CloseStatus.GOING_AWAY));
+                    });
+            bridge = bridge.or(idle);
+        }
+
+        return bridge.doFinally(signal -> {
+            // 异常或取消时，确保两端都已关闭
+            if (session.isOpen()) {
+                session.close(CloseStatus.GOING_AWAY).subscribe();
+            }
+            if (upstream.isOpen()) {
+                upstream.close(CloseStatus.GOING_AWAY).subscribe();
+            }
+            this.metrics.disconnected();
+        });
+    }
 
+    /**
+     * 1005、1006、1015 等状态码只用于表示连接的状态，不能在关闭帧中发送
+     */
+    private static CloseStatus adaptCloseStatus(CloseStatus status) {
+        return switch (status.getCode()) {
+            case 1004, 1006, 1015 -> CloseStatus.GOING_AWAY;
+            case 1005 -> CloseStatus.NORMAL;
+            default -> status;
+        };
+    }
+
+    private class ProxyWebSocketHandler implements WebSocketHandler {
         private final URI uri;
 
         private final HttpHeaders headers;
@@ -142,26 +281,35 @@ public class WebSocketRoutingFilter implements Filter, InitializingBean {
         @Getter
         private final List<String> subProtocols;
 
-        public ProxyWebSocketHandler(WebSocketClient client, URI uri, HttpHeaders headers, List<String> protocols) {
-            this.client = client;
+        /**
+         * 负载均衡选择的服务实例
+         */
+        private final @Nullable UpstreamInstance instance;
+
+        public ProxyWebSocketHandler(URI uri, HttpHeaders headers, List<String> protocols, @Nullable UpstreamInstance instance) {
             this.uri = uri;
             this.headers = headers;
             this.subProtocols = protocols;
+            this.instance = instance;
         }
 
         @Override
         public @Nonnull Mono<Void> handle(@Nonnull WebSocketSession session) {
-            return this.client.execute(this.uri, this.headers, new WebSocketHandler() {
+            if (this.instance == null) {
+                return this.connect(session, null);
+            }
+            // 会话期间计入实例的未完成请求数，并记录握手的耗时与结果
+            return this.instance.observe(connected -> this.connect(session, connected));
+        }
+
+        private Mono<Void> connect(WebSocketSession session, @Nullable Runnable connected) {
+            return client.execute(this.uri, this.headers, new WebSocketHandler() {
                 @Override
-                public @Nonnull Mono<Void> handle(@Nonnull WebSocketSession session) {
-                    // Use retain() for Reactor Netty
-                    Mono<Void> proxySessionSend = session
-                            .send(session.receive().doOnNext(WebSocketMessage::retain));
-                    // .log("proxySessionSend", Level.FINE);
-                    Mono<Void> serverSessionSend = session.send(
-                            session.receive().doOnNext(WebSocketMessage::retain));
-                    // .log("sessionSend", Level.FINE);
-                    return Mono.zip(proxySessionSend, serverSessionSend).then();
+                public @Nonnull Mono<Void> handle(@Nonnull WebSocketSession upstream) {
+                    if (connected != null) {
+                        connected.run();
+                    }
+                    return bridge(session, upstream);
                 }
 
                 @Override
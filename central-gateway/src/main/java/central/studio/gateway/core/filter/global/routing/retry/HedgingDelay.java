@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing.retry;
+
+import central.studio.gateway.core.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hedging Delay
+ * <p>
+ * 对冲延迟
+ * <p>
+ * 记录上游服务的响应延迟，每秒重新计算一次指定分位的延迟作为发起对冲请求的时机。
+ * 每分钟更换一次直方图，使对冲延迟能跟随上游服务的变化
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class HedgingDelay {
+
+    /**
+     * 直方图的更换周期
+     */
+    private static final long ROTATE_INTERVAL = TimeUnit.MINUTES.toNanos(1);
+
+    /**
+     * 对冲延迟的计算周期
+     */
+    private static final long UPDATE_INTERVAL = TimeUnit.SECONDS.toNanos(1);
+
+    private final double percentile;
+
+    private final long minDelay;
+
+    private final int minSamples;
+
+    private volatile LatencyHistogram histogram = new LatencyHistogram();
+
+    private final LongAdder samples = new LongAdder();
+
+    private final AtomicLong rotatedAt = new AtomicLong(System.nanoTime());
+
+    private final AtomicLong updatedAt = new AtomicLong(System.nanoTime());
+
+    /**
+     * 对冲延迟（微秒），-1 表示样本不足
+     */
+    private volatile long delay = -1;
+
+    /**
+     * @param percentile 延迟分位数
+     * @param minDelay   最小对冲延迟(ms)
+     * @param minSamples 最少样本数
+     */
+    public HedgingDelay(double percentile, int minDelay, int minSamples) {
+        this.percentile = percentile;
+        this.minDelay = TimeUnit.MILLISECONDS.toMicros(minDelay);
+        this.minSamples = minSamples;
+    }
+
+    /**
+     * 记录上游服务的响应延迟
+     *
+     * @param nanos 延迟（纳秒）
+     */
+    public void record(long nanos) {
+        this.histogram.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        this.samples.increment();
+
+        var now = System.nanoTime();
+        var updatedAt = this.updatedAt.get();
+        if (now - updatedAt >= UPDATE_INTERVAL && this.updatedAt.compareAndSet(updatedAt, now)) {
+            this.update(now);
+        }
+    }
+
+    private void update(long now) {
+        if (this.samples.sum() >= this.minSamples) {
+            this.delay = Math.max(this.histogram.getValueAtPercentile(this.percentile), this.minDelay);
+        }
+
+        var rotatedAt = this.rotatedAt.get();
+        if (now - rotatedAt >= ROTATE_INTERVAL && this.rotatedAt.compareAndSet(rotatedAt, now)) {
+            // 更换直方图后，在新的直方图样本足够之前，继续使用当前的对冲延迟
+            this.histogram = new LatencyHistogram();
+            this.samples.reset();
+        }
+    }
+
+    /**
+     * 获取对冲延迟
+     *
+     * @return 样本不足时返回 null
+     */
+    public Duration getDelay() {
+        var delay = this.delay;
+        return delay < 0 ? null : Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(delay));
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing.retry;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Retry Budget
+ * <p>
+ * 重试预算
+ * <p>
+ * 统计最近 10 秒的请求数和重试数，重试数不能超过请求数的一定比例（另外每秒保留少量重试次数），
+ * 避免上游服务故障时，重试请求进一步放大上游服务的压力
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class RetryBudget {
+
+    /**
+     * 统计窗口（秒）
+     */
+    private static final int WINDOW = 10;
+
+    private final Slot[] slots = new Slot[WINDOW];
+
+    /**
+     * 重试数占请求数的最大比例
+     */
+    private final double ratio;
+
+    /**
+     * 每秒至少允许的重试次数
+     */
+    private final int minPerSecond;
+
+    /**
+     * 时钟（纳秒）
+     */
+    private final LongSupplier clock;
+
+    public RetryBudget(double ratio, int minPerSecond) {
+        this(ratio, minPerSecond, System::nanoTime);
+    }
+
+    RetryBudget(double ratio, int minPerSecond, LongSupplier clock) {
+        this.ratio = ratio;
+        this.minPerSecond = minPerSecond;
+        this.clock = clock;
+        for (int i = 0; i < WINDOW; i++) {
+            this.slots[i] = new Slot();
+        }
+    }
+
+    /**
+     * 记录请求
+     */
+    public void deposit() {
+        this.current().requests.increment();
+    }
+
+    /**
+     * 申请重试
+     *
+     * @return 预算不足时返回 false
+     */
+    public boolean tryWithdraw() {
+        var now = this.currentSecond();
+        long requests = 0, retries = 0;
+        for (var slot : this.slots) {
+            if (now - slot.second.get() < WINDOW) {
+                requests += slot.requests.sum();
+                retries += slot.retries.sum();
+            }
+        }
+        if (retries >= (long) (requests * this.ratio) + (long) this.minPerSecond * WINDOW) {
+            return false;
+        }
+        this.current().retries.increment();
+        return true;
+    }
+
+    private Slot current() {
+        var now = this.currentSecond();
+        var slot = this.slots[Math.floorMod(now, WINDOW)];
+        var second = slot.second.get();
+        if (second != now && slot.second.compareAndSet(second, now)) {
+            // 进入新的一秒，清空过期的统计
+            slot.requests.reset();
+            slot.retries.reset();
+        }
+        return slot;
+    }
+
+    private long currentSecond() {
+        // System.nanoTime() 可能是负数，需要向下取整
+        return Math.floorDiv(this.clock.getAsLong(), TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private static class Slot {
+        private final AtomicLong second = new AtomicLong(Long.MIN_VALUE / 2);
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+    }
+}
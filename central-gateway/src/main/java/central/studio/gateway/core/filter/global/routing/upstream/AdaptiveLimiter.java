@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.global.routing.upstream;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Adaptive Limiter
+ * <p>
+ * 自适应并发限制
+ * <p>
+ * 根据上游服务的响应时间动态调整允许的并发请求数（Gradient 算法）：
+ * 短期响应时间接近长期基准时，逐步提高并发上限；响应时间变长说明上游开始排队，按比例降低并发上限；
+ * 请求失败时按乘性减小（AIMD）。超过并发上限的请求直接拒绝，不会在网关内排队
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class AdaptiveLimiter {
+
+    /**
+     * 长期响应时间的衰减系数
+     */
+    private static final double LONG_DECAY = 0.01;
+
+    /**
+     * 并发上限的平滑系数
+     */
+    private static final double SMOOTHING = 0.2;
+
+    /**
+     * 响应时间容忍度，短期响应时间不超过长期基准的该倍数时不降低并发上限
+     */
+    private static final double TOLERANCE = 1.5;
+
+    /**
+     * 请求失败时的衰减比例
+     */
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+
+    private final int maxLimit;
+
+    /**
+     * 当前并发上限
+     */
+    private volatile double limit;
+
+    /**
+     * 长期响应时间（ns）
+     */
+    private double longRtt;
+
+    /**
+     * 当前并发数
+     */
+    private final AtomicInteger inflight = new AtomicInteger();
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    /**
+     * 当前并发上限
+     */
+    public int getLimit() {
+        return (int) this.limit;
+    }
+
+    /**
+     * 当前并发数
+     */
+    public int getInflight() {
+        return this.inflight.get();
+    }
+
+    /**
+     * 尝试获取并发许可
+     *
+     * @return 超过并发上限时返回 false
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            var current = this.inflight.get();
+            if (current >= (int) this.limit) {
+                return false;
+            }
+            if (this.inflight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 释放并发许可，不记录结果（如请求被取消）
+     */
+    public void release() {
+        this.inflight.decrementAndGet();
+    }
+
+    /**
+     * 释放并发许可，并根据请求结果调整并发上限
+     *
+     * @param rtt     响应时间（ns）
+     * @param success 是否成功
+     */
+    public void release(long rtt, boolean success) {
+        var inflight = this.inflight.getAndDecrement();
+        this.update(rtt, success, inflight);
+    }
+
+    private synchronized void update(long rtt, boolean success, int inflight) {
+        var limit = this.limit;
+
+        if (!success) {
+            this.limit = Math.max(this.minLimit, limit * BACKOFF);
+            return;
+        }
+
+        this.longRtt = this.longRtt == 0 ? rtt : this.longRtt + LONG_DECAY * (rtt - this.longRtt);
+        if (this.longRtt > rtt * 2) {
+            // 过载结束后响应时间已经回落，长期基准需要加速回落，避免一直维持在高位
+            this.longRtt = this.longRtt * 0.95;
+        }
+
+        if (inflight * 2 < limit) {
+            // 并发数远低于上限，说明上限不是瓶颈，不需要调整
+            return;
+        }
+
+        var gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * this.longRtt / rtt));
+        var queueSize = Math.sqrt(limit);
+        var target = limit * gradient + queueSize;
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, limit * (1 - SMOOTHING) + target * SMOOTHING));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.global.routing.upstream;
+
+/**
+ * Balance Strategy
+ * <p>
+ * 负载均衡策略
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public enum BalanceStrategy {
+    /**
+     * 轮询
+     */
+    ROUND_ROBIN,
+    /**
+     * 最少未完成请求
+     * <p>
+     * 随机选取两个实例，取未完成请求较少的实例（Power of Two Choices）
+     */
+    LEAST_REQUESTS,
+    /**
+     * 延迟加权
+     * <p>
+     * 随机选取两个实例，取 响应时间指数加权移动平均值 × (未完成请求 + 1) 较小的实例
+     */
+    EWMA
+}
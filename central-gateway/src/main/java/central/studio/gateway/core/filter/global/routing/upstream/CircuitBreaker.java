@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.global.routing.upstream;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Circuit Breaker
+ * <p>
+ * 熔断器
+ * <p>
+ * 统计最近若干次请求的失败率，超过阈值后打开熔断器，在熔断时间内直接拒绝请求；
+ * 熔断时间结束后进入半开状态，放行少量试探请求，全部成功则关闭熔断器，否则重新打开
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class CircuitBreaker {
+
+    /**
+     * 半开状态下允许的试探请求数
+     */
+    private static final int PERMITTED_IN_HALF_OPEN = 3;
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /**
+     * 失败率阈值（%）
+     */
+    private final int failureRateThreshold;
+
+    /**
+     * 熔断时间（ms）
+     */
+    private final long openTime;
+
+    /**
+     * 最近请求结果（环形缓冲区）
+     */
+    private final boolean[] window;
+
+    /**
+     * 时钟（ms）
+     */
+    private final LongSupplier clock;
+
+    private int position;
+
+    private int count;
+
+    private int failures;
+
+    private State state = State.CLOSED;
+
+    private long openedAt;
+
+    /**
+     * 半开状态下已放行的试探请求数
+     */
+    private int trials;
+
+    /**
+     * 半开状态下已成功的试探请求数
+     */
+    private int trialSuccesses;
+
+    /**
+     * @param failureRateThreshold 失败率阈值（%）
+     * @param windowSize           统计的请求数
+     * @param openTime             熔断时间（ms）
+     */
+    public CircuitBreaker(int failureRateThreshold, int windowSize, long openTime) {
+        this(failureRateThreshold, windowSize, openTime, System::currentTimeMillis);
+    }
+
+    CircuitBreaker(int failureRateThreshold, int windowSize, long openTime, LongSupplier clock) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.window = new boolean[windowSize];
+        this.openTime = openTime;
+        this.clock = clock;
+    }
+
+    public synchronized State getState() {
+        return this.state;
+    }
+
+    /**
+     * 是否允许请求
+     */
+    public synchronized boolean tryAcquire() {
+        switch (this.state) {
+            case CLOSED -> {
+                return true;
+            }
+            case OPEN -> {
+                if (this.clock.getAsLong() - this.openedAt < this.openTime) {
+                    return false;
+                }
+                // 熔断时间结束，进入半开状态
+                this.state = State.HALF_OPEN;
+                this.trials = 1;
+                this.trialSuccesses = 0;
+                return true;
+            }
+            default -> {
+                if (this.trials >= PERMITTED_IN_HALF_OPEN) {
+                    return false;
+                }
+                this.trials++;
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 归还未产生结果的许可（如请求被取消）
+     */
+    public synchronized void release() {
+        if (this.state == State.HALF_OPEN && this.trials > 0) {
+            this.trials--;
+        }
+    }
+
+    /**
+     * 记录请求结果
+     *
+     * @param success 是否成功
+     */
+    public synchronized void record(boolean success) {
+        switch (this.state) {
+            case HALF_OPEN -> {
+                if (!success) {
+                    this.open();
+                } else if (++this.trialSuccesses >= PERMITTED_IN_HALF_OPEN) {
+                    this.close();
+                }
+            }
+            case CLOSED -> {
+                if (this.count == this.window.length) {
+                    // 移除最早的结果
+                    if (!this.window[this.position]) {
+                        this.failures--;
+                    }
+                } else {
+                    this.count++;
+                }
+                this.window[this.position] = success;
+                this.position = (this.position + 1) % this.window.length;
+                if (!success) {
+                    this.failures++;
+                }
+
+                // 请求数达到统计窗口大小后才计算失败率
+                if (this.count == this.window.length && this.failures * 100 >= this.failureRateThreshold * this.count) {
+                    this.open();
+                }
+            }
+            default -> {
+                // 熔断期间的请求结果（熔断前已发出的请求）不再统计
+            }
+        }
+    }
+
+    private void open() {
+        this.state = State.OPEN;
+        this.openedAt = this.clock.getAsLong();
+    }
+
+    private void close() {
+        this.state = State.CLOSED;
+        this.position = 0;
+        this.count = 0;
+        this.failures = 0;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.global.routing.upstream;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Upstream
+ * <p>
+ * 上游服务
+ * <p>
+ * 一个服务地址对应多个服务实例，按负载均衡策略选择可用的实例。
+ * 如果所有实例都不可用（健康检查失败或被摘除），则在所有实例中选择，避免服务整体不可用
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class Upstream {
+
+    /**
+     * 服务地址
+     */
+    @Getter
+    private final String url;
+
+    /**
+     * 负载均衡策略
+     */
+    @Getter
+    private final BalanceStrategy strategy;
+
+    /**
+     * 服务实例
+     */
+    @Getter
+    private final List<UpstreamInstance> instances;
+
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    public Upstream(String url, BalanceStrategy strategy, List<UpstreamInstance> instances) {
+        this.url = url;
+        this.strategy = strategy;
+        this.instances = List.copyOf(instances);
+    }
+
+    /**
+     * 选择服务实例
+     */
+    public @Nonnull UpstreamInstance choose() {
+        var now = System.currentTimeMillis();
+
+        var candidates = this.instances;
+        for (int i = 0, size = this.instances.size(); i < size; i++) {
+            if (!this.instances.get(i).isAvailable(now)) {
+                // 存在不可用的实例，只在可用实例中选择
+                candidates = this.available(now);
+                break;
+            }
+        }
+
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        if (this.strategy == BalanceStrategy.ROUND_ROBIN) {
+            return candidates.get(Math.floorMod(this.cursor.getAndIncrement(), candidates.size()));
+        }
+
+        // Power of Two Choices
+        var random = ThreadLocalRandom.current();
+        var first = random.nextInt(candidates.size());
+        var second = random.nextInt(candidates.size() - 1);
+        if (second >= first) {
+            second++;
+        }
+        var a = candidates.get(first);
+        var b = candidates.get(second);
+        var nanos = System.nanoTime();
+        // 新实例还没有响应时间，使用其它实例的中位数，避免新实例一上线就承接大量请求
+        var seed = this.strategy == BalanceStrategy.EWMA && !(a.isSampled() && b.isSampled()) ? this.median(nanos) : 0;
+        return a.score(this.strategy, nanos, seed) <= b.score(this.strategy, nanos, seed) ? a : b;
+    }
+
+    /**
+     * 已记录响应时间的实例的响应时间中位数（ns）
+     *
+     * @param now 当前时间（System.nanoTime）
+     */
+    private double median(long now) {
+        var latencies = new double[this.instances.size()];
+        int count = 0;
+        for (var instance : this.instances) {
+            if (instance.isSampled()) {
+                latencies[count++] = instance.latency(now);
+            }
+        }
+        if (count == 0) {
+            return 0;
+        }
+        Arrays.sort(latencies, 0, count);
+        return count % 2 == 1 ? latencies[count / 2] : (latencies[count / 2 - 1] + latencies[count / 2]) / 2;
+    }
+
+    /**
+     * 选择服务实例，尽量避开指定的实例
+     * <p>
+     * 重试时使用，避免再次请求刚刚失败的实例
+     *
+     * @param excluded 需要避开的实例
+     */
+    public @Nonnull UpstreamInstance choose(@Nullable UpstreamInstance excluded) {
+        var chosen = this.choose();
+        if (excluded == null || chosen != excluded || this.instances.size() == 1) {
+            return chosen;
+        }
+
+        var now = System.currentTimeMillis();
+        var candidates = new ArrayList<UpstreamInstance>(this.instances.size() - 1);
+        for (var instance : this.available(now)) {
+            if (instance != excluded) {
+                candidates.add(instance);
+            }
+        }
+        if (candidates.isEmpty()) {
+            // 没有其它可用的实例
+            return chosen;
+        }
+        return candidates.get(ThreadLocalRandom.current().nextInt(candidates.size()));
+    }
+
+    private List<UpstreamInstance> available(long now) {
+        var available = new ArrayList<UpstreamInstance>(this.instances.size());
+        for (var instance : this.instances) {
+            if (instance.isAvailable(now)) {
+                available.add(instance);
+            }
+        }
+        if (available.isEmpty()) {
+            // 所有实例都不可用，在所有实例中选择
+            return this.instances;
+        }
+        return available;
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.global.routing.upstream;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
+
+/**
+ * Upstream Guard
+ * <p>
+ * 上游服务保护
+ * <p>
+ * 组合自适应并发限制与熔断器，熔断器打开或超过并发上限时直接返回 503，不会把请求转发到已经过载或异常的上游服务
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class UpstreamGuard {
+
+    @Getter
+    private final AdaptiveLimiter limiter;
+
+    @Getter
+    private final CircuitBreaker breaker;
+
+    public UpstreamGuard(AdaptiveLimiter limiter, CircuitBreaker breaker) {
+        this.limiter = limiter;
+        this.breaker = breaker;
+    }
+
+    /**
+     * 保护上游请求
+     *
+     * @param mono    上游请求
+     * @param success 判断请求是否成功
+     */
+    public <T> Mono<T> protect(Mono<T> mono, Predicate<T> success) {
+        return Mono.defer(() -> {
+            if (!this.breaker.tryAcquire()) {
+                return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable: Circuit breaker is open"));
+            }
+            if (!this.limiter.tryAcquire()) {
+                this.breaker.release();
+                return Mono.error(new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable: Concurrency limit exceeded"));
+            }
+
+            var begin = System.nanoTime();
+            var released = new AtomicBoolean();
+            return mono.doOnNext(it -> {
+                        if (released.compareAndSet(false, true)) {
+                            this.complete(System.nanoTime() - begin, success.test(it));
+                        }
+                    })
+                    .doOnError(ex -> {
+                        if (released.compareAndSet(false, true)) {
+                            this.complete(System.nanoTime() - begin, false);
+                        }
+                    })
+                    .doFinally(signal -> {
+                        if (released.compareAndSet(false, true)) {
+                            // 请求被取消或没有响应，只归还许可
+                            this.limiter.release();
+                            this.breaker.release();
+                        }
+                    });
+        });
+    }
+
+    private void complete(long rtt, boolean success) {
+        this.limiter.release(rtt, success);
+        this.breaker.record(success);
+    }
+}
@@ -0,0 +1,293 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.global.routing.upstream;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Upstream Instance
+ * <p>
+ * 上游服务实例
+ * <p>
+ * 记录实例的未完成请求数、响应时间的指数加权移动平均值（EWMA）、主动健康检查结果和被动摘除状态。
+ * EWMA 按时间衰减：两次记录的间隔越长，旧值的权重越低；响应时间高于当前值时直接取新值（Peak EWMA），
+ * 读取时也按空闲时间衰减，避免实例因一次慢请求长期不被选中
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+public class UpstreamInstance {
+
+    /**
+     * EWMA 衰减时间（ns），经过该时间后旧值的权重降为 1/e
+     */
+    private static final double DECAY_TIME = TimeUnit.SECONDS.toNanos(10);
+
+    /**
+     * 实例地址
+     */
+    @Getter
+    private final URI uri;
+
+    private final UpstreamProperties.HealthCheck healthCheck;
+
+    private final UpstreamProperties.Outlier outlier;
+
+    /**
+     * 未完成请求数
+     */
+    private final AtomicInteger outstanding = new AtomicInteger();
+
+    /**
+     * 响应时间的指数加权移动平均值（ns）
+     */
+    private volatile double ewma;
+
+    /**
+     * 最后一次记录响应时间的时间（System.nanoTime）
+     */
+    private volatile long stamp;
+
+    /**
+     * 是否已经记录过响应时间
+     */
+    @Getter
+    private volatile boolean sampled;
+
+    /**
+     * 被动检查：连续失败次数
+     */
+    private final AtomicInteger failures = new AtomicInteger();
+
+    /**
+     * 被动检查：被摘除的次数
+     */
+    private final AtomicInteger ejections = new AtomicInteger();
+
+    /**
+     * 被动检查：摘除截止时间
+     */
+    private volatile long ejectedUntil;
+
+    /**
+     * 主动检查：是否健康
+     */
+    @Getter
+    private volatile boolean healthy = true;
+
+    /**
+     * 主动检查：连续成功或失败次数（成功为正数，失败为负数）
+     */
+    private final AtomicInteger probes = new AtomicInteger();
+
+    public UpstreamInstance(URI uri, UpstreamProperties.HealthCheck healthCheck, UpstreamProperties.Outlier outlier) {
+        this.uri = uri;
+        this.healthCheck = healthCheck;
+        this.outlier = outlier;
+    }
+
+    /**
+     * 未完成请求数
+     */
+    public int getOutstanding() {
+        return this.outstanding.get();
+    }
+
+    /**
+     * 响应时间的指数加权移动平均值（ms）
+     */
+    public double getLatency() {
+        return this.latency(System.nanoTime()) / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 按空闲时间衰减后的响应时间（ns）
+     *
+     * @param now 当前时间（System.nanoTime）
+     */
+    double latency(long now) {
+        if (!this.sampled) {
+            return 0;
+        }
+        return this.ewma * Math.exp(-Math.max(now - this.stamp, 0) / DECAY_TIME);
+    }
+
+    /**
+     * 是否已被摘除
+     */
+    public boolean isEjected() {
+        return System.currentTimeMillis() < this.ejectedUntil;
+    }
+
+    /**
+     * 是否可以接收请求
+     */
+    public boolean isAvailable(long now) {
+        return this.healthy && now >= this.ejectedUntil;
+    }
+
+    /**
+     * 负载评分，越小越好
+     *
+     * @param strategy 负载均衡策略
+     * @param now      当前时间（System.nanoTime）
+     * @param seed     还没有记录过响应时间时使用的响应时间（ns）
+     */
+    double score(BalanceStrategy strategy, long now, double seed) {
+        if (strategy == BalanceStrategy.EWMA) {
+            return (this.sampled ? this.latency(now) : seed) * (this.outstanding.get() + 1);
+        }
+        return this.outstanding.get();
+    }
+
+    /**
+     * 将逻辑地址替换为当前实例的地址
+     *
+     * @param target 逻辑地址
+     */
+    public URI resolve(URI target) {
+        var scheme = this.uri.getScheme();
+        if ("ws".equalsIgnoreCase(target.getScheme()) || "wss".equalsIgnoreCase(target.getScheme())) {
+            scheme = "https".equalsIgnoreCase(scheme) ? "wss" : "ws";
+        }
+        return URI.create(UriComponentsBuilder.fromUri(target)
+                .scheme(scheme)
+                .host(this.uri.getHost())
+                .port(this.uri.getPort())
+                .build().toString());
+    }
+
+    /**
+     * 记录请求结果
+     *
+     * @param mono    请求
+     * @param success 判断请求是否成功
+     */
+    public <T> Mono<T> observe(Mono<T> mono, Predicate<T> success) {
+        return Mono.defer(() -> {
+            var begin = System.nanoTime();
+            this.outstanding.incrementAndGet();
+            return mono.doOnNext(it -> this.record(System.nanoTime() - begin, success.test(it)))
+                    .doOnError(ex -> this.record(System.nanoTime() - begin, false))
+                    .doFinally(signal -> this.outstanding.decrementAndGet());
+        });
+    }
+
+    /**
+     * 记录长连接（如 WebSocket）
+     * <p>
+     * 连接期间计入未完成请求数。连接时长不能代表实例的响应速度，因此只记录建立连接的耗时与结果
+     *
+     * @param connect 建立连接，参数为连接建立成功时需要执行的回调
+     */
+    public <T> Mono<T> observe(Function<Runnable, Mono<T>> connect) {
+        return Mono.defer(() -> {
+            var begin = System.nanoTime();
+            var recorded = new AtomicBoolean();
+            this.outstanding.incrementAndGet();
+            Runnable connected = () -> {
+                if (recorded.compareAndSet(false, true)) {
+                    this.record(System.nanoTime() - begin, true);
+                }
+            };
+            return connect.apply(connected)
+                    .doOnError(ex -> {
+                        if (recorded.compareAndSet(false, true)) {
+                            this.record(System.nanoTime() - begin, false);
+                        }
+                    })
+                    .doFinally(signal -> this.outstanding.decrementAndGet());
+        });
+    }
+
+    /**
+     * 记录请求结果
+     *
+     * @param nanos   耗时
+     * @param success 是否成功
+     */
+    public void record(long nanos, boolean success) {
+        var now = System.nanoTime();
+        var current = this.ewma;
+        if (!this.sampled || nanos > current) {
+            // 第一次记录，或响应变慢时立即生效
+            this.ewma = nanos;
+        } else {
+            var weight = Math.exp(-Math.max(now - this.stamp, 0) / DECAY_TIME);
+            this.ewma = current * weight + nanos * (1 - weight);
+        }
+        this.stamp = now;
+        this.sampled = true;
+
+        if (success) {
+            this.failures.set(0);
+            if (this.ejectedUntil != 0 && !this.isEjected()) {
+                // 恢复后请求成功，重置摘除次数
+                this.ejections.set(0);
+                this.ejectedUntil = 0;
+            }
+            return;
+        }
+
+        if (this.failures.incrementAndGet() >= this.outlier.getConsecutiveFailures()) {
+            this.failures.set(0);
+            var times = this.ejections.incrementAndGet();
+            var duration = Math.min((long) this.outlier.getBaseEjectionTime() * times, this.outlier.getMaxEjectionTime());
+            this.ejectedUntil = System.currentTimeMillis() + duration;
+            log.warn("上游实例[{}]连续请求失败，摘除 {}ms", this.uri, duration);
+        }
+    }
+
+    /**
+     * 记录主动健康检查结果
+     *
+     * @param success 是否成功
+     */
+    public void probe(boolean success) {
+        if (success) {
+            var count = this.probes.updateAndGet(it -> it > 0 ? it + 1 : 1);
+            if (!this.healthy && count >= this.healthCheck.getHealthyThreshold()) {
+                this.healthy = true;
+                log.info("上游实例[{}]恢复健康", this.uri);
+            }
+        } else {
+            var count = this.probes.updateAndGet(it -> it < 0 ? it - 1 : -1);
+            if (this.healthy && -count >= this.healthCheck.getUnhealthyThreshold()) {
+                this.healthy = false;
+                log.warn("上游实例[{}]健康检查失败", this.uri);
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.global.routing.upstream;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Upstream Properties
+ * <p>
+ * 上游服务实例配置
+ * <p>
+ * 应用（或应用路由）的服务地址作为逻辑地址，在这里配置该地址对应的多个服务实例，网关转发时在实例之间负载均衡。
+ * 没有配置实例的服务地址仍按原地址转发
+ *
+ * <pre>
+ * studio:
+ *   gateway:
+ *     filter:
+ *       upstream:
+ *         services:
+ *           - url: http://central-identity
+ *             instances:
+ *               - http://10.0.0.1:3100
+ *               - http://10.0.0.2:3100
+ * </pre>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Data
+@ConfigurationProperties(prefix = "studio.gateway.filter.upstream")
+public class UpstreamProperties {
+    /**
+     * 默认负载均衡策略
+     */
+    private BalanceStrategy strategy = BalanceStrategy.ROUND_ROBIN;
+
+    /**
+     * 服务
+     */
+    private List<Service> services = new ArrayList<>();
+
+    /**
+     * 主动健康检查
+     */
+    private HealthCheck healthCheck = new HealthCheck();
+
+    /**
+     * 被动异常实例摘除
+     */
+    private Outlier outlier = new Outlier();
+
+    @Data
+    public static class Service {
+        /**
+         * 服务地址（与应用、应用路由的服务地址相同）
+         */
+        private String url;
+        /**
+         * 服务实例地址
+         */
+        private List<String> instances = new ArrayList<>();
+        /**
+         * 负载均衡策略，为空时使用默认策略
+         */
+        private BalanceStrategy strategy;
+    }
+
+    @Data
+    public static class HealthCheck {
+        /**
+         * 是否启用主动健康检查
+         */
+        private boolean enabled = true;
+        /**
+         * 检查路径，响应状态码小于 500 即视为健康
+         */
+        private String path = "/";
+        /**
+         * 检查周期（ms）
+         */
+        private int interval = 10000;
+        /**
+         * 检查超时时间（ms）
+         */
+        private int timeout = 2000;
+        /**
+         * 连续成功多少次后恢复为健康
+         */
+        private int healthyThreshold = 2;
+        /**
+         * 连续失败多少次后标记为不健康
+         */
+        private int unhealthyThreshold = 2;
+    }
+
+    @Data
+    public static class Outlier {
+        /**
+         * 连续失败（连接异常、超时、5xx）多少次后摘除实例
+         */
+        private int consecutiveFailures = 5;
+        /**
+         * 摘除时间（ms），实例每多被摘除一次，摘除时间增加一倍基准时间
+         */
+        private int baseEjectionTime = 30000;
+        /**
+         * 最大摘除时间（ms）
+         */
+        private int maxEjectionTime = 300000;
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.global.routing.upstream;
+
+import central.lang.Stringx;
+import central.studio.gateway.core.filter.global.RequestRoutingFilter;
+import central.studio.gateway.core.filter.global.routing.HttpClientRegistry;
+import central.studio.gateway.core.filter.global.routing.HttpRoutingFilter;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Upstream Registry
+ * <p>
+ * 上游服务注册表
+ * <p>
+ * 根据服务地址（Schema、Host、Port）查找对应的上游服务，并定时对所有服务实例进行主动健康检查。
+ * 健康检查使用转发请求的客户端，与转发请求共用连接池、TLS 和 HTTP/2 配置
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+@Component
+public class UpstreamRegistry implements EnvironmentAware, ApplicationContextAware, InitializingBean, DisposableBean {
+
+    @Setter
+    private Environment environment;
+
+    @Setter
+    private ApplicationContext applicationContext;
+
+    /**
+     * 上游服务
+     * <p>
+     * schema://host:port -> upstream
+     */
+    private Map<String, Upstream> upstreams = Map.of();
+
+    private Disposable healthCheck;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        var binder = Binder.get(this.environment).bind(UpstreamProperties.class.getAnnotation(ConfigurationProperties.class).prefix(), UpstreamProperties.class);
+        var properties = binder.isBound() ? binder.get() : new UpstreamProperties();
+
+        var upstreams = new HashMap<String, Upstream>();
+        for (var service : properties.getServices()) {
+            if (Stringx.isNullOrBlank(service.getUrl()) || service.getInstances().isEmpty()) {
+                continue;
+            }
+            var instances = service.getInstances().stream()
+                    .filter(Stringx::isNotBlank)
+                    .map(it -> new UpstreamInstance(URI.create(it.trim()), properties.getHealthCheck(), properties.getOutlier()))
+                    .toList();
+            var strategy = Objects.requireNonNullElse(service.getStrategy(), properties.getStrategy());
+            upstreams.put(key(URI.create(service.getUrl().trim())), new Upstream(service.getUrl(), strategy, instances));
+        }
+        this.upstreams = Map.copyOf(upstreams);
+
+        if (!this.upstreams.isEmpty() && properties.getHealthCheck().isEnabled()) {
+            this.startHealthCheck(properties.getHealthCheck());
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (this.healthCheck != null) {
+            this.healthCheck.dispose();
+            this.healthCheck = null;
+        }
+    }
+
+    /**
+     * 查找服务地址对应的上游服务
+     *
+     * @param target 服务地址
+     * @return 上游服务，没有配置服务实例时返回空
+     */
+    public @Nullable Upstream get(@Nonnull URI target) {
+        if (this.upstreams.isEmpty()) {
+            return null;
+        }
+        return this.upstreams.get(key(target));
+    }
+
+    /**
+     * 获取所有上游服务
+     */
+    public @Nonnull Collection<Upstream> getUpstreams() {
+        return this.upstreams.values();
+    }
+
+    /**
+     * 服务地址标识
+     * <p>
+     * WebSocket 地址与 Http 地址共用上游服务配置
+     */
+    private static String key(URI uri) {
+        var scheme = uri.getScheme().toLowerCase();
+        scheme = switch (scheme) {
+            case "ws" -> "http";
+            case "wss" -> "https";
+            default -> scheme;
+        };
+        var port = uri.getPort();
+        if (port < 0) {
+            port = "https".equals(scheme) ? 443 : 80;
+        }
+        return scheme + "://" + Objects.requireNonNullElse(uri.getHost(), "").toLowerCase() + ":" + port;
+    }
+
+    private void startHealthCheck(UpstreamProperties.HealthCheck properties) {
+        var instances = new ArrayList<UpstreamInstance>();
+        for (var upstream : this.upstreams.values()) {
+            instances.addAll(upstream.getInstances());
+        }
+
+        var timeout = Duration.ofMillis(properties.getTimeout());
+        this.healthCheck = Flux.interval(Duration.ofMillis(properties.getInterval()), Duration.ofMillis(properties.getInterval()))
+                .onBackpressureDrop()
+                .concatMap(tick -> {
+                    var registry = this.getClientRegistry();
+                    if (registry == null) {
+                        // 转发过滤器还没有初始化
+                        return Mono.<Void>empty();
+                    }
+                    return Flux.fromIterable(instances)
+                            .flatMap(instance -> registry.get(instance.getUri()).getClient()
+                                    .responseTimeout(timeout)
+                                    .get()
+                                    .uri(instance.getUri().resolve(properties.getPath()))
+                                    .responseSingle((response, body) -> Mono.just(response.status().code() < 500))
+                                    .timeout(timeout)
+                                    .onErrorResume(ex -> Mono.just(false))
+                                    .doOnNext(instance::probe))
+                            .then();
+                })
+                .subscribe();
+        log.info("已启动上游服务健康检查，共 {} 个实例", instances.size());
+    }
+
+    /**
+     * 获取转发请求的客户端注册表
+     * <p>
+     * 转发过滤器在初始化时依赖本注册表，因此在执行健康检查时才获取
+     */
+    private @Nullable HttpClientRegistry getClientRegistry() {
+        var routing = this.applicationContext.getBeanProvider(RequestRoutingFilter.class).getIfAvailable();
+        if (routing == null) {
+            return null;
+        }
+        var http = routing.getFilter(HttpRoutingFilter.class);
+        return http == null ? null : http.getRegistry();
+    }
+}
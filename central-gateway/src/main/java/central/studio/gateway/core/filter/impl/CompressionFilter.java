@@ -0,0 +1,112 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.impl;
+
+import central.lang.Stringx;
+import central.pluglet.annotation.Control;
+import central.pluglet.control.ControlType;
+import central.starter.web.reactive.extension.ServerWebExchangex;
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.body.transform.CompressionTransformer;
+import central.studio.gateway.core.filter.Filter;
+import central.studio.gateway.core.filter.FilterChain;
+import central.validation.Label;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Setter;
+import lombok.experimental.ExtensionMethod;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 响应压缩
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@ExtensionMethod(ServerWebExchangex.class)
+public class CompressionFilter implements Filter, InitializingBean {
+
+    @Control(label = "说明", type = ControlType.LABEL, required = false,
+            defaultValue = """
+                    　　本过滤器用于在网关压缩目标应用的响应。
+                    <ul>
+                        <li>根据请求的 <code>Accept-Encoding</code> 请求头选择 <code>gzip</code> 或 <code>deflate</code> 压缩</li>
+                        <li>目标应用已经压缩的响应、分段响应（Range）、事件流（text/event-stream）以及带 <code>Cache-Control: no-transform</code> 的响应不会被压缩</li>
+                        <li>响应体按数据块流式压缩，不会将整个响应体读入内存</li>
+                    </ul>
+                    """)
+    private String label;
+
+    @Setter
+    @Label("压缩级别")
+    @NotNull
+    @Min(1)
+    @Max(9)
+    @Control(label = "压缩级别", type = ControlType.NUMBER, defaultValue = "6", comment = "1 表示速度最快，9 表示压缩率最高")
+    private Integer level;
+
+    @Setter
+    @Label("最小压缩大小")
+    @NotNull
+    @Min(0)
+    @Max(1048576)
+    @Control(label = "最小压缩大小", type = ControlType.NUMBER, defaultValue = "1024", comment = "单位字节，响应体小于该大小时不压缩")
+    private Integer minSize;
+
+    @Setter
+    @Label("压缩类型")
+    @NotNull
+    @Size(min = 1, max = 1024)
+    @Control(label = "压缩类型", defaultValue = "text/*, application/json, application/javascript, application/xml, image/svg+xml",
+            comment = "需要压缩的响应媒体类型，多个类型使用 ',' 分隔")
+    private String mediaTypes;
+
+    private CompressionTransformer transformer;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        List<MediaType> types = Arrays.stream(this.mediaTypes.split(","))
+                .map(String::trim)
+                .filter(Stringx::isNotBlank)
+                .map(MediaType::parseMediaType)
+                .toList();
+
+        this.transformer = new CompressionTransformer(this.level, this.minSize, types);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
+        exchange.getRequiredAttribute(ExchangeAttributes.BODY_TRANSFORMERS).add(this.transformer);
+        return chain.filter(exchange);
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.impl;
+
+import central.data.saas.ApplicationRoute;
+import central.pluglet.annotation.Control;
+import central.pluglet.control.ControlType;
+import central.starter.web.reactive.extension.ServerWebExchangex;
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.filter.Filter;
+import central.studio.gateway.core.filter.FilterChain;
+import central.studio.gateway.core.filter.global.routing.upstream.AdaptiveLimiter;
+import central.studio.gateway.core.filter.global.routing.upstream.CircuitBreaker;
+import central.studio.gateway.core.filter.global.routing.upstream.UpstreamGuard;
+import central.validation.Label;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Setter;
+import lombok.experimental.ExtensionMethod;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 并发限制与熔断
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@ExtensionMethod(ServerWebExchangex.class)
+public class ConcurrencyLimitFilter implements Filter, InitializingBean {
+
+    @Control(label = "说明", type = ControlType.LABEL, required = false,
+            defaultValue = """
+                    　　本过滤器用于保护网关转发的<code>目标应用</code>。每个目标应用（或应用路由）独立统计：
+                    <ul>
+                        <li>根据目标应用的响应时间自动调整允许的并发请求数，超过并发上限的请求直接返回 503，不会在网关排队</li>
+                        <li>最近 20 次请求的失败率（连接异常、超时、5xx）超过阈值后熔断，在熔断时间内直接返回 503</li>
+                    </ul>
+                    """)
+    private String label;
+
+    @Setter
+    @Label("初始并发数")
+    @NotNull
+    @Min(1)
+    @Max(10000)
+    @Control(label = "初始并发数", type = ControlType.NUMBER, defaultValue = "20", comment = "目标应用初始允许的并发请求数，网关会根据响应时间自动调整")
+    private Integer initialLimit;
+
+    @Setter
+    @Label("最大并发数")
+    @NotNull
+    @Min(1)
+    @Max(10000)
+    @Control(label = "最大并发数", type = ControlType.NUMBER, defaultValue = "200", comment = "目标应用允许的最大并发请求数")
+    private Integer maxLimit;
+
+    @Setter
+    @Label("失败率阈值")
+    @NotNull
+    @Min(1)
+    @Max(100)
+    @Control(label = "失败率阈值", type = ControlType.NUMBER, defaultValue = "50", comment = "失败率达到该百分比时熔断")
+    private Integer failureRate;
+
+    @Setter
+    @Label("熔断时间")
+    @NotNull
+    @Min(1000)
+    @Max(600000)
+    @Control(label = "熔断时间", type = ControlType.NUMBER, defaultValue = "30000", comment = "单位毫秒，熔断时间结束后放行少量请求试探目标应用是否恢复")
+    private Integer openTime;
+
+    /**
+     * 失败率统计的请求数
+     */
+    private static final int WINDOW_SIZE = 20;
+
+    /**
+     * 目标应用保护
+     * <p>
+     * application code[:route context path] -> guard
+     */
+    private final Map<String, UpstreamGuard> guards = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (this.initialLimit > this.maxLimit) {
+            throw new IllegalArgumentException("初始并发数不能大于最大并发数");
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
+        var application = exchange.getAttribute(ExchangeAttributes.TARGET_APPLICATION);
+        if (application != null) {
+            ApplicationRoute route = exchange.getAttribute(ExchangeAttributes.TARGET_APPLICATION_ROUTE);
+            var key = route == null ? application.getCode() : application.getCode() + ":" + route.getContextPath();
+
+            // 由转发过滤器在请求上游服务时执行并发限制与熔断
+            exchange.setAttribute(ExchangeAttributes.UPSTREAM_GUARD, this.guards.computeIfAbsent(key, it -> new UpstreamGuard(
+                    new AdaptiveLimiter(this.initialLimit, 1, this.maxLimit),
+                    new CircuitBreaker(this.failureRate, WINDOW_SIZE, this.openTime))));
+        }
+        return chain.filter(exchange);
+    }
+}
@@ -51,7 +51,10 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import java.net.URI;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -112,11 +115,77 @@ public class CrossOriginFilter implements Filter, InitializingBean {
     private BooleanEnum credentials;
 
     private final AntPathMatcher matcher = new AntPathMatcher();
-    private List<String> allowedOrigins;
+
+    /**
+     * 允许所有来源
+     */
+    private boolean allowAnyOrigin;
+
+    /**
+     * 精确匹配的主机名
+     */
+    private Set<String> allowedHosts;
+
+    /**
+     * 子域名后缀（*.example.com -> .example.com）
+     */
+    private String[] allowedSuffixes;
+
+    /**
+     * 其余需要使用 AntPathMatcher 匹配的规则（如 192.168.*.*）
+     */
+    private String[] allowedPatterns;
+
+    private String allowMethods;
+
+    private String allowMaxAge;
+
+    private String allowCredentials;
 
     @Override
     public void afterPropertiesSet() throws Exception {
-        this.allowedOrigins = Arrayx.asStream(this.accessControlAllowOrigin.split("[,]")).map(String::trim).toList();
+        var hosts = new HashSet<String>();
+        var suffixes = new ArrayList<String>();
+        var patterns = new ArrayList<String>();
+        for (var origin : Arrayx.asStream(this.accessControlAllowOrigin.split("[,]")).map(String::trim).filter(Stringx::isNotBlank).toList()) {
+            if ("*".equals(origin)) {
+                this.allowAnyOrigin = true;
+            } else if (!this.matcher.isPattern(origin)) {
+                hosts.add(origin);
+            } else if (origin.startsWith("*.") && !this.matcher.isPattern(origin.substring(2))) {
+                suffixes.add(origin.substring(1));
+            } else {
+                patterns.add(origin);
+            }
+        }
+        this.allowedHosts = Set.copyOf(hosts);
+        this.allowedSuffixes = suffixes.toArray(new String[0]);
+        this.allowedPatterns = patterns.toArray(new String[0]);
+
+        // 响应头在创建过滤器时生成
+        this.allowMethods = this.methods.stream().map(MethodType::getValue).collect(Collectors.joining(", "));
+        this.allowMaxAge = String.valueOf(this.maxAge);
+        this.allowCredentials = String.valueOf(this.credentials.getJValue());
+    }
+
+    /**
+     * 判断来源主机是否允许跨域
+     */
+    private boolean isAllowed(String host) {
+        if (this.allowAnyOrigin || this.allowedHosts.contains(host)) {
+            return true;
+        }
+        for (var suffix : this.allowedSuffixes) {
+            if (host.endsWith(suffix)) {
+                return true;
+            }
+        }
+        for (var pattern : this.allowedPatterns) {
+            if (this.matcher.match(pattern, host)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
@@ -132,17 +201,17 @@ public class CrossOriginFilter implements Filter, InitializingBean {
         // 根据主机名匹配
         var originHost = URI.create(origin).getHost();
 
-        if (this.allowedOrigins.stream().noneMatch(it -> this.matcher.match(it, originHost))) {
+        if (originHost == null || !this.isAllowed(originHost)) {
             // 没有匹配上，说明该请求不在允许跨域的范围
             return Mono.error(new ResponseStatusException(HttpStatus.FORBIDDEN, "Forbidden: Cross origin"));
         }
 
         // 添加跨域访问响应头
         exchange.getResponse().getHeaders().add(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, origin);
-        exchange.getResponse().getHeaders().add(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, this.methods.stream().map(MethodType::getValue).collect(Collectors.joining(", ")));
-        exchange.getResponse().getHeaders().add(HttpHeaders.ACCESS_CONTROL_MAX_AGE, this.matcher.toString());
+        exchange.getResponse().getHeaders().add(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, this.allowMethods);
+        exchange.getResponse().getHeaders().add(HttpHeaders.ACCESS_CONTROL_MAX_AGE, this.allowMaxAge);
         exchange.getResponse().getHeaders().add(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, this.headers);
-        exchange.getResponse().getHeaders().add(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, String.valueOf(this.credentials.getJValue()));
+        exchange.getResponse().getHeaders().add(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, this.allowCredentials);
 
         if (HttpMethod.OPTIONS.matches(exchange.getRequest().getMethod().name())) {
             // 如果是 OPTIONS 请求，则代表这是一个跨域检查请求，直接返回 204 状态码即可
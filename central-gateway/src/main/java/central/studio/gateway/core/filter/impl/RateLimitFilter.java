@@ -0,0 +1,316 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.impl;
+
+import central.bean.OptionalEnum;
+import central.data.saas.ApplicationRoute;
+import central.identity.client.Session;
+import central.identity.client.SessionVerifier;
+import central.lang.BooleanEnum;
+import central.lang.Stringx;
+import central.pluglet.annotation.Control;
+import central.pluglet.control.ControlType;
+import central.starter.web.reactive.extension.ServerWebExchangex;
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.filter.Filter;
+import central.studio.gateway.core.filter.FilterChain;
+import central.studio.gateway.core.ratelimit.*;
+import central.validation.Label;
+import jakarta.annotation.Nonnull;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.ExtensionMethod;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 限流
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+@ExtensionMethod(ServerWebExchangex.class)
+public class RateLimitFilter implements Filter, InitializingBean, ApplicationContextAware {
+
+    @Control(label = "说明", type = ControlType.LABEL, required = false,
+            defaultValue = """
+                    　　本过滤器用于限制请求速率。超过限制的请求将直接返回 <code>429 Too Many Requests</code>，
+                    并通过 <code>Retry-After</code> 响应头告知客户端需要等待的秒数。
+                    <ul>
+                        <li>令牌桶：按固定速率生成令牌，允许短时间内的突发请求</li>
+                        <li>滑动窗口：统计最近一个周期内的请求数，请求分布更平滑</li>
+                    </ul>
+                    """)
+    private String label;
+
+    @Setter
+    @Label("限流算法")
+    @NotNull
+    @Control(label = "限流算法", type = ControlType.RADIO, defaultValue = "token_bucket")
+    private Algorithm algorithm;
+
+    @Setter
+    @Label("限流维度")
+    @Control(label = "限流维度", type = ControlType.CHECKBOX, required = false,
+            comment = "按所选维度分别统计请求数。不选择时，当前租户的所有请求共享同一个限额")
+    private List<Dimension> dimensions;
+
+    @Setter
+    @Label("请求数")
+    @NotNull
+    @Min(1)
+    @Max(1000000)
+    @Control(label = "请求数", type = ControlType.NUMBER, defaultValue = "100", comment = "每个周期内允许的请求数")
+    private Integer limit;
+
+    @Setter
+    @Label("周期")
+    @NotNull
+    @Min(1)
+    @Max(86400)
+    @Control(label = "周期", type = ControlType.NUMBER, defaultValue = "1", comment = "单位秒")
+    private Integer period;
+
+    @Setter
+    @Label("突发请求数")
+    @NotNull
+    @Min(1)
+    @Max(1000000)
+    @Control(label = "突发请求数", type = ControlType.NUMBER, defaultValue = "100", comment = "仅令牌桶算法有效，令牌桶的容量，即空闲后允许连续通过的请求数")
+    private Integer burst;
+
+    @Setter
+    @Label("共享计数")
+    @NotNull
+    @Control(label = "共享计数", type = ControlType.RADIO, defaultValue = "0",
+            comment = "多个网关实例是否通过 Redis 共享计数。如果网关没有开启 Redis（studio.gateway.redis.enabled），或者 Redis 不可用，则每个网关实例独立计数")
+    private BooleanEnum shared;
+
+    @Setter
+    private ApplicationContext applicationContext;
+
+    /**
+     * 访问 Redis 的超时时间，超时后使用本地计数
+     */
+    private static final Duration REMOTE_TIMEOUT = Duration.ofMillis(200);
+
+    /**
+     * 访问 Redis 失败后，在该时间内直接使用本地计数，避免每个请求都等待超时
+     */
+    private static final Duration REMOTE_COOLDOWN = Duration.ofSeconds(10);
+
+    /**
+     * 本地限流器
+     */
+    private RateLimiter local;
+
+    /**
+     * 共享限流器，Redis 不可用时降级为本地限流器
+     */
+    private SharedRateLimiter remote;
+
+    /**
+     * 会话校验，用于按用户限流
+     */
+    private SessionVerifier verifier;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        var period = Duration.ofSeconds(this.period);
+        this.local = switch (this.algorithm) {
+            case TOKEN_BUCKET -> new TokenBucketLimiter(this.limit, period, this.burst);
+            case SLIDING_WINDOW -> new SlidingWindowLimiter(this.limit, period);
+        };
+
+        if (this.dimensions != null && this.dimensions.contains(Dimension.ACCOUNT)) {
+            this.verifier = this.applicationContext.getBeanProvider(SessionVerifier.class).getIfAvailable();
+            if (this.verifier == null) {
+                log.warn("[RateLimitFilter] 没有找到会话校验组件，按客户端 IP 计数");
+            }
+        }
+
+        if (this.shared.getJValue()) {
+            var redis = this.applicationContext.getBeanProvider(ReactiveStringRedisTemplate.class).getIfAvailable();
+            if (redis == null) {
+                log.warn("[RateLimitFilter] 网关没有开启 Redis（studio.gateway.redis.enabled），使用本地计数");
+                return;
+            }
+
+            // 相同配置的限流过滤器共享计数
+            var prefix = Stringx.format("central:gateway:rate_limit:{}:{}:{}:{}:", this.algorithm.getValue(), this.limit, this.period, this.burst);
+            SharedRateLimiter remote = switch (this.algorithm) {
+                case TOKEN_BUCKET -> new SharedTokenBucketLimiter(redis, prefix, this.limit, period, this.burst);
+                case SLIDING_WINDOW -> new SharedSlidingWindowLimiter(redis, prefix, this.limit, period);
+            };
+            this.remote = new FallbackRateLimiter(remote, this.local, REMOTE_TIMEOUT, REMOTE_COOLDOWN);
+        }
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
+        return this.getKey(exchange)
+                .flatMap(this::tryAcquire)
+                .flatMap(wait -> {
+                    if (wait > 0) {
+                        // Retry-After 的单位是秒，向上取整
+                        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, Long.toString((wait + 999) / 1000));
+                        return Mono.error(new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests"));
+                    }
+                    return chain.filter(exchange);
+                });
+    }
+
+    private Mono<Long> tryAcquire(String key) {
+        if (this.remote != null) {
+            return this.remote.tryAcquire(key);
+        }
+        return Mono.just(this.local.tryAcquire(key));
+    }
+
+    /**
+     * 计算限流键
+     * <p>
+     * 限流键总是包含租户标识，避免共享计数时不同租户之间相互影响
+     */
+    private Mono<String> getKey(ServerWebExchange exchange) {
+        var tenant = exchange.getRequiredAttribute(ExchangeAttributes.TENANT).getCode();
+        if (this.dimensions == null || this.dimensions.isEmpty()) {
+            return Mono.just(tenant);
+        }
+
+        var account = this.dimensions.contains(Dimension.ACCOUNT) ? this.getAccount(exchange) : Mono.just("");
+        return account.map(accountId -> {
+            var key = new StringBuilder(tenant);
+            for (var dimension : this.dimensions) {
+                var value = switch (dimension) {
+                    case IP -> getRemoteAddress(exchange);
+                    case PATH -> getRoute(exchange);
+                    case ACCOUNT -> accountId;
+                };
+                key.append(':').append(dimension.getValue()).append('=').append(value);
+            }
+            return key.toString();
+        });
+    }
+
+    private static @Nonnull String getRemoteAddress(ServerWebExchange exchange) {
+        var address = exchange.getAttribute(ExchangeAttributes.REMOTE_ADDRESS);
+        if (address == null || address.getAddress() == null) {
+            return "unknown";
+        }
+        return address.getAddress().getHostAddress();
+    }
+
+    /**
+     * 获取目标应用路由
+     * <p>
+     * 请求路径由客户端决定，直接作为限流键的话数量没有上限，因此按目标应用路由统计
+     */
+    private static @Nonnull String getRoute(ServerWebExchange exchange) {
+        var application = exchange.getAttribute(ExchangeAttributes.TARGET_APPLICATION);
+        if (application == null) {
+            return "unknown";
+        }
+        ApplicationRoute route = exchange.getAttribute(ExchangeAttributes.TARGET_APPLICATION_ROUTE);
+        return route == null ? application.getCode() : application.getCode() + route.getContextPath();
+    }
+
+    /**
+     * 从会话凭证中获取用户主键
+     * <p>
+     * 只有通过校验的会话凭证才按用户计数，否则客户端可以通过伪造会话凭证绕过限流。
+     * 未登录或者会话凭证无效的请求按客户端 IP 计数
+     */
+    private Mono<String> getAccount(ServerWebExchange exchange) {
+        var anonymous = "ip:" + getRemoteAddress(exchange);
+        if (this.verifier == null) {
+            return Mono.just(anonymous);
+        }
+
+        var token = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (Stringx.isNullOrBlank(token)) {
+            HttpCookie cookie = exchange.getRequest().getCookies().getFirst(HttpHeaders.AUTHORIZATION);
+            token = cookie == null ? null : cookie.getValue();
+        }
+        if (Stringx.isNullOrBlank(token)) {
+            return Mono.just(anonymous);
+        }
+        if (token.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            token = token.substring(7);
+        }
+
+        Session session;
+        try {
+            session = Session.of(token.trim());
+        } catch (Exception ignored) {
+            // 不是有效的会话凭证
+            return Mono.just(anonymous);
+        }
+
+        // 会话校验可能需要访问认证中心，不能在事件循环线程中执行
+        return Mono.fromCallable(() -> this.verifier.verify(session.getToken()) ? session.getAccountId() : anonymous)
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorReturn(anonymous);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public enum Algorithm implements OptionalEnum<String> {
+        TOKEN_BUCKET("令牌桶（Token Bucket）", "token_bucket"),
+        SLIDING_WINDOW("滑动窗口（Sliding Window）", "sliding_window");
+
+        private final String name;
+        private final String value;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public enum Dimension implements OptionalEnum<String> {
+        IP("客户端 IP", "ip"),
+        PATH("目标应用路由", "path"),
+        ACCOUNT("用户", "account");
+
+        private final String name;
+        private final String value;
+    }
+}
@@ -52,7 +52,7 @@ public class RequestDetailsFilter implements Filter {
     private static final Attribute<Long> BEGIN_TIME = Attribute.of(RequestDetailsFilter.class.getSimpleName() + ".begin_time");
 
     @Control(label = "说明", type = ControlType.LABEL,
-            defaultValue = "　　本过滤器用于输出请求的详细信息到日志中，方便开发过程中调试。")
+            defaultValue = "　　本过滤器用于输出请求的详细信息到日志中，方便开发过程中调试。需要将本过滤器的日志级别设置为 DEBUG 才会输出。")
     private String label;
 
     @Override
@@ -60,6 +60,10 @@ public class RequestDetailsFilter implements Filter {
         exchange.setAttribute(BEGIN_TIME, System.currentTimeMillis());
 
         return chain.filter(exchange).then(Mono.fromRunnable(() -> {
+            // 组装请求详情的开销较大，只在 DEBUG 级别输出，不影响生产环境的请求
+            if (!log.isDebugEnabled()) {
+                return;
+            }
             var responseTime = System.currentTimeMillis();
             var accessTime = exchange.getRequiredAttribute(BEGIN_TIME);
 
@@ -104,7 +108,7 @@ public class RequestDetailsFilter implements Filter {
                 }
             }
             builder.append("┗━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━━\n");
-            log.info(builder.toString());
+            log.debug(builder.toString());
         }));
     }
 }
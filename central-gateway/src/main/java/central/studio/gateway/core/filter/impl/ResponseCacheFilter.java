@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.impl;
+
+import central.lang.Stringx;
+import central.pluglet.annotation.Control;
+import central.pluglet.control.ControlType;
+import central.starter.web.reactive.extension.ServerWebExchangex;
+import central.studio.gateway.core.attribute.ExchangeAttributes;
+import central.studio.gateway.core.cache.ResponseCache;
+import central.studio.gateway.core.filter.Filter;
+import central.studio.gateway.core.filter.FilterChain;
+import central.validation.Label;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Setter;
+import lombok.experimental.ExtensionMethod;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 响应缓存
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@ExtensionMethod(ServerWebExchangex.class)
+public class ResponseCacheFilter implements Filter, InitializingBean, DisposableBean {
+
+    @Control(label = "说明", type = ControlType.LABEL, required = false,
+            defaultValue = """
+                    　　本过滤器用于在网关缓存目标应用的 GET 响应，缓存有效期内的相同请求将由网关直接响应，不再转发到目标应用。
+                    <ul>
+                        <li>遵循目标应用返回的 <code>Cache-Control</code>、<code>Expires</code> 响应头，<code>no-store</code>、<code>private</code> 或带 <code>Set-Cookie</code> 的响应不会被缓存</li>
+                        <li>请求携带 <code>Authorization</code> 或 <code>Cookie</code> 时，只有响应带有 <code>public</code>、<code>s-maxage</code> 或 <code>must-revalidate</code> 才会被缓存</li>
+                        <li>缓存过期后，如果响应带有 <code>ETag</code> 或 <code>Last-Modified</code>，网关将向目标应用发起条件请求，目标应用返回 304 时继续使用缓存</li>
+                        <li>缓存的响应体保存在堆内存中，超过缓存容量时淘汰最近最少使用的缓存</li>
+                    </ul>
+                    　　注意：请只对与用户无关的请求（如字典、配置、菜单等）启用本过滤器。
+                    """)
+    private String label;
+
+    @Setter
+    @Label("缓存容量")
+    @NotNull
+    @Min(1)
+    @Max(256)
+    @Control(label = "缓存容量", type = ControlType.NUMBER, defaultValue = "64", comment = "单位 MB，所有缓存的响应体总大小")
+    private Integer capacity;
+
+    @Setter
+    @Label("最大响应体")
+    @NotNull
+    @Min(1)
+    @Max(8192)
+    @Control(label = "最大响应体", type = ControlType.NUMBER, defaultValue = "1024", comment = "单位 KB，超过该大小的响应不缓存")
+    private Integer maxEntrySize;
+
+    @Setter
+    @Label("默认缓存时间")
+    @NotNull
+    @Min(0)
+    @Max(86400)
+    @Control(label = "默认缓存时间", type = ControlType.NUMBER, defaultValue = "0",
+            comment = "单位秒，目标应用没有通过 Cache-Control 或 Expires 指定缓存时间时使用。为 0 时，只缓存带 ETag 或 Last-Modified 的响应，并且每次都向目标应用验证")
+    private Integer ttl;
+
+    @Setter
+    @Label("缓存键请求头")
+    @Size(max = 1024)
+    @Control(label = "缓存键请求头", required = false, defaultValue = "Accept, Accept-Encoding, Accept-Language",
+            comment = "参与计算缓存键的请求头，多个请求头使用 ',' 分隔。目标应用响应的 Vary 响应头中包含其它请求头时，该响应不会被缓存")
+    private String varyHeaders;
+
+    private ResponseCache cache;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        List<String> headers = Stringx.isNullOrBlank(this.varyHeaders) ? List.of() : Arrays.stream(this.varyHeaders.split(","))
+                .map(String::trim)
+                .filter(Stringx::isNotBlank)
+                .toList();
+
+        this.cache = new ResponseCache(this.capacity * 1024L * 1024L, this.maxEntrySize * 1024, Duration.ofSeconds(this.ttl), headers);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        this.cache.clear();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
+        var lookup = this.cache.lookup(exchange);
+        if (lookup != null) {
+            // 由转发过滤器使用或更新缓存
+            exchange.setAttribute(ExchangeAttributes.RESPONSE_CACHE, lookup);
+        }
+        return chain.filter(exchange);
+    }
+}
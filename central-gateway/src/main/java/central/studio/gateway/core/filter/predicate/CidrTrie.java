@@ -0,0 +1,299 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.predicate;
+
+import central.lang.Stringx;
+import io.netty.util.NetUtil;
+import jakarta.annotation.Nonnull;
+import lombok.Getter;
+
+import java.net.InetAddress;
+
+/**
+ * CIDR Trie
+ * <p>
+ * IP 网段前缀树
+ * <p>
+ * 使用路径压缩的二叉前缀树（Patricia Trie）保存 IPv4、IPv6 网段，查找时最多只需要比较 32/128 位，
+ * 与网段数量无关。已被更大网段覆盖的小网段在构建时会被合并。构建完毕后不可修改，可以被多个线程同时读取
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public final class CidrTrie {
+
+    private final Node ipv4;
+
+    private final Node ipv6;
+
+    /**
+     * 网段数量
+     */
+    @Getter
+    private final int size;
+
+    private CidrTrie(Node ipv4, Node ipv6, int size) {
+        this.ipv4 = ipv4;
+        this.ipv6 = ipv6;
+        this.size = size;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 判断 IP 是否在网段内
+     *
+     * @param address IP 地址
+     */
+    public boolean contains(@Nonnull InetAddress address) {
+        return contains(address.getAddress());
+    }
+
+    /**
+     * 判断 IP 是否在网段内
+     *
+     * @param address IP 地址（4 字节或 16 字节）
+     */
+    public boolean contains(@Nonnull byte[] address) {
+        var node = address.length == 4 ? this.ipv4 : this.ipv6;
+        var bits = address.length * 8;
+        int matched = 0;
+        while (node != null) {
+            if (!matches(node.key, address, matched, node.length)) {
+                return false;
+            }
+            if (node.terminal) {
+                return true;
+            }
+            if (node.length >= bits) {
+                return false;
+            }
+            matched = node.length;
+            node = bit(address, node.length) == 0 ? node.zero : node.one;
+        }
+        return false;
+    }
+
+    /**
+     * 取指定位置的位
+     */
+    private static int bit(byte[] address, int index) {
+        return (address[index >>> 3] >>> (7 - (index & 7))) & 1;
+    }
+
+    /**
+     * 判断 [from, to) 区间内的位是否相同
+     */
+    private static boolean matches(byte[] key, byte[] address, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if ((i & 7) == 0 && i + 8 <= to) {
+                // 整字节比较
+                if (key[i >>> 3] != address[i >>> 3]) {
+                    return false;
+                }
+                i += 7;
+            } else if (bit(key, i) != bit(address, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 公共前缀长度
+     */
+    private static int common(byte[] a, byte[] b, int length) {
+        for (int i = 0; i < length; i++) {
+            if (bit(a, i) != bit(b, i)) {
+                return i;
+            }
+        }
+        return length;
+    }
+
+    /**
+     * 将前缀长度之后的位清零
+     */
+    private static byte[] mask(byte[] address, int length) {
+        var masked = address.clone();
+        for (int i = 0; i < masked.length; i++) {
+            var remain = length - i * 8;
+            if (remain <= 0) {
+                masked[i] = 0;
+            } else if (remain < 8) {
+                masked[i] &= (byte) (0xFF << (8 - remain));
+            }
+        }
+        return masked;
+    }
+
+    private static final class Node {
+        /**
+         * 网段地址（前缀长度之后的位为 0）
+         */
+        private final byte[] key;
+        /**
+         * 前缀长度
+         */
+        private final int length;
+        /**
+         * 是否是完整的网段
+         */
+        private boolean terminal;
+        private Node zero;
+        private Node one;
+
+        private Node(byte[] key, int length, boolean terminal) {
+            this.key = key;
+            this.length = length;
+            this.terminal = terminal;
+        }
+
+        private void set(int bit, Node child) {
+            if (bit == 0) {
+                this.zero = child;
+            } else {
+                this.one = child;
+            }
+        }
+    }
+
+    /**
+     * 前缀树构建器
+     */
+    public static final class Builder {
+        private Node ipv4;
+        private Node ipv6;
+        private int size;
+
+        private Builder() {
+        }
+
+        /**
+         * 添加网段
+         *
+         * @param cidr IP 或网段，如 192.168.1.1、192.168.0.0/16、2001:db8::/32
+         * @throws IllegalArgumentException 格式不正确
+         */
+        public Builder add(@Nonnull String cidr) {
+            var value = cidr.trim();
+            var index = value.indexOf('/');
+            var ip = index < 0 ? value : value.substring(0, index);
+
+            // 只解析 IP 字面量，不会触发 DNS 查询
+            var address = NetUtil.createByteArrayFromIpAddressString(ip);
+            if (address == null) {
+                throw new IllegalArgumentException(Stringx.format("'{}' 不是有效的 IP 格式", cidr));
+            }
+
+            int length = address.length * 8;
+            if (index >= 0) {
+                try {
+                    length = Integer.parseInt(value.substring(index + 1).trim());
+                } catch (NumberFormatException ex) {
+                    throw new IllegalArgumentException(Stringx.format("'{}' 不是有效的网段格式", cidr));
+                }
+                if (length < 0 || length > address.length * 8) {
+                    throw new IllegalArgumentException(Stringx.format("'{}' 不是有效的网段格式", cidr));
+                }
+            }
+            return this.add(address, length);
+        }
+
+        /**
+         * 添加网段
+         *
+         * @param address IP 地址（4 字节或 16 字节）
+         * @param length  前缀长度
+         */
+        public Builder add(@Nonnull byte[] address, int length) {
+            var key = mask(address, length);
+            if (address.length == 4) {
+                this.ipv4 = insert(this.ipv4, key, length);
+            } else {
+                this.ipv6 = insert(this.ipv6, key, length);
+            }
+            this.size++;
+            return this;
+        }
+
+        private static Node insert(Node root, byte[] key, int length) {
+            if (root == null) {
+                return new Node(key, length, true);
+            }
+
+            Node parent = null;
+            var node = root;
+            while (true) {
+                var common = common(node.key, key, Math.min(node.length, length));
+
+                if (common == node.length) {
+                    if (node.terminal) {
+                        // 已被更大的网段覆盖
+                        return root;
+                    }
+                    if (length == node.length) {
+                        // 当前网段覆盖了所有子网段
+                        node.terminal = true;
+                        node.zero = null;
+                        node.one = null;
+                        return root;
+                    }
+                    var bit = bit(key, node.length);
+                    var child = bit == 0 ? node.zero : node.one;
+                    if (child == null) {
+                        node.set(bit, new Node(key, length, true));
+                        return root;
+                    }
+                    parent = node;
+                    node = child;
+                    continue;
+                }
+
+                Node replacement;
+                if (common == length) {
+                    // 新网段覆盖了当前节点
+                    replacement = new Node(key, length, true);
+                } else {
+                    // 分叉
+                    replacement = new Node(mask(key, common), common, false);
+                    replacement.set(bit(node.key, common), node);
+                    replacement.set(bit(key, common), new Node(key, length, true));
+                }
+
+                if (parent == null) {
+                    return replacement;
+                }
+                parent.set(bit(key, parent.length), replacement);
+                return root;
+            }
+        }
+
+        public CidrTrie build() {
+            return new CidrTrie(this.ipv4, this.ipv6, this.size);
+        }
+    }
+}
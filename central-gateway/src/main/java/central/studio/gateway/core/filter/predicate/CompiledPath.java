@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.predicate;
+
+import jakarta.annotation.Nonnull;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.server.PathContainer;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import org.springframework.web.util.pattern.PatternParseException;
+
+/**
+ * Compiled Path
+ * <p>
+ * 预编译的路径匹配规则
+ * <p>
+ * 在创建断言时解析路径规则，常见的规则（/**、精确路径、/prefix/**）直接使用字符串比较，
+ * 其余规则预编译为 {@link PathPattern}。构建完毕后不可修改，可以被多个线程同时读取
+ * <p>
+ * 为了与原来的 {@link AntPathMatcher} 保持一致：
+ * <ul>
+ *     <li>PathPattern 只允许 ** 出现在末尾，已保存的 /a/**&#47;b 等规则仍使用 AntPathMatcher 匹配，并输出警告</li>
+ *     <li>PathPattern 会解码路径并忽略矩阵变量，因此包含 % 或 ; 的请求路径仍使用 AntPathMatcher 匹配原始路径</li>
+ *     <li>PathPattern 与 AntPathMatcher 一样，不会忽略末尾的 /</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+public final class CompiledPath {
+
+    private static final AntPathMatcher MATCHER = new AntPathMatcher();
+
+    /**
+     * 路径规则
+     */
+    @Getter
+    private final String pattern;
+
+    private final Kind kind;
+
+    /**
+     * 精确路径或路径前缀
+     */
+    private final String value;
+
+    private final PathPattern compiled;
+
+    private CompiledPath(String pattern, Kind kind, String value, PathPattern compiled) {
+        this.pattern = pattern;
+        this.kind = kind;
+        this.value = value;
+        this.compiled = compiled;
+    }
+
+    /**
+     * 编译路径规则
+     *
+     * @param pattern 路径规则（Ant 风格）
+     */
+    public static CompiledPath compile(@Nonnull String pattern) {
+        if ("/**".equals(pattern) || "**".equals(pattern)) {
+            return new CompiledPath(pattern, Kind.ANY, null, null);
+        }
+        if (!MATCHER.isPattern(pattern)) {
+            return new CompiledPath(pattern, Kind.EXACT, pattern, null);
+        }
+        if (pattern.endsWith("/**")) {
+            var prefix = pattern.substring(0, pattern.length() - 3);
+            if (!MATCHER.isPattern(prefix)) {
+                return new CompiledPath(pattern, Kind.PREFIX, prefix, null);
+            }
+        }
+        try {
+            return new CompiledPath(pattern, Kind.PATTERN, null, PathPatternParser.defaultInstance.parse(pattern));
+        } catch (PatternParseException ex) {
+            log.warn("路径规则[{}]不兼容 PathPattern（** 只能出现在末尾），将使用 AntPathMatcher 匹配，请尽快修改: {}", pattern, ex.getLocalizedMessage());
+            return new CompiledPath(pattern, Kind.ANT, null, null);
+        }
+    }
+
+    /**
+     * 判断路径是否匹配
+     *
+     * @param path 请求路径
+     */
+    public boolean matches(@Nonnull String path) {
+        return switch (this.kind) {
+            case ANY -> true;
+            case EXACT -> this.value.equals(path);
+            case PREFIX -> path.startsWith(this.value) && (path.length() == this.value.length() || path.charAt(this.value.length()) == '/');
+            case PATTERN -> isRaw(path) ? MATCHER.match(this.pattern, path) : this.compiled.matches(PathContainer.parsePath(path));
+            case ANT -> MATCHER.match(this.pattern, path);
+        };
+    }
+
+    /**
+     * 判断已解析的路径是否匹配
+     * <p>
+     * 同一个请求的多个规则可以共用解析结果
+     *
+     * @param path 已解析的请求路径
+     */
+    public boolean matches(@Nonnull PathContainer path) {
+        if (this.kind == Kind.PATTERN && !isRaw(path.value())) {
+            return this.compiled.matches(path);
+        }
+        return this.matches(path.value());
+    }
+
+    /**
+     * 路径是否需要按原始字符串匹配
+     */
+    private static boolean isRaw(String path) {
+        return path.indexOf('%') >= 0 || path.indexOf(';') >= 0;
+    }
+
+    /**
+     * 是否需要通过 PathPattern 或 AntPathMatcher 计算
+     * <p>
+     * 其余规则只需要比较字符串，不需要缓存匹配结果
+     */
+    public boolean isComputed() {
+        return this.kind == Kind.PATTERN || this.kind == Kind.ANT;
+    }
+
+    @Override
+    public String toString() {
+        return this.pattern;
+    }
+
+    private enum Kind {
+        /**
+         * 匹配所有路径
+         */
+        ANY,
+        /**
+         * 精确匹配
+         */
+        EXACT,
+        /**
+         * 前缀匹配
+         */
+        PREFIX,
+        /**
+         * PathPattern
+         */
+        PATTERN,
+        /**
+         * AntPathMatcher
+         */
+        ANT
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.predicate;
+
+import jakarta.annotation.Nonnull;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.function.Function;
+
+/**
+ * Day Cache
+ * <p>
+ * 按天缓存的计算结果
+ * <p>
+ * 日期相关的断言（每日、每周、每月、每年）在一天之内的计算结果不变，只在跨天时重新计算，
+ * 请求时只需要比较一次时间戳
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public final class DayCache<T> {
+
+    private final Function<LocalDate, T> calculator;
+
+    private volatile Entry<T> entry;
+
+    /**
+     * @param calculator 根据当天日期计算结果
+     */
+    public DayCache(@Nonnull Function<LocalDate, T> calculator) {
+        this.calculator = calculator;
+    }
+
+    /**
+     * 获取当天的计算结果
+     *
+     * @param now 当前时间戳
+     */
+    public T get(long now) {
+        var entry = this.entry;
+        if (entry == null || now < entry.since() || now >= entry.until()) {
+            // 跨天了（或时钟被回拨），重新计算
+            var zone = ZoneId.systemDefault();
+            var today = Instant.ofEpochMilli(now).atZone(zone).toLocalDate();
+            entry = new Entry<>(this.calculator.apply(today),
+                    today.atStartOfDay(zone).toInstant().toEpochMilli(),
+                    today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+            this.entry = entry;
+        }
+        return entry.value();
+    }
+
+    private record Entry<T>(T value, long since, long until) {
+    }
+}
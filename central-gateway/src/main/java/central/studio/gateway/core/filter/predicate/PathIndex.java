@@ -0,0 +1,178 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.filter.predicate;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import org.springframework.http.server.PathContainer;
+
+import java.util.*;
+
+/**
+ * Path Index
+ * <p>
+ * 租户路径断言索引
+ * <p>
+ * 将租户下需要计算的路径规则（PathPattern、AntPathMatcher）去重后统一编号，构建调用链时为每个过滤器记录编号。
+ * 请求时只解析一次路径，每个规则在第一次被用到时才计算，多个过滤器使用相同的路径规则时只会计算一次。
+ * 精确路径、前缀等规则只需要比较字符串，直接由过滤器判断
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public final class PathIndex {
+
+    /**
+     * 可以缓存匹配结果的规则数量
+     */
+    private static final int CAPACITY = Long.SIZE;
+
+    private static final PathIndex EMPTY = new PathIndex(List.of());
+
+    /**
+     * pattern -> slot
+     * <p>
+     * 只在构建调用链时使用
+     */
+    private final Map<String, Integer> slots;
+
+    /**
+     * 路径规则
+     */
+    private final CompiledPath[] paths;
+
+    private PathIndex(List<CompiledPath> paths) {
+        var slots = new HashMap<String, Integer>();
+        var compiled = new ArrayList<CompiledPath>();
+
+        for (var path : paths) {
+            if (!path.isComputed() || slots.containsKey(path.getPattern())) {
+                continue;
+            }
+            slots.put(path.getPattern(), slots.size());
+            compiled.add(path);
+        }
+
+        this.slots = Map.copyOf(slots);
+        this.paths = compiled.toArray(new CompiledPath[0]);
+    }
+
+    public static PathIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 根据路径规则创建索引
+     *
+     * @param paths 路径规则
+     */
+    public static PathIndex of(@Nonnull Collection<CompiledPath> paths) {
+        if (paths.isEmpty()) {
+            return EMPTY;
+        }
+        return new PathIndex(List.copyOf(paths));
+    }
+
+    /**
+     * 获取路径规则的编号
+     *
+     * @param path 路径规则
+     * @return 编号，不在索引中时返回 -1
+     */
+    public int slot(@Nullable CompiledPath path) {
+        if (path == null) {
+            return -1;
+        }
+        return this.slots.getOrDefault(path.getPattern(), -1);
+    }
+
+    /**
+     * 创建请求的路径匹配结果
+     *
+     * @param path 请求路径
+     * @return 匹配结果，索引中没有需要计算的规则时返回空
+     */
+    public @Nullable Matches match(@Nonnull String path) {
+        if (this.paths.length == 0) {
+            return null;
+        }
+        return new Matches(this.paths, path);
+    }
+
+    /**
+     * 路径匹配结果
+     * <p>
+     * 只在当前请求中使用，不需要同步
+     */
+    public static final class Matches {
+        private final CompiledPath[] paths;
+        private final String path;
+        private PathContainer container;
+
+        /**
+         * 已经计算过的规则
+         */
+        private long evaluated;
+
+        /**
+         * 匹配成功的规则
+         */
+        private long matched;
+
+        private Matches(CompiledPath[] paths, String path) {
+            this.paths = paths;
+            this.path = path;
+        }
+
+        /**
+         * 判断路径是否匹配
+         * <p>
+         * 如果请求路径已被修改（如 StripPrefix、RewritePath 过滤器），或路径规则不在索引中，则直接计算
+         *
+         * @param slot     路径规则编号
+         * @param compiled 路径规则
+         * @param path     当前请求路径
+         */
+        public boolean matches(int slot, @Nonnull CompiledPath compiled, @Nonnull String path) {
+            if (slot < 0 || !this.path.equals(path)) {
+                return compiled.matches(path);
+            }
+            if (this.container == null) {
+                this.container = PathContainer.parsePath(this.path);
+            }
+            if (slot >= CAPACITY) {
+                return this.paths[slot].matches(this.container);
+            }
+
+            var bit = 1L << slot;
+            if ((this.evaluated & bit) == 0) {
+                if (this.paths[slot].matches(this.container)) {
+                    this.matched |= bit;
+                }
+                this.evaluated |= bit;
+            }
+            return (this.matched & bit) != 0;
+        }
+    }
+}
@@ -25,6 +25,7 @@
 package central.studio.gateway.core.filter.predicate.impl;
 
 import central.bean.OptionalEnum;
+import central.studio.gateway.core.filter.predicate.DayCache;
 import central.studio.gateway.core.filter.predicate.Predicate;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
@@ -33,9 +34,9 @@ import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
-import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Objects;
 
@@ -45,7 +46,7 @@ import java.util.Objects;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class AnnuallyPredicate implements Predicate {
+public class AnnuallyPredicate implements Predicate, InitializingBean {
 
     @Setter
     @Label("月份")
@@ -53,10 +54,24 @@ public class AnnuallyPredicate implements Predicate {
     @Control(label = "月份", type = ControlType.CHECKBOX, comment = "请求时间的月份与选中的月份相同时，匹配成功")
     private List<Month> months;
 
+    /**
+     * 当天是否匹配
+     */
+    private DayCache<Boolean> today;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        // 1 ~ 12
+        var matches = new boolean[13];
+        for (var month : this.months) {
+            matches[Integer.parseInt(month.getValue())] = true;
+        }
+        this.today = new DayCache<>(date -> matches[date.getMonthValue()]);
+    }
+
     @Override
     public boolean predicate(ServerWebExchange exchange) {
-        var now = OffsetDateTime.now();
-        return this.months.stream().anyMatch(it -> it.isCompatibleWith(now.getMonthValue()));
+        return this.today.get(System.currentTimeMillis());
     }
 
     @Getter
@@ -31,8 +31,11 @@ import central.util.Listx;
 import central.validation.Label;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
+import java.util.regex.Pattern;
+
 /**
  * Cookie 断言
  * <p>
@@ -41,7 +44,7 @@ import org.springframework.web.server.ServerWebExchange;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class CookiePredicate implements Predicate {
+public class CookiePredicate implements Predicate, InitializingBean {
     @Setter
     @Label("Cookie")
     @NotBlank
@@ -53,6 +56,18 @@ public class CookiePredicate implements Predicate {
     @Control(label = "匹配规则", required = false, comment = "用于判断 Cookie 值是否符合正则表达式，使用 String::matches 进行匹配。如果为空，则仅判断是否包含 Cookie")
     private String regexp;
 
+    /**
+     * 预编译的匹配规则，为空时仅判断是否存在
+     */
+    private Pattern pattern;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (Stringx.isNotBlank(this.regexp)) {
+            this.pattern = Pattern.compile(this.regexp);
+        }
+    }
+
     @Override
     public boolean predicate(ServerWebExchange exchange) {
         var cookies = exchange.getRequest().getCookies().get(cookie);
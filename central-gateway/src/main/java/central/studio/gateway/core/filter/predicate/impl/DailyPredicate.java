@@ -24,16 +24,19 @@
 
 package central.studio.gateway.core.filter.predicate.impl;
 
+import central.studio.gateway.core.filter.predicate.DayCache;
 import central.studio.gateway.core.filter.predicate.Predicate;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
 import central.validation.Label;
 import jakarta.validation.constraints.NotNull;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
 import java.sql.Timestamp;
-import java.time.OffsetDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
 
 /**
  * 每日区间断言
@@ -41,7 +44,7 @@ import java.time.OffsetDateTime;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class DailyPredicate implements Predicate {
+public class DailyPredicate implements Predicate, InitializingBean {
 
     @Setter
     @Label("开始时间")
@@ -55,21 +58,30 @@ public class DailyPredicate implements Predicate {
     @Control(label = "结束时间", type = ControlType.TIME)
     private Timestamp endTime;
 
+    /**
+     * 当天的时间区间
+     * <p>
+     * [开始时间戳, 结束时间戳]
+     */
+    private DayCache<long[]> window;
+
     @Override
-    public boolean predicate(ServerWebExchange exchange) {
-        // 当前时间
-        var now = OffsetDateTime.now();
+    public void afterPropertiesSet() throws Exception {
+        var zone = ZoneId.systemDefault();
+        var begin = LocalTime.ofInstant(this.beginTime.toInstant(), zone).withNano(0);
+        var end = LocalTime.ofInstant(this.endTime.toInstant(), zone).withNano(0);
 
-        // 每日开始时间
-        var offsetBeginTime = OffsetDateTime.ofInstant(beginTime.toInstant(), now.getOffset());
-        var begin = OffsetDateTime.of(now.getYear(), now.getMonthValue(), now.getDayOfMonth(), offsetBeginTime.getHour(), offsetBeginTime.getMinute(), offsetBeginTime.getSecond(), 0, now.getOffset());
-        if (now.isBefore(begin)) {
-            return false;
-        }
+        this.window = new DayCache<>(today -> new long[]{
+                today.atTime(begin).atZone(zone).toInstant().toEpochMilli(),
+                today.atTime(end).atZone(zone).toInstant().toEpochMilli()
+        });
+    }
 
-        // 每日结束时间
-        var offsetEndTime = OffsetDateTime.ofInstant(endTime.toInstant(), now.getOffset());
-        var end = OffsetDateTime.of(now.getYear(), now.getMonthValue(), now.getDayOfMonth(), offsetEndTime.getHour(), offsetEndTime.getMinute(), offsetEndTime.getSecond(), 0, now.getOffset());
-        return !now.isAfter(end);
+    @Override
+    public boolean predicate(ServerWebExchange exchange) {
+        // 当前时间
+        var now = System.currentTimeMillis();
+        var window = this.window.get(now);
+        return now >= window[0] && now <= window[1];
     }
 }
@@ -32,8 +32,11 @@ import central.validation.Label;
 import central.web.XForwardedHeaders;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
+import java.util.regex.Pattern;
+
 /**
  * 主机名断言
  * <p>
@@ -42,19 +45,34 @@ import org.springframework.web.server.ServerWebExchange;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class HostPredicate implements Predicate {
+public class HostPredicate implements Predicate, InitializingBean {
     @Setter
     @Label("主机名")
     @NotBlank
     @Control(label = "主机名", comment = "用于判断 X-Forwarded-Host 请求头的值是否符合正则表达式，使用 String::matches 进行匹配")
     private String regexp;
 
+    /**
+     * 预编译的匹配规则
+     */
+    private Pattern pattern;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        this.pattern = Pattern.compile(this.regexp);
+    }
+
     @Override
     public boolean predicate(ServerWebExchange exchange) {
         var hosts = exchange.getRequest().getHeaders().get(XForwardedHeaders.HOST);
         if (Listx.isNullOrEmpty(hosts)) {
             return false;
         }
-        return hosts.stream().anyMatch(it -> Stringx.isNotBlank(it) && it.matches(this.regexp));
+        for (var host : hosts) {
+            if (Stringx.isNotBlank(host) && this.pattern.matcher(host).matches()) {
+                return true;
+            }
+        }
+        return false;
     }
 }
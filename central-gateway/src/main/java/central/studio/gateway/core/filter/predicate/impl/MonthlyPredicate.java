@@ -25,6 +25,7 @@
 package central.studio.gateway.core.filter.predicate.impl;
 
 import central.bean.OptionalEnum;
+import central.studio.gateway.core.filter.predicate.DayCache;
 import central.studio.gateway.core.filter.predicate.Predicate;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
@@ -33,9 +34,9 @@ import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
-import java.time.OffsetDateTime;
 import java.util.List;
 
 /**
@@ -44,7 +45,7 @@ import java.util.List;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class MonthlyPredicate implements Predicate {
+public class MonthlyPredicate implements Predicate, InitializingBean {
 
     @Setter
     @Label("日期")
@@ -52,11 +53,24 @@ public class MonthlyPredicate implements Predicate {
     @Control(label = "日期", type = ControlType.CHECKBOX, comment = "请求时间与选中的日期相同时，匹配成功")
     private List<DayOfMonth> days;
 
+    /**
+     * 当天是否匹配
+     */
+    private DayCache<Boolean> today;
+
     @Override
-    public boolean predicate(ServerWebExchange exchange) {
-        var now = OffsetDateTime.now();
+    public void afterPropertiesSet() throws Exception {
+        // 1 ~ 31
+        var matches = new boolean[32];
+        for (var day : this.days) {
+            matches[Integer.parseInt(day.getValue())] = true;
+        }
+        this.today = new DayCache<>(date -> matches[date.getDayOfMonth()]);
+    }
 
-        return days.contains(DayOfMonth.resolve(String.valueOf(now.getDayOfMonth())));
+    @Override
+    public boolean predicate(ServerWebExchange exchange) {
+        return this.today.get(System.currentTimeMillis());
     }
 
     @Getter
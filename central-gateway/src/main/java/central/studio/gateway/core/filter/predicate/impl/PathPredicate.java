@@ -24,12 +24,14 @@
 
 package central.studio.gateway.core.filter.predicate.impl;
 
+import central.studio.gateway.core.filter.predicate.CompiledPath;
 import central.studio.gateway.core.filter.predicate.Predicate;
 import central.pluglet.annotation.Control;
 import central.validation.Label;
 import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
 import lombok.Setter;
-import org.springframework.util.AntPathMatcher;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
 /**
@@ -38,7 +40,7 @@ import org.springframework.web.server.ServerWebExchange;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class PathPredicate implements Predicate {
+public class PathPredicate implements Predicate, InitializingBean {
 
     @Setter
     @Label("路径")
@@ -46,10 +48,19 @@ public class PathPredicate implements Predicate {
     @Control(label = "路径")
     private String path;
 
-    private final AntPathMatcher matcher = new AntPathMatcher();
+    /**
+     * 预编译的路径规则
+     */
+    @Getter
+    private CompiledPath compiled;
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        this.compiled = CompiledPath.compile(this.path);
+    }
 
     @Override
     public boolean predicate(ServerWebExchange exchange) {
-        return matcher.match(this.path, exchange.getRequest().getPath().value());
+        return this.compiled.matches(exchange.getRequest().getPath().value());
     }
 }
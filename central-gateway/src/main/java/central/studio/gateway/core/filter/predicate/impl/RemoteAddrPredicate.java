@@ -24,22 +24,16 @@
 
 package central.studio.gateway.core.filter.predicate.impl;
 
+import central.studio.gateway.core.filter.predicate.CidrTrie;
 import central.studio.gateway.core.filter.predicate.Predicate;
 import central.lang.Arrayx;
 import central.lang.Stringx;
 import central.pluglet.annotation.Control;
-import central.util.Listx;
 import central.validation.Label;
-import io.netty.handler.ipfilter.IpFilterRuleType;
-import io.netty.handler.ipfilter.IpSubnetFilterRule;
-import jakarta.validation.constraints.NotBlank;
+import lombok.Setter;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
-import java.net.InetAddress;
-import java.util.Collections;
-import java.util.List;
-
 /**
  * 远程主机断言
  *
@@ -48,19 +42,25 @@ import java.util.List;
  */
 public class RemoteAddrPredicate implements Predicate, InitializingBean {
 
+    @Setter
     @Label("白名单")
-    @NotBlank
     @Control(label = "白名单", required = false, comment = "RemoteAddr 在指定的 IP 范围内，匹配成功。支持网段，如 192.168.1.1/24 表示允许 192.168.*.*。多个 IP 使用 ',' 分隔")
     private String whiteIps;
 
+    @Setter
     @Label("黑名单")
-    @NotBlank
     @Control(label = "黑名单", required = false, comment = "RemoteAddr 不在指定的 IP 范围内，匹配成功。支持网段，如 192.168.1.1/24 表示允许 192.168.*.*。多个 IP 使用 ',' 分隔")
     private String blackIps;
 
-    private List<IpSubnetFilterRule> whiteRules = Collections.emptyList();
+    /**
+     * 白名单网段
+     */
+    private CidrTrie whiteRules;
 
-    private List<IpSubnetFilterRule> blackRules = Collections.emptyList();
+    /**
+     * 黑名单网段
+     */
+    private CidrTrie blackRules;
 
     @Override
     public void afterPropertiesSet() throws Exception {
@@ -83,47 +83,32 @@ public class RemoteAddrPredicate implements Predicate, InitializingBean {
     public boolean predicate(ServerWebExchange exchange) {
         // 获取调用方主机
         var address = exchange.getRequest().getRemoteAddress();
-        if (address == null) {
+        if (address == null || address.getAddress() == null) {
             // 检测不到 IP
             return true;
         }
 
         // 在白名单内
-        if (!Listx.isNotEmpty(this.whiteRules)) {
-            return this.whiteRules.stream().anyMatch(it -> it.matches(address));
+        if (this.whiteRules != null) {
+            return this.whiteRules.contains(address.getAddress());
         }
 
-        // 在黑名单内
-        if (!Listx.isNotEmpty(this.blackRules)) {
-            return this.blackRules.stream().noneMatch(it -> it.matches(address));
+        // 不在黑名单内
+        if (this.blackRules != null) {
+            return !this.blackRules.contains(address.getAddress());
         }
 
         return false;
     }
 
-    private List<IpSubnetFilterRule> parseRules(String[] ips) {
-        return Arrayx.asStream(ips).filter(Stringx::isNotBlank).map(it -> {
-            // IP
-            String address;
-            // 网段
-            int cidr;
-            if (it.contains("/")) {
-                // 解析 IP 和网段
-                String[] parts = it.split("/", 2);
-
-                address = parts[0];
-                cidr = Integer.parseInt(parts[1]);
-            } else {
-                address = it;
-                cidr = 32;
-            }
-
-            try {
-                InetAddress inetAddress = InetAddress.getByName(address);
-                return new IpSubnetFilterRule(inetAddress, cidr, IpFilterRuleType.ACCEPT);
-            } catch (Exception ex) {
-                throw new IllegalArgumentException(Stringx.format("'{}' 不是有效的 IP 格式", it));
-            }
-        }).toList();
+    /**
+     * 解析网段
+     * <p>
+     * 单个 IP 按 /32（IPv4）或 /128（IPv6）处理
+     */
+    private CidrTrie parseRules(String[] ips) {
+        var builder = CidrTrie.builder();
+        Arrayx.asStream(ips).filter(Stringx::isNotBlank).forEach(builder::add);
+        return builder.build();
     }
 }
@@ -25,6 +25,7 @@
 package central.studio.gateway.core.filter.predicate.impl;
 
 import central.bean.OptionalEnum;
+import central.studio.gateway.core.filter.predicate.DayCache;
 import central.studio.gateway.core.filter.predicate.Predicate;
 import central.pluglet.annotation.Control;
 import central.pluglet.control.ControlType;
@@ -33,9 +34,9 @@ import jakarta.validation.constraints.NotEmpty;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.beans.factory.InitializingBean;
 import org.springframework.web.server.ServerWebExchange;
 
-import java.time.OffsetDateTime;
 import java.util.List;
 
 /**
@@ -44,7 +45,7 @@ import java.util.List;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-public class WeeklyPredicate implements Predicate {
+public class WeeklyPredicate implements Predicate, InitializingBean {
 
     @Setter
     @Label("星期")
@@ -52,11 +53,24 @@ public class WeeklyPredicate implements Predicate {
     @Control(label = "星期", type = ControlType.CHECKBOX, comment = "请求时间的星期与选中的星期相同时，匹配成功")
     private List<DayOfWeak> days;
 
+    /**
+     * 当天是否匹配
+     */
+    private DayCache<Boolean> today;
+
     @Override
-    public boolean predicate(ServerWebExchange exchange) {
-        var now = OffsetDateTime.now();
+    public void afterPropertiesSet() throws Exception {
+        // 1 (Monday) ~ 7 (Sunday)
+        var matches = new boolean[8];
+        for (var day : this.days) {
+            matches[Integer.parseInt(day.getValue())] = true;
+        }
+        this.today = new DayCache<>(date -> matches[date.getDayOfWeek().getValue()]);
+    }
 
-        return this.days.contains(DayOfWeak.resolve(String.valueOf(now.getDayOfWeek())));
+    @Override
+    public boolean predicate(ServerWebExchange exchange) {
+        return this.today.get(System.currentTimeMillis());
     }
 
     @Getter
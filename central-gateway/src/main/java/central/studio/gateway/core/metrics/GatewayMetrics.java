@@ -0,0 +1,135 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.metrics;
+
+import central.studio.gateway.ApplicationProperties;
+import lombok.Data;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+/**
+ * 网关指标
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Component
+public class GatewayMetrics {
+
+    @Setter(onMethod_ = @Autowired)
+    private ApplicationProperties properties;
+
+    /**
+     * 启动时间
+     */
+    private final long startedAt = System.currentTimeMillis();
+
+    /**
+     * 所有请求的汇总
+     */
+    private final RouteMetrics total = new RouteMetrics("*", "*", "*");
+
+    /**
+     * 超过最大路由数之后的路由汇总
+     */
+    private final RouteMetrics overflow = new RouteMetrics("*", "*", "(overflow)");
+
+    private final ConcurrentMap<Key, RouteMetrics> routes = new ConcurrentHashMap<>();
+
+    private record Key(String tenant, String application, String route) {
+    }
+
+    /**
+     * 记录请求
+     *
+     * @param tenant      租户标识
+     * @param application 应用标识
+     * @param route       路由
+     * @param request     单次请求的指标
+     * @param status      响应状态码，没有状态码时为 0
+     */
+    public void record(String tenant, String application, String route, RequestMetrics request, int status) {
+        this.total.record(request, status);
+        this.getRoute(new Key(tenant, application, route)).record(request, status);
+    }
+
+    private RouteMetrics getRoute(Key key) {
+        var metrics = this.routes.get(key);
+        if (metrics != null) {
+            return metrics;
+        }
+        if (this.routes.size() >= this.properties.getMetrics().getMaxRoutes()) {
+            return this.overflow;
+        }
+        return this.routes.computeIfAbsent(key, it -> new RouteMetrics(it.tenant(), it.application(), it.route()));
+    }
+
+    /**
+     * 获取统计信息
+     */
+    public Statistics getStatistics() {
+        var statistics = new Statistics();
+        statistics.setUptime(System.currentTimeMillis() - this.startedAt);
+        statistics.setTotal(this.total.getStatistics());
+
+        var routes = this.routes.values().stream()
+                .sorted(Comparator.comparing(RouteMetrics::getTenant).thenComparing(RouteMetrics::getApplication).thenComparing(RouteMetrics::getRoute))
+                .map(RouteMetrics::getStatistics)
+                .collect(Collectors.toCollection(ArrayList::new));
+        var overflow = this.overflow.getStatistics();
+        if (overflow.getRequests() > 0) {
+            routes.add(overflow);
+        }
+        statistics.setRoutes(routes);
+        return statistics;
+    }
+
+    /**
+     * 网关统计
+     */
+    @Data
+    public static class Statistics {
+        /**
+         * 运行时长（毫秒）
+         */
+        private long uptime;
+        /**
+         * 所有请求的汇总
+         */
+        private RouteMetrics.Statistics total;
+        /**
+         * 各路由的统计
+         */
+        private List<RouteMetrics.Statistics> routes;
+    }
+}
@@ -0,0 +1,205 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.metrics;
+
+import lombok.Data;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 延迟直方图
+ * <p>
+ * 使用对数线性分桶（与 HdrHistogram 相同的思路），记录时只需要一次原子自增，不需要加锁。
+ * 小于 64 微秒的值精确记录，之后每个 2 的幂区间划分为 32 个桶，相对误差不超过 1/32
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class LatencyHistogram {
+
+    /**
+     * 每个 2 的幂区间的桶数（2^5）
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * 最大记录值（微秒），超过该值的按最大值记录
+     */
+    private static final long MAX_VALUE = TimeUnit.HOURS.toMicros(1);
+
+    private static final int BUCKET_COUNT = indexOf(MAX_VALUE) + 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+
+    private final LongAdder sum = new LongAdder();
+
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 记录延迟
+     *
+     * @param micros 延迟（微秒）
+     */
+    public void record(long micros) {
+        if (micros < 0) {
+            micros = 0;
+        }
+        this.counts.incrementAndGet(indexOf(Math.min(micros, MAX_VALUE)));
+        this.sum.add(micros);
+
+        var current = this.max.get();
+        while (micros > current && !this.max.compareAndSet(current, micros)) {
+            current = this.max.get();
+        }
+    }
+
+    /**
+     * 获取统计快照
+     * <p>
+     * 快照期间仍在记录的值可能只体现在部分统计项中
+     */
+    public Snapshot getSnapshot() {
+        var counts = new long[BUCKET_COUNT];
+        var total = this.copyCounts(counts);
+
+        var snapshot = new Snapshot();
+        snapshot.setCount(total);
+        if (total == 0) {
+            return snapshot;
+        }
+        snapshot.setMean(toMillis(this.sum.sum() / (double) total));
+        snapshot.setP50(toMillis(percentile(counts, total, 0.5)));
+        snapshot.setP90(toMillis(percentile(counts, total, 0.9)));
+        snapshot.setP99(toMillis(percentile(counts, total, 0.99)));
+        snapshot.setP999(toMillis(percentile(counts, total, 0.999)));
+        snapshot.setMax(toMillis(this.max.get()));
+        return snapshot;
+    }
+
+    /**
+     * 获取分位值
+     *
+     * @param percentile 分位数（0-1）
+     * @return 分位值（微秒），没有记录时返回 -1
+     */
+    public long getValueAtPercentile(double percentile) {
+        var counts = new long[BUCKET_COUNT];
+        var total = this.copyCounts(counts);
+        return total == 0 ? -1 : percentile(counts, total, percentile);
+    }
+
+    /**
+     * 复制各个桶的记录数
+     *
+     * @return 总记录数
+     */
+    private long copyCounts(long[] counts) {
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = this.counts.get(i);
+            total += counts[i];
+        }
+        return total;
+    }
+
+    private static long percentile(long[] counts, long total, double percentile) {
+        var target = Math.max(1, (long) Math.ceil(total * percentile));
+        long accumulated = 0;
+        for (int i = 0; i < counts.length; i++) {
+            accumulated += counts[i];
+            if (accumulated >= target) {
+                return valueOf(i);
+            }
+        }
+        return MAX_VALUE;
+    }
+
+    private static double toMillis(double micros) {
+        return Math.round(micros) / 1000.0;
+    }
+
+    /**
+     * 计算值所在的桶
+     */
+    static int indexOf(long value) {
+        if (value < 2L * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return 2 * SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_COUNT + (int) ((value >> shift) - SUB_BUCKET_COUNT);
+    }
+
+    /**
+     * 桶内的最大值
+     */
+    static long valueOf(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int offset = index - 2 * SUB_BUCKET_COUNT;
+        int shift = offset / SUB_BUCKET_COUNT + 1;
+        long sub = offset % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((sub + 1) << shift) - 1;
+    }
+
+    /**
+     * 延迟统计（毫秒）
+     */
+    @Data
+    public static class Snapshot {
+        /**
+         * 记录数
+         */
+        private long count;
+        /**
+         * 平均值
+         */
+        private double mean;
+        /**
+         * 中位数
+         */
+        private double p50;
+        /**
+         * 90 分位
+         */
+        private double p90;
+        /**
+         * 99 分位
+         */
+        private double p99;
+        /**
+         * 99.9 分位
+         */
+        private double p999;
+        /**
+         * 最大值
+         */
+        private double max;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.metrics;
+
+import central.lang.Stringx;
+import central.provider.scheduled.DataContext;
+import central.provider.scheduled.ScheduledDataContext;
+import central.studio.gateway.ApplicationProperties;
+import central.studio.gateway.core.filter.global.RequestRoutingFilter;
+import central.studio.gateway.core.filter.global.routing.HttpClientRegistry;
+import central.studio.gateway.core.filter.global.routing.HttpRoutingFilter;
+import central.studio.gateway.core.filter.global.routing.WebSocketMetrics;
+import central.studio.gateway.core.filter.global.routing.WebSocketRoutingFilter;
+import central.util.Jsonx;
+import jakarta.annotation.Nonnull;
+import lombok.Data;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebHandler;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 指标查询
+ * <p>
+ * 优先于网关请求分发处理指标查询路径，需要通过 Authorization 请求头传递指标查询密钥
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Component
+public class MetricsEndpoint implements WebHandler, HandlerMapping, Ordered {
+
+    @Setter(onMethod_ = @Autowired)
+    private ApplicationProperties properties;
+
+    @Setter(onMethod_ = @Autowired)
+    private GatewayMetrics metrics;
+
+    @Setter(onMethod_ = @Autowired)
+    private RequestRoutingFilter routing;
+
+    @Setter(onMethod_ = @Autowired)
+    private DataContext context;
+
+    @Override
+    public int getOrder() {
+        // 优先于网关请求分发
+        return Ordered.LOWEST_PRECEDENCE - 2;
+    }
+
+    @Override
+    public @Nonnull Mono<Object> getHandler(@Nonnull ServerWebExchange exchange) {
+        var config = this.properties.getMetrics();
+        if (Stringx.isNullOrBlank(config.getSecret()) || exchange.getRequest().getMethod() != HttpMethod.GET
+                || !exchange.getRequest().getPath().value().equals(config.getPath())) {
+            return Mono.empty();
+        }
+        return Mono.just(this);
+    }
+
+    @Override
+    public @Nonnull Mono<Void> handle(@Nonnull ServerWebExchange exchange) {
+        var response = exchange.getResponse();
+
+        var authorization = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authorization == null || !MessageDigest.isEqual(authorization.getBytes(StandardCharsets.UTF_8), this.properties.getMetrics().getSecret().getBytes(StandardCharsets.UTF_8))) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return response.setComplete();
+        }
+
+        var statistics = new Statistics();
+        statistics.setGateway(this.metrics.getStatistics());
+        var http = this.routing.getFilter(HttpRoutingFilter.class);
+        if (http != null && http.getRegistry() != null) {
+            statistics.setHttpClients(http.getRegistry().getStatistics());
+        }
+        var websocket = this.routing.getFilter(WebSocketRoutingFilter.class);
+        if (websocket != null) {
+            statistics.setWebsocket(websocket.getMetrics().getStatistics());
+        }
+        if (this.context instanceof ScheduledDataContext scheduled) {
+            statistics.setFetchers(scheduled.getStatistics());
+        }
+
+        var content = Jsonx.Default().serialize(statistics).getBytes(StandardCharsets.UTF_8);
+        response.setStatusCode(HttpStatus.OK);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setCacheControl("no-store");
+        response.getHeaders().setContentLength(content.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(content)));
+    }
+
+    /**
+     * 指标
+     */
+    @Data
+    public static class Statistics {
+        /**
+         * 请求指标
+         */
+        private GatewayMetrics.Statistics gateway;
+        /**
+         * 转发连接池指标
+         */
+        private List<HttpClientRegistry.PoolStatistics> httpClients;
+        /**
+         * WebSocket 转发指标
+         */
+        private WebSocketMetrics.Statistics websocket;
+        /**
+         * 热数据获取指标
+         */
+        private List<ScheduledDataContext.FetcherStatistics> fetchers;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单次请求的指标
+ * <p>
+ * 由指标过滤器创建并放到 {@link central.studio.gateway.core.attribute.ExchangeAttributes#METRICS} 中，
+ * 转发和写响应时记录上游耗时与收发字节数，请求结束时汇总到 {@link RouteMetrics}
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class RequestMetrics {
+
+    /**
+     * 请求开始时间（纳秒）
+     */
+    private final long begin = System.nanoTime();
+
+    /**
+     * 上游耗时（纳秒），从发起转发到收到上游响应头
+     */
+    private volatile long upstream = -1;
+
+    /**
+     * 请求体字节数
+     */
+    private final AtomicLong receivedBytes = new AtomicLong();
+
+    /**
+     * 响应体字节数
+     */
+    private final AtomicLong sentBytes = new AtomicLong();
+
+    /**
+     * 记录上游耗时
+     *
+     * @param nanos 耗时（纳秒）
+     */
+    public void upstream(long nanos) {
+        this.upstream = nanos;
+    }
+
+    /**
+     * 记录收到的请求体字节数
+     */
+    public void received(long bytes) {
+        this.receivedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * 记录发出的响应体字节数
+     */
+    public void sent(long bytes) {
+        this.sentBytes.addAndGet(bytes);
+    }
+
+    /**
+     * 总耗时（纳秒）
+     */
+    public long getElapsed() {
+        return System.nanoTime() - this.begin;
+    }
+
+    /**
+     * 上游耗时（纳秒），没有转发到上游时返回 -1
+     */
+    public long getUpstream() {
+        return this.upstream;
+    }
+
+    public long getReceivedBytes() {
+        return this.receivedBytes.get();
+    }
+
+    public long getSentBytes() {
+        return this.sentBytes.get();
+    }
+}
@@ -0,0 +1,225 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.metrics;
+
+import lombok.Data;
+import lombok.Getter;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 路由指标
+ * <p>
+ * 按租户、应用、路由汇总请求数、状态码、收发字节数和延迟分布
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class RouteMetrics {
+
+    /**
+     * 租户标识
+     */
+    @Getter
+    private final String tenant;
+
+    /**
+     * 应用标识
+     */
+    @Getter
+    private final String application;
+
+    /**
+     * 路由（上下文路径）
+     */
+    @Getter
+    private final String route;
+
+    /**
+     * 请求数
+     */
+    private final LongAdder requests = new LongAdder();
+
+    /**
+     * 按状态码分类的请求数，下标 0 为没有状态码的请求（如客户端取消）
+     */
+    private final LongAdder[] statuses = new LongAdder[6];
+
+    private final LongAdder receivedBytes = new LongAdder();
+
+    private final LongAdder sentBytes = new LongAdder();
+
+    /**
+     * 总延迟
+     */
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    /**
+     * 上游延迟
+     */
+    private final LatencyHistogram upstreamLatency = new LatencyHistogram();
+
+    /**
+     * 网关延迟（总延迟减去上游延迟）
+     */
+    private final LatencyHistogram gatewayLatency = new LatencyHistogram();
+
+    /**
+     * 当前秒
+     */
+    private final AtomicLong second = new AtomicLong(currentSecond());
+    /**
+     * 当前秒的请求数
+     */
+    private final LongAdder current = new LongAdder();
+    /**
+     * 上一秒的请求数
+     */
+    private volatile long previous;
+
+    public RouteMetrics(String tenant, String application, String route) {
+        this.tenant = tenant;
+        this.application = application;
+        this.route = route;
+        for (int i = 0; i < this.statuses.length; i++) {
+            this.statuses[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * 记录请求
+     *
+     * @param request 单次请求的指标
+     * @param status  响应状态码，没有状态码时为 0
+     */
+    public void record(RequestMetrics request, int status) {
+        this.roll(currentSecond());
+        this.current.increment();
+        this.requests.increment();
+
+        var statusClass = status / 100;
+        this.statuses[statusClass > 0 && statusClass < this.statuses.length ? statusClass : 0].increment();
+        this.receivedBytes.add(request.getReceivedBytes());
+        this.sentBytes.add(request.getSentBytes());
+
+        var elapsed = TimeUnit.NANOSECONDS.toMicros(request.getElapsed());
+        this.latency.record(elapsed);
+        if (request.getUpstream() >= 0) {
+            var upstream = TimeUnit.NANOSECONDS.toMicros(request.getUpstream());
+            this.upstreamLatency.record(upstream);
+            this.gatewayLatency.record(elapsed - upstream);
+        } else {
+            this.gatewayLatency.record(elapsed);
+        }
+    }
+
+    /**
+     * 获取统计信息
+     */
+    public Statistics getStatistics() {
+        var now = currentSecond();
+        this.roll(now);
+
+        var statistics = new Statistics();
+        statistics.setTenant(this.tenant);
+        statistics.setApplication(this.application);
+        statistics.setRoute(this.route);
+        statistics.setRequests(this.requests.sum());
+        statistics.setThroughput(this.second.get() == now ? this.previous : 0);
+        statistics.setStatusUnknown(this.statuses[0].sum());
+        statistics.setStatus1xx(this.statuses[1].sum());
+        statistics.setStatus2xx(this.statuses[2].sum());
+        statistics.setStatus3xx(this.statuses[3].sum());
+        statistics.setStatus4xx(this.statuses[4].sum());
+        statistics.setStatus5xx(this.statuses[5].sum());
+        statistics.setReceivedBytes(this.receivedBytes.sum());
+        statistics.setSentBytes(this.sentBytes.sum());
+        statistics.setLatency(this.latency.getSnapshot());
+        statistics.setUpstreamLatency(this.upstreamLatency.getSnapshot());
+        statistics.setGatewayLatency(this.gatewayLatency.getSnapshot());
+        return statistics;
+    }
+
+    private void roll(long now) {
+        var second = this.second.get();
+        if (second != now && this.second.compareAndSet(second, now)) {
+            var count = this.current.sumThenReset();
+            this.previous = now - second == 1 ? count : 0;
+        }
+    }
+
+    private static long currentSecond() {
+        return TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+    }
+
+    /**
+     * 路由统计
+     */
+    @Data
+    public static class Statistics {
+        private String tenant;
+        private String application;
+        private String route;
+        /**
+         * 累计请求数
+         */
+        private long requests;
+        /**
+         * 吞吐量（请求/秒），取最近一秒
+         */
+        private long throughput;
+        /**
+         * 没有状态码的请求数（如客户端取消）
+         */
+        private long statusUnknown;
+        private long status1xx;
+        private long status2xx;
+        private long status3xx;
+        private long status4xx;
+        private long status5xx;
+        /**
+         * 请求体字节数
+         */
+        private long receivedBytes;
+        /**
+         * 响应体字节数
+         */
+        private long sentBytes;
+        /**
+         * 总延迟
+         */
+        private LatencyHistogram.Snapshot latency;
+        /**
+         * 上游延迟（从发起转发到收到上游响应头）
+         */
+        private LatencyHistogram.Snapshot upstreamLatency;
+        /**
+         * 网关延迟（总延迟减去上游延迟）
+         */
+        private LatencyHistogram.Snapshot gatewayLatency;
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.ratelimit;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 可降级的共享限流器
+ * <p>
+ * 优先使用共享限流器。访问 Redis 失败或超时后，在冷却时间内直接使用本地限流器，避免每个请求都等待超时
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+public class FallbackRateLimiter implements SharedRateLimiter {
+
+    /**
+     * 共享限流器
+     */
+    private final SharedRateLimiter remote;
+
+    /**
+     * 本地限流器
+     */
+    private final RateLimiter local;
+
+    /**
+     * 访问 Redis 的超时时间，超时后使用本地计数
+     */
+    private final Duration timeout;
+
+    /**
+     * 访问 Redis 失败后，在该时间内直接使用本地计数
+     */
+    private final Duration cooldown;
+
+    /**
+     * 时钟（毫秒）
+     */
+    private final LongSupplier clock;
+
+    /**
+     * 共享计数暂停截止时间
+     */
+    private volatile long suspendedUntil;
+
+    /**
+     * 共享计数是否已降级为本地计数，只在状态变化时输出日志
+     */
+    private final AtomicBoolean suspended = new AtomicBoolean();
+
+    /**
+     * 可降级的共享限流器
+     *
+     * @param remote   共享限流器
+     * @param local    本地限流器
+     * @param timeout  访问 Redis 的超时时间
+     * @param cooldown 访问 Redis 失败后使用本地计数的时间
+     */
+    public FallbackRateLimiter(SharedRateLimiter remote, RateLimiter local, Duration timeout, Duration cooldown) {
+        this(remote, local, timeout, cooldown, System::currentTimeMillis);
+    }
+
+    FallbackRateLimiter(SharedRateLimiter remote, RateLimiter local, Duration timeout, Duration cooldown, LongSupplier clock) {
+        this.remote = remote;
+        this.local = local;
+        this.timeout = timeout;
+        this.cooldown = cooldown;
+        this.clock = clock;
+    }
+
+    /**
+     * 共享计数是否已降级为本地计数
+     */
+    public boolean isSuspended() {
+        return this.suspended.get();
+    }
+
+    @Override
+    public Mono<Long> tryAcquire(String key) {
+        if (this.clock.getAsLong() < this.suspendedUntil) {
+            return Mono.just(this.local.tryAcquire(key));
+        }
+
+        return this.remote.tryAcquire(key)
+                .timeout(this.timeout)
+                .doOnNext(wait -> {
+                    if (this.suspended.compareAndSet(true, false)) {
+                        log.info("[FallbackRateLimiter] 共享计数已恢复");
+                    }
+                })
+                .onErrorResume(ex -> {
+                    // Redis 不可用时，暂停共享计数，降级为本地计数
+                    this.suspendedUntil = this.clock.getAsLong() + this.cooldown.toMillis();
+                    if (this.suspended.compareAndSet(false, true)) {
+                        log.warn("[FallbackRateLimiter] 共享计数失败，{} 秒内使用本地计数: {}", this.cooldown.toSeconds(), ex.getLocalizedMessage());
+                    }
+                    return Mono.fromSupplier(() -> this.local.tryAcquire(key));
+                });
+    }
+}
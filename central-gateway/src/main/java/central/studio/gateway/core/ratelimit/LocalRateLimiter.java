@@ -0,0 +1,141 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.ratelimit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 本地限流器
+ * <p>
+ * 每个限流键的状态保存在 {@link ConcurrentHashMap} 中，通过 CAS 更新，不需要加锁。
+ * 空闲的限流键会被定期清理，并且限流键的数量不超过 {@link #MAX_KEYS}，避免客户端 IP 等高基数的限流键占用过多内存
+ *
+ * @param <S> 限流状态
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public abstract class LocalRateLimiter<S> implements RateLimiter {
+
+    /**
+     * 清理空闲限流键的时间间隔
+     */
+    private static final long SWEEP_INTERVAL = TimeUnit.SECONDS.toNanos(30);
+
+    /**
+     * 限流键的最大数量
+     * <p>
+     * 超过后，新的限流键共享同一个限流状态，直到空闲的限流键被清理
+     */
+    private static final int MAX_KEYS = 100000;
+
+    /**
+     * 超过最大数量后新的限流键共享的限流键（限流键总是以租户标识开头，不会冲突）
+     */
+    private static final String OVERFLOW = ":overflow";
+
+    /**
+     * 限流键 -> 限流状态
+     */
+    protected final Map<String, S> states = new ConcurrentHashMap<>();
+
+    /**
+     * 时钟（纳秒）
+     */
+    private final LongSupplier clock;
+
+    /**
+     * 下次清理的时间
+     */
+    private final AtomicLong nextSweep;
+
+    protected LocalRateLimiter() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * 本地限流器
+     *
+     * @param clock 时钟（纳秒），测试时可以替换
+     */
+    protected LocalRateLimiter(LongSupplier clock) {
+        this.clock = clock;
+        this.nextSweep = new AtomicLong(clock.getAsLong() + SWEEP_INTERVAL);
+    }
+
+    @Override
+    public long tryAcquire(String key) {
+        var now = this.clock.getAsLong();
+        this.sweep(now);
+
+        var state = this.states.get(key);
+        if (state == null) {
+            if (this.states.size() >= MAX_KEYS) {
+                key = OVERFLOW;
+            }
+            state = this.states.computeIfAbsent(key, it -> this.create(now));
+        }
+
+        var wait = this.tryAcquire(state, now);
+        return wait <= 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toMillis(wait));
+    }
+
+    /**
+     * 创建限流状态
+     *
+     * @param now 当前时间（纳秒）
+     */
+    protected abstract S create(long now);
+
+    /**
+     * 尝试获取一个请求许可
+     *
+     * @param state 限流状态
+     * @param now   当前时间（纳秒）
+     * @return 小于等于 0 表示获取成功；否则表示需要等待的纳秒数
+     */
+    protected abstract long tryAcquire(S state, long now);
+
+    /**
+     * 限流状态是否已经空闲
+     * <p>
+     * 空闲的限流状态与新建的限流状态等价，删除后不影响限流结果
+     *
+     * @param state 限流状态
+     * @param now   当前时间（纳秒）
+     */
+    protected abstract boolean isIdle(S state, long now);
+
+    private void sweep(long now) {
+        var next = this.nextSweep.get();
+        if (now - next >= 0 && this.nextSweep.compareAndSet(next, now + SWEEP_INTERVAL)) {
+            // 只有一个线程会执行清理
+            this.states.values().removeIf(state -> this.isIdle(state, now));
+        }
+    }
+}
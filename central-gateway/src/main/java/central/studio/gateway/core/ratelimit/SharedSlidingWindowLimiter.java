@@ -0,0 +1,121 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.ratelimit;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 共享滑动窗口限流器
+ * <p>
+ * 与 {@link SlidingWindowLimiter} 使用相同的算法，窗口序号与上一个窗口、当前窗口的请求数保存在同一个 Redis Hash 中，
+ * 多个网关实例共享同一个滑动窗口。
+ * <p>
+ * 读取与更新计数在同一个 Lua 脚本中原子执行，并且使用 Redis 服务器的时间，所有网关实例使用相同的窗口边界
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class SharedSlidingWindowLimiter implements SharedRateLimiter {
+
+    /**
+     * KEYS[1]: 限流键
+     * ARGV[1]: 周期（微秒）
+     * ARGV[2]: 周期内允许的请求数
+     * 返回需要等待的微秒数，0 表示获取成功
+     */
+    private static final RedisScript<Long> SCRIPT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local period = tonumber(ARGV[1])
+            local limit = tonumber(ARGV[2])
+            local index = math.floor(now / period)
+            local state = redis.call('HMGET', KEYS[1], 'window', 'previous', 'current')
+            local window = tonumber(state[1]) or index
+            local previous = tonumber(state[2]) or 0
+            local current = tonumber(state[3]) or 0
+            if index == window + 1 then
+                previous = current
+                current = 0
+            elseif index > window + 1 then
+                previous = 0
+                current = 0
+            end
+            local elapsed = now - index * period
+            local remaining = period - elapsed
+            if previous * remaining / period + current + 1 <= limit then
+                redis.call('HSET', KEYS[1], 'window', string.format('%d', index), 'previous', previous, 'current', current + 1)
+                redis.call('PEXPIRE', KEYS[1], math.ceil((period * 2 - elapsed) / 1000))
+                return 0
+            end
+            if current + 1 <= limit then
+                return math.max(1, remaining - math.floor((limit - 1 - current) * period / previous))
+            end
+            return remaining + math.max(0, math.ceil((1 - (limit - 1) / current) * period))
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redis;
+
+    /**
+     * 缓存键前缀
+     */
+    private final String prefix;
+
+    /**
+     * 周期内允许的请求数
+     */
+    private final int limit;
+
+    /**
+     * 周期（微秒）
+     */
+    private final long period;
+
+    /**
+     * 共享滑动窗口限流器
+     *
+     * @param redis  Redis
+     * @param prefix 缓存键前缀
+     * @param limit  周期内允许的请求数
+     * @param period 周期
+     */
+    public SharedSlidingWindowLimiter(ReactiveStringRedisTemplate redis, String prefix, int limit, Duration period) {
+        this.redis = redis;
+        this.prefix = prefix;
+        this.limit = limit;
+        this.period = Math.max(1, period.toNanos() / 1000);
+    }
+
+    @Override
+    public Mono<Long> tryAcquire(String key) {
+        return this.redis.execute(SCRIPT, List.of(this.prefix + key), List.of(Long.toString(this.period), Integer.toString(this.limit)))
+                .next()
+                .map(wait -> wait <= 0 ? 0 : Math.max(1, (wait + 999) / 1000));
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.ratelimit;
+
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 共享令牌桶限流器
+ * <p>
+ * 与 {@link TokenBucketLimiter} 使用相同的算法，理论到达时间（TAT）保存在 Redis 中，多个网关实例共享同一个令牌桶。
+ * <p>
+ * 读取与更新 TAT 在同一个 Lua 脚本中原子执行，并且使用 Redis 服务器的时间，不受网关实例之间的时钟偏差影响
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class SharedTokenBucketLimiter implements SharedRateLimiter {
+
+    /**
+     * KEYS[1]: 限流键
+     * ARGV[1]: 生成一个令牌的时间间隔（微秒）
+     * ARGV[2]: 桶容量对应的时间（微秒）
+     * 返回需要等待的微秒数，0 表示获取成功
+     */
+    private static final RedisScript<Long> SCRIPT = RedisScript.of("""
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local interval = tonumber(ARGV[1])
+            local tolerance = tonumber(ARGV[2])
+            local tat = tonumber(redis.call('GET', KEYS[1])) or now
+            if tat < now then
+                tat = now
+            end
+            local next = tat + interval
+            local wait = next - now - tolerance
+            if wait > 0 then
+                return wait
+            end
+            redis.call('SET', KEYS[1], string.format('%d', next), 'PX', math.ceil((next - now) / 1000))
+            return 0
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redis;
+
+    /**
+     * 缓存键前缀
+     */
+    private final String prefix;
+
+    /**
+     * 生成一个令牌的时间间隔（微秒）
+     */
+    private final long interval;
+
+    /**
+     * 桶容量对应的时间（微秒）
+     */
+    private final long tolerance;
+
+    /**
+     * 共享令牌桶限流器
+     *
+     * @param redis  Redis
+     * @param prefix 缓存键前缀
+     * @param limit  每个周期生成的令牌数
+     * @param period 周期
+     * @param burst  桶容量（允许的突发请求数）
+     */
+    public SharedTokenBucketLimiter(ReactiveStringRedisTemplate redis, String prefix, int limit, Duration period, int burst) {
+        this.redis = redis;
+        this.prefix = prefix;
+        // 使用微秒计算，每秒最多可以生成 1000000 个令牌
+        this.interval = Math.max(1, period.toNanos() / 1000 / limit);
+        this.tolerance = this.interval * burst;
+    }
+
+    @Override
+    public Mono<Long> tryAcquire(String key) {
+        return this.redis.execute(SCRIPT, List.of(this.prefix + key), List.of(Long.toString(this.interval), Long.toString(this.tolerance)))
+                .next()
+                .map(wait -> wait <= 0 ? 0 : Math.max(1, (wait + 999) / 1000));
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongSupplier;
+
+/**
+ * 滑动窗口限流器
+ * <p>
+ * 使用滑动窗口计数器实现。只保存上一个窗口与当前窗口的请求数，按当前窗口已经过去的时间，
+ * 对上一个窗口的请求数加权估算最近一个周期内的请求数
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class SlidingWindowLimiter extends LocalRateLimiter<AtomicReference<SlidingWindowLimiter.Window>> {
+
+    /**
+     * 周期内允许的请求数
+     */
+    private final int limit;
+
+    /**
+     * 周期（纳秒）
+     */
+    private final long period;
+
+    /**
+     * 滑动窗口限流器
+     *
+     * @param limit  周期内允许的请求数
+     * @param period 周期
+     */
+    public SlidingWindowLimiter(int limit, Duration period) {
+        this(limit, period, System::nanoTime);
+    }
+
+    SlidingWindowLimiter(int limit, Duration period, LongSupplier clock) {
+        super(clock);
+        this.limit = limit;
+        this.period = period.toNanos();
+    }
+
+    @Override
+    protected AtomicReference<Window> create(long now) {
+        return new AtomicReference<>(new Window(now, 0, 0));
+    }
+
+    @Override
+    protected long tryAcquire(AtomicReference<Window> state, long now) {
+        while (true) {
+            var window = state.get();
+            var current = window.slide(now, this.period);
+
+            var wait = estimate(current.previous(), current.current(), now - current.start(), this.period, this.limit);
+            if (wait > 0) {
+                return wait;
+            }
+            if (state.compareAndSet(window, new Window(current.start(), current.previous(), current.current() + 1))) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    protected boolean isIdle(AtomicReference<Window> state, long now) {
+        // 上一个窗口和当前窗口都已经过去
+        return now - state.get().start() >= this.period * 2;
+    }
+
+    /**
+     * 估算再放行一个请求需要等待的时间
+     *
+     * @param previous 上一个窗口的请求数
+     * @param current  当前窗口的请求数
+     * @param elapsed  当前窗口已经过去的时间
+     * @param period   周期
+     * @param limit    周期内允许的请求数
+     * @return 小于等于 0 表示可以放行；否则表示需要等待的时间
+     */
+    static long estimate(long previous, long current, long elapsed, long period, int limit) {
+        var remaining = period - elapsed;
+        if (previous * (double) remaining / period + current + 1 <= limit) {
+            return 0;
+        }
+
+        if (current + 1 <= limit) {
+            // 等待上一个窗口的权重下降
+            return Math.max(1, remaining - (long) Math.floor((limit - 1 - current) * (double) period / previous));
+        } else {
+            // 等到下一个窗口，当前窗口成为上一个窗口
+            return remaining + Math.max(0, (long) Math.ceil((1 - (limit - 1) / (double) current) * period));
+        }
+    }
+
+    /**
+     * 窗口
+     *
+     * @param start    当前窗口的开始时间
+     * @param previous 上一个窗口的请求数
+     * @param current  当前窗口的请求数
+     */
+    record Window(long start, int previous, int current) {
+
+        /**
+         * 将窗口滑动到当前时间
+         */
+        Window slide(long now, long period) {
+            var elapsed = now - this.start;
+            if (elapsed < period) {
+                return this;
+            } else if (elapsed < period * 2) {
+                return new Window(this.start + period, this.current, 0);
+            } else {
+                return new Window(this.start + elapsed / period * period, 0, 0);
+            }
+        }
+    }
+}
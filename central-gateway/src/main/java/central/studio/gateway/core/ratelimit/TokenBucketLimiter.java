@@ -0,0 +1,94 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 令牌桶限流器
+ * <p>
+ * 使用 GCRA（Generic Cell Rate Algorithm）实现。每个限流键只需要保存一个理论到达时间（TAT），
+ * 每个请求将 TAT 向后推移一个令牌的生成间隔，TAT 超出当前时间的部分不超过桶容量时允许通过
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TokenBucketLimiter extends LocalRateLimiter<AtomicLong> {
+
+    /**
+     * 生成一个令牌的时间间隔（纳秒）
+     */
+    private final long interval;
+
+    /**
+     * 桶容量对应的时间（纳秒）
+     */
+    private final long tolerance;
+
+    /**
+     * 令牌桶限流器
+     *
+     * @param limit  每个周期生成的令牌数
+     * @param period 周期
+     * @param burst  桶容量（允许的突发请求数）
+     */
+    public TokenBucketLimiter(int limit, Duration period, int burst) {
+        this(limit, period, burst, System::nanoTime);
+    }
+
+    TokenBucketLimiter(int limit, Duration period, int burst, LongSupplier clock) {
+        super(clock);
+        this.interval = Math.max(1, period.toNanos() / limit);
+        this.tolerance = this.interval * burst;
+    }
+
+    @Override
+    protected AtomicLong create(long now) {
+        return new AtomicLong(now);
+    }
+
+    @Override
+    protected long tryAcquire(AtomicLong state, long now) {
+        while (true) {
+            var tat = state.get();
+            var next = (tat - now > 0 ? tat : now) + this.interval;
+            var wait = next - now - this.tolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (state.compareAndSet(tat, next)) {
+                return 0;
+            }
+        }
+    }
+
+    @Override
+    protected boolean isIdle(AtomicLong state, long now) {
+        // 令牌桶已经装满
+        return state.get() - now <= 0;
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.routing;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Prefix Trie
+ * <p>
+ * 上下文路径前缀树
+ * <p>
+ * 用于根据请求路径查找匹配度最高（最长）的上下文路径。上下文路径只在路径边界上匹配，
+ * 如上下文路径 /dashboard 匹配 /dashboard、/dashboard/、/dashboard/index.html，但不匹配 /dashboards。
+ * 构建完毕后不可修改，可以被多个线程同时读取，查找过程不会分配对象
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public final class PrefixTrie<T> {
+
+    private static final PrefixTrie<?> EMPTY = new PrefixTrie<>(new Node<>(new char[0], newNodes(0), null));
+
+    private final Node<T> root;
+
+    private PrefixTrie(Node<T> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PrefixTrie<T> empty() {
+        return (PrefixTrie<T>) EMPTY;
+    }
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * 查找匹配度最高的数据
+     *
+     * @param path 请求路径
+     * @return 匹配的数据，如果没有匹配的上下文路径，则返回空
+     */
+    public @Nullable T match(@Nonnull String path) {
+        var node = this.root;
+        // 根路径（/）匹配所有请求
+        T matched = node.value;
+
+        for (int i = 0, length = path.length(); i < length; i++) {
+            node = node.child(path.charAt(i));
+            if (node == null) {
+                break;
+            }
+            if (node.value != null && (i + 1 == length || path.charAt(i + 1) == '/')) {
+                matched = node.value;
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * 将上下文路径标准化，移除末尾的 /
+     */
+    private static String normalize(String contextPath) {
+        var end = contextPath.length();
+        while (end > 0 && contextPath.charAt(end - 1) == '/') {
+            end--;
+        }
+        return contextPath.substring(0, end);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Node<T>[] newNodes(int size) {
+        return (Node<T>[]) new Node[size];
+    }
+
+    private static final class Node<T> {
+        /**
+         * 子节点字符，已排序
+         */
+        private final char[] keys;
+        private final Node<T>[] children;
+        private final T value;
+
+        private Node(char[] keys, Node<T>[] children, T value) {
+            this.keys = keys;
+            this.children = children;
+            this.value = value;
+        }
+
+        private Node<T> child(char key) {
+            var index = Arrays.binarySearch(this.keys, key);
+            return index < 0 ? null : this.children[index];
+        }
+    }
+
+    /**
+     * 前缀树构建器
+     */
+    public static final class Builder<T> {
+        private final MutableNode<T> root = new MutableNode<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 添加上下文路径
+         * <p>
+         * 如果上下文路径已存在，则保留先添加的数据
+         *
+         * @param contextPath 上下文路径
+         * @param value       数据
+         */
+        public Builder<T> put(@Nonnull String contextPath, @Nonnull T value) {
+            var node = this.root;
+            for (var ch : normalize(contextPath).toCharArray()) {
+                node = node.children.computeIfAbsent(ch, key -> new MutableNode<>());
+            }
+            if (node.value == null) {
+                node.value = value;
+            }
+            return this;
+        }
+
+        public PrefixTrie<T> build() {
+            return new PrefixTrie<>(this.root.freeze());
+        }
+    }
+
+    private static final class MutableNode<T> {
+        private final Map<Character, MutableNode<T>> children = new TreeMap<>();
+        private T value;
+
+        private Node<T> freeze() {
+            var keys = new char[this.children.size()];
+            Node<T>[] nodes = newNodes(this.children.size());
+            int index = 0;
+            for (var entry : this.children.entrySet()) {
+                keys[index] = entry.getKey();
+                nodes[index] = entry.getValue().freeze();
+                index++;
+            }
+            return new Node<>(keys, nodes, this.value);
+        }
+    }
+}
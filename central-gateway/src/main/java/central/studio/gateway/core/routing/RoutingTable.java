@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.routing;
+
+import central.data.saas.Tenant;
+import central.provider.scheduled.event.DataRefreshEvent;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.provider.scheduled.fetcher.saas.SaasContainer;
+import jakarta.annotation.Nonnull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Routing Table
+ * <p>
+ * 网关路由表
+ * <p>
+ * 在租户数据刷新时重新构建所有租户的路由索引，并整体替换，读取时不需要加锁
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+@Component
+public class RoutingTable implements GenericApplicationListener {
+
+    /**
+     * 临时路由索引的最大数量
+     */
+    private static final int MAX_PENDING = 1024;
+
+    /**
+     * 租户路由索引
+     * <p>
+     * tenant -> routes
+     */
+    private volatile Map<String, TenantRoutes> tenants = Map.of();
+
+    /**
+     * 路由表刷新之前临时构建的路由索引
+     * <p>
+     * tenant -> routes
+     * <p>
+     * 避免每次请求都重新构建索引，路由表刷新后清空
+     */
+    private final Map<String, TenantRoutes> pending = new ConcurrentHashMap<>();
+
+    /**
+     * 获取租户路由索引
+     *
+     * @param tenant 租户
+     */
+    public @Nonnull TenantRoutes getRoutes(@Nonnull Tenant tenant) {
+        var routes = this.tenants.get(tenant.getCode());
+        if (routes != null && routes.getTenant() == tenant) {
+            return routes;
+        }
+
+        // 路由表还没有随租户数据刷新，根据当前租户数据构建索引并缓存
+        routes = this.pending.get(tenant.getCode());
+        if (routes == null || routes.getTenant() != tenant) {
+            if (this.pending.size() >= MAX_PENDING) {
+                this.pending.clear();
+            }
+            routes = TenantRoutes.of(tenant);
+            this.pending.put(tenant.getCode(), routes);
+        }
+        return routes;
+    }
+
+    @Override
+    public boolean supportsEventType(ResolvableType eventType) {
+        return Objects.equals(eventType.getType(), DataRefreshEvent.class);
+    }
+
+    @Override
+    public void onApplicationEvent(@Nonnull ApplicationEvent event) {
+        if (event instanceof DataRefreshEvent<?> refreshEvent) {
+            if (!Objects.equals(refreshEvent.getValue(), DataFetcherType.SAAS.getValue())) {
+                return;
+            }
+
+            var container = (SaasContainer) refreshEvent.getContainer();
+
+            var tenants = new HashMap<String, TenantRoutes>(container.getTenants().size());
+            for (var tenant : container.getTenants()) {
+                try {
+                    tenants.put(tenant.getCode(), TenantRoutes.of(tenant));
+                } catch (Exception ex) {
+                    log.error("构建租户[{}]路由索引失败: " + ex.getLocalizedMessage(), tenant.getCode(), ex);
+                }
+            }
+            this.tenants = Map.copyOf(tenants);
+            this.pending.clear();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.routing;
+
+import central.data.saas.ApplicationRoute;
+import central.data.saas.Tenant;
+import central.data.saas.TenantApplication;
+import central.util.Listx;
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.Getter;
+
+import java.util.Objects;
+
+/**
+ * Tenant Routes
+ * <p>
+ * 租户路由索引
+ * <p>
+ * 预先将租户下已启用的应用及其子路由的上下文路径编译成前缀树，请求时只需要按请求路径遍历一次即可找到匹配度最高的应用
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TenantRoutes {
+    /**
+     * 构建索引时使用的租户数据
+     */
+    @Getter
+    private final Tenant tenant;
+
+    /**
+     * 应用索引
+     */
+    private final PrefixTrie<ApplicationEntry> applications;
+
+    /**
+     * 默认应用
+     * <p>
+     * 访问租户根路径时重定向到该应用
+     */
+    @Getter
+    private final @Nullable TenantApplication primary;
+
+    private TenantRoutes(Tenant tenant) {
+        this.tenant = tenant;
+
+        var builder = PrefixTrie.<ApplicationEntry>builder();
+        TenantApplication primary = null;
+        for (var it : Listx.asStream(tenant.getApplications()).toList()) {
+            if (!Objects.equals(Boolean.TRUE, it.getEnabled())) {
+                continue;
+            }
+            if (primary == null && Objects.equals(Boolean.TRUE, it.getPrimary())) {
+                primary = it;
+            }
+            if (it.getApplication() == null || !Objects.equals(Boolean.TRUE, it.getApplication().getEnabled())) {
+                continue;
+            }
+            builder.put(it.getApplication().getContextPath(), new ApplicationEntry(it));
+        }
+        this.applications = builder.build();
+        this.primary = primary;
+    }
+
+    /**
+     * 构建租户路由索引
+     *
+     * @param tenant 租户
+     */
+    public static TenantRoutes of(@Nonnull Tenant tenant) {
+        return new TenantRoutes(tenant);
+    }
+
+    /**
+     * 根据请求路径查找匹配度最高的应用
+     *
+     * @param path 请求路径
+     */
+    public @Nullable ApplicationEntry match(@Nonnull String path) {
+        return this.applications.match(path);
+    }
+
+    /**
+     * 应用及其子路由索引
+     */
+    public static class ApplicationEntry {
+        @Getter
+        private final TenantApplication application;
+
+        private final PrefixTrie<ApplicationRoute> routes;
+
+        private ApplicationEntry(TenantApplication application) {
+            this.application = application;
+
+            var routes = application.getApplication().getRoutes();
+            if (Listx.isNullOrEmpty(routes)) {
+                this.routes = PrefixTrie.empty();
+            } else {
+                var builder = PrefixTrie.<ApplicationRoute>builder();
+                for (var route : routes) {
+                    if (Objects.equals(Boolean.FALSE, route.getEnabled())) {
+                        continue;
+                    }
+                    builder.put(route.getContextPath(), route);
+                }
+                this.routes = builder.build();
+            }
+        }
+
+        /**
+         * 根据请求路径查找匹配度最高的子路由
+         *
+         * @param path 请求路径
+         * @return 子路由，如果没有匹配的子路由，则返回空
+         */
+        public @Nullable ApplicationRoute match(@Nonnull String path) {
+            return this.routes.match(path);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.token;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Forwarding Token
+ * <p>
+ * 转发令牌
+ * <p>
+ * 在请求处理过程中收集需要传递给目标应用的声明，由 {@link TokenSigner} 在转发时统一签名
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class ForwardingToken {
+
+    /**
+     * 声明
+     * <p>
+     * 使用有序 Map，相同声明的令牌可以生成相同的缓存键
+     */
+    private final Map<String, String> claims = new TreeMap<>();
+
+    /**
+     * 添加声明
+     *
+     * @param name  声明名称
+     * @param value 声明值
+     */
+    public ForwardingToken withClaim(String name, String value) {
+        this.claims.put(name, value);
+        return this;
+    }
+
+    /**
+     * 获取声明
+     */
+    public Map<String, String> getClaims() {
+        return Collections.unmodifiableMap(this.claims);
+    }
+}
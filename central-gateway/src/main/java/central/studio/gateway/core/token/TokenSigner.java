@@ -0,0 +1,165 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package central.studio.gateway.core.token;
+
+import central.data.saas.Application;
+import central.provider.scheduled.event.DataRefreshEvent;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.studio.gateway.ApplicationProperties;
+import central.util.Guidx;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import jakarta.annotation.Nonnull;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.event.GenericApplicationListener;
+import org.springframework.core.ResolvableType;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Token Signer
+ * <p>
+ * 转发令牌签名器
+ * <p>
+ * 按应用缓存签名算法，避免每次转发都重新推导 HMAC 密钥；可选缓存已签名的令牌，
+ * 相同租户、应用和声明的请求在缓存期内直接复用。租户数据刷新时清空所有缓存。
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Component
+public class TokenSigner implements GenericApplicationListener {
+
+    /**
+     * 令牌有效期
+     */
+    private static final Duration EXPIRES = Duration.ofMinutes(3);
+
+    /**
+     * 已签名令牌缓存数量上限
+     */
+    private static final int MAX_TOKENS = 10000;
+
+    @Setter(onMethod_ = @Autowired)
+    private ApplicationProperties properties;
+
+    /**
+     * 签名算法
+     * <p>
+     * application id -> algorithm
+     */
+    private final Map<String, Signer> signers = new ConcurrentHashMap<>();
+
+    /**
+     * 已签名令牌
+     * <p>
+     * application id + claims -> token
+     */
+    private final Map<String, Signed> tokens = new ConcurrentHashMap<>();
+
+    /**
+     * 为目标应用签名转发令牌
+     *
+     * @param token       转发令牌
+     * @param application 目标应用
+     */
+    public String sign(@Nonnull ForwardingToken token, @Nonnull Application application) {
+        var algorithm = this.getAlgorithm(application);
+
+        var config = this.properties.getToken();
+        if (!config.isCacheEnabled()) {
+            return this.create(token, algorithm);
+        }
+
+        var key = application.getId() + ":" + application.getSecret() + ":" + token.getClaims();
+        var now = System.currentTimeMillis();
+
+        var signed = this.tokens.get(key);
+        if (signed != null && signed.expires() > now) {
+            return signed.value();
+        }
+
+        var value = this.create(token, algorithm);
+        if (this.tokens.size() >= MAX_TOKENS) {
+            // 缓存过多时直接清空，等待重新签名
+            this.tokens.clear();
+        }
+        // 缓存时间不能超过令牌有效期的一半，保证下游收到的令牌仍有足够的剩余有效时间
+        var ttl = Math.min(config.getCacheTtl().toMillis(), EXPIRES.toMillis() / 2);
+        this.tokens.put(key, new Signed(value, now + ttl));
+        return value;
+    }
+
+    private String create(ForwardingToken token, Algorithm algorithm) {
+        var builder = JWT.create()
+                .withJWTId(Guidx.nextID())
+                .withExpiresAt(new Date(System.currentTimeMillis() + EXPIRES.toMillis()));
+        token.getClaims().forEach(builder::withClaim);
+        return builder.sign(algorithm);
+    }
+
+    /**
+     * 获取应用的签名算法
+     * <p>
+     * 以应用主键和密钥作为缓存依据，应用修改了密钥后会重新生成
+     */
+    private Algorithm getAlgorithm(Application application) {
+        var signer = this.signers.get(application.getId());
+        if (signer == null || !Objects.equals(signer.secret(), application.getSecret())) {
+            signer = new Signer(application.getSecret(), Algorithm.HMAC256(application.getSecret()));
+            this.signers.put(application.getId(), signer);
+        }
+        return signer.algorithm();
+    }
+
+    @Override
+    public boolean supportsEventType(ResolvableType eventType) {
+        return Objects.equals(eventType.getType(), DataRefreshEvent.class);
+    }
+
+    @Override
+    public void onApplicationEvent(@Nonnull ApplicationEvent event) {
+        if (event instanceof DataRefreshEvent<?> refreshEvent) {
+            if (!Objects.equals(refreshEvent.getValue(), DataFetcherType.SAAS.getValue())) {
+                return;
+            }
+            // 应用可能被删除或修改了密钥，清空缓存
+            this.signers.clear();
+            this.tokens.clear();
+        }
+    }
+
+    private record Signer(String secret, Algorithm algorithm) {
+    }
+
+    private record Signed(String value, long expires) {
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.benchmark;
+
+import central.data.gateway.GatewayFilter;
+import central.data.saas.Application;
+import central.data.saas.Tenant;
+import central.data.saas.TenantApplication;
+import central.provider.scheduled.fetcher.gateway.GatewayContainer;
+import central.provider.scheduled.fetcher.saas.SaasContainer;
+import central.util.Jsonx;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 性能测试数据
+ * <p>
+ * 所有租户都只有一个转发到本地桩服务的应用（/bench），其中 {@link #FILTERS_TENANT} 租户额外配置了若干动态过滤器
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class BenchmarkFixture {
+
+    /**
+     * 应用上下文路径
+     */
+    public static final String CONTEXT_PATH = "/bench";
+
+    /**
+     * 配置了动态过滤器的租户
+     */
+    public static final String FILTERS_TENANT = "filters";
+
+    private final Timestamp now = new Timestamp(System.currentTimeMillis());
+
+    private final Application application;
+
+    private final List<Tenant> tenants = new ArrayList<>();
+
+    private final Map<String, List<GatewayFilter>> filters = new HashMap<>();
+
+    /**
+     * 性能测试数据
+     *
+     * @param upstream 桩服务地址
+     * @param tenants  租户数量
+     * @param filters  动态过滤器数量
+     */
+    public BenchmarkFixture(String upstream, int tenants, int filters) {
+        this.application = new Application();
+        this.application.setId("benchmark");
+        this.application.setCode("benchmark");
+        this.application.setName("性能测试");
+        this.application.setUrl(upstream);
+        this.application.setContextPath(CONTEXT_PATH);
+        this.application.setSecret("benchmark-secret-benchmark-secret");
+        this.application.setEnabled(Boolean.TRUE);
+        this.application.setRoutes(List.of());
+        this.application.setCreateDate(this.now);
+        this.application.setModifyDate(this.now);
+
+        for (int i = 0; i < tenants; i++) {
+            this.tenants.add(this.buildTenant(getTenantCode(i)));
+        }
+        this.tenants.add(this.buildTenant(FILTERS_TENANT));
+
+        var list = new ArrayList<GatewayFilter>(filters);
+        for (int i = 0; i < filters; i++) {
+            var filter = new GatewayFilter();
+            filter.setId("filter-" + i);
+            filter.setType("add_request_header");
+            filter.setPath(CONTEXT_PATH + "/**");
+            filter.setOrder(i);
+            filter.setEnabled(Boolean.TRUE);
+            filter.setParams(Jsonx.Default().serialize(Map.of("name", "X-Benchmark-" + i, "value", "value-" + i)));
+            filter.setPredicates(List.of());
+            filter.setTenantCode(FILTERS_TENANT);
+            filter.setCreateDate(this.now);
+            filter.setModifyDate(this.now);
+            list.add(filter);
+        }
+        this.filters.put(FILTERS_TENANT, list);
+    }
+
+    /**
+     * 租户标识
+     *
+     * @param index 租户序号
+     */
+    public static String getTenantCode(int index) {
+        return "tenant-" + index;
+    }
+
+    private Tenant buildTenant(String code) {
+        var relation = new TenantApplication();
+        relation.setId(code + "-benchmark");
+        relation.setTenantId(code);
+        relation.setApplicationId(this.application.getId());
+        relation.setApplication(this.application);
+        relation.setEnabled(Boolean.TRUE);
+        relation.setPrimary(Boolean.TRUE);
+        relation.setCreateDate(this.now);
+        relation.setModifyDate(this.now);
+
+        var tenant = new Tenant();
+        tenant.setId(code);
+        tenant.setCode(code);
+        tenant.setName(code);
+        tenant.setEnabled(Boolean.TRUE);
+        tenant.setApplications(List.of(relation));
+        tenant.setCreateDate(this.now);
+        tenant.setModifyDate(this.now);
+        return tenant;
+    }
+
+    public SaasContainer getSaasContainer() {
+        return new SaasContainer(List.copyOf(this.tenants), List.of(this.application));
+    }
+
+    public GatewayContainer getGatewayContainer() {
+        return new GatewayContainer(this.filters);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.benchmark;
+
+import central.studio.gateway.core.filter.Filter;
+import central.studio.gateway.core.filter.FilterChain;
+import central.studio.gateway.core.filter.StandardFilterChain;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filter Chain Benchmark
+ * 过滤器调用链微基准测试
+ * <p>
+ * 对比预先创建节点的调用链与每一步都创建新调用链（旧实现）的吞吐量。一半过滤器的断言不通过，
+ * 用于覆盖跳过过滤器的路径。运行方式：
+ * <pre>
+ * mvn -pl central-gateway -P benchmark test -Dtest=FilterChainBenchmark
+ * </pre>
+ * 结果输出到控制台，同时写入 target/filter-chain-benchmark.txt
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+// surefire 使用 manifest-only jar 启动测试，子进程无法继承类路径，因此在当前进程中执行
+@Fork(0)
+public class FilterChainBenchmark {
+
+    /**
+     * 过滤器数量
+     */
+    @Param({"10", "50"})
+    public int size;
+
+    private List<Filter> filters;
+
+    private StandardFilterChain standard;
+
+    private ServerWebExchange exchange;
+
+    @Setup
+    public void setup() {
+        this.filters = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            this.filters.add(new PassFilter(i % 2 == 0));
+        }
+        this.standard = StandardFilterChain.of(this.filters);
+        this.exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/benchmark"));
+    }
+
+    /**
+     * 预先创建节点的调用链，所有请求共享
+     */
+    @Benchmark
+    public Object standard() {
+        return this.standard.filter(this.exchange).block();
+    }
+
+    /**
+     * 每个请求创建调用链，每一步都创建新的调用链
+     */
+    @Benchmark
+    public Object allocating() {
+        return new AllocatingFilterChain(this.filters, 0).filter(this.exchange).block();
+    }
+
+    @Test
+    public void run() throws RunnerException {
+        var options = new OptionsBuilder()
+                .include(FilterChainBenchmark.class.getName())
+                .resultFormat(ResultFormatType.TEXT)
+                .result("target/filter-chain-benchmark.txt")
+                .build();
+        new Runner(options).run();
+    }
+
+    /**
+     * 直接执行下一个过滤器的过滤器
+     */
+    private record PassFilter(boolean matches) implements Filter {
+        @Override
+        public boolean predicate(ServerWebExchange exchange) {
+            return this.matches;
+        }
+
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange, FilterChain chain) {
+            return chain.filter(exchange);
+        }
+    }
+
+    /**
+     * 优化前的调用链实现，作为对照
+     */
+    private record AllocatingFilterChain(List<? extends Filter> filters, int index) implements FilterChain {
+        @Override
+        public Mono<Void> filter(ServerWebExchange exchange) {
+            return Mono.defer(() -> {
+                if (this.index < this.filters.size()) {
+                    var filter = this.filters.get(this.index);
+                    var next = new AllocatingFilterChain(this.filters, this.index + 1);
+                    if (filter.predicate(exchange)) {
+                        return filter.filter(exchange, next);
+                    } else {
+                        return next.filter(exchange);
+                    }
+                } else {
+                    return Mono.empty();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.benchmark;
+
+import central.lang.Stringx;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.studio.gateway.GatewayApplication;
+import central.web.XForwardedHeaders;
+import io.netty.buffer.Unpooled;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Gateway Benchmark
+ * 网关性能测试
+ * <p>
+ * 使用内存中的租户数据和本地桩服务启动网关，不依赖其它服务。运行方式：
+ * <pre>
+ * mvn -pl central-gateway -P benchmark test -Dbenchmark.duration=30 -Dbenchmark.concurrency=128
+ * </pre>
+ * 结果输出到日志，同时写入 target/benchmark-results.txt
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, classes = {GatewayApplication.class, BenchmarkConfiguration.class})
+public class GatewayBenchmark {
+
+    /**
+     * 并发数
+     */
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 64);
+    /**
+     * 预热时间（秒）
+     */
+    private static final Duration WARMUP = Duration.ofSeconds(Long.getLong("benchmark.warmup", 3));
+    /**
+     * 每个场景的压测时间（秒）
+     */
+    private static final Duration DURATION = Duration.ofSeconds(Long.getLong("benchmark.duration", 10));
+    /**
+     * 租户数量
+     */
+    private static final int TENANTS = Integer.getInteger("benchmark.tenants", 200);
+    /**
+     * 动态过滤器数量
+     */
+    private static final int FILTERS = Integer.getInteger("benchmark.filters", 50);
+    /**
+     * 上游延迟（毫秒）
+     */
+    private static final int LATENCY = Integer.getInteger("benchmark.latency", 0);
+    /**
+     * 响应体大小（字节）
+     */
+    private static final int SIZE = Integer.getInteger("benchmark.size", 1024);
+    /**
+     * 大请求体、响应体大小（字节）
+     */
+    private static final int LARGE_SIZE = Integer.getInteger("benchmark.large-size", 1024 * 1024);
+
+    @LocalServerPort
+    private int port;
+
+    @Setter(onMethod_ = @Autowired)
+    private StaticDataContext dataContext;
+
+    private StubUpstream upstream;
+
+    private ConnectionProvider connections;
+
+    private HttpClient client;
+
+    private LoadGenerator generator;
+
+    private final List<LoadGenerator.Result> results = new ArrayList<>();
+
+    @BeforeAll
+    public void setup() {
+        this.upstream = new StubUpstream();
+
+        var fixture = new BenchmarkFixture(this.upstream.getUrl(), TENANTS, FILTERS);
+        this.dataContext.setData(DataFetcherType.SAAS, fixture.getSaasContainer());
+        this.dataContext.setData(DataFetcherType.GATEWAY, fixture.getGatewayContainer());
+
+        this.connections = ConnectionProvider.builder("benchmark")
+                .maxConnections(CONCURRENCY)
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.client = HttpClient.create(this.connections).baseUrl("http://127.0.0.1:" + this.port);
+        this.generator = new LoadGenerator(CONCURRENCY, WARMUP, DURATION);
+    }
+
+    @AfterAll
+    public void teardown() throws Exception {
+        var report = new StringBuilder(Stringx.format("concurrency={}, duration={}s, tenants={}, filters={}, latency={}ms, size={}B, large-size={}B\n",
+                CONCURRENCY, DURATION.toSeconds(), TENANTS, FILTERS, LATENCY, SIZE, LARGE_SIZE));
+        for (var result : this.results) {
+            report.append(result).append("\n");
+        }
+        log.info("性能测试结果:\n{}", report);
+        Files.writeString(Path.of("target", "benchmark-results.txt"), report);
+
+        this.connections.disposeLater().block();
+        this.upstream.close();
+    }
+
+    private Mono<Integer> get(String tenant, int size) {
+        return this.client
+                .headers(headers -> headers.set(XForwardedHeaders.TENANT, tenant))
+                .get()
+                .uri(BenchmarkFixture.CONTEXT_PATH + "/payload?latency=" + LATENCY + "&size=" + size)
+                .response((response, content) -> content.then(Mono.just(response.status().code())))
+                .next();
+    }
+
+    private void report(LoadGenerator.Result result) {
+        log.info("{}", result);
+        this.results.add(result);
+        assertTrue(result.getRequests() > 0, "没有成功的请求: " + result.getName());
+        assertEquals(0, result.getErrors(), "存在失败的请求: " + result.getName());
+    }
+
+    /**
+     * 单租户、无动态过滤器
+     */
+    @Test
+    public void baseline() {
+        var tenant = BenchmarkFixture.getTenantCode(0);
+        this.report(this.generator.run("baseline", () -> this.get(tenant, SIZE)));
+    }
+
+    /**
+     * 请求轮流访问不同的租户
+     */
+    @Test
+    public void manyTenants() {
+        var counter = new AtomicInteger();
+        this.report(this.generator.run("many-tenants", () -> this.get(BenchmarkFixture.getTenantCode(Math.floorMod(counter.getAndIncrement(), TENANTS)), SIZE)));
+    }
+
+    /**
+     * 每个请求都经过所有动态过滤器
+     */
+    @Test
+    public void manyFilters() {
+        this.report(this.generator.run("many-filters", () -> this.get(BenchmarkFixture.FILTERS_TENANT, SIZE)));
+    }
+
+    /**
+     * 大请求体、大响应体
+     */
+    @Test
+    public void largeBody() {
+        var tenant = BenchmarkFixture.getTenantCode(0);
+        var body = Unpooled.unreleasableBuffer(Unpooled.directBuffer(LARGE_SIZE).writeZero(LARGE_SIZE));
+        this.report(this.generator.run("large-body", () -> this.client
+                .headers(headers -> headers.set(XForwardedHeaders.TENANT, tenant))
+                .post()
+                .uri(BenchmarkFixture.CONTEXT_PATH + "/upload?latency=" + LATENCY + "&size=" + LARGE_SIZE)
+                .send(Mono.fromSupplier(body::duplicate))
+                .response((response, content) -> content.then(Mono.just(response.status().code())))
+                .next()));
+    }
+
+    /**
+     * WebSocket 消息往返
+     */
+    @Test
+    public void webSocket() {
+        var tenant = BenchmarkFixture.getTenantCode(0);
+        var message = "x".repeat(128);
+        this.report(this.generator.runWebSocket("websocket", this.client.headers(headers -> headers.set(XForwardedHeaders.TENANT, tenant)),
+                BenchmarkFixture.CONTEXT_PATH + "/ws", message));
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.benchmark;
+
+import central.lang.Stringx;
+import central.studio.gateway.core.metrics.LatencyHistogram;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.netty.http.client.HttpClient;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 压测客户端
+ * <p>
+ * 使用闭环模型：每个并发在收到上一个响应后立即发起下一个请求。预热阶段的请求不计入结果
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@RequiredArgsConstructor
+public class LoadGenerator {
+
+    /**
+     * 并发数
+     */
+    private final int concurrency;
+
+    /**
+     * 预热时间
+     */
+    private final Duration warmup;
+
+    /**
+     * 压测时间
+     */
+    private final Duration duration;
+
+    /**
+     * 压测 HTTP 请求
+     *
+     * @param name    场景名称
+     * @param request 发起一次请求，返回响应状态码
+     */
+    public Result run(String name, Supplier<Mono<Integer>> request) {
+        var recorder = new Recorder();
+
+        Flux.range(0, this.concurrency)
+                .flatMap(worker -> Mono.defer(() -> {
+                            var begin = System.nanoTime();
+                            return request.get()
+                                    .doOnNext(status -> recorder.record(begin, status < 400))
+                                    .onErrorResume(throwable -> {
+                                        recorder.record(begin, false);
+                                        return Mono.empty();
+                                    });
+                        })
+                        .repeat(recorder::isRunning), this.concurrency)
+                .blockLast();
+
+        return recorder.getResult(name);
+    }
+
+    /**
+     * 压测 WebSocket 消息往返
+     *
+     * @param name    场景名称
+     * @param client  已经设置好请求头和地址的客户端
+     * @param path    WebSocket 路径
+     * @param message 消息内容
+     */
+    public Result runWebSocket(String name, HttpClient client, String path, String message) {
+        var recorder = new Recorder();
+
+        Flux.range(0, this.concurrency)
+                .flatMap(connection -> client.websocket().uri(path).handle((in, out) -> {
+                    var outbound = Sinks.many().unicast().<String>onBackpressureBuffer();
+                    var begin = new long[1];
+                    var finished = new AtomicBoolean();
+
+                    Runnable send = () -> {
+                        if (recorder.isRunning()) {
+                            begin[0] = System.nanoTime();
+                            outbound.tryEmitNext(message);
+                        } else {
+                            finished.set(true);
+                            outbound.tryEmitComplete();
+                        }
+                    };
+
+                    var receiving = in.receive().asString()
+                            .doOnNext(echo -> {
+                                recorder.record(begin[0], message.equals(echo));
+                                send.run();
+                            })
+                            .takeUntil(echo -> finished.get())
+                            .then();
+
+                    send.run();
+                    return Mono.when(out.sendString(outbound.asFlux()).then(), receiving);
+                }).onErrorResume(throwable -> {
+                    recorder.record(System.nanoTime(), false);
+                    return Mono.empty();
+                }), this.concurrency)
+                .blockLast();
+
+        return recorder.getResult(name);
+    }
+
+    /**
+     * 记录请求结果
+     */
+    private class Recorder {
+        private final long measureFrom = System.nanoTime() + warmup.toNanos();
+        private final long deadline = this.measureFrom + duration.toNanos();
+
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        private boolean isRunning() {
+            return System.nanoTime() < this.deadline;
+        }
+
+        private void record(long begin, boolean success) {
+            var now = System.nanoTime();
+            if (begin < this.measureFrom || now > this.deadline) {
+                // 预热阶段，或压测已结束
+                return;
+            }
+            if (success) {
+                this.histogram.record(TimeUnit.NANOSECONDS.toMicros(now - begin));
+            } else {
+                this.errors.increment();
+            }
+        }
+
+        private Result getResult(String name) {
+            var latency = this.histogram.getSnapshot();
+            var throughput = latency.getCount() / (double) duration.toMillis() * 1000;
+            return new Result(name, latency.getCount(), this.errors.sum(), throughput, latency);
+        }
+    }
+
+    /**
+     * 压测结果
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        /**
+         * 场景名称
+         */
+        private final String name;
+        /**
+         * 成功的请求数
+         */
+        private final long requests;
+        /**
+         * 失败的请求数
+         */
+        private final long errors;
+        /**
+         * 吞吐量（请求/秒）
+         */
+        private final double throughput;
+        /**
+         * 延迟（毫秒）
+         */
+        private final LatencyHistogram.Snapshot latency;
+
+        @Override
+        public String toString() {
+            return Stringx.format("{}: requests={}, errors={}, rps={}, p50={}ms, p99={}ms, p999={}ms, max={}ms",
+                    this.name, this.requests, this.errors, String.format("%.1f", this.throughput),
+                    this.latency.getP50(), this.latency.getP99(), this.latency.getP999(), this.latency.getMax());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.benchmark;
+
+import central.provider.scheduled.DataContainer;
+import central.provider.scheduled.DataContext;
+import central.provider.scheduled.event.DataRefreshEvent;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 内存数据上下文
+ * <p>
+ * 性能测试时不连接 central-provider，直接使用测试数据
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class StaticDataContext implements DataContext {
+
+    private final Map<DataFetcherType, DataContainer> containers = new ConcurrentHashMap<>();
+
+    private final ApplicationEventPublisher publisher;
+
+    public StaticDataContext(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * 设置数据，并通知路由表、过滤器容器等重建索引
+     */
+    public void setData(DataFetcherType fetcher, DataContainer container) {
+        this.containers.put(fetcher, container);
+        this.publisher.publishEvent(new DataRefreshEvent<>(fetcher.getValue(), container));
+    }
+
+    @Override
+    public <T extends DataContainer> void addFetcher(DataFetcherType fetcher) {
+    }
+
+    @Override
+    public void refresh(DataFetcherType fetcher) {
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends DataContainer> T getData(DataFetcherType fetcher) {
+        return (T) this.containers.get(fetcher);
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.benchmark;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.QueryStringDecoder;
+import io.netty.handler.codec.http.websocketx.WebSocketFrame;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import reactor.netty.http.server.HttpServerRequest;
+import reactor.netty.http.server.HttpServerResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 本地桩服务
+ * <p>
+ * 模拟网关的上游服务：
+ * <ul>
+ *     <li>HTTP：读完请求体后，按 latency 参数（毫秒）延迟，返回 size 参数（字节）大小的响应体</li>
+ *     <li>WebSocket（/bench/ws）：原样返回收到的消息</li>
+ * </ul>
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class StubUpstream implements AutoCloseable {
+
+    private final DisposableServer server;
+
+    /**
+     * 响应体缓存
+     * <p>
+     * size -> content
+     */
+    private final Map<Integer, ByteBuf> payloads = new ConcurrentHashMap<>();
+
+    public StubUpstream() {
+        this.server = HttpServer.create()
+                .host("127.0.0.1")
+                .port(0)
+                .route(routes -> routes
+                        .ws(BenchmarkFixture.CONTEXT_PATH + "/ws", (in, out) -> out.sendObject(in.receiveFrames().map(WebSocketFrame::retain)))
+                        .route(request -> true, this::handle))
+                .bindNow();
+    }
+
+    /**
+     * 服务地址
+     */
+    public String getUrl() {
+        return "http://127.0.0.1:" + this.server.port();
+    }
+
+    private Mono<Void> handle(HttpServerRequest request, HttpServerResponse response) {
+        var parameters = new QueryStringDecoder(request.uri()).parameters();
+        var latency = getParameter(parameters, "latency", 0);
+        var size = getParameter(parameters, "size", 0);
+
+        var reply = request.receive().then();
+        if (latency > 0) {
+            reply = reply.then(Mono.delay(Duration.ofMillis(latency))).then();
+        }
+        return reply.then(Mono.defer(() -> response
+                .header(HttpHeaderNames.CONTENT_TYPE, "application/octet-stream")
+                .header(HttpHeaderNames.CONTENT_LENGTH, String.valueOf(size))
+                .send(Mono.just(this.getPayload(size).retainedDuplicate()))
+                .then()));
+    }
+
+    private ByteBuf getPayload(int size) {
+        return this.payloads.computeIfAbsent(size, it -> {
+            var content = Unpooled.directBuffer(it);
+            for (int i = 0; i < it; i++) {
+                content.writeByte('a' + i % 26);
+            }
+            return Unpooled.unreleasableBuffer(content);
+        });
+    }
+
+    private static int getParameter(Map<String, List<String>> parameters, String name, int defaultValue) {
+        var values = parameters.get(name);
+        return values == null || values.isEmpty() ? defaultValue : Integer.parseInt(values.get(0));
+    }
+
+    @Override
+    public void close() {
+        this.server.disposeNow();
+    }
+}
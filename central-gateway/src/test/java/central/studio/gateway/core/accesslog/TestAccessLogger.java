@@ -0,0 +1,147 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.accesslog;
+
+import central.studio.gateway.ApplicationProperties;
+import central.studio.gateway.core.metrics.RequestMetrics;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Access Logger Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestAccessLogger {
+
+    private static final String LOGGER = "central.studio.gateway.test.access";
+
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    public void before() {
+        this.appender = new ListAppender<>();
+        this.appender.start();
+        var logger = (Logger) LoggerFactory.getLogger(LOGGER);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(this.appender);
+    }
+
+    @AfterEach
+    public void after() {
+        ((Logger) LoggerFactory.getLogger(LOGGER)).detachAppender(this.appender);
+    }
+
+    private static AccessLogger create(double sampleRate) throws Exception {
+        var properties = new ApplicationProperties();
+        properties.getAccessLog().setLogger(LOGGER);
+        properties.getAccessLog().setSampleRate(sampleRate);
+        properties.getAccessLog().setFields(List.of(AccessLogField.METHOD, AccessLogField.PATH, AccessLogField.STATUS));
+        properties.getAccessLog().setBufferSize(1 << 16);
+
+        var logger = new AccessLogger();
+        logger.setProperties(properties);
+        logger.afterPropertiesSet();
+        return logger;
+    }
+
+    private static MockServerWebExchange exchange(String path) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(path));
+    }
+
+    /**
+     * 停止时输出缓冲区中剩余的日志
+     */
+    @Test
+    public void case1() throws Exception {
+        var logger = create(1.0);
+        for (int i = 0; i < 10000; i++) {
+            logger.log(exchange("/api/" + i), new RequestMetrics(), 200, null);
+        }
+        logger.destroy();
+
+        var events = this.appender.list;
+        assertEquals(10000, events.size());
+        // 单个生产者写入的日志保持顺序
+        for (int i = 0; i < events.size(); i++) {
+            assertEquals("{\"method\":\"GET\",\"path\":\"/api/" + i + "\",\"status\":200}", events.get(i).getFormattedMessage());
+        }
+    }
+
+    /**
+     * 停止后不再记录日志
+     */
+    @Test
+    public void case2() throws Exception {
+        var logger = create(1.0);
+        logger.destroy();
+
+        logger.log(exchange("/api/test"), new RequestMetrics(), 200, null);
+        assertTrue(this.appender.list.isEmpty());
+    }
+
+    /**
+     * 采样：未被采样的正常请求不输出日志，错误请求总是输出
+     */
+    @Test
+    public void case3() throws Exception {
+        var logger = create(0);
+        logger.log(exchange("/api/ok"), new RequestMetrics(), 200, null);
+        logger.log(exchange("/api/error"), new RequestMetrics(), 502, null);
+        logger.destroy();
+
+        assertEquals(1, this.appender.list.size());
+        assertEquals("{\"method\":\"GET\",\"path\":\"/api/error\",\"status\":502}", this.appender.list.get(0).getFormattedMessage());
+    }
+
+    /**
+     * 没有开启访问日志时不启动后台线程
+     */
+    @Test
+    public void case4() throws Exception {
+        var properties = new ApplicationProperties();
+        properties.getAccessLog().setEnabled(false);
+        var logger = new AccessLogger();
+        logger.setProperties(properties);
+        logger.afterPropertiesSet();
+
+        logger.log(exchange("/api/test"), new RequestMetrics(), 500, null);
+        logger.destroy();
+        assertTrue(this.appender.list.isEmpty());
+    }
+}
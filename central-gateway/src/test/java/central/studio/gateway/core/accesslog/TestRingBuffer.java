@@ -0,0 +1,185 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.accesslog;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ring Buffer Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestRingBuffer {
+
+    /**
+     * 容量向上取整为 2 的幂
+     */
+    @Test
+    public void case1() {
+        var buffer = new RingBuffer<Integer>(5);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(8));
+        assertEquals(8, buffer.size());
+
+        buffer = new RingBuffer<>(1);
+        assertTrue(buffer.offer(0));
+        assertFalse(buffer.offer(1));
+
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>(0));
+        assertThrows(IllegalArgumentException.class, () -> new RingBuffer<Integer>(-1));
+    }
+
+    /**
+     * 先进先出，并且可以循环使用槽位
+     */
+    @Test
+    public void case2() {
+        var buffer = new RingBuffer<Integer>(4);
+        assertNull(buffer.poll());
+
+        int next = 0;
+        int expected = 0;
+        for (int round = 0; round < 100; round++) {
+            // 每轮写入 3 个，读取 3 个，写入位置不断绕回
+            for (int i = 0; i < 3; i++) {
+                assertTrue(buffer.offer(next++));
+            }
+            for (int i = 0; i < 3; i++) {
+                assertEquals(expected++, (int) buffer.poll());
+            }
+            assertNull(buffer.poll());
+            assertEquals(0, buffer.size());
+        }
+    }
+
+    /**
+     * 缓冲区已满时丢弃新元素，已经写入的元素不受影响
+     */
+    @Test
+    public void case3() {
+        var buffer = new RingBuffer<Integer>(4);
+        for (int i = 0; i < 4; i++) {
+            assertTrue(buffer.offer(i));
+        }
+        assertFalse(buffer.offer(4));
+        assertFalse(buffer.offer(5));
+        assertEquals(4, buffer.size());
+
+        // 读取一个后可以再写入一个
+        assertEquals(0, (int) buffer.poll());
+        assertTrue(buffer.offer(6));
+        assertFalse(buffer.offer(7));
+
+        assertEquals(1, (int) buffer.poll());
+        assertEquals(2, (int) buffer.poll());
+        assertEquals(3, (int) buffer.poll());
+        assertEquals(6, (int) buffer.poll());
+        assertNull(buffer.poll());
+    }
+
+    /**
+     * 多个生产者并发写入，单个消费者读取：不丢失、不重复，并且每个生产者的元素保持顺序
+     */
+    @Test
+    public void case4() throws Exception {
+        var producers = 4;
+        var records = 200000;
+        var buffer = new RingBuffer<long[]>(64);
+
+        var start = new CountDownLatch(1);
+        var accepted = new AtomicInteger();
+        var rejected = new AtomicInteger();
+        var workers = new ArrayList<Thread>();
+        for (int i = 0; i < producers; i++) {
+            var producer = i;
+            var worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int sequence = 0; sequence < records; sequence++) {
+                    if (buffer.offer(new long[]{producer, sequence})) {
+                        accepted.incrementAndGet();
+                    } else {
+                        rejected.incrementAndGet();
+                    }
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+
+        var done = new AtomicBoolean();
+        var last = new long[producers];
+        Arrays.fill(last, -1);
+        var consumed = new HashSet<Long>();
+        var error = new StringBuilder();
+        var consumer = new Thread(() -> {
+            while (true) {
+                var element = buffer.poll();
+                if (element == null) {
+                    if (done.get() && buffer.size() == 0) {
+                        break;
+                    }
+                    Thread.onSpinWait();
+                    continue;
+                }
+                var producer = (int) element[0];
+                if (element[1] <= last[producer] && error.isEmpty()) {
+                    error.append("producer ").append(producer).append(": ").append(element[1]).append(" after ").append(last[producer]);
+                }
+                last[producer] = element[1];
+                consumed.add(element[0] * records + element[1]);
+            }
+        });
+        consumer.start();
+
+        start.countDown();
+        for (var worker : workers) {
+            worker.join();
+        }
+        done.set(true);
+        consumer.join();
+
+        assertTrue(error.isEmpty(), error.toString());
+        assertEquals(producers * records, accepted.get() + rejected.get());
+        assertEquals(accepted.get(), consumed.size());
+        assertNull(buffer.poll());
+    }
+}
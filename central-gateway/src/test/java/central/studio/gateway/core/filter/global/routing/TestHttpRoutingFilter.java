@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing;
+
+import central.studio.gateway.core.filter.global.routing.retry.RetryBudget;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Http Routing Filter Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestHttpRoutingFilter {
+
+    private static final Duration DELAY = Duration.ofMillis(20);
+
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private static boolean isRetryable(MockServerHttpRequest.BaseBuilder<?> request) {
+        return HttpRoutingFilter.isRetryable(MockServerWebExchange.from(request), new HttpRoutingProperties.Retry());
+    }
+
+    /**
+     * 幂等请求允许重试，非幂等请求不重试
+     */
+    @Test
+    public void case1() {
+        assertTrue(isRetryable(MockServerHttpRequest.get("/api/test")));
+        assertTrue(isRetryable(MockServerHttpRequest.head("/api/test")));
+        assertTrue(isRetryable(MockServerHttpRequest.options("/api/test")));
+
+        assertFalse(isRetryable(MockServerHttpRequest.post("/api/test").contentLength(2)));
+        assertFalse(isRetryable(MockServerHttpRequest.put("/api/test").contentLength(2)));
+        assertFalse(isRetryable(MockServerHttpRequest.patch("/api/test").contentLength(2)));
+        assertFalse(isRetryable(MockServerHttpRequest.delete("/api/test")));
+
+        // 携带幂等键的请求允许重试
+        assertTrue(isRetryable(MockServerHttpRequest.post("/api/test").header("Idempotency-Key", "8f2b").contentLength(2)));
+
+        // 可以配置幂等的请求方法
+        var retry = new HttpRoutingProperties.Retry();
+        retry.setMethods(List.of(HttpMethod.GET, HttpMethod.PUT));
+        assertTrue(HttpRoutingFilter.isRetryable(MockServerWebExchange.from(MockServerHttpRequest.put("/api/test").contentLength(2)), retry));
+    }
+
+    /**
+     * 请求体无法缓存时不重试
+     */
+    @Test
+    public void case2() {
+        var limit = new HttpRoutingProperties.Retry().getMaxReplayBodySize();
+
+        assertTrue(isRetryable(MockServerHttpRequest.post("/api/test").header("Idempotency-Key", "8f2b").contentLength(limit)));
+        assertFalse(isRetryable(MockServerHttpRequest.post("/api/test").header("Idempotency-Key", "8f2b").contentLength(limit + 1)));
+        // 分块传输
+        assertFalse(isRetryable(MockServerHttpRequest.post("/api/test").header("Idempotency-Key", "8f2b").header(HttpHeaders.TRANSFER_ENCODING, "chunked")));
+        // 没有 Content-Length 时，在读取请求体时限制大小
+        assertTrue(isRetryable(MockServerHttpRequest.post("/api/test").header("Idempotency-Key", "8f2b")));
+    }
+
+    /**
+     * 主请求在对冲延迟内返回，不发起对冲请求
+     */
+    @Test
+    public void case3() {
+        var budget = new RetryBudget(0, 10);
+        var started = new AtomicInteger();
+
+        var result = HttpRoutingFilter.hedge(Mono.just("primary"), DELAY, budget, () -> {
+            started.incrementAndGet();
+            return Mono.just("secondary");
+        }).block(WAIT);
+
+        assertEquals("primary", result);
+        assertEquals(0, started.get());
+    }
+
+    /**
+     * 主请求超过对冲延迟没有返回时发起对冲请求，对冲请求胜出后取消主请求
+     */
+    @Test
+    public void case4() {
+        var budget = new RetryBudget(0, 10);
+        var cancelled = new AtomicBoolean();
+
+        var primary = Mono.<String>never().doOnCancel(() -> cancelled.set(true));
+        var result = HttpRoutingFilter.hedge(primary, DELAY, budget, () -> Mono.just("secondary")).block(WAIT);
+
+        assertEquals("secondary", result);
+        assertTrue(cancelled.get());
+    }
+
+    /**
+     * 对冲请求发出后主请求胜出，取消对冲请求
+     */
+    @Test
+    public void case5() {
+        var budget = new RetryBudget(0, 10);
+        var started = new AtomicBoolean();
+        var cancelled = new AtomicBoolean();
+
+        var primary = Mono.just("primary").delayElement(DELAY.multipliedBy(5));
+        var result = HttpRoutingFilter.hedge(primary, DELAY, budget, () -> {
+            started.set(true);
+            return Mono.<String>never().doOnCancel(() -> cancelled.set(true));
+        }).block(WAIT);
+
+        assertEquals("primary", result);
+        assertTrue(started.get());
+        assertTrue(cancelled.get());
+    }
+
+    /**
+     * 重试预算不足时不发起对冲请求
+     */
+    @Test
+    public void case6() {
+        var budget = new RetryBudget(0, 0);
+        var started = new AtomicInteger();
+
+        var primary = Mono.just("primary").delayElement(DELAY.multipliedBy(5));
+        var result = HttpRoutingFilter.hedge(primary, DELAY, budget, () -> {
+            started.incrementAndGet();
+            return Mono.just("secondary");
+        }).block(WAIT);
+
+        assertEquals("primary", result);
+        assertEquals(0, started.get());
+    }
+
+    /**
+     * 主请求在对冲请求发起之前失败，直接返回失败，交由重试处理
+     */
+    @Test
+    public void case7() {
+        var budget = new RetryBudget(0, 10);
+        var started = new AtomicInteger();
+
+        var hedged = HttpRoutingFilter.hedge(Mono.<String>error(new IllegalStateException("Connection refused")), DELAY, budget, () -> {
+            started.incrementAndGet();
+            return Mono.just("secondary");
+        });
+        var ex = assertThrows(IllegalStateException.class, () -> hedged.block(WAIT));
+        assertEquals("Connection refused", ex.getMessage());
+
+        // 等待超过对冲延迟，确认对冲请求没有发起
+        Mono.delay(DELAY.multipliedBy(3)).block(WAIT);
+        assertEquals(0, started.get());
+    }
+
+    /**
+     * 两个请求都失败时返回先发生的异常
+     */
+    @Test
+    public void case8() {
+        var budget = new RetryBudget(0, 10);
+
+        var primary = Mono.<String>error(new IllegalStateException("primary")).delaySubscription(DELAY.multipliedBy(5));
+        var hedged = HttpRoutingFilter.hedge(primary, DELAY, budget, () -> Mono.error(new IllegalStateException("secondary")));
+        var ex = assertThrows(IllegalStateException.class, () -> hedged.block(WAIT));
+        assertEquals("secondary", ex.getMessage());
+    }
+}
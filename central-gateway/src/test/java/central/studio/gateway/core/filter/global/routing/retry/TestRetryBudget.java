@@ -0,0 +1,146 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing.retry;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Retry Budget Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestRetryBudget {
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.DAYS.toNanos(3));
+
+    private void advance(long seconds) {
+        this.clock.addAndGet(TimeUnit.SECONDS.toNanos(seconds));
+    }
+
+    private static int withdrawAll(RetryBudget budget) {
+        var count = 0;
+        while (budget.tryWithdraw()) {
+            count++;
+            assertTrue(count <= 100000, "budget is unbounded");
+        }
+        return count;
+    }
+
+    /**
+     * 没有请求时，每秒保留的重试次数按统计窗口累计
+     */
+    @Test
+    public void case1() {
+        var budget = new RetryBudget(0, 1, this.clock::get);
+        assertEquals(10, withdrawAll(budget));
+        assertFalse(budget.tryWithdraw());
+    }
+
+    /**
+     * 重试数不超过请求数的一定比例
+     */
+    @Test
+    public void case2() {
+        var budget = new RetryBudget(0.2, 0, this.clock::get);
+        assertFalse(budget.tryWithdraw());
+
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+        assertEquals(20, withdrawAll(budget));
+
+        // 新的请求增加预算
+        for (int i = 0; i < 5; i++) {
+            budget.deposit();
+        }
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    /**
+     * 统计窗口滑动后，过期的重试不再占用预算
+     */
+    @Test
+    public void case3() {
+        var budget = new RetryBudget(0, 1, this.clock::get);
+        assertEquals(10, withdrawAll(budget));
+
+        this.advance(9);
+        assertFalse(budget.tryWithdraw());
+
+        // 第一秒的重试已经过期
+        this.advance(1);
+        assertEquals(10, withdrawAll(budget));
+    }
+
+    /**
+     * 统计窗口滑动后，过期的请求不再提供预算
+     */
+    @Test
+    public void case4() {
+        var budget = new RetryBudget(0.5, 0, this.clock::get);
+        for (int i = 0; i < 10; i++) {
+            budget.deposit();
+        }
+        this.advance(5);
+        for (int i = 0; i < 10; i++) {
+            budget.deposit();
+        }
+        assertEquals(10, withdrawAll(budget));
+
+        // 第一批请求过期，剩余的请求只够 5 次重试，已经全部用完
+        this.advance(5);
+        assertFalse(budget.tryWithdraw());
+
+        // 全部过期，同一个槽位被重新使用时清空
+        this.advance(10);
+        assertFalse(budget.tryWithdraw());
+        budget.deposit();
+        budget.deposit();
+        assertEquals(1, withdrawAll(budget));
+    }
+
+    /**
+     * 时钟为负数
+     */
+    @Test
+    public void case5() {
+        this.clock.set(-TimeUnit.MILLISECONDS.toNanos(5500));
+        var budget = new RetryBudget(0, 1, this.clock::get);
+        assertEquals(10, withdrawAll(budget));
+
+        // 经过 0 点后仍然按秒滑动
+        this.advance(9);
+        assertFalse(budget.tryWithdraw());
+        this.advance(1);
+        assertEquals(10, withdrawAll(budget));
+    }
+}
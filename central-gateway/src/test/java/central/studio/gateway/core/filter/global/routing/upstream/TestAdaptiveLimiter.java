@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing.upstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Adaptive Limiter Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestAdaptiveLimiter {
+
+    private static final long RTT = TimeUnit.MILLISECONDS.toNanos(10);
+
+    /**
+     * 以当前并发上限发出一批请求，并以相同的响应时间完成
+     */
+    private static void cycle(AdaptiveLimiter limiter, long rtt) {
+        var acquired = 0;
+        while (limiter.tryAcquire()) {
+            acquired++;
+        }
+        for (int i = 0; i < acquired; i++) {
+            limiter.release(rtt, true);
+        }
+        assertEquals(0, limiter.getInflight());
+    }
+
+    /**
+     * 超过并发上限时拒绝
+     */
+    @Test
+    public void case1() {
+        var limiter = new AdaptiveLimiter(2, 1, 10);
+        assertEquals(2, limiter.getLimit());
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(2, limiter.getInflight());
+
+        // 取消的请求只归还许可，不调整并发上限
+        limiter.release();
+        assertEquals(1, limiter.getInflight());
+        assertEquals(2, limiter.getLimit());
+        assertTrue(limiter.tryAcquire());
+
+        // 初始并发上限限制在 [minLimit, maxLimit] 内
+        assertEquals(10, new AdaptiveLimiter(100, 1, 10).getLimit());
+        assertEquals(5, new AdaptiveLimiter(1, 5, 10).getLimit());
+    }
+
+    /**
+     * 响应时间稳定时并发上限逐步增长，但不超过最大值
+     */
+    @Test
+    public void case2() {
+        var limiter = new AdaptiveLimiter(10, 1, 200);
+
+        var last = limiter.getLimit();
+        for (int i = 0; i < 5; i++) {
+            cycle(limiter, RTT);
+            assertTrue(limiter.getLimit() > last, "limit: " + limiter.getLimit());
+            last = limiter.getLimit();
+        }
+
+        for (int i = 0; i < 100; i++) {
+            cycle(limiter, RTT);
+        }
+        assertEquals(200, limiter.getLimit());
+    }
+
+    /**
+     * 响应时间变长时并发上限下降，但不低于最小值；响应时间恢复后重新增长
+     */
+    @Test
+    public void case3() {
+        var limiter = new AdaptiveLimiter(100, 5, 200);
+        for (int i = 0; i < 5; i++) {
+            cycle(limiter, RTT);
+        }
+        assertEquals(200, limiter.getLimit());
+
+        // 上游开始排队，响应时间持续变长
+        var rtt = RTT;
+        var last = limiter.getLimit();
+        for (int i = 0; i < 3; i++) {
+            rtt *= 10;
+            cycle(limiter, rtt);
+            assertTrue(limiter.getLimit() < last, "limit: " + limiter.getLimit());
+            last = limiter.getLimit();
+        }
+        for (int i = 0; i < 5; i++) {
+            rtt *= 10;
+            cycle(limiter, rtt);
+        }
+        assertTrue(limiter.getLimit() >= 5, "limit: " + limiter.getLimit());
+        assertTrue(limiter.getLimit() < 10, "limit: " + limiter.getLimit());
+
+        // 响应时间恢复
+        last = limiter.getLimit();
+        for (int i = 0; i < 5; i++) {
+            cycle(limiter, RTT);
+            assertTrue(limiter.getLimit() > last, "limit: " + limiter.getLimit());
+            last = limiter.getLimit();
+        }
+    }
+
+    /**
+     * 响应时间稳定在较高的水平后成为新的长期基准，并发上限重新增长
+     */
+    @Test
+    public void case4() {
+        var limiter = new AdaptiveLimiter(100, 5, 200);
+        for (int i = 0; i < 5; i++) {
+            cycle(limiter, RTT);
+        }
+
+        cycle(limiter, RTT * 10);
+        var shrunk = limiter.getLimit();
+        assertTrue(shrunk < 150, "limit: " + shrunk);
+
+        for (int i = 0; i < 10; i++) {
+            cycle(limiter, RTT * 10);
+        }
+        assertTrue(limiter.getLimit() > shrunk, "limit: " + limiter.getLimit());
+    }
+
+    /**
+     * 请求失败时乘性减小，但不低于最小值
+     */
+    @Test
+    public void case5() {
+        var limiter = new AdaptiveLimiter(100, 5, 200);
+
+        assertTrue(limiter.tryAcquire());
+        limiter.release(RTT, false);
+        assertEquals(90, limiter.getLimit());
+        assertEquals(0, limiter.getInflight());
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(RTT, false);
+        }
+        assertEquals(5, limiter.getLimit());
+    }
+
+    /**
+     * 并发数远低于上限时，上限不是瓶颈，不调整
+     */
+    @Test
+    public void case6() {
+        var limiter = new AdaptiveLimiter(100, 5, 200);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(RTT * (i % 2 == 0 ? 1 : 100), true);
+        }
+        assertEquals(100, limiter.getLimit());
+    }
+}
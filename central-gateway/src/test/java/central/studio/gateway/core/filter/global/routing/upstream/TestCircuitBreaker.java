@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing.upstream;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Circuit Breaker Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestCircuitBreaker {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    /**
+     * 失败率达到阈值后打开熔断器
+     */
+    @Test
+    public void case1() {
+        var breaker = new CircuitBreaker(50, 4, 1000, this.clock::get);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        // 请求数没有达到统计窗口大小时不计算失败率
+        breaker.record(false);
+        breaker.record(false);
+        breaker.record(false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+
+        breaker.record(true);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    /**
+     * 统计窗口滑动，较早的失败不再计入失败率
+     */
+    @Test
+    public void case2() {
+        var breaker = new CircuitBreaker(50, 4, 1000, this.clock::get);
+
+        breaker.record(false);
+        breaker.record(true);
+        breaker.record(true);
+        breaker.record(true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+        // 窗口内为 [true, true, true, false]
+        breaker.record(false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        // 窗口内为 [true, true, false, false]
+        breaker.record(false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    /**
+     * 打开 -> 半开 -> 关闭
+     */
+    @Test
+    public void case3() {
+        var breaker = open(new CircuitBreaker(50, 2, 1000, this.clock::get));
+
+        // 熔断时间内直接拒绝
+        this.clock.addAndGet(999);
+        assertFalse(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        // 熔断时间结束后进入半开状态，只放行 3 个试探请求
+        this.clock.addAndGet(1);
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        // 试探请求全部成功后关闭
+        breaker.record(true);
+        breaker.record(true);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.record(true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertTrue(breaker.tryAcquire());
+
+        // 关闭后重新统计，之前的失败不再计入
+        breaker.record(false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    /**
+     * 半开状态下试探请求失败，重新打开并重新计算熔断时间
+     */
+    @Test
+    public void case4() {
+        var breaker = open(new CircuitBreaker(50, 2, 1000, this.clock::get));
+
+        this.clock.addAndGet(1000);
+        assertTrue(breaker.tryAcquire());
+        breaker.record(true);
+        assertTrue(breaker.tryAcquire());
+        breaker.record(false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+
+        this.clock.addAndGet(999);
+        assertFalse(breaker.tryAcquire());
+        this.clock.addAndGet(1);
+        assertTrue(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    }
+
+    /**
+     * 半开状态下归还未产生结果的试探许可
+     */
+    @Test
+    public void case5() {
+        var breaker = open(new CircuitBreaker(50, 2, 1000, this.clock::get));
+
+        this.clock.addAndGet(1000);
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        // 试探请求被取消，可以再放行一个试探请求
+        breaker.release();
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        // 关闭状态下归还许可没有影响
+        breaker.record(true);
+        breaker.record(true);
+        breaker.record(true);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        breaker.release();
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    }
+
+    /**
+     * 熔断期间的请求结果不再统计
+     */
+    @Test
+    public void case6() {
+        var breaker = open(new CircuitBreaker(50, 2, 1000, this.clock::get));
+
+        breaker.record(true);
+        breaker.record(true);
+        breaker.record(true);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    }
+
+    private static CircuitBreaker open(CircuitBreaker breaker) {
+        breaker.record(false);
+        breaker.record(false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+        return breaker;
+    }
+}
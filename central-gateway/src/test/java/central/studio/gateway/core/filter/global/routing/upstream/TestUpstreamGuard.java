@@ -0,0 +1,143 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.global.routing.upstream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Upstream Guard Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestUpstreamGuard {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000);
+
+    private UpstreamGuard guard(int limit) {
+        return new UpstreamGuard(new AdaptiveLimiter(limit, 1, limit), new CircuitBreaker(50, 2, 1000, this.clock::get));
+    }
+
+    /**
+     * 请求成功后归还许可并记录结果
+     */
+    @Test
+    public void case1() {
+        var guard = this.guard(10);
+
+        assertEquals("ok", guard.protect(Mono.just("ok"), it -> true).block());
+        assertEquals(0, guard.getLimiter().getInflight());
+        assertEquals(10, guard.getLimiter().getLimit());
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getBreaker().getState());
+    }
+
+    /**
+     * 请求异常或响应失败后归还许可，并按失败处理
+     */
+    @Test
+    public void case2() {
+        var guard = this.guard(10);
+
+        var error = guard.protect(Mono.error(new IllegalStateException("Connection reset")), it -> true);
+        assertThrows(IllegalStateException.class, error::block);
+        assertEquals(0, guard.getLimiter().getInflight());
+        // 失败时并发上限乘性减小
+        assertEquals(9, guard.getLimiter().getLimit());
+
+        // 响应被判定为失败（如 5xx）
+        assertEquals(502, guard.protect(Mono.just(502), status -> status < 500).block());
+        assertEquals(0, guard.getLimiter().getInflight());
+        // 统计窗口内全部失败，熔断器打开
+        assertEquals(CircuitBreaker.State.OPEN, guard.getBreaker().getState());
+    }
+
+    /**
+     * 请求被取消或没有响应时只归还许可，不记录结果
+     */
+    @Test
+    public void case3() {
+        var guard = this.guard(10);
+
+        var subscription = guard.protect(Mono.never(), it -> true).subscribe();
+        assertEquals(1, guard.getLimiter().getInflight());
+        subscription.dispose();
+        assertEquals(0, guard.getLimiter().getInflight());
+        assertEquals(10, guard.getLimiter().getLimit());
+
+        assertNull(guard.protect(Mono.empty(), it -> true).block());
+        assertEquals(0, guard.getLimiter().getInflight());
+        assertEquals(10, guard.getLimiter().getLimit());
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getBreaker().getState());
+    }
+
+    /**
+     * 熔断器打开时直接返回 503，不占用并发许可
+     */
+    @Test
+    public void case4() {
+        var guard = this.guard(10);
+        guard.getBreaker().record(false);
+        guard.getBreaker().record(false);
+
+        var ex = assertThrows(ResponseStatusException.class, () -> guard.protect(Mono.just("ok"), it -> true).block());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+        assertEquals(0, guard.getLimiter().getInflight());
+    }
+
+    /**
+     * 超过并发上限时直接返回 503，并归还熔断器的试探许可
+     */
+    @Test
+    public void case5() {
+        var guard = this.guard(1);
+        guard.getBreaker().record(false);
+        guard.getBreaker().record(false);
+        this.clock.addAndGet(1000);
+
+        // 占满并发上限
+        assertTrue(guard.getLimiter().tryAcquire());
+
+        // 熔断器进入半开状态，但并发上限已满
+        var ex = assertThrows(ResponseStatusException.class, () -> guard.protect(Mono.just("ok"), it -> true).block());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, ex.getStatusCode());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, guard.getBreaker().getState());
+        assertEquals(1, guard.getLimiter().getInflight());
+
+        // 被拒绝的请求没有占用试探许可，仍然可以放行 3 个试探请求
+        guard.getLimiter().release();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("ok", guard.protect(Mono.just("ok"), it -> true).block());
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getBreaker().getState());
+        assertEquals(0, guard.getLimiter().getInflight());
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.predicate;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CIDR Trie Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestCidrTrie {
+
+    private static InetAddress ip(String address) throws UnknownHostException {
+        // 测试用的都是 IP 字面量，不会触发 DNS 查询
+        return InetAddress.getByName(address);
+    }
+
+    /**
+     * IPv4 网段
+     */
+    @Test
+    public void case1() throws Exception {
+        var trie = CidrTrie.builder()
+                .add("192.168.0.0/16")
+                .add("10.1.2.0/24")
+                .build();
+
+        assertTrue(trie.contains(ip("192.168.0.0")));
+        assertTrue(trie.contains(ip("192.168.255.255")));
+        assertTrue(trie.contains(ip("10.1.2.1")));
+        assertFalse(trie.contains(ip("192.169.0.1")));
+        assertFalse(trie.contains(ip("10.1.3.1")));
+        // IPv4 规则不会匹配 IPv6 地址
+        assertFalse(trie.contains(ip("::1")));
+    }
+
+    /**
+     * IPv6 网段
+     */
+    @Test
+    public void case2() throws Exception {
+        var trie = CidrTrie.builder()
+                .add("2001:db8::/32")
+                .add("fe80::1")
+                .build();
+
+        assertTrue(trie.contains(ip("2001:db8::1")));
+        assertTrue(trie.contains(ip("2001:db8:ffff:ffff:ffff:ffff:ffff:ffff")));
+        assertFalse(trie.contains(ip("2001:db9::1")));
+        assertTrue(trie.contains(ip("fe80::1")));
+        assertFalse(trie.contains(ip("fe80::2")));
+        // IPv6 规则不会匹配 IPv4 地址
+        assertFalse(trie.contains(ip("32.1.13.184")));
+    }
+
+    /**
+     * /0 匹配所有地址，/32、/128 只匹配单个地址
+     */
+    @Test
+    public void case3() throws Exception {
+        var any = CidrTrie.builder().add("0.0.0.0/0").add("::/0").build();
+        assertTrue(any.contains(ip("0.0.0.0")));
+        assertTrue(any.contains(ip("255.255.255.255")));
+        assertTrue(any.contains(ip("::")));
+        assertTrue(any.contains(ip("ffff:ffff:ffff:ffff:ffff:ffff:ffff:ffff")));
+
+        var single = CidrTrie.builder().add("10.0.0.1/32").add("2001:db8::1/128").build();
+        assertTrue(single.contains(ip("10.0.0.1")));
+        assertFalse(single.contains(ip("10.0.0.0")));
+        assertFalse(single.contains(ip("10.0.0.2")));
+        assertTrue(single.contains(ip("2001:db8::1")));
+        assertFalse(single.contains(ip("2001:db8::")));
+        assertFalse(single.contains(ip("2001:db8::2")));
+
+        // 不带前缀长度的 IP 等同于 /32、/128
+        var plain = CidrTrie.builder().add("10.0.0.1").build();
+        assertTrue(plain.contains(ip("10.0.0.1")));
+        assertFalse(plain.contains(ip("10.0.0.3")));
+    }
+
+    /**
+     * 重叠网段，添加顺序不影响结果
+     */
+    @Test
+    public void case4() throws Exception {
+        // 先添加大网段，再添加被覆盖的小网段
+        var wide = CidrTrie.builder().add("10.0.0.0/8").add("10.1.0.0/16").add("10.1.2.3").build();
+        // 先添加小网段，再添加覆盖它们的大网段
+        var narrow = CidrTrie.builder().add("10.1.2.3").add("10.1.0.0/16").add("10.0.0.0/8").build();
+
+        for (var trie : new CidrTrie[]{wide, narrow}) {
+            assertTrue(trie.contains(ip("10.0.0.1")));
+            assertTrue(trie.contains(ip("10.1.2.3")));
+            assertTrue(trie.contains(ip("10.255.255.255")));
+            assertFalse(trie.contains(ip("11.0.0.0")));
+            assertFalse(trie.contains(ip("9.255.255.255")));
+        }
+
+        // 相邻但不重叠的网段
+        var siblings = CidrTrie.builder().add("10.0.0.0/24").add("10.0.1.0/24").add("10.0.3.0/24").build();
+        assertTrue(siblings.contains(ip("10.0.0.255")));
+        assertTrue(siblings.contains(ip("10.0.1.0")));
+        assertFalse(siblings.contains(ip("10.0.2.1")));
+        assertTrue(siblings.contains(ip("10.0.3.1")));
+    }
+
+    /**
+     * 地址同时落在多个嵌套网段中时，按最长前缀逐级查找，任意一级匹配即可
+     */
+    @Test
+    public void case5() throws Exception {
+        var trie = CidrTrie.builder()
+                .add("192.168.1.128/25")
+                .add("192.168.1.192/26")
+                .add("192.168.2.0/24")
+                .add("192.168.1.64/27")
+                .build();
+
+        // 最长匹配 /26
+        assertTrue(trie.contains(ip("192.168.1.200")));
+        // 最长匹配 /25
+        assertTrue(trie.contains(ip("192.168.1.129")));
+        // 最长匹配 /27
+        assertTrue(trie.contains(ip("192.168.1.70")));
+        // 与 /27 共享前缀但不在网段内
+        assertFalse(trie.contains(ip("192.168.1.100")));
+        assertFalse(trie.contains(ip("192.168.1.1")));
+        assertTrue(trie.contains(ip("192.168.2.1")));
+        assertFalse(trie.contains(ip("192.168.3.1")));
+
+        // 网段地址中前缀之后的位会被忽略
+        var unmasked = CidrTrie.builder().add("172.16.5.4/12").build();
+        assertTrue(unmasked.contains(ip("172.31.255.255")));
+        assertFalse(unmasked.contains(ip("172.32.0.0")));
+    }
+
+    /**
+     * 格式不正确的网段
+     */
+    @Test
+    public void case6() {
+        assertThrows(IllegalArgumentException.class, () -> CidrTrie.builder().add("abc"));
+        assertThrows(IllegalArgumentException.class, () -> CidrTrie.builder().add("256.0.0.1"));
+        assertThrows(IllegalArgumentException.class, () -> CidrTrie.builder().add("10.0.0.0/33"));
+        assertThrows(IllegalArgumentException.class, () -> CidrTrie.builder().add("10.0.0.0/-1"));
+        assertThrows(IllegalArgumentException.class, () -> CidrTrie.builder().add("10.0.0.0/a"));
+        assertThrows(IllegalArgumentException.class, () -> CidrTrie.builder().add("10.0.0.0/"));
+        assertThrows(IllegalArgumentException.class, () -> CidrTrie.builder().add("2001:db8::/129"));
+        assertThrows(IllegalArgumentException.class, () -> CidrTrie.builder().add("example.com"));
+
+        // 首尾空白会被忽略
+        assertDoesNotThrow(() -> CidrTrie.builder().add(" 10.0.0.0/8 "));
+    }
+
+    /**
+     * 空前缀树不匹配任何地址
+     */
+    @Test
+    public void case7() throws Exception {
+        var trie = CidrTrie.builder().build();
+        assertFalse(trie.contains(ip("10.0.0.1")));
+        assertFalse(trie.contains(ip("::1")));
+    }
+
+    /**
+     * 随机网段与逐个比较的结果一致
+     */
+    @Test
+    public void case8() {
+        var random = new Random(20261018L);
+        for (int round = 0; round < 50; round++) {
+            var size = random.nextBoolean() ? 4 : 16;
+            var builder = CidrTrie.builder();
+            var addresses = new ArrayList<byte[]>();
+            var lengths = new ArrayList<Integer>();
+            for (int i = 0; i < 30; i++) {
+                var address = new byte[size];
+                random.nextBytes(address);
+                // 集中在较小的地址空间内，使网段之间更容易重叠
+                address[0] = (byte) (address[0] & 0x03);
+                var length = random.nextInt(size * 8 + 1);
+                builder.add(address, length);
+                addresses.add(address);
+                lengths.add(length);
+            }
+            var trie = builder.build();
+
+            for (int i = 0; i < 500; i++) {
+                var address = new byte[size];
+                random.nextBytes(address);
+                address[0] = (byte) (address[0] & 0x03);
+                if (i % 5 == 0) {
+                    // 取某个网段内的地址
+                    var index = random.nextInt(addresses.size());
+                    address = within(addresses.get(index), lengths.get(index), address);
+                }
+
+                var expected = false;
+                for (int j = 0; j < addresses.size(); j++) {
+                    expected |= prefixEquals(addresses.get(j), address, lengths.get(j));
+                }
+                assertEquals(expected, trie.contains(address));
+            }
+        }
+    }
+
+    private static boolean prefixEquals(byte[] network, byte[] address, int length) {
+        for (int i = 0; i < length; i++) {
+            var mask = 0x80 >>> (i & 7);
+            if ((network[i >>> 3] & mask) != (address[i >>> 3] & mask)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] within(byte[] network, int length, byte[] random) {
+        var result = random.clone();
+        for (int i = 0; i < length; i++) {
+            var mask = 0x80 >>> (i & 7);
+            result[i >>> 3] = (byte) ((result[i >>> 3] & ~mask) | (network[i >>> 3] & mask));
+        }
+        return result;
+    }
+}
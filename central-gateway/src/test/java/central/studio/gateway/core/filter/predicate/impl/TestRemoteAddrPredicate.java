@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.filter.predicate.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+import java.net.InetSocketAddress;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Remote Address Predicate Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestRemoteAddrPredicate {
+
+    private static ServerWebExchange exchange(String address) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/")
+                .remoteAddress(new InetSocketAddress(address, 12345)));
+    }
+
+    /**
+     * 白名单
+     */
+    @Test
+    public void case1() throws Exception {
+        var predicate = new RemoteAddrPredicate();
+        predicate.setWhiteIps("192.168.0.0/16, 10.0.0.1,2001:db8::/32");
+        predicate.afterPropertiesSet();
+
+        assertTrue(predicate.predicate(exchange("192.168.1.1")));
+        assertTrue(predicate.predicate(exchange("10.0.0.1")));
+        assertTrue(predicate.predicate(exchange("2001:db8::1")));
+        assertFalse(predicate.predicate(exchange("10.0.0.2")));
+        assertFalse(predicate.predicate(exchange("172.16.0.1")));
+        assertFalse(predicate.predicate(exchange("2001:db9::1")));
+    }
+
+    /**
+     * 黑名单
+     */
+    @Test
+    public void case2() throws Exception {
+        var predicate = new RemoteAddrPredicate();
+        predicate.setBlackIps("192.168.0.0/16,::1");
+        predicate.afterPropertiesSet();
+
+        assertFalse(predicate.predicate(exchange("192.168.1.1")));
+        assertFalse(predicate.predicate(exchange("::1")));
+        assertTrue(predicate.predicate(exchange("10.0.0.1")));
+        assertTrue(predicate.predicate(exchange("::2")));
+    }
+
+    /**
+     * 检测不到客户端地址时匹配成功
+     */
+    @Test
+    public void case3() throws Exception {
+        var predicate = new RemoteAddrPredicate();
+        predicate.setWhiteIps("10.0.0.0/8");
+        predicate.afterPropertiesSet();
+
+        assertTrue(predicate.predicate(MockServerWebExchange.from(MockServerHttpRequest.get("/"))));
+    }
+
+    /**
+     * 配置不正确
+     */
+    @Test
+    public void case4() {
+        // 白名单与黑名单不能同时为空
+        assertThrows(IllegalArgumentException.class, () -> new RemoteAddrPredicate().afterPropertiesSet());
+
+        // 白名单与黑名单不能同时不为空
+        assertThrows(IllegalArgumentException.class, () -> {
+            var predicate = new RemoteAddrPredicate();
+            predicate.setWhiteIps("10.0.0.0/8");
+            predicate.setBlackIps("192.168.0.0/16");
+            predicate.afterPropertiesSet();
+        });
+
+        // 网段格式不正确
+        assertThrows(IllegalArgumentException.class, () -> {
+            var predicate = new RemoteAddrPredicate();
+            predicate.setWhiteIps("10.0.0.0/8,10.0.0.0/40");
+            predicate.afterPropertiesSet();
+        });
+    }
+}
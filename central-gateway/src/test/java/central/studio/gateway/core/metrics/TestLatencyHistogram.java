@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Latency Histogram Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestLatencyHistogram {
+
+    /**
+     * 最大记录值（微秒）
+     */
+    private static final long MAX_VALUE = TimeUnit.HOURS.toMicros(1);
+
+    /**
+     * 相对误差上限
+     */
+    private static final double RELATIVE_ERROR = 1 / 32.0;
+
+    /**
+     * 小于 64 微秒的值精确记录
+     */
+    @Test
+    public void case1() {
+        for (long value = 0; value < 64; value++) {
+            assertEquals(value, LatencyHistogram.indexOf(value));
+            assertEquals(value, LatencyHistogram.valueOf((int) value));
+        }
+        // 64 之后每个桶覆盖 2 个值
+        assertEquals(64, LatencyHistogram.indexOf(64));
+        assertEquals(64, LatencyHistogram.indexOf(65));
+        assertEquals(65, LatencyHistogram.indexOf(66));
+        assertEquals(65, LatencyHistogram.valueOf(64));
+        // 128 之后每个桶覆盖 4 个值
+        assertEquals(LatencyHistogram.indexOf(127) + 1, LatencyHistogram.indexOf(128));
+        assertEquals(LatencyHistogram.indexOf(128), LatencyHistogram.indexOf(131));
+        assertEquals(131, LatencyHistogram.valueOf(LatencyHistogram.indexOf(128)));
+    }
+
+    /**
+     * 桶边界连续，并且每个值都落在相对误差范围内的桶中
+     */
+    @Test
+    public void case2() {
+        var last = LatencyHistogram.indexOf(MAX_VALUE);
+        for (int index = 0; index < last; index++) {
+            var upper = LatencyHistogram.valueOf(index);
+            assertEquals(index, LatencyHistogram.indexOf(upper), "index: " + index);
+            assertEquals(index + 1, LatencyHistogram.indexOf(upper + 1), "index: " + index);
+        }
+
+        var random = new Random(20261018);
+        for (int i = 0; i < 100000; i++) {
+            var value = (long) (Math.pow(MAX_VALUE, random.nextDouble()));
+            var upper = LatencyHistogram.valueOf(LatencyHistogram.indexOf(value));
+            assertTrue(upper >= value, "value: " + value);
+            assertTrue(upper - value <= value * RELATIVE_ERROR, "value: " + value);
+        }
+    }
+
+    /**
+     * 最大记录值
+     */
+    @Test
+    public void case3() {
+        var upper = LatencyHistogram.valueOf(LatencyHistogram.indexOf(MAX_VALUE));
+        assertTrue(upper >= MAX_VALUE);
+        assertTrue(upper - MAX_VALUE <= MAX_VALUE * RELATIVE_ERROR);
+
+        // 超过最大记录值的按最大记录值统计，不会越界
+        var histogram = new LatencyHistogram();
+        histogram.record(MAX_VALUE);
+        histogram.record(MAX_VALUE * 10);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(upper, histogram.getValueAtPercentile(0.5));
+        assertEquals(upper, histogram.getValueAtPercentile(1));
+
+        // 负数按 0 记录
+        histogram = new LatencyHistogram();
+        histogram.record(-1);
+        assertEquals(0, histogram.getValueAtPercentile(1));
+
+        // 没有记录
+        assertEquals(-1, new LatencyHistogram().getValueAtPercentile(0.5));
+    }
+
+    /**
+     * 分位值的相对误差
+     */
+    @Test
+    public void case4() {
+        var random = new Random(20261018);
+        var values = new long[100000];
+        var histogram = new LatencyHistogram();
+        for (int i = 0; i < values.length; i++) {
+            // 对数正态分布，与真实的请求延迟接近
+            values[i] = (long) Math.exp(9 + random.nextGaussian() * 1.5);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (var percentile : new double[]{0.01, 0.1, 0.5, 0.9, 0.99, 0.999, 1}) {
+            var expected = values[(int) Math.ceil(values.length * percentile) - 1];
+            var actual = histogram.getValueAtPercentile(percentile);
+            assertTrue(actual >= expected, "percentile: " + percentile);
+            assertTrue(actual - expected <= expected * RELATIVE_ERROR, "percentile: " + percentile);
+        }
+    }
+
+    /**
+     * 统计快照
+     */
+    @Test
+    public void case5() {
+        var histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getSnapshot().getCount());
+
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        var snapshot = histogram.getSnapshot();
+        assertEquals(1000, snapshot.getCount());
+        assertEquals(500.5, snapshot.getMean());
+        assertEquals(1000.0, snapshot.getMax());
+        assertEquals(500, snapshot.getP50(), 500 * RELATIVE_ERROR);
+        assertEquals(900, snapshot.getP90(), 900 * RELATIVE_ERROR);
+        assertEquals(990, snapshot.getP99(), 990 * RELATIVE_ERROR);
+        assertEquals(999, snapshot.getP999(), 999 * RELATIVE_ERROR);
+    }
+
+    /**
+     * 并发记录
+     */
+    @Test
+    public void case6() throws Exception {
+        var histogram = new LatencyHistogram();
+        var threads = 8;
+        var records = 100000;
+
+        var start = new CountDownLatch(1);
+        var workers = new ArrayList<Thread>();
+        for (int i = 0; i < threads; i++) {
+            var offset = i;
+            var worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int value = 1; value <= records; value++) {
+                    histogram.record(value + offset);
+                }
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (var worker : workers) {
+            worker.join();
+        }
+
+        // 没有丢失记录
+        var snapshot = histogram.getSnapshot();
+        assertEquals((long) threads * records, snapshot.getCount());
+        assertEquals((records + threads - 1) / 1000.0, snapshot.getMax());
+        assertEquals(records + threads - 1, histogram.getValueAtPercentile(1), (records + threads - 1) * RELATIVE_ERROR);
+        assertEquals(records / 2.0, histogram.getValueAtPercentile(0.5), records / 2.0 * RELATIVE_ERROR + threads);
+    }
+}
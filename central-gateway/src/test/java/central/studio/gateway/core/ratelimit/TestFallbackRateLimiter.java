@@ -0,0 +1,128 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.ratelimit;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Fallback Rate Limiter Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestFallbackRateLimiter {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(50);
+
+    private static final Duration COOLDOWN = Duration.ofSeconds(10);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.DAYS.toMillis(3));
+
+    /**
+     * 共享限流器可用时不使用本地计数
+     */
+    @Test
+    public void case1() {
+        var remoteCalls = new AtomicInteger();
+        var localCalls = new AtomicInteger();
+        var limiter = new FallbackRateLimiter(key -> {
+            remoteCalls.incrementAndGet();
+            return Mono.just(250L);
+        }, key -> {
+            localCalls.incrementAndGet();
+            return 0;
+        }, TIMEOUT, COOLDOWN, this.clock::get);
+
+        assertEquals(250L, limiter.tryAcquire("tenant").block());
+        assertEquals(250L, limiter.tryAcquire("tenant").block());
+        assertEquals(2, remoteCalls.get());
+        assertEquals(0, localCalls.get());
+        assertFalse(limiter.isSuspended());
+    }
+
+    /**
+     * 共享限流器失败后降级为本地计数，冷却时间内不再访问共享限流器，冷却后恢复
+     */
+    @Test
+    public void case2() {
+        var remoteCalls = new AtomicInteger();
+        var available = new AtomicInteger(0);
+        var local = new TokenBucketLimiter(1, Duration.ofHours(1), 2);
+        var limiter = new FallbackRateLimiter(key -> {
+            remoteCalls.incrementAndGet();
+            return available.get() > 0 ? Mono.just(0L) : Mono.error(new IllegalStateException("Connection refused"));
+        }, local, TIMEOUT, COOLDOWN, this.clock::get);
+
+        // 失败的请求使用本地计数
+        assertEquals(0L, limiter.tryAcquire("tenant").block());
+        assertEquals(1, remoteCalls.get());
+        assertTrue(limiter.isSuspended());
+
+        // 冷却时间内直接使用本地计数，本地限流仍然生效
+        this.clock.addAndGet(COOLDOWN.toMillis() - 1);
+        assertEquals(0L, limiter.tryAcquire("tenant").block());
+        assertTrue(limiter.tryAcquire("tenant").block() > 0);
+        assertEquals(1, remoteCalls.get());
+
+        // 冷却后重新访问共享限流器，仍然失败则继续冷却
+        this.clock.addAndGet(1);
+        assertTrue(limiter.tryAcquire("tenant").block() > 0);
+        assertEquals(2, remoteCalls.get());
+        assertTrue(limiter.isSuspended());
+        assertTrue(limiter.tryAcquire("tenant").block() > 0);
+        assertEquals(2, remoteCalls.get());
+
+        // 共享限流器恢复
+        available.set(1);
+        this.clock.addAndGet(COOLDOWN.toMillis());
+        assertEquals(0L, limiter.tryAcquire("tenant").block());
+        assertEquals(3, remoteCalls.get());
+        assertFalse(limiter.isSuspended());
+    }
+
+    /**
+     * 共享限流器超时后降级为本地计数
+     */
+    @Test
+    public void case3() {
+        var localCalls = new AtomicInteger();
+        var limiter = new FallbackRateLimiter(key -> Mono.never(), key -> {
+            localCalls.incrementAndGet();
+            return 0;
+        }, TIMEOUT, COOLDOWN, this.clock::get);
+
+        assertEquals(0L, limiter.tryAcquire("tenant").block(Duration.ofSeconds(5)));
+        assertEquals(1, localCalls.get());
+        assertTrue(limiter.isSuspended());
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.ratelimit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Shared Rate Limiter Test Cases
+ * <p>
+ * 需要 Redis 才能执行 Lua 脚本，通过 {@code -Dspring.data.redis.host=localhost} 指定 Redis 后执行
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@EnabledIfSystemProperty(named = "spring.data.redis.host", matches = ".+")
+public class TestSharedRateLimiter {
+
+    private LettuceConnectionFactory factory;
+
+    private ReactiveStringRedisTemplate redis;
+
+    /**
+     * 每个测试使用不同的缓存键前缀，避免相互影响
+     */
+    private String prefix;
+
+    @BeforeEach
+    public void before() {
+        var host = System.getProperty("spring.data.redis.host");
+        var port = Integer.parseInt(System.getProperty("spring.data.redis.port", "6379"));
+        this.factory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        this.factory.afterPropertiesSet();
+        this.redis = new ReactiveStringRedisTemplate(this.factory);
+        this.prefix = "central:gateway:test:" + UUID.randomUUID() + ":";
+    }
+
+    @AfterEach
+    public void after() {
+        this.redis.delete(this.redis.scan(ScanOptions.scanOptions().match(this.prefix + "*").build())).block();
+        this.factory.destroy();
+    }
+
+    /**
+     * 令牌桶：突发请求与等待时间
+     */
+    @Test
+    public void case1() {
+        // 每 720 秒生成一个令牌，桶容量 3。周期足够长，测试期间不会生成新的令牌
+        var limiter = new SharedTokenBucketLimiter(this.redis, this.prefix, 5, Duration.ofHours(1), 3);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0L, limiter.tryAcquire("tenant").block());
+        }
+
+        var wait = limiter.tryAcquire("tenant").block();
+        assertNotNull(wait);
+        assertTrue(wait > Duration.ofSeconds(719).toMillis() && wait <= Duration.ofSeconds(720).toMillis(), "wait: " + wait);
+
+        // 不同的限流键相互独立
+        assertEquals(0L, limiter.tryAcquire("other").block());
+
+        // 令牌桶的过期时间不超过桶装满所需的时间
+        var ttl = this.redis.getExpire(this.prefix + "tenant").block();
+        assertNotNull(ttl);
+        assertTrue(ttl.compareTo(Duration.ofSeconds(3 * 720)) <= 0, "ttl: " + ttl);
+    }
+
+    /**
+     * 滑动窗口：当前窗口的请求数达到上限
+     */
+    @Test
+    public void case2() {
+        var limiter = new SharedSlidingWindowLimiter(this.redis, this.prefix, 3, Duration.ofHours(1));
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0L, limiter.tryAcquire("tenant").block());
+        }
+
+        // 需要等到下一个窗口，并且上一个窗口的权重下降到 2/3，即当前窗口剩余时间再加上 1/3 个周期
+        var wait = limiter.tryAcquire("tenant").block();
+        assertNotNull(wait);
+        assertTrue(wait > Duration.ofMinutes(20).toMillis() && wait <= Duration.ofMinutes(80).toMillis(), "wait: " + wait);
+
+        assertEquals(0L, limiter.tryAcquire("other").block());
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Sliding Window Limiter Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestSlidingWindowLimiter {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.DAYS.toNanos(3));
+
+    private void advance(long millis) {
+        this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * 当前窗口的请求数达到上限
+     */
+    @Test
+    public void case1() {
+        var limiter = new SlidingWindowLimiter(10, Duration.ofSeconds(1), this.clock::get);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, limiter.tryAcquire("tenant"));
+        }
+        // 需要等到下一个窗口，并且上一个窗口的权重下降到 0.9
+        assertEquals(1100, limiter.tryAcquire("tenant"));
+
+        this.advance(500);
+        assertEquals(600, limiter.tryAcquire("tenant"));
+    }
+
+    /**
+     * 窗口滑动后，上一个窗口的请求数按权重计算
+     */
+    @Test
+    public void case2() {
+        var limiter = new SlidingWindowLimiter(10, Duration.ofSeconds(1), this.clock::get);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, limiter.tryAcquire("tenant"));
+        }
+
+        this.advance(1100);
+        // 10 * 0.9 + 0 + 1 <= 10
+        assertEquals(0, limiter.tryAcquire("tenant"));
+        // 10 * 0.9 + 1 + 1 > 10，需要等到上一个窗口的权重下降到 0.8
+        assertEquals(100, limiter.tryAcquire("tenant"));
+
+        this.advance(100);
+        assertEquals(0, limiter.tryAcquire("tenant"));
+
+        // 上一个窗口的权重为 0.5 时，当前窗口一共可以放行 5 个请求
+        this.advance(300);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire("tenant"));
+        }
+        assertEquals(100, limiter.tryAcquire("tenant"));
+    }
+
+    /**
+     * 窗口翻转
+     */
+    @Test
+    public void case3() {
+        var limiter = new SlidingWindowLimiter(10, Duration.ofSeconds(1), this.clock::get);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, limiter.tryAcquire("tenant"));
+        }
+
+        // 跳过两个以上的窗口后，上一个窗口与当前窗口都被清空
+        this.advance(2500);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(0, limiter.tryAcquire("tenant"));
+        }
+        // 窗口边界按周期对齐，当前窗口已经过去 500ms
+        assertEquals(600, limiter.tryAcquire("tenant"));
+    }
+
+    /**
+     * 窗口滑动
+     */
+    @Test
+    public void case4() {
+        var window = new SlidingWindowLimiter.Window(0, 3, 7);
+
+        // 仍然在当前窗口内
+        assertSame(window, window.slide(SECOND - 1, SECOND));
+        // 滑动到下一个窗口，当前窗口成为上一个窗口
+        assertEquals(new SlidingWindowLimiter.Window(SECOND, 7, 0), window.slide(SECOND, SECOND));
+        assertEquals(new SlidingWindowLimiter.Window(SECOND, 7, 0), window.slide(SECOND * 2 - 1, SECOND));
+        // 跳过了一个以上的窗口，窗口边界仍然按周期对齐
+        assertEquals(new SlidingWindowLimiter.Window(SECOND * 2, 0, 0), window.slide(SECOND * 2, SECOND));
+        assertEquals(new SlidingWindowLimiter.Window(SECOND * 5, 0, 0), window.slide(SECOND * 5 + 1, SECOND));
+    }
+
+    /**
+     * 估算的等待时间
+     */
+    @Test
+    public void case5() {
+        // 没有请求
+        assertEquals(0, SlidingWindowLimiter.estimate(0, 0, 0, SECOND, 1));
+        // 上一个窗口的请求数按剩余时间加权
+        assertEquals(0, SlidingWindowLimiter.estimate(10, 0, SECOND / 10, SECOND, 10));
+        assertEquals(SECOND / 10, SlidingWindowLimiter.estimate(10, 0, 0, SECOND, 10));
+        // 当前窗口已满
+        assertEquals(SECOND + SECOND / 10, SlidingWindowLimiter.estimate(0, 10, 0, SECOND, 10));
+        // 限额为 1 时，必须等到下一个窗口结束
+        assertEquals(SECOND * 2, SlidingWindowLimiter.estimate(0, 1, 0, SECOND, 1));
+    }
+
+    /**
+     * 等待估算的时间后一定可以放行；浮点运算可能使估算多出几纳秒，但提前 1µs 一定不能放行
+     */
+    @Test
+    public void case6() {
+        var random = new Random(20261018);
+        for (int i = 0; i < 100000; i++) {
+            var limit = 1 + random.nextInt(100);
+            var window = new SlidingWindowLimiter.Window(0, random.nextInt(limit + 1), random.nextInt(limit + 1));
+            var now = (long) random.nextInt((int) SECOND);
+
+            var wait = SlidingWindowLimiter.estimate(window.previous(), window.current(), now, SECOND, limit);
+            if (wait <= 0) {
+                continue;
+            }
+
+            var message = window + " at " + now + " with limit " + limit;
+            assertTrue(allowed(window, now + wait, limit), message);
+            if (wait > 1000) {
+                assertFalse(allowed(window, now + wait - 1000, limit), message);
+            }
+        }
+    }
+
+    private static boolean allowed(SlidingWindowLimiter.Window window, long now, int limit) {
+        var current = window.slide(now, SECOND);
+        return SlidingWindowLimiter.estimate(current.previous(), current.current(), now - current.start(), SECOND, limit) <= 0;
+    }
+}
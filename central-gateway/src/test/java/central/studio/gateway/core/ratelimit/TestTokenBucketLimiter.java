@@ -0,0 +1,167 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.gateway.core.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Token Bucket Limiter Test Cases
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+public class TestTokenBucketLimiter {
+
+    /**
+     * 使用任意起点，确认算法不依赖时钟的绝对值
+     */
+    private final AtomicLong clock = new AtomicLong(TimeUnit.DAYS.toNanos(3));
+
+    private void advance(long millis) {
+        this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * 突发请求
+     */
+    @Test
+    public void case1() {
+        // 每 100ms 生成一个令牌，桶容量 5
+        var limiter = new TokenBucketLimiter(10, Duration.ofSeconds(1), 5, this.clock::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("tenant"));
+        }
+        // 令牌已经用完，需要等待一个令牌的生成间隔
+        assertEquals(100, limiter.tryAcquire("tenant"));
+        // 被拒绝的请求不消耗令牌
+        assertEquals(100, limiter.tryAcquire("tenant"));
+    }
+
+    /**
+     * 令牌补充
+     */
+    @Test
+    public void case2() {
+        var limiter = new TokenBucketLimiter(10, Duration.ofSeconds(1), 5, this.clock::get);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("tenant"));
+        }
+
+        this.advance(40);
+        assertEquals(60, limiter.tryAcquire("tenant"));
+
+        // 生成了一个令牌
+        this.advance(60);
+        assertEquals(0, limiter.tryAcquire("tenant"));
+        assertEquals(100, limiter.tryAcquire("tenant"));
+
+        // 按固定速率放行
+        for (int i = 0; i < 10; i++) {
+            this.advance(100);
+            assertEquals(0, limiter.tryAcquire("tenant"));
+            assertTrue(limiter.tryAcquire("tenant") > 0);
+        }
+
+        // 空闲足够长的时间后，令牌桶装满，但不会超过桶容量
+        this.advance(10000);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("tenant"));
+        }
+        assertEquals(100, limiter.tryAcquire("tenant"));
+    }
+
+    /**
+     * 不同的限流键相互独立
+     */
+    @Test
+    public void case3() {
+        var limiter = new TokenBucketLimiter(1, Duration.ofSeconds(1), 1, this.clock::get);
+
+        assertEquals(0, limiter.tryAcquire("tenant:ip=10.0.0.1"));
+        assertEquals(1000, limiter.tryAcquire("tenant:ip=10.0.0.1"));
+        assertEquals(0, limiter.tryAcquire("tenant:ip=10.0.0.2"));
+        assertEquals(1000, limiter.tryAcquire("tenant:ip=10.0.0.2"));
+    }
+
+    /**
+     * 等待时间不足 1ms 时向上取整
+     */
+    @Test
+    public void case4() {
+        var limiter = new TokenBucketLimiter(10, Duration.ofSeconds(1), 1, this.clock::get);
+
+        assertEquals(0, limiter.tryAcquire("tenant"));
+        this.clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(100) - 1);
+        assertEquals(1, limiter.tryAcquire("tenant"));
+        this.clock.incrementAndGet();
+        assertEquals(0, limiter.tryAcquire("tenant"));
+    }
+
+    /**
+     * 清理空闲的限流键
+     */
+    @Test
+    public void case5() {
+        var limiter = new TokenBucketLimiter(10, Duration.ofSeconds(1), 5, this.clock::get);
+
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(0, limiter.tryAcquire("b"));
+        assertEquals(2, limiter.states.size());
+
+        // 还没有到清理时间
+        this.advance(10000);
+        assertEquals(0, limiter.tryAcquire("b"));
+        assertEquals(2, limiter.states.size());
+
+        // 令牌桶已经装满的限流键会被清理
+        this.advance(TimeUnit.SECONDS.toMillis(30));
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("b"));
+        }
+        assertEquals(1, limiter.states.size());
+        assertTrue(limiter.states.containsKey("b"));
+
+        // 令牌桶没有装满的限流键不会被清理
+        this.advance(TimeUnit.SECONDS.toMillis(30) - 300);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(0, limiter.tryAcquire("b"));
+        }
+        this.advance(400);
+        assertEquals(0, limiter.tryAcquire("a"));
+        assertEquals(2, limiter.states.size());
+        // 已经生成了 4 个令牌
+        for (int i = 0; i < 4; i++) {
+            assertEquals(0, limiter.tryAcquire("b"));
+        }
+        assertEquals(100, limiter.tryAcquire("b"));
+    }
+}
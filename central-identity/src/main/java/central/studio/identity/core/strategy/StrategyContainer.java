@@ -24,15 +24,16 @@
 
 package central.studio.identity.core.strategy;
 
+import central.data.identity.IdentityStrategy;
 import central.lang.Assertx;
 import central.lang.Stringx;
+import central.provider.scheduled.PluginRegistry;
 import central.provider.scheduled.event.DataRefreshEvent;
 import central.provider.scheduled.fetcher.DataFetcherType;
 import central.provider.scheduled.fetcher.identity.IdentityContainer;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEvent;
@@ -42,7 +43,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.*;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * 插件容器
@@ -50,7 +52,6 @@ import java.util.*;
  * @author Alan Yeh
  * @since 2022/11/05
  */
-@Slf4j
 @Component
 public class StrategyContainer implements DisposableBean, GenericApplicationListener {
 
@@ -61,8 +62,10 @@ public class StrategyContainer implements DisposableBean, GenericApplicationList
      * 安全策略
      * <p>
      * tenant -> code -> strategy
+     * <p>
+     * 每次刷新数据时都会创建新的不可变快照再整体替换，请求线程读取时不需要加锁
      */
-    private final Map<String, Map<String, DynamicStrategyFilter>> strategies = new HashMap<>();
+    private final PluginRegistry<IdentityStrategy, DynamicStrategyFilter> strategies = new PluginRegistry<>(DynamicStrategyFilter::getData, IdentityStrategy::getModifyDate);
 
     /**
      * 根据标识获取安全策略
@@ -71,7 +74,7 @@ public class StrategyContainer implements DisposableBean, GenericApplicationList
      * @param code   标识
      */
     public @Nullable DynamicStrategyFilter getStrategy(String tenant, String code) {
-        return this.strategies.computeIfAbsent(tenant, key -> new HashMap<>()).get(code);
+        return this.strategies.get(tenant, code);
     }
 
     /**
@@ -80,7 +83,7 @@ public class StrategyContainer implements DisposableBean, GenericApplicationList
      * @param tenant 租户标识
      */
     public @Nonnull List<DynamicStrategyFilter> getStrategies(String tenant) {
-        return new ArrayList<>(this.strategies.computeIfAbsent(tenant, key -> new HashMap<>()).values());
+        return this.strategies.list(tenant);
     }
 
     /**
@@ -94,7 +97,7 @@ public class StrategyContainer implements DisposableBean, GenericApplicationList
     }
 
     public @Nullable DynamicStrategyFilter putStrategy(String tenant, DynamicStrategyFilter strategy) {
-        return this.strategies.computeIfAbsent(tenant, key -> new HashMap<>()).put(strategy.getData().getCode(), strategy);
+        return this.strategies.put(tenant, strategy.getData().getCode(), strategy);
     }
 
     @Override
@@ -111,46 +114,14 @@ public class StrategyContainer implements DisposableBean, GenericApplicationList
 
             var container = (IdentityContainer) refreshEvent.getContainer();
 
-            {
-                // 初始化存储器
-                for (var tenant : container.getStrategies().entrySet()) {
-                    for (var data : tenant.getValue().values()) {
-                        var current = this.getStrategy(tenant.getKey(), data.getCode());
-                        if (current == null || !Objects.equals(data.getModifyDate(), current.getData().getModifyDate())) {
-                            // 如果当前没有，或者已经过期了，就创建新的安全策略
-                            var strategy = new DynamicStrategyFilter(data, this.resolver);
-                            var old = this.putStrategy(tenant.getKey(), strategy);
-                            if (old != null) {
-                                try {
-                                    old.destroy();
-                                } catch (Exception ex) {
-                                    log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+            // 初始化安全策略，已删除的安全策略会被销毁
+            this.strategies.refresh(container.getStrategies(), data -> new DynamicStrategyFilter(data, this.resolver));
         }
     }
 
     @Override
     public void destroy() throws Exception {
-        {
-            // 销毁安全策略
-            for (var tenant : this.strategies.entrySet()) {
-                var codes = new HashSet<>(tenant.getValue().keySet());
-                for (var code : codes) {
-                    var strategy = tenant.getValue().remove(code);
-                    if (strategy != null) {
-                        try {
-                            strategy.destroy();
-                        } catch (Exception ex) {
-                            log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                        }
-                    }
-                }
-            }
-        }
+        // 销毁安全策略
+        this.strategies.destroy();
     }
 }
@@ -24,6 +24,10 @@
 
 package central.studio.logging.core;
 
+import central.data.log.LogCollector;
+import central.data.log.LogFilter;
+import central.data.log.LogStorage;
+import central.provider.scheduled.PluginRegistry;
 import central.provider.scheduled.event.DataRefreshEvent;
 import central.provider.scheduled.fetcher.DataFetcherType;
 import central.provider.scheduled.fetcher.log.LogContainer;
@@ -35,7 +39,6 @@ import central.studio.logging.core.storage.DynamicStorage;
 import central.studio.logging.core.storage.StorageResolver;
 import jakarta.annotation.Nonnull;
 import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -46,9 +49,6 @@ import org.springframework.context.event.GenericApplicationListener;
 import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -57,7 +57,6 @@ import java.util.Objects;
  * @author Alan Yeh
  * @since 2022/10/25
  */
-@Slf4j
 @Component
 public class LoggingContainer implements ApplicationContextAware, DisposableBean, InitializingBean, GenericApplicationListener {
 
@@ -80,15 +79,11 @@ public class LoggingContainer implements ApplicationContextAware, DisposableBean
         return this.collectors.get(id);
     }
 
-    private DynamicCollector putCollector(String id, DynamicCollector collector) {
-        return this.collectors.put(id, collector);
-    }
-
     /**
      * 采集器
      * id -> Collector
      */
-    private final Map<String, DynamicCollector> collectors = new HashMap<>();
+    private final PluginRegistry<LogCollector, DynamicCollector> collectors = new PluginRegistry<>(DynamicCollector::getData, LogCollector::getModifyDate);
 
     /**
      * 根据主键获取过滤器
@@ -97,15 +92,11 @@ public class LoggingContainer implements ApplicationContextAware, DisposableBean
         return this.filters.get(id);
     }
 
-    private DynamicFilter putFilter(String id, DynamicFilter filter) {
-        return this.filters.put(id, filter);
-    }
-
     /**
      * 过滤器
      * id -> Filter
      */
-    private final Map<String, DynamicFilter> filters = new HashMap<>();
+    private final PluginRegistry<LogFilter, DynamicFilter> filters = new PluginRegistry<>(DynamicFilter::getData, LogFilter::getModifyDate);
 
     /**
      * 根据主键获取存储器
@@ -114,16 +105,11 @@ public class LoggingContainer implements ApplicationContextAware, DisposableBean
         return this.storages.get(id);
     }
 
-    private DynamicStorage putStorage(String id, DynamicStorage storage) {
-        return this.storages.put(id, storage);
-    }
-
     /**
      * 存储器
      * id -> Storage
      */
-    private final Map<String, DynamicStorage> storages = new HashMap<>();
-
+    private final PluginRegistry<LogStorage, DynamicStorage> storages = new PluginRegistry<>(DynamicStorage::getData, LogStorage::getModifyDate);
 
     @Override
     public boolean supportsEventType(@Nonnull ResolvableType eventType) {
@@ -138,62 +124,15 @@ public class LoggingContainer implements ApplicationContextAware, DisposableBean
             }
             var container = (LogContainer) refreshEvent.getContainer();
 
-            {
-                // 初始化采集器
-                for (var data : container.getCollectors()) {
-                    var current = this.getCollector(data.getId());
-                    if (current == null || !Objects.equals(data.getModifyDate(), current.getData().getModifyDate())) {
-                        // 如果当前没有，或者已经过期了，就创建新的采集器
-                        var collector = new DynamicCollector(data, this.collectorResolver, this.applicationContext);
-                        var old = this.collectors.put(data.getId(), collector);
-                        if (old != null) {
-                            try {
-                                old.destroy();
-                            } catch (Exception ex) {
-                                log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                            }
-                        }
-                    }
-                }
-            }
-
-            {
-                // 初始化存储器
-                for (var data : container.getStorages()) {
-                    var current = this.getStorage(data.getId());
-                    if (current == null || !Objects.equals(data.getModifyDate(), current.getData().getModifyDate())) {
-                        // 如果当前没有，或者已经过期了，就创建新的存储器
-                        var storage = new DynamicStorage(data, this.storageResolver);
-                        var old = this.storages.put(data.getId(), storage);
-                        if (old != null) {
-                            try {
-                                old.destroy();
-                            } catch (Exception ex) {
-                                log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                            }
-                        }
-                    }
-                }
-            }
+            // 插件的数据在每次刷新时整体替换，已删除的插件会被销毁
+            // 过滤器在创建时需要关联采集器和存储器，因此最后初始化过滤器
 
-            {
-                // 初始化过滤器
-                for (var data : container.getFilters()) {
-                    var current = this.getFilter(data.getId());
-                    if (current == null || !Objects.equals(data.getModifyDate(), current.getData().getModifyDate())) {
-                        // 如果当前没有，或者已经过期了，就创建新的过滤器
-                        var filter = new DynamicFilter(data, this, this.predicateResolver);
-                        var old = this.filters.put(data.getId(), filter);
-                        if (old != null) {
-                            try {
-                                old.destroy();
-                            } catch (Exception ex) {
-                                log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                            }
-                        }
-                    }
-                }
-            }
+            // 初始化采集器
+            this.collectors.refresh(container.getCollectors(), LogCollector::getId, data -> new DynamicCollector(data, this.collectorResolver, this.applicationContext));
+            // 初始化存储器
+            this.storages.refresh(container.getStorages(), LogStorage::getId, data -> new DynamicStorage(data, this.storageResolver));
+            // 初始化过滤器
+            this.filters.refresh(container.getFilters(), LogFilter::getId, data -> new DynamicFilter(data, this, this.predicateResolver));
         }
     }
 
@@ -204,49 +143,11 @@ public class LoggingContainer implements ApplicationContextAware, DisposableBean
 
     @Override
     public void destroy() throws Exception {
-        {
-            // 销毁过滤器
-            var ids = new HashSet<>(this.filters.keySet());
-            for (var id : ids) {
-                var filter = this.filters.remove(id);
-                if (filter != null) {
-                    try {
-                        filter.destroy();
-                    } catch (Exception ex) {
-                        log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                    }
-                }
-            }
-        }
-
-        {
-            // 销毁存储器
-            var ids = new HashSet<>(this.storages.keySet());
-            for (var id : ids) {
-                var storage = this.storages.remove(id);
-                if (storage != null) {
-                    try {
-                        storage.destroy();
-                    } catch (Exception ex) {
-                        log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                    }
-                }
-            }
-        }
-
-        {
-            // 销毁采集器
-            var ids = new HashSet<>(this.collectors.keySet());
-            for (var id : ids) {
-                var collector = this.collectors.remove(id);
-                if (collector != null) {
-                    try {
-                        collector.destroy();
-                    } catch (Exception ex) {
-                        log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                    }
-                }
-            }
-        }
+        // 销毁过滤器
+        this.filters.destroy();
+        // 销毁存储器
+        this.storages.destroy();
+        // 销毁采集器
+        this.collectors.destroy();
     }
 }
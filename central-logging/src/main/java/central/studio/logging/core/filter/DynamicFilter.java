@@ -114,7 +114,10 @@ public class DynamicFilter implements Filter, DisposableBean {
         // 取消与采集器的关联
         for (var collectorId : this.collectorIds) {
             var collector = this.container.getCollector(collectorId);
-            collector.deregister(this);
+            if (collector != null) {
+                // 采集器可能已经被删除
+                collector.deregister(this);
+            }
         }
 
         for (var predicate : this.predicates) {
@@ -24,15 +24,16 @@
 
 package central.studio.multicast.core;
 
+import central.data.multicast.MulticastBroadcaster;
 import central.lang.Assertx;
 import central.lang.Stringx;
+import central.provider.scheduled.PluginRegistry;
 import central.provider.scheduled.event.DataRefreshEvent;
 import central.provider.scheduled.fetcher.DataFetcherType;
 import central.provider.scheduled.fetcher.multicast.MulticastContainer;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEvent;
@@ -42,7 +43,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.*;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Multicast Container
@@ -52,7 +54,6 @@ import java.util.*;
  * @author Alan Yeh
  * @since 2022/11/04
  */
-@Slf4j
 @Component
 public class BroadcasterContainer implements DisposableBean, GenericApplicationListener {
 
@@ -63,8 +64,10 @@ public class BroadcasterContainer implements DisposableBean, GenericApplicationL
      * 存储桶
      * <p>
      * tenant -> code -> broadcaster
+     * <p>
+     * 每次刷新数据时都会创建新的不可变快照再整体替换，请求线程读取时不需要加锁
      */
-    private final Map<String, Map<String, DynamicBroadcaster>> broadcasters = new HashMap<>();
+    private final PluginRegistry<MulticastBroadcaster, DynamicBroadcaster> broadcasters = new PluginRegistry<>(DynamicBroadcaster::getData, MulticastBroadcaster::getModifyDate);
 
     /**
      * 根据标识获取存储桶
@@ -73,7 +76,7 @@ public class BroadcasterContainer implements DisposableBean, GenericApplicationL
      * @param code   标识
      */
     public @Nullable DynamicBroadcaster getBroadcaster(String tenant, String code) {
-        return this.broadcasters.computeIfAbsent(tenant, key -> new HashMap<>()).get(code);
+        return this.broadcasters.get(tenant, code);
     }
 
     /**
@@ -82,7 +85,7 @@ public class BroadcasterContainer implements DisposableBean, GenericApplicationL
      * @param tenant 租户标识
      */
     public @Nonnull List<DynamicBroadcaster> getBroadcasters(String tenant) {
-        return new ArrayList<>(this.broadcasters.computeIfAbsent(tenant, key -> new HashMap<>()).values());
+        return this.broadcasters.list(tenant);
     }
 
     /**
@@ -95,10 +98,6 @@ public class BroadcasterContainer implements DisposableBean, GenericApplicationL
         return Assertx.requireNotNull(this.getBroadcaster(tenant, code), () -> new ResponseStatusException(HttpStatus.NOT_FOUND, Stringx.format("存储桶[code={}]不存在", code)));
     }
 
-    private @Nullable DynamicBroadcaster putBroadcaster(String tenant, DynamicBroadcaster broadcaster) {
-        return this.broadcasters.computeIfAbsent(tenant, key -> new HashMap<>()).put(broadcaster.getData().getCode(), broadcaster);
-    }
-
     @Override
     public boolean supportsEventType(ResolvableType eventType) {
         return eventType.getType() == DataRefreshEvent.class;
@@ -113,46 +112,14 @@ public class BroadcasterContainer implements DisposableBean, GenericApplicationL
 
             var container = (MulticastContainer) refreshEvent.getContainer();
 
-            {
-                // 初始化存储器
-                for (var tenant : container.getBroadcasters().entrySet()) {
-                    for (var data : tenant.getValue().values()) {
-                        var current = this.getBroadcaster(tenant.getKey(), data.getCode());
-                        if (current == null || !Objects.equals(data.getModifyDate(), current.getData().getModifyDate())) {
-                            // 如果当前没有，或者已经过期了，就创建新的存储桶
-                            var broadcaster = new DynamicBroadcaster(data, this.resolver);
-                            var old = this.putBroadcaster(tenant.getKey(), broadcaster);
-                            if (old != null) {
-                                try {
-                                    old.destroy();
-                                } catch (Exception ex) {
-                                    log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+            // 初始化存储桶，已删除的存储桶会被销毁
+            this.broadcasters.refresh(container.getBroadcasters(), data -> new DynamicBroadcaster(data, this.resolver));
         }
     }
 
     @Override
     public void destroy() throws Exception {
-        {
-            // 销毁存储桶
-            for (var tenant : this.broadcasters.entrySet()) {
-                var codes = new HashSet<>(tenant.getValue().keySet());
-                for (var code : codes) {
-                    var broadcaster = tenant.getValue().remove(code);
-                    if (broadcaster != null) {
-                        try {
-                            broadcaster.destroy();
-                        } catch (Exception ex) {
-                            log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                        }
-                    }
-                }
-            }
-        }
+        // 销毁存储桶
+        this.broadcasters.destroy();
     }
-}
\ No newline at end of file
+}
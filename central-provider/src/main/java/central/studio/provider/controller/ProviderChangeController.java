@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.provider.controller;
+
+import central.studio.provider.ProviderProperties;
+import central.studio.provider.core.DataChangeNotifier;
+import central.web.XForwardedHeaders;
+import jakarta.annotation.Nullable;
+import lombok.Setter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * Data Change
+ * <p>
+ * 数据变更订阅
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@RestController
+@RequestMapping("/provider/changes")
+public class ProviderChangeController {
+
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
+    @Setter(onMethod_ = @Autowired)
+    private ProviderProperties properties;
+
+    /**
+     * 订阅数据变更
+     * <p>
+     * 只允许主租户使用数据服务中心的密钥订阅
+     *
+     * @param tenant        租户标识
+     * @param authorization 数据服务中心密钥
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(XForwardedHeaders.TENANT) String tenant,
+                                @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) @Nullable String authorization) {
+        if (!"master".equals(tenant)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "只有主租户[master]才允许访问本接口");
+        }
+        if (authorization == null || !MessageDigest.isEqual(this.properties.getKey().getBytes(StandardCharsets.UTF_8), authorization.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "密钥错误");
+        }
+        return this.notifier.subscribe();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.studio.provider.core;
+
+import central.provider.scheduled.event.DataChange;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.util.Jsonx;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 数据变更通知
+ * <p>
+ * 热数据（租户、网关过滤器、存储桶等）变更后，通过 Server-Sent Events 通知所有订阅方立即重新获取数据
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+@Component
+public class DataChangeNotifier implements DisposableBean {
+
+    private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    /**
+     * 发送线程
+     * <p>
+     * 数据变更与心跳都在该线程中按顺序发送，订阅方接收较慢时不会阻塞修改数据的线程。
+     * 定时发送心跳，及时清理已经断开的连接，订阅方也通过心跳发现已经失效的连接
+     */
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("central-data-notifier"));
+
+    public DataChangeNotifier() {
+        this.executor.scheduleWithFixedDelay(() -> this.send(() -> SseEmitter.event().comment("heartbeat")), 30, 30, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        this.executor.shutdownNow();
+        for (var emitter : this.emitters) {
+            emitter.complete();
+        }
+        this.emitters.clear();
+    }
+
+    /**
+     * 订阅数据变更
+     */
+    public SseEmitter subscribe() {
+        // 长连接，不超时
+        var emitter = new SseEmitter(0L);
+        emitter.onCompletion(() -> this.emitters.remove(emitter));
+        emitter.onTimeout(() -> this.emitters.remove(emitter));
+        emitter.onError(ex -> this.emitters.remove(emitter));
+        this.emitters.add(emitter);
+        return emitter;
+    }
+
+    /**
+     * 发布数据变更
+     * <p>
+     * 如果当前存在事务，则在事务提交后再通知，避免订阅方获取到未提交的数据
+     *
+     * @param fetcher 数据类型
+     * @param tenant  租户标识
+     */
+    public void publish(DataFetcherType fetcher, String tenant) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishNow(fetcher, tenant);
+                }
+            });
+        } else {
+            this.publishNow(fetcher, tenant);
+        }
+    }
+
+    /**
+     * 发布所有类型的数据变更
+     * <p>
+     * 租户变更会影响所有按租户获取的数据。由于租户变更可能会改变订阅方需要获取的租户，
+     * 因此除租户数据外，其它数据的变更不指定租户，避免订阅方将其当作无关租户的数据变更忽略
+     *
+     * @param tenant 租户标识
+     */
+    public void publishAll(String tenant) {
+        for (var fetcher : DataFetcherType.values()) {
+            this.publish(fetcher, fetcher == DataFetcherType.SAAS ? tenant : null);
+        }
+    }
+
+    private void publishNow(DataFetcherType fetcher, String tenant) {
+        if (this.emitters.isEmpty()) {
+            return;
+        }
+        var data = Jsonx.Default().serialize(new DataChange(fetcher.getValue(), tenant));
+        try {
+            this.executor.execute(() -> this.send(() -> SseEmitter.event().name("change").data(data, MediaType.APPLICATION_JSON)));
+        } catch (RejectedExecutionException ignored) {
+            // 应用正在关闭，订阅方会在重新连接后重新获取数据
+        }
+    }
+
+    private void send(Supplier<SseEmitter.SseEventBuilder> event) {
+        for (var emitter : this.emitters) {
+            try {
+                // SseEventBuilder 不能重复使用，每个连接单独创建
+                emitter.send(event.get());
+            } catch (Exception ex) {
+                log.debug("推送数据变更失败: " + ex.getLocalizedMessage());
+                this.emitters.remove(emitter);
+                emitter.completeWithError(ex);
+            }
+        }
+    }
+}
@@ -27,6 +27,8 @@ package central.studio.provider.graphql.gateway.mutation;
 import central.provider.graphql.DTO;
 import central.data.gateway.GatewayFilterInput;
 import central.lang.Stringx;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.studio.provider.core.DataChangeNotifier;
 import central.studio.provider.graphql.gateway.dto.GatewayFilterDTO;
 import central.studio.provider.graphql.gateway.entity.GatewayFilterEntity;
 import central.studio.provider.graphql.gateway.mapper.GatewayFilterMapper;
@@ -64,6 +66,9 @@ public class GatewayFilterMutation {
     @Setter(onMethod_ = @Autowired)
     private GatewayFilterMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
     /**
      * 保存数据
      *
@@ -80,6 +85,7 @@ public class GatewayFilterMutation {
         entity.setTenantCode(tenant);
         entity.updateCreator(operator);
         this.mapper.insert(entity);
+        this.notifier.publish(DataFetcherType.GATEWAY, tenant);
 
         return DTO.wrap(entity, GatewayFilterDTO.class);
     }
@@ -118,6 +124,7 @@ public class GatewayFilterMutation {
         entity.setTenantCode(tenant);
         entity.updateModifier(operator);
         this.mapper.update(entity);
+        this.notifier.publish(DataFetcherType.GATEWAY, tenant);
 
         return DTO.wrap(entity, GatewayFilterDTO.class);
     }
@@ -149,7 +156,9 @@ public class GatewayFilterMutation {
             return 0;
         }
 
-        return this.mapper.deleteBy(Conditions.of(GatewayFilterEntity.class).in(GatewayFilterEntity::getId, ids).eq(GatewayFilterEntity::getTenantCode, tenant));
+        var effected = this.mapper.deleteBy(Conditions.of(GatewayFilterEntity.class).in(GatewayFilterEntity::getId, ids).eq(GatewayFilterEntity::getTenantCode, tenant));
+        this.notifier.publish(DataFetcherType.GATEWAY, tenant);
+        return effected;
     }
 
     /**
@@ -167,6 +176,8 @@ public class GatewayFilterMutation {
             return 0L;
         }
 
-        return this.mapper.deleteBy(conditions);
+        var effected = this.mapper.deleteBy(conditions);
+        this.notifier.publish(DataFetcherType.GATEWAY, tenant);
+        return effected;
     }
 }
@@ -27,6 +27,8 @@ package central.studio.provider.graphql.identity.mutation;
 import central.provider.graphql.DTO;
 import central.data.identity.IdentityStrategyInput;
 import central.lang.Stringx;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.studio.provider.core.DataChangeNotifier;
 import central.studio.provider.graphql.identity.dto.IdentityStrategyDTO;
 import central.studio.provider.graphql.identity.entity.IdentityStrategyEntity;
 import central.studio.provider.graphql.identity.mapper.IdentityStrategyMapper;
@@ -65,6 +67,9 @@ public class IdentityStrategyMutation {
     @Setter(onMethod_ = @Autowired)
     private IdentityStrategyMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
     /**
      * 保存数据
      *
@@ -86,6 +91,7 @@ public class IdentityStrategyMutation {
         entity.setTenantCode(tenant);
         entity.updateCreator(operator);
         this.mapper.insert(entity);
+        this.notifier.publish(DataFetcherType.IDENTITY, tenant);
 
         return DTO.wrap(entity, IdentityStrategyDTO.class);
     }
@@ -131,6 +137,7 @@ public class IdentityStrategyMutation {
         entity.setTenantCode(tenant);
         entity.updateModifier(operator);
         this.mapper.update(entity);
+        this.notifier.publish(DataFetcherType.IDENTITY, tenant);
 
         return DTO.wrap(entity, IdentityStrategyDTO.class);
     }
@@ -162,7 +169,9 @@ public class IdentityStrategyMutation {
             return 0;
         }
 
-        return this.mapper.deleteBy(Conditions.of(IdentityStrategyEntity.class).in(IdentityStrategyEntity::getId, ids).eq(IdentityStrategyEntity::getTenantCode, tenant));
+        var effected = this.mapper.deleteBy(Conditions.of(IdentityStrategyEntity.class).in(IdentityStrategyEntity::getId, ids).eq(IdentityStrategyEntity::getTenantCode, tenant));
+        this.notifier.publish(DataFetcherType.IDENTITY, tenant);
+        return effected;
     }
 
     /**
@@ -180,6 +189,8 @@ public class IdentityStrategyMutation {
             return 0L;
         }
 
-        return this.mapper.deleteBy(conditions);
+        var effected = this.mapper.deleteBy(conditions);
+        this.notifier.publish(DataFetcherType.IDENTITY, tenant);
+        return effected;
     }
 }
@@ -25,6 +25,7 @@
 package central.studio.provider.graphql.identity.query;
 
 
+import central.lang.Assertx;
 import central.provider.graphql.DTO;
 import central.bean.Page;
 import central.studio.provider.graphql.identity.dto.IdentityStrategyDTO;
@@ -35,6 +36,7 @@ import central.sql.query.Orders;
 import central.starter.graphql.annotation.GraphQLBatchLoader;
 import central.starter.graphql.annotation.GraphQLFetcher;
 import central.starter.graphql.annotation.GraphQLSchema;
+import central.util.Listx;
 import central.web.XForwardedHeaders;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -125,6 +127,26 @@ public class IdentityStrategyQuery {
         return DTO.wrap(list, IdentityStrategyDTO.class);
     }
 
+    /**
+     * 查询多个租户的数据
+     * <p>
+     * 用于热数据容器一次性获取所有租户的数据，避免逐个租户查询。只允许主租户调用
+     *
+     * @param tenants 需要查询的租户标识
+     * @param tenant  租户标识
+     */
+    @GraphQLFetcher
+    public @Nonnull List<IdentityStrategyDTO> findByTenants(@RequestParam List<String> tenants,
+                                                            @RequestHeader(XForwardedHeaders.TENANT) String tenant) {
+        Assertx.mustEquals("master", tenant, "只有主租户[master]才允许访问本接口");
+        if (Listx.isNullOrEmpty(tenants)) {
+            return List.of();
+        }
+
+        var list = this.mapper.findBy(Conditions.of(IdentityStrategyEntity.class).in(IdentityStrategyEntity::getTenantCode, tenants));
+        return DTO.wrap(list, IdentityStrategyDTO.class);
+    }
+
     /**
      * 分页查询数据
      *
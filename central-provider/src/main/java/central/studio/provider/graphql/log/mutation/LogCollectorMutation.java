@@ -28,6 +28,8 @@ import central.data.log.LogCollectorInput;
 import central.lang.Assertx;
 import central.lang.Stringx;
 import central.provider.graphql.DTO;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.studio.provider.core.DataChangeNotifier;
 import central.studio.provider.graphql.log.dto.LogCollectorDTO;
 import central.studio.provider.graphql.log.entity.LogCollectorEntity;
 import central.studio.provider.graphql.log.entity.LogCollectorFilterEntity;
@@ -68,6 +70,9 @@ public class LogCollectorMutation {
     @Setter(onMethod_ = @Autowired)
     private LogCollectorMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
     @Setter(onMethod_ = @Autowired)
     private LogCollectorFilterMapper relMapper;
 
@@ -92,6 +97,7 @@ public class LogCollectorMutation {
         entity.fromInput(input);
         entity.updateCreator(operator);
         this.mapper.insert(entity);
+        this.notifier.publish(DataFetcherType.LOG, tenant);
 
         return DTO.wrap(entity, LogCollectorDTO.class);
     }
@@ -138,6 +144,7 @@ public class LogCollectorMutation {
         entity.fromInput(input);
         entity.updateModifier(operator);
         this.mapper.update(entity);
+        this.notifier.publish(DataFetcherType.LOG, tenant);
 
         return DTO.wrap(entity, LogCollectorDTO.class);
     }
@@ -177,6 +184,7 @@ public class LogCollectorMutation {
             // 级联删除
             this.relMapper.deleteBy(Conditions.of(LogCollectorFilterEntity.class).in(LogCollectorFilterEntity::getCollectorId, ids));
         }
+        this.notifier.publish(DataFetcherType.LOG, tenant);
         return effected;
     }
 
@@ -201,6 +209,7 @@ public class LogCollectorMutation {
         // 级联删除
         var ids = entities.stream().map(LogCollectorEntity::getId).toList();
         this.relMapper.deleteBy(Conditions.of(LogCollectorFilterEntity.class).in(LogCollectorFilterEntity::getCollectorId, ids));
+        this.notifier.publish(DataFetcherType.LOG, tenant);
 
         return effected;
     }
@@ -31,6 +31,8 @@ import central.provider.graphql.DTO;
 import central.sql.query.Conditions;
 import central.starter.graphql.annotation.GraphQLFetcher;
 import central.starter.graphql.annotation.GraphQLSchema;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.studio.provider.core.DataChangeNotifier;
 import central.studio.provider.graphql.log.dto.LogFilterDTO;
 import central.studio.provider.graphql.log.entity.*;
 import central.studio.provider.graphql.log.mapper.LogCollectorFilterMapper;
@@ -72,6 +74,9 @@ public class LogFilterMutation {
     @Setter(onMethod_ = @Autowired)
     private LogFilterMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
     @Setter(onMethod_ = @Autowired)
     private LogCollectorFilterMapper collectorRelMapper;
 
@@ -101,6 +106,7 @@ public class LogFilterMutation {
         entity.fromInput(input);
         entity.updateCreator(operator);
         this.mapper.insert(entity);
+        this.notifier.publish(DataFetcherType.LOG, tenant);
 
         this.saveRels(entity, collectorQuery, new HashSet<>(input.getCollectorIds()), storageQuery, new HashSet<>(input.getStorageIds()));
 
@@ -153,6 +159,7 @@ public class LogFilterMutation {
         entity.fromInput(input);
         entity.updateModifier(operator);
         this.mapper.update(entity);
+        this.notifier.publish(DataFetcherType.LOG, tenant);
 
         saveRels(entity, collectorQuery, new HashSet<>(input.getCollectorIds()), storageQuery, new HashSet<>(input.getStorageIds()));
 
@@ -195,6 +202,7 @@ public class LogFilterMutation {
         // 级联删除
         this.collectorRelMapper.deleteBy(Conditions.of(LogCollectorFilterEntity.class).in(LogCollectorFilterEntity::getFilterId, ids));
         this.storageRelMapper.deleteBy(Conditions.of(LogStorageFilterEntity.class).in(LogStorageFilterEntity::getFilterId, ids));
+        this.notifier.publish(DataFetcherType.LOG, tenant);
 
         return effected;
     }
@@ -220,6 +228,7 @@ public class LogFilterMutation {
         var ids = entities.stream().map(LogFilterEntity::getId).toList();
         this.collectorRelMapper.deleteBy(Conditions.of(LogCollectorFilterEntity.class).in(LogCollectorFilterEntity::getFilterId, ids));
         this.storageRelMapper.deleteBy(Conditions.of(LogStorageFilterEntity.class).in(LogStorageFilterEntity::getFilterId, ids));
+        this.notifier.publish(DataFetcherType.LOG, tenant);
 
         return effected;
     }
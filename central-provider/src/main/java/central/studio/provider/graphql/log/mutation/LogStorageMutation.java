@@ -28,6 +28,8 @@ import central.provider.graphql.DTO;
 import central.data.log.LogStorageInput;
 import central.lang.Assertx;
 import central.lang.Stringx;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.studio.provider.core.DataChangeNotifier;
 import central.studio.provider.graphql.log.dto.LogStorageDTO;
 import central.studio.provider.graphql.log.entity.LogStorageEntity;
 import central.studio.provider.graphql.log.entity.LogStorageFilterEntity;
@@ -68,6 +70,9 @@ public class LogStorageMutation {
     @Setter(onMethod_ = @Autowired)
     private LogStorageMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
     @Setter(onMethod_ = @Autowired)
     private LogStorageFilterMapper relMapper;
 
@@ -92,6 +97,7 @@ public class LogStorageMutation {
         entity.fromInput(input);
         entity.updateCreator(operator);
         this.mapper.insert(entity);
+        this.notifier.publish(DataFetcherType.LOG, tenant);
 
         return DTO.wrap(entity, LogStorageDTO.class);
     }
@@ -138,6 +144,7 @@ public class LogStorageMutation {
         entity.fromInput(input);
         entity.updateModifier(operator);
         this.mapper.update(entity);
+        this.notifier.publish(DataFetcherType.LOG, tenant);
 
         return DTO.wrap(entity, LogStorageDTO.class);
     }
@@ -177,6 +184,7 @@ public class LogStorageMutation {
             // 级联删除
             this.relMapper.deleteBy(Conditions.of(LogStorageFilterEntity.class).in(LogStorageFilterEntity::getStorageId, ids));
         }
+        this.notifier.publish(DataFetcherType.LOG, tenant);
 
         return effected;
     }
@@ -202,6 +210,7 @@ public class LogStorageMutation {
         // 级联删除
         var ids = entities.stream().map(LogStorageEntity::getId).toList();
         this.relMapper.deleteBy(Conditions.of(LogStorageFilterEntity.class).in(LogStorageFilterEntity::getStorageId, ids));
+        this.notifier.publish(DataFetcherType.LOG, tenant);
 
         return effected;
     }
@@ -27,6 +27,8 @@ package central.studio.provider.graphql.multicast.mutation;
 import central.provider.graphql.DTO;
 import central.data.multicast.MulticastBroadcasterInput;
 import central.lang.Stringx;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.studio.provider.core.DataChangeNotifier;
 import central.studio.provider.graphql.multicast.dto.MulticastBroadcasterDTO;
 import central.studio.provider.graphql.multicast.entity.MulticastBroadcasterEntity;
 import central.studio.provider.graphql.multicast.mapper.MulticastBroadcasterMapper;
@@ -65,6 +67,9 @@ public class MulticastBroadcasterMutation {
     @Setter(onMethod_ = @Autowired)
     private MulticastBroadcasterMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
     /**
      * 保存数据
      *
@@ -86,6 +91,7 @@ public class MulticastBroadcasterMutation {
         entity.setTenantCode(tenant);
         entity.updateCreator(operator);
         this.mapper.insert(entity);
+        this.notifier.publish(DataFetcherType.MULTICAST, tenant);
 
         return DTO.wrap(entity, MulticastBroadcasterDTO.class);
     }
@@ -131,6 +137,7 @@ public class MulticastBroadcasterMutation {
         entity.setTenantCode(tenant);
         entity.updateModifier(operator);
         this.mapper.update(entity);
+        this.notifier.publish(DataFetcherType.MULTICAST, tenant);
 
         return DTO.wrap(entity, MulticastBroadcasterDTO.class);
     }
@@ -162,7 +169,9 @@ public class MulticastBroadcasterMutation {
             return 0;
         }
 
-        return this.mapper.deleteBy(Conditions.of(MulticastBroadcasterEntity.class).in(MulticastBroadcasterEntity::getId, ids).eq(MulticastBroadcasterEntity::getTenantCode, tenant));
+        var effected = this.mapper.deleteBy(Conditions.of(MulticastBroadcasterEntity.class).in(MulticastBroadcasterEntity::getId, ids).eq(MulticastBroadcasterEntity::getTenantCode, tenant));
+        this.notifier.publish(DataFetcherType.MULTICAST, tenant);
+        return effected;
     }
 
     /**
@@ -180,6 +189,8 @@ public class MulticastBroadcasterMutation {
             return 0L;
         }
 
-        return this.mapper.deleteBy(conditions);
+        var effected = this.mapper.deleteBy(conditions);
+        this.notifier.publish(DataFetcherType.MULTICAST, tenant);
+        return effected;
     }
 }
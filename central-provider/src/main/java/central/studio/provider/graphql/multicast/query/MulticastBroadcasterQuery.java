@@ -24,6 +24,7 @@
 
 package central.studio.provider.graphql.multicast.query;
 
+import central.lang.Assertx;
 import central.bean.Page;
 import central.provider.graphql.DTO;
 import central.studio.provider.graphql.multicast.dto.MulticastBroadcasterDTO;
@@ -34,6 +35,7 @@ import central.sql.query.Orders;
 import central.starter.graphql.annotation.GraphQLBatchLoader;
 import central.starter.graphql.annotation.GraphQLFetcher;
 import central.starter.graphql.annotation.GraphQLSchema;
+import central.util.Listx;
 import central.web.XForwardedHeaders;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
@@ -124,6 +126,26 @@ public class MulticastBroadcasterQuery {
         return DTO.wrap(list, MulticastBroadcasterDTO.class);
     }
 
+    /**
+     * 查询多个租户的数据
+     * <p>
+     * 用于热数据容器一次性获取所有租户的数据，避免逐个租户查询。只允许主租户调用
+     *
+     * @param tenants 需要查询的租户标识
+     * @param tenant  租户标识
+     */
+    @GraphQLFetcher
+    public @Nonnull List<MulticastBroadcasterDTO> findByTenants(@RequestParam List<String> tenants,
+                                                                @RequestHeader(XForwardedHeaders.TENANT) String tenant) {
+        Assertx.mustEquals("master", tenant, "只有主租户[master]才允许访问本接口");
+        if (Listx.isNullOrEmpty(tenants)) {
+            return List.of();
+        }
+
+        var list = this.mapper.findBy(Conditions.of(MulticastBroadcasterEntity.class).in(MulticastBroadcasterEntity::getTenantCode, tenants));
+        return DTO.wrap(list, MulticastBroadcasterDTO.class);
+    }
+
     /**
      * 分页查询数据
      *
@@ -31,6 +31,8 @@ import central.provider.graphql.DTO;
 import central.sql.query.Conditions;
 import central.starter.graphql.annotation.GraphQLFetcher;
 import central.starter.graphql.annotation.GraphQLSchema;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.studio.provider.core.DataChangeNotifier;
 import central.studio.provider.graphql.saas.dto.ApplicationDTO;
 import central.studio.provider.graphql.saas.entity.ApplicationEntity;
 import central.studio.provider.graphql.saas.mapper.ApplicationMapper;
@@ -67,6 +69,9 @@ public class ApplicationMutation {
     @Setter(onMethod_ = @Autowired)
     private ApplicationMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
     /**
      * 保存数据
      *
@@ -88,6 +93,7 @@ public class ApplicationMutation {
         entity.fromInput(input);
         entity.updateCreator(operator);
         this.mapper.insert(entity);
+        this.notifier.publish(DataFetcherType.SAAS, tenant);
 
         return DTO.wrap(entity, ApplicationDTO.class);
     }
@@ -134,6 +140,7 @@ public class ApplicationMutation {
         entity.fromInput(input);
         entity.updateModifier(operator);
         this.mapper.update(entity);
+        this.notifier.publish(DataFetcherType.SAAS, tenant);
 
         return DTO.wrap(entity, ApplicationDTO.class);
     }
@@ -168,7 +175,9 @@ public class ApplicationMutation {
             return 0L;
         }
 
-        return this.mapper.deleteByIds(ids);
+        var effected = this.mapper.deleteByIds(ids);
+        this.notifier.publish(DataFetcherType.SAAS, tenant);
+        return effected;
     }
 
     /**
@@ -185,6 +194,8 @@ public class ApplicationMutation {
         if (entities.isEmpty()) {
             return 0L;
         }
-        return this.mapper.deleteBy(conditions);
+        var effected = this.mapper.deleteBy(conditions);
+        this.notifier.publish(DataFetcherType.SAAS, tenant);
+        return effected;
     }
 }
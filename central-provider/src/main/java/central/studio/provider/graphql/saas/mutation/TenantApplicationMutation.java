@@ -28,6 +28,7 @@ import central.provider.graphql.DTO;
 import central.data.saas.TenantApplicationInput;
 import central.lang.Assertx;
 import central.lang.Stringx;
+import central.studio.provider.core.DataChangeNotifier;
 import central.studio.provider.graphql.saas.dto.TenantApplicationDTO;
 import central.studio.provider.graphql.saas.entity.TenantApplicationEntity;
 import central.studio.provider.graphql.saas.mapper.TenantApplicationMapper;
@@ -65,6 +66,9 @@ public class TenantApplicationMutation {
     @Setter(onMethod_ = @Autowired)
     private TenantApplicationMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
     /**
      * 保存数据
      *
@@ -82,6 +86,7 @@ public class TenantApplicationMutation {
         entity.fromInput(input);
         entity.updateCreator(operator);
         this.mapper.insert(entity);
+        this.notifier.publishAll(tenant);
 
         return DTO.wrap(entity, TenantApplicationDTO.class);
     }
@@ -121,6 +126,7 @@ public class TenantApplicationMutation {
         entity.fromInput(input);
         entity.updateModifier(operator);
         this.mapper.update(entity);
+        this.notifier.publishAll(tenant);
 
         return DTO.wrap(entity, TenantApplicationDTO.class);
     }
@@ -154,7 +160,9 @@ public class TenantApplicationMutation {
             return 0;
         }
 
-        return this.mapper.deleteByIds(ids);
+        var effected = this.mapper.deleteByIds(ids);
+        this.notifier.publishAll(tenant);
+        return effected;
     }
 
     /**
@@ -167,6 +175,8 @@ public class TenantApplicationMutation {
     public long deleteBy(@RequestParam Conditions<TenantApplicationEntity> conditions,
                          @RequestHeader(XForwardedHeaders.TENANT) String tenant) {
         Assertx.mustEquals("master", tenant, "只有主租户[master]才允许访问本接口");
-        return this.mapper.deleteBy(conditions);
+        var effected = this.mapper.deleteBy(conditions);
+        this.notifier.publishAll(tenant);
+        return effected;
     }
 }
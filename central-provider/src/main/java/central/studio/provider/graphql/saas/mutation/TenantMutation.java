@@ -28,6 +28,7 @@ import central.provider.graphql.DTO;
 import central.data.saas.TenantInput;
 import central.lang.Assertx;
 import central.lang.Stringx;
+import central.studio.provider.core.DataChangeNotifier;
 import central.studio.provider.graphql.saas.dto.TenantDTO;
 import central.studio.provider.graphql.saas.entity.TenantApplicationEntity;
 import central.studio.provider.graphql.saas.entity.TenantEntity;
@@ -68,6 +69,9 @@ public class TenantMutation {
     @Setter(onMethod_ = @Autowired)
     private TenantMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
     /**
      * 保存数据
      *
@@ -89,6 +93,7 @@ public class TenantMutation {
         entity.fromInput(input);
         entity.updateCreator(operator);
         this.mapper.insert(entity);
+        this.notifier.publishAll(tenant);
 
         return DTO.wrap(entity, TenantDTO.class);
     }
@@ -135,6 +140,7 @@ public class TenantMutation {
         entity.fromInput(input);
         entity.updateModifier(operator);
         this.mapper.update(entity);
+        this.notifier.publishAll(tenant);
 
         return DTO.wrap(entity, TenantDTO.class);
     }
@@ -174,6 +180,7 @@ public class TenantMutation {
             // 级联删除
             mutation.deleteBy(Conditions.of(TenantApplicationEntity.class).in(TenantApplicationEntity::getTenantId, ids), tenant);
         }
+        this.notifier.publishAll(tenant);
         return effected;
     }
 
@@ -195,6 +202,7 @@ public class TenantMutation {
         var effected = this.mapper.deleteBy(conditions);
         // 级联删除
         mutation.deleteBy(Conditions.of(TenantApplicationEntity.class).in(TenantApplicationEntity::getTenantId, entities.stream().map(TenantEntity::getId).toList()), tenant);
+        this.notifier.publishAll(tenant);
         return effected;
     }
 
@@ -27,9 +27,16 @@ package central.studio.provider.graphql.saas.query;
 import central.bean.Page;
 import central.lang.Assertx;
 import central.provider.graphql.DTO;
+import central.studio.provider.graphql.saas.dto.ApplicationDTO;
+import central.studio.provider.graphql.saas.dto.TenantChangesDTO;
 import central.studio.provider.graphql.saas.dto.TenantDTO;
+import central.studio.provider.graphql.saas.entity.ApplicationEntity;
+import central.studio.provider.graphql.saas.entity.TenantApplicationEntity;
 import central.studio.provider.graphql.saas.entity.TenantEntity;
+import central.studio.provider.graphql.saas.mapper.ApplicationMapper;
+import central.studio.provider.graphql.saas.mapper.TenantApplicationMapper;
 import central.studio.provider.graphql.saas.mapper.TenantMapper;
+import central.sql.query.Columns;
 import central.sql.query.Conditions;
 import central.sql.query.Orders;
 import central.starter.graphql.annotation.GraphQLBatchLoader;
@@ -45,6 +52,9 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -58,11 +68,17 @@ import java.util.stream.Collectors;
  * @since 2022/10/03
  */
 @Component
-@GraphQLSchema(path = "saas/query", types = {TenantDTO.class, TenantApplicationQuery.class})
+@GraphQLSchema(path = "saas/query", types = {TenantDTO.class, TenantChangesDTO.class, TenantApplicationQuery.class})
 public class TenantQuery {
     @Setter(onMethod_ = @Autowired)
     private TenantMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private ApplicationMapper applicationMapper;
+
+    @Setter(onMethod_ = @Autowired)
+    private TenantApplicationMapper relationMapper;
+
     /**
      * 批量数据加载器
      *
@@ -162,6 +178,46 @@ public class TenantQuery {
         return this.mapper.countBy(conditions);
     }
 
+    /**
+     * 查询数据变更
+     * <p>
+     * 用于热数据容器增量同步租户数据。返回所有数据的主键（用于检测删除），
+     * 以及修改时间不早于指定时间的租户和应用。租户与应用的关联关系有修改时，返回该租户
+     *
+     * @param since  上一次数据的最后修改时间（毫秒）
+     * @param tenant 租户标识
+     */
+    @GraphQLFetcher
+    public @Nonnull TenantChangesDTO findChanges(@RequestParam Long since,
+                                                 @RequestHeader(XForwardedHeaders.TENANT) String tenant) {
+        Assertx.mustEquals("master", tenant, "只有主租户[master]才允许访问本接口");
+        var timestamp = new Timestamp(since == null ? 0 : since);
+
+        // 删除检测只需要主键
+        var tenantIds = this.mapper.findBy(Columns.of(TenantEntity.class, "id"), Conditions.of(TenantEntity.class)).stream().map(TenantEntity::getId).toList();
+        var applicationIds = this.applicationMapper.findBy(Columns.of(ApplicationEntity.class, "id"), Conditions.of(ApplicationEntity.class)).stream().map(ApplicationEntity::getId).toList();
+        var relationIds = this.relationMapper.findBy(Columns.of(TenantApplicationEntity.class, "id"), Conditions.of(TenantApplicationEntity.class)).stream().map(TenantApplicationEntity::getId).toList();
+
+        // 修改时间的过滤在数据库中完成
+        var changedTenantIds = this.relationMapper.findBy(Columns.of(TenantApplicationEntity.class, "id", "tenantId"), Conditions.of(TenantApplicationEntity.class).ge(TenantApplicationEntity::getModifyDate, timestamp))
+                .stream().map(TenantApplicationEntity::getTenantId).collect(Collectors.toCollection(HashSet::new));
+
+        var changedTenants = new ArrayList<>(this.mapper.findBy(Conditions.of(TenantEntity.class).ge(TenantEntity::getModifyDate, timestamp)));
+        changedTenants.forEach(it -> changedTenantIds.remove(it.getId()));
+        if (!changedTenantIds.isEmpty()) {
+            // 关联关系有修改的租户
+            changedTenants.addAll(this.mapper.findBy(Conditions.of(TenantEntity.class).in(TenantEntity::getId, changedTenantIds)));
+        }
+        var changedApplications = this.applicationMapper.findBy(Conditions.of(ApplicationEntity.class).ge(ApplicationEntity::getModifyDate, timestamp));
+
+        return new TenantChangesDTO(
+                tenantIds,
+                applicationIds,
+                relationIds,
+                DTO.wrap(changedTenants, TenantDTO.class),
+                DTO.wrap(changedApplications, ApplicationDTO.class));
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // 关联查询
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -27,6 +27,8 @@ package central.studio.provider.graphql.storage.mutation;
 import central.data.storage.StorageBucketInput;
 import central.lang.Stringx;
 import central.provider.graphql.DTO;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.studio.provider.core.DataChangeNotifier;
 import central.studio.provider.graphql.storage.dto.StorageBucketDTO;
 import central.studio.provider.graphql.storage.entity.StorageBucketEntity;
 import central.studio.provider.graphql.storage.mapper.StorageBucketMapper;
@@ -65,6 +67,9 @@ public class StorageBucketMutation {
     @Setter(onMethod_ = @Autowired)
     private StorageBucketMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
     /**
      * 保存数据
      *
@@ -86,6 +91,7 @@ public class StorageBucketMutation {
         entity.setTenantCode(tenant);
         entity.updateCreator(operator);
         this.mapper.insert(entity);
+        this.notifier.publish(DataFetcherType.STORAGE, tenant);
 
         return DTO.wrap(entity, StorageBucketDTO.class);
     }
@@ -131,6 +137,7 @@ public class StorageBucketMutation {
         entity.setTenantCode(tenant);
         entity.updateModifier(operator);
         this.mapper.update(entity);
+        this.notifier.publish(DataFetcherType.STORAGE, tenant);
 
         return DTO.wrap(entity, StorageBucketDTO.class);
     }
@@ -162,7 +169,9 @@ public class StorageBucketMutation {
             return 0;
         }
 
-        return this.mapper.deleteBy(Conditions.of(StorageBucketEntity.class).in(StorageBucketEntity::getId, ids).eq(StorageBucketEntity::getTenantCode, tenant));
+        var effected = this.mapper.deleteBy(Conditions.of(StorageBucketEntity.class).in(StorageBucketEntity::getId, ids).eq(StorageBucketEntity::getTenantCode, tenant));
+        this.notifier.publish(DataFetcherType.STORAGE, tenant);
+        return effected;
     }
 
     /**
@@ -180,6 +189,8 @@ public class StorageBucketMutation {
             return 0L;
         }
 
-        return this.mapper.deleteBy(conditions);
+        var effected = this.mapper.deleteBy(conditions);
+        this.notifier.publish(DataFetcherType.STORAGE, tenant);
+        return effected;
     }
 }
@@ -30,6 +30,8 @@ import central.provider.graphql.DTO;
 import central.sql.query.Conditions;
 import central.starter.graphql.annotation.GraphQLFetcher;
 import central.starter.graphql.annotation.GraphQLSchema;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.studio.provider.core.DataChangeNotifier;
 import central.studio.provider.graphql.system.dto.DictionaryDTO;
 import central.studio.provider.graphql.system.entity.DictionaryEntity;
 import central.studio.provider.graphql.system.mapper.DictionaryMapper;
@@ -63,6 +65,9 @@ public class DictionaryMutation {
     @Setter(onMethod_ = @Autowired)
     private DictionaryMapper mapper;
 
+    @Setter(onMethod_ = @Autowired)
+    private DataChangeNotifier notifier;
+
     /**
      * 保存数据
      *
@@ -84,6 +89,7 @@ public class DictionaryMutation {
         entity.setTenantCode(tenant);
         entity.updateCreator(operator);
         this.mapper.insert(entity);
+        this.notifier.publish(DataFetcherType.SYSTEM, tenant);
 
         return DTO.wrap(entity, DictionaryDTO.class);
     }
@@ -128,6 +134,7 @@ public class DictionaryMutation {
         entity.fromInput(input);
         entity.updateModifier(operator);
         this.mapper.update(entity);
+        this.notifier.publish(DataFetcherType.SYSTEM, tenant);
 
         return DTO.wrap(entity, DictionaryDTO.class);
     }
@@ -159,7 +166,9 @@ public class DictionaryMutation {
             return 0L;
         }
 
-        return this.mapper.deleteBy(Conditions.of(DictionaryEntity.class).in(DictionaryEntity::getId, ids).eq(DictionaryEntity::getTenantCode, tenant));
+        var effected = this.mapper.deleteBy(Conditions.of(DictionaryEntity.class).in(DictionaryEntity::getId, ids).eq(DictionaryEntity::getTenantCode, tenant));
+        this.notifier.publish(DataFetcherType.SYSTEM, tenant);
+        return effected;
     }
 
     /**
@@ -177,6 +186,8 @@ public class DictionaryMutation {
         if (entities.isEmpty()) {
             return 0L;
         }
-        return this.mapper.deleteBy(conditions);
+        var effected = this.mapper.deleteBy(conditions);
+        this.notifier.publish(DataFetcherType.SYSTEM, tenant);
+        return effected;
     }
 }
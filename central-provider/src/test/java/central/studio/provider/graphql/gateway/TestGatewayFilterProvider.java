@@ -537,4 +537,38 @@ public class TestGatewayFilterProvider {
 
         assertFalse(this.mapper.existsBy(Conditions.of(GatewayFilterEntity.class).eq(GatewayFilterEntity::getId, entity.getId())));
     }
+
+    /**
+     * @see GatewayFilterProvider#findByTenants
+     */
+    @Test
+    public void case12() {
+        for (var tenant : List.of("master", "test", "other")) {
+            var entity = new GatewayFilterEntity();
+            entity.setType("add_request_header");
+            entity.setPath("/" + tenant);
+            entity.setOrder(0);
+            entity.setEnabled(Boolean.TRUE);
+            entity.setRemark("添加请求头");
+            entity.setParams(Jsonx.Default().serialize(Map.of(
+                    "header", "test",
+                    "value", "test_value"
+            )));
+            entity.setPredicateJson(Jsonx.Default().serialize(List.of()));
+            entity.setTenantCode(tenant);
+            entity.updateCreator(properties.getSupervisor().getUsername());
+            this.mapper.insert(entity);
+        }
+
+        // 一次性查询多个租户的数据，通过 tenantCode 区分所属租户
+        var filters = this.provider.findByTenants(List.of("master", "test"), "master");
+        assertNotNull(filters);
+        assertEquals(2, filters.size());
+        assertTrue(filters.stream().anyMatch(it -> "master".equals(it.getTenantCode()) && "/master".equals(it.getPath())));
+        assertTrue(filters.stream().anyMatch(it -> "test".equals(it.getTenantCode()) && "/test".equals(it.getPath())));
+        assertTrue(filters.stream().noneMatch(it -> "other".equals(it.getTenantCode())));
+
+        // 只允许主租户查询多个租户的数据
+        assertThrows(Exception.class, () -> this.provider.findByTenants(List.of("test"), "test"));
+    }
 }
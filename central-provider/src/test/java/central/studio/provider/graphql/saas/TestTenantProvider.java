@@ -497,4 +497,60 @@ public class TestTenantProvider extends TestProvider {
 
         assertFalse(this.mapper.existsBy(Conditions.of(TenantEntity.class).eq(TenantEntity::getId, entity.getId())));
     }
+
+    /**
+     * @see TenantProvider#findChanges
+     */
+    @Test
+    public void case12() {
+        var application = this.buildApplication();
+        this.applicationMapper.insert(application);
+
+        var database = this.buildDatabase(application);
+        this.databaseMapper.insert(database);
+
+        var entity = new TenantEntity();
+        entity.setCode("test");
+        entity.setName("测试租户");
+        entity.setDatabaseId(database.getId());
+        entity.setEnabled(Boolean.TRUE);
+        entity.setRemark("用于所有应用的认证处理");
+        entity.updateCreator(properties.getSupervisor().getUsername());
+        this.mapper.insert(entity);
+
+        var tenantApplication = new TenantApplicationEntity();
+        tenantApplication.setTenantId(entity.getId());
+        tenantApplication.setApplicationId(application.getId());
+        tenantApplication.setEnabled(Boolean.TRUE);
+        tenantApplication.setPrimary(Boolean.TRUE);
+        tenantApplication.updateCreator(properties.getSupervisor().getUsername());
+        this.relMapper.insert(tenantApplication);
+
+        // 从头开始获取，所有数据都是变更的数据
+        var changes = this.provider.findChanges(0L, "master");
+        assertNotNull(changes);
+        assertEquals(List.of(entity.getId()), changes.getTenantIds());
+        assertEquals(List.of(application.getId()), changes.getApplicationIds());
+        assertEquals(List.of(tenantApplication.getId()), changes.getRelationIds());
+        assertEquals(1, changes.getTenants().size());
+        assertEquals(entity.getId(), changes.getTenants().get(0).getId());
+        assertEquals(1, changes.getTenants().get(0).getApplications().size());
+        assertNotNull(changes.getTenants().get(0).getApplications().get(0).getModifyDate());
+        assertEquals(1, changes.getApplications().size());
+
+        // 没有变更时，只返回主键
+        changes = this.provider.findChanges(System.currentTimeMillis() + 60 * 1000, "master");
+        assertNotNull(changes);
+        assertEquals(List.of(entity.getId()), changes.getTenantIds());
+        assertTrue(changes.getTenants().isEmpty());
+        assertTrue(changes.getApplications().isEmpty());
+
+        // 删除后，主键集合中不再包含被删除的数据
+        this.relMapper.deleteById(tenantApplication.getId());
+        this.mapper.deleteById(entity.getId());
+        changes = this.provider.findChanges(System.currentTimeMillis() + 60 * 1000, "master");
+        assertNotNull(changes);
+        assertTrue(changes.getTenantIds().isEmpty());
+        assertTrue(changes.getRelationIds().isEmpty());
+    }
 }
@@ -24,15 +24,16 @@
 
 package central.studio.storage.core;
 
+import central.data.storage.StorageBucket;
 import central.lang.Assertx;
 import central.lang.Stringx;
+import central.provider.scheduled.PluginRegistry;
 import central.provider.scheduled.event.DataRefreshEvent;
 import central.provider.scheduled.fetcher.DataFetcherType;
 import central.provider.scheduled.fetcher.storage.StorageContainer;
 import jakarta.annotation.Nonnull;
 import jakarta.annotation.Nullable;
 import lombok.Setter;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationEvent;
@@ -42,7 +43,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.util.*;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * Bucket Container
@@ -52,7 +54,6 @@ import java.util.*;
  * @author Alan Yeh
  * @since 2022/10/30
  */
-@Slf4j
 @Component
 public class BucketContainer implements DisposableBean, GenericApplicationListener {
 
@@ -63,8 +64,10 @@ public class BucketContainer implements DisposableBean, GenericApplicationListen
      * 存储桶
      * <p>
      * tenant -> code -> bucket
+     * <p>
+     * 每次刷新数据时都会创建新的不可变快照再整体替换，请求线程读取时不需要加锁
      */
-    private final Map<String, Map<String, DynamicBucket>> buckets = new HashMap<>();
+    private final PluginRegistry<StorageBucket, DynamicBucket> buckets = new PluginRegistry<>(DynamicBucket::getData, StorageBucket::getModifyDate);
 
     /**
      * 根据标识获取存储桶
@@ -73,7 +76,7 @@ public class BucketContainer implements DisposableBean, GenericApplicationListen
      * @param code   标识
      */
     public @Nullable DynamicBucket getBucket(String tenant, String code) {
-        return this.buckets.computeIfAbsent(tenant, key -> new HashMap<>()).get(code);
+        return this.buckets.get(tenant, code);
     }
 
     /**
@@ -82,7 +85,7 @@ public class BucketContainer implements DisposableBean, GenericApplicationListen
      * @param tenant 租户标识
      */
     public @Nonnull List<DynamicBucket> getBuckets(String tenant) {
-        return new ArrayList<>(this.buckets.computeIfAbsent(tenant, key -> new HashMap<>()).values());
+        return this.buckets.list(tenant);
     }
 
     /**
@@ -95,10 +98,6 @@ public class BucketContainer implements DisposableBean, GenericApplicationListen
         return Assertx.requireNotNull(this.getBucket(tenant, code), () -> new ResponseStatusException(HttpStatus.NOT_FOUND, Stringx.format("存储桶[code={}]不存在", code)));
     }
 
-    private @Nullable DynamicBucket putBucket(String tenant, DynamicBucket bucket) {
-        return this.buckets.computeIfAbsent(tenant, key -> new HashMap<>()).put(bucket.getData().getCode(), bucket);
-    }
-
     @Override
     public boolean supportsEventType(ResolvableType eventType) {
         return eventType.getType() == DataRefreshEvent.class;
@@ -113,46 +112,14 @@ public class BucketContainer implements DisposableBean, GenericApplicationListen
 
             var container = (StorageContainer) refreshEvent.getContainer();
 
-            {
-                // 初始化存储器
-                for (var tenant : container.getBuckets().entrySet()) {
-                    for (var data : tenant.getValue().values()) {
-                        var current = this.getBucket(tenant.getKey(), data.getCode());
-                        if (current == null || !Objects.equals(data.getModifyDate(), current.getData().getModifyDate())) {
-                            // 如果当前没有，或者已经过期了，就创建新的存储桶
-                            var bucket = new DynamicBucket(data, this.resolver);
-                            var old = this.putBucket(tenant.getKey(), bucket);
-                            if (old != null) {
-                                try {
-                                    old.destroy();
-                                } catch (Exception ex) {
-                                    log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                                }
-                            }
-                        }
-                    }
-                }
-            }
+            // 初始化存储桶，已删除的存储桶会被销毁
+            this.buckets.refresh(container.getBuckets(), data -> new DynamicBucket(data, this.resolver));
         }
     }
 
     @Override
     public void destroy() throws Exception {
-        {
-            // 销毁存储桶
-            for (var tenant : this.buckets.entrySet()) {
-                var codes = new HashSet<>(tenant.getValue().keySet());
-                for (var code : codes) {
-                    var bucket = tenant.getValue().remove(code);
-                    if (bucket != null) {
-                        try {
-                            bucket.destroy();
-                        } catch (Exception ex) {
-                            log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
-                        }
-                    }
-                }
-            }
-        }
+        // 销毁存储桶
+        this.buckets.destroy();
     }
 }
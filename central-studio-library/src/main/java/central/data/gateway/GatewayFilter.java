@@ -84,6 +84,11 @@ public class GatewayFilter extends ModifiableEntity implements Remarkable, Avail
      * 断言
      */
     private List<GatewayPredicate> predicates;
+    /**
+     * 租户标识
+     */
+    @Nullable
+    private String tenantCode;
     /**
      * 创建人信息
      */
@@ -66,6 +66,7 @@ public class GatewayFilterInput implements Serializable {
     @Label("匹配路径")
     @NotBlank
     @Size(min = 1, max = 255)
+    @Pattern(regexp = "^/((?!\\*\\*).)*(\\*\\*)?$", message = "${label}[${property}]必须以 / 开头，且 ** 只能出现在末尾")
     private String path;
 
     @Label("排序号")
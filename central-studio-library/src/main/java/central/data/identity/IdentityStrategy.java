@@ -81,6 +81,11 @@ public class IdentityStrategy extends ModifiableEntity implements Codeable, Rema
      */
     @Nonnull
     private String params;
+    /**
+     * 租户标识
+     */
+    @Nullable
+    private String tenantCode;
     /**
      * 创建人信息
      */
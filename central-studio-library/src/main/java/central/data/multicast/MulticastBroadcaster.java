@@ -93,6 +93,11 @@ public class MulticastBroadcaster extends ModifiableEntity implements Codeable,
      */
     @Nonnull
     private String params;
+    /**
+     * 租户标识
+     */
+    @Nullable
+    private String tenantCode;
     /**
      * 创建人信息
      */
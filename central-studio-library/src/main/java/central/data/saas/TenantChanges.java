@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.data.saas;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * 租户数据变更
+ * <p>
+ * 用于增量同步租户数据。通过主键集合检测被删除的数据，通过修改时间获取有变更的数据
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantChanges implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -3387905457106376423L;
+
+    /**
+     * 所有租户的主键
+     */
+    private List<String> tenantIds;
+
+    /**
+     * 所有应用的主键
+     */
+    private List<String> applicationIds;
+
+    /**
+     * 所有租户与应用关联关系的主键
+     */
+    private List<String> relationIds;
+
+    /**
+     * 有变更的租户（租户或租户与应用的关联关系的修改时间不早于指定时间）
+     */
+    private List<Tenant> tenants;
+
+    /**
+     * 有变更的应用（修改时间不早于指定时间）
+     */
+    private List<Application> applications;
+}
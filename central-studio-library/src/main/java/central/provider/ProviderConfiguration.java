@@ -24,23 +24,31 @@
 
 package central.provider;
 
+import central.lang.Stringx;
 import central.net.http.executor.apache.ApacheHttpClientExecutor;
 import central.net.http.processor.impl.SetHeaderProcessor;
 import central.net.http.processor.impl.TransmitForwardedProcessor;
 import central.net.http.proxy.HttpProxyFactory;
 import central.net.http.proxy.contract.spring.SpringContract;
 import central.provider.scheduled.DataContext;
+import central.provider.scheduled.DataSnapshot;
 import central.provider.scheduled.ScheduledDataContext;
 import central.provider.scheduled.SpringBeanSupplier;
 import central.provider.scheduled.event.DataRefreshEvent;
 import central.starter.graphql.stub.EnableGraphQLStub;
 import central.starter.graphql.stub.ProviderClient;
 import central.web.XForwardedHeaders;
+import jakarta.annotation.Nonnull;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.net.URI;
+import java.nio.file.Path;
+
 /**
  * Provider Configuration
  * <p>
@@ -84,10 +92,21 @@ public class ProviderConfiguration {
     @Bean(initMethod = "initialized", destroyMethod = "destroy")
     public DataContext dataContext(ApplicationContext applicationContext, ProviderProperties properties) {
         var context = new ScheduledDataContext(new SpringBeanSupplier(applicationContext));
+        if (Stringx.isNotBlank(properties.getSnapshot())) {
+            // 启动时优先使用本地快照，快照文件名包含应用标识和端口，避免同一主机上的多个实例互相覆盖
+            var environment = applicationContext.getEnvironment();
+            var name = environment.getProperty("spring.application.name", "application");
+            var port = environment.getProperty("server.port");
+            context.setSnapshot(new DataSnapshot(Path.of(properties.getSnapshot()), Stringx.isNullOrBlank(port) ? name : name + "-" + port));
+        }
         for (var type : properties.getFetchers()) {
             // 只获取业务系统需要的数据
             context.addFetcher(type);
         }
+        if (properties.isSubscribe() && !properties.getFetchers().isEmpty() && Stringx.isNotBlank(properties.getKey())) {
+            // 订阅数据变更，应用启动后才开始订阅
+            context.subscribe(URI.create(properties.getUrl() + "/provider/changes"), properties.getKey());
+        }
         context.addObserver(event -> {
             if (event instanceof ScheduledDataContext.DataRefreshedEvent refreshed) {
                 applicationContext.publishEvent(new DataRefreshEvent<>(refreshed.getFetcher().getValue(), refreshed.getContainer()));
@@ -95,4 +114,19 @@ public class ProviderConfiguration {
         });
         return context;
     }
+
+    /**
+     * 应用启动后开始获取数据
+     */
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> dataContextStarter(DataContext context) {
+        return new ApplicationListener<>() {
+            @Override
+            public void onApplicationEvent(@Nonnull ApplicationReadyEvent event) {
+                if (context instanceof ScheduledDataContext scheduled) {
+                    scheduled.start();
+                }
+            }
+        };
+    }
 }
@@ -47,8 +47,30 @@ public class ProviderProperties {
      */
     private String url = "http://central-provider";
 
+    /**
+     * 密钥
+     * <p>
+     * 与数据服务中心的密钥一致，订阅数据变更时用于认证
+     */
+    private String key = "central-provider-key";
+
     /**
      * 数据
      */
     private List<DataFetcherType> fetchers = new ArrayList<>();
+
+    /**
+     * 是否订阅数据变更
+     * <p>
+     * 订阅后数据变更可以立即生效，定时获取数据仅作为兜底
+     */
+    private boolean subscribe = true;
+
+    /**
+     * 数据快照目录
+     * <p>
+     * 最近一次获取的数据会保存在此目录，应用启动时优先使用快照中的数据。为空时不使用快照（默认）。
+     * 快照中包含敏感数据，请使用只有当前用户可以访问的目录
+     */
+    private String snapshot;
 }
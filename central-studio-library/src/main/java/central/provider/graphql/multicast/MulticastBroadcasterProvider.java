@@ -29,7 +29,12 @@ import central.data.multicast.MulticastBroadcasterInput;
 import central.starter.graphql.stub.ModifiableProvider;
 import central.starter.graphql.stub.annotation.BodyPath;
 import central.starter.graphql.stub.annotation.GraphQLStub;
+import central.web.XForwardedHeaders;
 import org.springframework.stereotype.Repository;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.util.List;
 
 /**
  * Multicast Broadcaster
@@ -43,4 +48,15 @@ import org.springframework.stereotype.Repository;
 @BodyPath("multicast.broadcasters")
 @GraphQLStub(path = "multicast", client = "providerClient")
 public interface MulticastBroadcasterProvider extends ModifiableProvider<MulticastBroadcaster, MulticastBroadcasterInput> {
+
+    /**
+     * 查询多个租户的数据
+     * <p>
+     * 用于热数据容器一次性获取所有租户的数据，只允许主租户调用
+     *
+     * @param tenants 需要查询的租户标识
+     * @param tenant  租户标识
+     * @return 数据（通过 tenantCode 区分所属租户）
+     */
+    List<MulticastBroadcaster> findByTenants(@RequestParam List<String> tenants, @RequestHeader(XForwardedHeaders.TENANT) String tenant);
 }
@@ -28,7 +28,10 @@ import central.data.saas.*;
 import central.starter.graphql.stub.ModifiableProvider;
 import central.starter.graphql.stub.annotation.BodyPath;
 import central.starter.graphql.stub.annotation.GraphQLStub;
+import central.web.XForwardedHeaders;
 import org.springframework.stereotype.Repository;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * 租户
@@ -40,4 +43,14 @@ import org.springframework.stereotype.Repository;
 @BodyPath("saas.tenants")
 @GraphQLStub(path = "saas", client = "masterProviderClient")
 public interface TenantProvider extends ModifiableProvider<Tenant, TenantInput> {
+
+    /**
+     * 查询数据变更
+     * <p>
+     * 用于热数据容器增量同步租户数据，一次请求返回所有数据的主键和有变更的数据，只允许主租户调用
+     *
+     * @param since  上一次数据的最后修改时间（毫秒）
+     * @param tenant 租户标识
+     */
+    TenantChanges findChanges(@RequestParam Long since, @RequestHeader(XForwardedHeaders.TENANT) String tenant);
 }
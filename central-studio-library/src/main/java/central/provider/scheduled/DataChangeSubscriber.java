@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.provider.scheduled;
+
+import central.lang.Stringx;
+import central.lang.reflect.TypeRef;
+import central.provider.scheduled.event.DataChange;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import central.util.Jsonx;
+import central.web.XForwardedHeaders;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 数据变更订阅
+ * <p>
+ * 通过 Server-Sent Events 长连接订阅数据服务中心的数据变更消息。
+ * 连接断开后会按指数退避重新连接。数据服务中心每 30 秒发送一次心跳，
+ * 超过 {@link #IDLE_TIMEOUT} 没有收到任何数据时，认为连接已经失效（如网络中断导致的半开连接），主动断开并重新连接
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+public class DataChangeSubscriber implements Runnable, AutoCloseable {
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    /**
+     * 空闲超时时间，为心跳间隔的 3 倍
+     */
+    private static final Duration IDLE_TIMEOUT = Duration.ofSeconds(90);
+
+    /**
+     * 等待响应头的超时时间
+     */
+    private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI uri;
+
+    private final String key;
+
+    private final Consumer<DataChange> consumer;
+
+    private final Consumer<Boolean> connected;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    private volatile Thread thread;
+
+    /**
+     * 检查连接是否空闲超时
+     */
+    private ScheduledExecutorService watchdog;
+
+    /**
+     * 当前连接的响应流，关闭后读取线程会立即结束阻塞
+     */
+    private volatile Stream<String> lines;
+
+    /**
+     * 最后一次收到数据的时间（纳秒）
+     */
+    private volatile long lastActivity;
+
+    /**
+     * 创建数据变更订阅
+     *
+     * @param uri       订阅地址
+     * @param key       数据服务中心密钥
+     * @param consumer  数据变更消息处理
+     * @param connected 连接状态变更
+     */
+    public DataChangeSubscriber(URI uri, String key, Consumer<DataChange> consumer, Consumer<Boolean> connected) {
+        this.uri = uri;
+        this.key = key;
+        this.consumer = consumer;
+        this.connected = connected;
+    }
+
+    /**
+     * 开始订阅
+     */
+    public synchronized void start() {
+        if (this.thread != null) {
+            return;
+        }
+        this.thread = new Thread(this, "central-data-subscriber");
+        this.thread.setDaemon(true);
+        this.thread.start();
+
+        this.watchdog = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "central-data-subscriber-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.watchdog.scheduleWithFixedDelay(this::checkIdle, 10, 10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.thread != null) {
+            this.thread.interrupt();
+            this.thread = null;
+        }
+        if (this.watchdog != null) {
+            this.watchdog.shutdownNow();
+            this.watchdog = null;
+        }
+        var lines = this.lines;
+        if (lines != null) {
+            lines.close();
+        }
+    }
+
+    /**
+     * 连接空闲超时后关闭响应流，读取线程结束阻塞后重新连接
+     */
+    private void checkIdle() {
+        var lines = this.lines;
+        if (lines != null && System.nanoTime() - this.lastActivity > IDLE_TIMEOUT.toNanos()) {
+            log.warn("数据变更订阅连接超过 {} 秒没有收到数据，准备重新连接", IDLE_TIMEOUT.toSeconds());
+            lines.close();
+        }
+    }
+
+    @Override
+    public void run() {
+        var backoff = MIN_BACKOFF;
+        // 读取响应时中断线程不会结束阻塞，因此关闭时还需要关闭响应流，并通过 thread 判断是否已经关闭
+        while (!Thread.currentThread().isInterrupted() && this.thread == Thread.currentThread()) {
+            try {
+                var request = HttpRequest.newBuilder(this.uri)
+                        .header("Accept", "text/event-stream")
+                        .header(XForwardedHeaders.TENANT, "master")
+                        .header("Authorization", this.key)
+                        .timeout(RESPONSE_TIMEOUT)
+                        .GET()
+                        .build();
+                var response = this.client.send(request, HttpResponse.BodyHandlers.ofLines());
+                if (response.statusCode() != 200) {
+                    response.body().close();
+                    throw new IOException(Stringx.format("订阅数据变更失败，状态码: {}", response.statusCode()));
+                }
+
+                backoff = MIN_BACKOFF;
+                this.connected.accept(true);
+                try (var lines = response.body()) {
+                    this.lastActivity = System.nanoTime();
+                    this.lines = lines;
+
+                    var data = new StringBuilder();
+                    var iterator = lines.iterator();
+                    while (iterator.hasNext()) {
+                        var line = iterator.next();
+                        // 心跳（注释行）也表示连接仍然有效
+                        this.lastActivity = System.nanoTime();
+                        if (line.isEmpty()) {
+                            // 空行表示一个事件结束
+                            if (!data.isEmpty()) {
+                                this.dispatch(data.toString());
+                                data.setLength(0);
+                            }
+                        } else if (line.startsWith("data:")) {
+                            if (!data.isEmpty()) {
+                                data.append('\n');
+                            }
+                            data.append(line.substring(5).trim());
+                        }
+                    }
+                } finally {
+                    this.lines = null;
+                }
+                log.warn("数据变更订阅连接已断开，准备重新连接");
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception ex) {
+                log.warn("订阅数据变更出现异常: " + ex.getLocalizedMessage());
+            }
+
+            this.connected.accept(false);
+            if (this.thread != Thread.currentThread()) {
+                break;
+            }
+            try {
+                Thread.sleep(backoff.toMillis());
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            backoff = backoff.multipliedBy(2).compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff.multipliedBy(2);
+        }
+    }
+
+    private void dispatch(String data) {
+        try {
+            var change = Jsonx.Default().deserialize(data, TypeRef.of(DataChange.class));
+            if (change != null && DataFetcherType.resolve(change.getFetcher()) != null) {
+                this.consumer.accept(change);
+            }
+        } catch (Exception ex) {
+            log.warn("处理数据变更消息出现异常: " + ex.getLocalizedMessage());
+        }
+    }
+}
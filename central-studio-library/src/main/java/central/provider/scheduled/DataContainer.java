@@ -24,10 +24,13 @@
 
 package central.provider.scheduled;
 
+import central.sql.data.ModifiableEntity;
 import lombok.Getter;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.*;
+import java.util.function.Function;
 
 /**
  * 数据容器
@@ -44,4 +47,89 @@ public abstract class DataContainer implements Serializable {
      */
     @Getter
     private final long timestamp = System.currentTimeMillis();
+
+    /**
+     * 当前容器是否包含指定租户的数据
+     * <p>
+     * 用于忽略与当前应用无关的租户的数据变更。不按租户区分数据的容器始终返回 true
+     *
+     * @param tenant 租户标识
+     */
+    public boolean containsTenant(String tenant) {
+        return true;
+    }
+
+    /**
+     * 构建不可变索引
+     * <p>
+     * 容器在创建后就不会再修改，因此在创建时将数据按主键或标识建立索引，查询时不再需要遍历。
+     * 如果有重复的键，保留第一个
+     *
+     * @param values 数据
+     * @param key    索引键
+     */
+    protected static <K, V> Map<K, V> index(Collection<V> values, Function<? super V, K> key) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        var index = new HashMap<K, V>((int) (values.size() / 0.75f) + 1);
+        for (var value : values) {
+            var k = key.apply(value);
+            if (k != null) {
+                index.putIfAbsent(k, value);
+            }
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * 构建按租户分组的不可变索引
+     *
+     * @param values tenant -> values
+     * @param key    索引键
+     */
+    protected static <K, V> Map<String, Map<K, V>> index(Map<String, ? extends Collection<V>> values, Function<? super V, K> key) {
+        if (values == null || values.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        var index = new HashMap<String, Map<K, V>>((int) (values.size() / 0.75f) + 1);
+        for (var entry : values.entrySet()) {
+            index.put(entry.getKey(), index(entry.getValue(), key));
+        }
+        return Collections.unmodifiableMap(index);
+    }
+
+    /**
+     * 将按租户分组的索引转换为不可变列表
+     *
+     * @param index tenant -> key -> value
+     */
+    protected static <K, V> Map<String, List<V>> values(Map<String, Map<K, V>> index) {
+        if (index == null || index.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        var values = new HashMap<String, List<V>>((int) (index.size() / 0.75f) + 1);
+        for (var entry : index.entrySet()) {
+            values.put(entry.getKey(), List.copyOf(entry.getValue().values()));
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * 计算数据的最后修改时间，用于增量同步
+     *
+     * @param values 数据
+     * @return 最后修改时间（毫秒），没有数据时返回 0
+     */
+    protected static long watermark(Collection<? extends ModifiableEntity> values) {
+        var watermark = 0L;
+        if (values != null) {
+            for (var value : values) {
+                if (value != null && value.getModifyDate() != null) {
+                    watermark = Math.max(watermark, value.getModifyDate().getTime());
+                }
+            }
+        }
+        return watermark;
+    }
 }
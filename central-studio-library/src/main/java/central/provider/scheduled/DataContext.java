@@ -42,6 +42,13 @@ public interface DataContext extends LifeCycle {
      */
     <T extends DataContainer> void addFetcher(DataFetcherType fetcher);
 
+    /**
+     * 立即刷新数据
+     *
+     * @param fetcher 数据获取器
+     */
+    void refresh(DataFetcherType fetcher);
+
     /**
      * 获取数据
      *
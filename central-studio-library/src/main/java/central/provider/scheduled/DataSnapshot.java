@@ -0,0 +1,154 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.provider.scheduled;
+
+import central.lang.Stringx;
+import central.provider.scheduled.fetcher.DataFetcherType;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * 数据快照
+ * <p>
+ * 将最近一次成功获取的数据保存到本地文件中，应用启动时先从快照中加载数据，
+ * 这样不需要等待数据服务中心返回数据就可以提供服务，数据服务中心不可用时也可以使用快照中的数据。
+ * <p>
+ * 快照中包含租户密钥等敏感数据，因此快照目录只允许当前用户访问（0700），快照文件只允许当前用户读写（0600）
+ *
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+public class DataSnapshot {
+    /**
+     * 只允许反序列化数据容器及其数据实体相关的类型
+     */
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=64;central.provider.scheduled.**;central.data.**;central.sql.data.*;central.bean.*;" +
+                    "java.lang.*;java.util.*;java.time.*;java.math.*;java.sql.Timestamp;!*");
+
+    private static final boolean POSIX = FileSystems.getDefault().supportedFileAttributeViews().contains("posix");
+
+    /**
+     * 快照目录
+     */
+    @Getter
+    private final Path directory;
+
+    /**
+     * 快照名称，用于区分同一目录下不同应用（实例）的快照
+     */
+    @Getter
+    private final String name;
+
+    /**
+     * 创建数据快照
+     *
+     * @param directory 快照目录
+     * @param name      快照名称，一般为应用标识和实例标识
+     */
+    public DataSnapshot(Path directory, String name) {
+        this.directory = directory;
+        this.name = name.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private Path resolve(DataFetcherType type) {
+        return this.directory.resolve(this.name + "." + type.getValue() + ".snapshot");
+    }
+
+    private static FileAttribute<?>[] permissions(String permissions) {
+        if (!POSIX) {
+            return new FileAttribute<?>[0];
+        }
+        return new FileAttribute<?>[]{PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString(permissions))};
+    }
+
+    /**
+     * 加载快照
+     *
+     * @param type 数据获取器
+     * @return 快照数据，没有快照或快照不可用时返回空
+     */
+    public DataContainer load(DataFetcherType type) {
+        var file = this.resolve(type);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (var input = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            input.setObjectInputFilter(FILTER);
+            if (input.readObject() instanceof DataContainer container) {
+                return container;
+            }
+        } catch (Exception ex) {
+            // 快照格式已变化（如类型升级）或者文件已损坏，删除后重新获取
+            log.warn(Stringx.format("加载数据快照[{}]失败: {}", type.getValue(), ex.getLocalizedMessage()));
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+        return null;
+    }
+
+    /**
+     * 保存快照
+     * <p>
+     * 先写入临时文件，再替换原文件，避免进程中断或多个进程同时写入时产生不完整的快照
+     *
+     * @param type      数据获取器
+     * @param container 数据
+     */
+    public void save(DataFetcherType type, DataContainer container) {
+        Path temp = null;
+        try {
+            if (!Files.isDirectory(this.directory)) {
+                Files.createDirectories(this.directory, permissions("rwx------"));
+            }
+            temp = Files.createTempFile(this.directory, this.name + "." + type.getValue(), ".tmp", permissions("rw-------"));
+            try (var output = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                output.writeObject(container);
+            }
+            Files.move(temp, this.resolve(type), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            temp = null;
+        } catch (Exception ex) {
+            log.warn(Stringx.format("保存数据快照[{}]失败: {}", type.getValue(), ex.getLocalizedMessage()));
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2022-present Alan Yeh <alan@yeh.cn>
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package central.provider.scheduled;
+
+import jakarta.annotation.Nonnull;
+import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * 插件注册表
+ * <p>
+ * 每次刷新数据时都会根据最新的数据创建新的不可变快照再整体替换，请求线程读取时不需要加锁、复制或创建对象。
+ * 未修改的插件会被复用，已修改或已删除的插件在新快照发布之后销毁
+ *
+ * @param <D> 插件数据类型
+ * @param <P> 插件类型
+ * @author Alan Yeh
+ * @since 2026/10/18
+ */
+@Slf4j
+public class PluginRegistry<D, P extends DisposableBean> implements DisposableBean {
+
+    /**
+     * 不区分租户的插件使用的租户标识
+     */
+    private static final String GLOBAL = "";
+
+    /**
+     * 获取插件的数据
+     */
+    private final Function<P, D> data;
+
+    /**
+     * 获取数据的版本，版本不一致时重建插件
+     */
+    private final Function<D, ?> version;
+
+    private volatile Snapshot<P> snapshot = Snapshot.empty();
+
+    /**
+     * @param data    获取插件的数据
+     * @param version 获取数据的版本（一般为修改时间）
+     */
+    public PluginRegistry(Function<P, D> data, Function<D, ?> version) {
+        this.data = data;
+        this.version = version;
+    }
+
+    /**
+     * 获取插件
+     *
+     * @param tenant 租户标识
+     * @param key    插件标识
+     */
+    public @Nullable P get(String tenant, String key) {
+        var plugins = this.snapshot.plugins().get(tenant);
+        return plugins == null ? null : plugins.get(key);
+    }
+
+    /**
+     * 获取不区分租户的插件
+     *
+     * @param key 插件标识
+     */
+    public @Nullable P get(String key) {
+        return this.get(GLOBAL, key);
+    }
+
+    /**
+     * 获取租户下的所有插件（不可修改）
+     *
+     * @param tenant 租户标识
+     */
+    public @Nonnull List<P> list(String tenant) {
+        return this.snapshot.lists().getOrDefault(tenant, List.of());
+    }
+
+    /**
+     * 添加插件
+     * <p>
+     * 会复制一份新的快照再替换，被替换的插件会被销毁，只适用于少量的手动注册
+     *
+     * @param tenant 租户标识
+     * @param key    插件标识
+     * @param plugin 插件
+     * @return 被替换的插件
+     */
+    public synchronized @Nullable P put(String tenant, String key, P plugin) {
+        var current = this.snapshot;
+        var plugins = new HashMap<String, Map<String, P>>(current.plugins());
+        var tenantPlugins = new LinkedHashMap<>(plugins.getOrDefault(tenant, Map.of()));
+        var old = tenantPlugins.put(key, plugin);
+        plugins.put(tenant, tenantPlugins);
+        this.snapshot = Snapshot.of(plugins);
+
+        if (old != null && old != plugin) {
+            this.destroy(old);
+        }
+        return old;
+    }
+
+    /**
+     * 根据最新的数据刷新插件
+     *
+     * @param data    tenant -> key -> data
+     * @param factory 插件创建器
+     */
+    public synchronized void refresh(Map<String, ? extends Map<String, D>> data, Function<D, P> factory) {
+        var current = this.snapshot.plugins();
+
+        var retained = Collections.newSetFromMap(new IdentityHashMap<P, Boolean>());
+        var plugins = new HashMap<String, Map<String, P>>(data.size());
+        for (var tenant : data.entrySet()) {
+            var existing = current.getOrDefault(tenant.getKey(), Map.of());
+            var tenantPlugins = new LinkedHashMap<String, P>(tenant.getValue().size());
+            for (var entry : tenant.getValue().entrySet()) {
+                var plugin = existing.get(entry.getKey());
+                if (plugin == null || !Objects.equals(this.version.apply(entry.getValue()), this.version.apply(this.data.apply(plugin)))) {
+                    // 如果当前没有，或者已经过期了，就创建新的插件
+                    try {
+                        plugin = factory.apply(entry.getValue());
+                    } catch (Exception ex) {
+                        // 创建失败时，保留原来的插件
+                        log.error("实例创建失败: " + ex.getLocalizedMessage(), ex);
+                        if (plugin == null) {
+                            continue;
+                        }
+                    }
+                }
+                retained.add(plugin);
+                tenantPlugins.put(entry.getKey(), plugin);
+            }
+            plugins.put(tenant.getKey(), tenantPlugins);
+        }
+
+        this.snapshot = Snapshot.of(plugins);
+
+        // 销毁已经不再使用的插件
+        for (var tenantPlugins : current.values()) {
+            for (var plugin : tenantPlugins.values()) {
+                if (!retained.contains(plugin)) {
+                    this.destroy(plugin);
+                }
+            }
+        }
+    }
+
+    /**
+     * 根据最新的数据刷新不区分租户的插件
+     *
+     * @param data    数据
+     * @param key     获取数据的标识
+     * @param factory 插件创建器
+     */
+    public void refresh(Collection<D> data, Function<D, String> key, Function<D, P> factory) {
+        var plugins = new LinkedHashMap<String, D>(data.size());
+        for (var it : data) {
+            plugins.put(key.apply(it), it);
+        }
+        this.refresh(Map.of(GLOBAL, plugins), factory);
+    }
+
+    private void destroy(P plugin) {
+        try {
+            plugin.destroy();
+        } catch (Exception ex) {
+            log.error("实例销毁失败: " + ex.getLocalizedMessage(), ex);
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        var current = this.snapshot;
+        this.snapshot = Snapshot.empty();
+        for (var plugins : current.plugins().values()) {
+            for (var plugin : plugins.values()) {
+                this.destroy(plugin);
+            }
+        }
+    }
+
+    /**
+     * 插件快照
+     *
+     * @param plugins tenant -> key -> plugin
+     * @param lists   tenant -> plugins
+     */
+    private record Snapshot<P>(Map<String, Map<String, P>> plugins, Map<String, List<P>> lists) {
+        private static <P> Snapshot<P> empty() {
+            return new Snapshot<>(Map.of(), Map.of());
+        }
+
+        private static <P> Snapshot<P> of(Map<String, Map<String, P>> plugins) {
+            var copied = new HashMap<String, Map<String, P>>(plugins.size());
+            var lists = new HashMap<String, List<P>>(plugins.size());
+            for (var entry : plugins.entrySet()) {
+                copied.put(entry.getKey(), Collections.unmodifiableMap(new LinkedHashMap<>(entry.getValue())));
+                lists.put(entry.getKey(), List.copyOf(entry.getValue().values()));
+            }
+            return new Snapshot<>(Collections.unmodifiableMap(copied), Collections.unmodifiableMap(lists));
+        }
+    }
+}
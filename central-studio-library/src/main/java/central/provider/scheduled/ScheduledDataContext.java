@@ -25,6 +25,8 @@
 package central.provider.scheduled;
 
 import central.lang.Stringx;
+import central.provider.scheduled.event.DataChange;
+import central.provider.scheduled.fetcher.DataFetcher;
 import central.provider.scheduled.fetcher.DataFetcherType;
 import central.util.Observable;
 import central.util.ObservableList;
@@ -32,17 +34,20 @@ import central.util.ObservableMap;
 import central.util.ObserveEvent;
 import central.util.concurrent.DelayedElement;
 import central.util.concurrent.DelayedQueue;
+import lombok.Data;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
+import java.net.URI;
 import java.time.Duration;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * 定期刷新的数据
@@ -74,8 +79,41 @@ public class ScheduledDataContext extends Observable<ScheduledDataContext> imple
         }
     }
 
+    /**
+     * 收到数据变更推送后，定时获取数据仅作为兜底，获取间隔不小于此时间
+     */
+    private static final Duration FALLBACK_TIMEOUT = Duration.ofMinutes(1);
+
     private ExecutorService service;
 
+    /**
+     * 执行数据获取的线程池，每个数据获取器同时只会有一个任务在执行，互不阻塞
+     */
+    private ExecutorService workers;
+
+    private final ScheduledFetcher scheduler;
+
+    /**
+     * 数据变更订阅
+     */
+    private DataChangeSubscriber subscriber;
+
+    /**
+     * 数据变更订阅是否已连接
+     */
+    private volatile boolean subscribed = false;
+
+    /**
+     * 数据快照
+     */
+    @Setter
+    private volatile DataSnapshot snapshot;
+
+    /**
+     * 应用是否已启动，启动之后才开始获取数据
+     */
+    private final CountDownLatch started = new CountDownLatch(1);
+
     /**
      * 数据获取器
      */
@@ -98,15 +136,69 @@ public class ScheduledDataContext extends Observable<ScheduledDataContext> imple
      */
     public ScheduledDataContext(BeanSupplier supplier) {
         this.supplier = supplier;
-        service = Executors.newFixedThreadPool(1, new CustomizableThreadFactory("central-data-fetcher"));
-        service.submit(new ScheduledFetcher(this, this.fetchers));
+        service = Executors.newFixedThreadPool(1, new CustomizableThreadFactory("central-data-scheduler"));
+        workers = Executors.newFixedThreadPool(DataFetcherType.values().length, new CustomizableThreadFactory("central-data-fetcher"));
+        this.scheduler = new ScheduledFetcher(this, this.fetchers, this.workers);
+        service.submit(this.scheduler);
+    }
+
+    /**
+     * 订阅数据变更
+     * <p>
+     * 收到数据变更消息后立即重新获取对应的数据，订阅连接正常时定时获取数据仅作为兜底。
+     * 应用启动之后才开始订阅，避免在观察者注册之前就收到数据变更
+     *
+     * @param uri 订阅地址
+     * @param key 数据服务中心密钥
+     */
+    public synchronized void subscribe(URI uri, String key) {
+        if (this.subscriber != null) {
+            this.subscriber.close();
+        }
+        this.subscriber = new DataChangeSubscriber(uri, key, this::onChange, connected -> {
+            if (this.subscribed != connected) {
+                this.subscribed = connected;
+                if (connected) {
+                    // 连接（或重新连接）后，立即刷新一次，避免遗漏断开期间的变更
+                    for (var fetcher : this.fetchers) {
+                        this.refresh(fetcher);
+                    }
+                }
+            }
+        });
+        if (this.started.getCount() == 0) {
+            this.subscriber.start();
+        }
+    }
+
+    /**
+     * 处理数据变更消息
+     * <p>
+     * 只刷新当前应用获取的租户的数据，其它租户的数据变更直接忽略
+     */
+    private void onChange(DataChange change) {
+        var fetcher = DataFetcherType.resolve(change.getFetcher());
+        if (fetcher == null) {
+            return;
+        }
+        var container = this.data.get(fetcher.getValue());
+        if (container != null && Stringx.isNotBlank(change.getTenant()) && !container.containsTenant(change.getTenant())) {
+            return;
+        }
+        this.refresh(fetcher);
     }
 
     @Override
     public void destroy() {
+        if (this.subscriber != null) {
+            this.subscriber.close();
+            this.subscriber = null;
+        }
         // 销毁线程
         service.shutdownNow();
         service = null;
+        workers.shutdownNow();
+        workers = null;
     }
 
     /**
@@ -119,9 +211,39 @@ public class ScheduledDataContext extends Observable<ScheduledDataContext> imple
         if (this.fetchers.contains(fetcher)) {
             throw new IllegalStateException(Stringx.format("数据任务[{}]冲突", fetcher.getValue()));
         }
+        var snapshot = this.snapshot;
+        if (snapshot != null && !this.data.containsKey(fetcher.getValue())) {
+            // 先使用快照中的数据，不需要等待数据服务中心返回数据就可以提供服务
+            var container = snapshot.load(fetcher);
+            if (container != null) {
+                this.data.put(fetcher.getValue(), container);
+            }
+        }
         this.fetchers.add(fetcher);
     }
 
+    /**
+     * 通知应用已启动
+     * <p>
+     * 应用启动后，先通知观察者从快照中加载的数据，然后开始订阅数据变更并从数据服务中心获取数据。
+     * 如果一直没有收到此通知，10 秒后也会开始获取数据
+     */
+    public synchronized void start() {
+        if (this.started.getCount() == 0) {
+            return;
+        }
+        for (var fetcher : this.fetchers) {
+            var container = this.data.get(fetcher.getValue());
+            if (container != null) {
+                this.notifyObservers(DataRefreshedEvent.of(this, fetcher, container));
+            }
+        }
+        this.started.countDown();
+        if (this.subscriber != null) {
+            this.subscriber.start();
+        }
+    }
+
     /**
      * 移除定期获取数据任务
      *
@@ -132,6 +254,25 @@ public class ScheduledDataContext extends Observable<ScheduledDataContext> imple
         this.fetchers.remove(fetcher);
     }
 
+    /**
+     * 立即刷新数据
+     *
+     * @param fetcher 数据获取器
+     */
+    @Override
+    public void refresh(DataFetcherType fetcher) {
+        if (fetcher != null && this.fetchers.contains(fetcher)) {
+            this.scheduler.refresh(fetcher);
+        }
+    }
+
+    /**
+     * 获取数据获取器的执行统计
+     */
+    public List<FetcherStatistics> getStatistics() {
+        return this.scheduler.getStatistics();
+    }
+
     /**
      * 获取数据
      *
@@ -144,8 +285,52 @@ public class ScheduledDataContext extends Observable<ScheduledDataContext> imple
         return (T) this.data.get(fetcher.getValue());
     }
 
+    /**
+     * 数据获取器执行统计
+     */
+    @Data
+    public static class FetcherStatistics {
+        /**
+         * 数据获取器
+         *
+         * @see DataFetcherType#getValue()
+         */
+        private String fetcher;
+        /**
+         * 获取次数
+         */
+        private long count;
+        /**
+         * 失败次数
+         */
+        private long failures;
+        /**
+         * 累计耗时（毫秒）
+         */
+        private long totalTime;
+        /**
+         * 最大耗时（毫秒）
+         */
+        private long maxTime;
+        /**
+         * 最近一次耗时（毫秒）
+         */
+        private long lastTime;
+        /**
+         * 最近一次成功的时间
+         */
+        private long lastSuccess;
+        /**
+         * 最近一次失败的原因
+         */
+        private String lastError;
+    }
+
     /**
      * 定期刷新数据
+     * <p>
+     * 调度线程只负责从延迟队列中取出到期的数据获取器，实际获取数据在 workers 线程池中执行，
+     * 因此某个数据获取器较慢时，不会影响其它数据获取器
      */
     @Slf4j
     private static class ScheduledFetcher implements Runnable {
@@ -153,62 +338,220 @@ public class ScheduledDataContext extends Observable<ScheduledDataContext> imple
         private final DelayedQueue<DelayedElement<DataFetcherType>> queue = new DelayedQueue<>();
         private final ScheduledDataContext context;
         private final ObservableList<DataFetcherType> fetchers;
+        private final ExecutorService workers;
+        // 每个数据获取器当前有效的队列元素，立即刷新时会替换该元素，被替换的元素出队后直接忽略
+        private final Map<DataFetcherType, DelayedElement<DataFetcherType>> scheduled = new ConcurrentHashMap<>();
+        // 正在获取数据的数据获取器
+        private final Set<DataFetcherType> running = EnumSet.noneOf(DataFetcherType.class);
+        // 正在获取数据时又收到了刷新请求，在本次获取完毕后立即再获取一次
+        private final Set<DataFetcherType> pending = EnumSet.noneOf(DataFetcherType.class);
+        // 执行统计
+        private final Map<DataFetcherType, Metrics> metrics = new ConcurrentHashMap<>();
 
-        public ScheduledFetcher(ScheduledDataContext context, ObservableList<DataFetcherType> fetchers) {
+        public ScheduledFetcher(ScheduledDataContext context, ObservableList<DataFetcherType> fetchers, ExecutorService workers) {
             this.context = context;
             this.fetchers = fetchers;
+            this.workers = workers;
 
             fetchers.addObserver(event -> {
                 if (event instanceof ObservableList.ElementAdded<DataFetcherType> added) {
                     for (var newFetcher : added.getElements()) {
-                        this.queue.offer(new DelayedElement<>(newFetcher, Duration.ZERO));
+                        this.schedule(newFetcher, Duration.ZERO);
                     }
                 }
             });
         }
 
+        /**
+         * 安排下一次获取数据
+         *
+         * @param type  数据获取器
+         * @param delay 延迟时间
+         */
+        public void schedule(DataFetcherType type, Duration delay) {
+            var element = new DelayedElement<>(type, delay);
+            this.scheduled.put(type, element);
+            this.queue.offer(element);
+        }
+
+        /**
+         * 立即获取数据
+         * <p>
+         * 如果正在获取数据，则标记为待刷新，本次获取完毕后立即再获取一次。
+         * 不能直接放入队列，否则会被本次获取完毕后安排的定时任务替换掉
+         *
+         * @param type 数据获取器
+         */
+        public synchronized void refresh(DataFetcherType type) {
+            if (this.running.contains(type)) {
+                this.pending.add(type);
+            } else {
+                this.schedule(type, Duration.ZERO);
+            }
+        }
+
+        public List<FetcherStatistics> getStatistics() {
+            return this.metrics.entrySet().stream()
+                    .map(it -> it.getValue().toStatistics(it.getKey()))
+                    .sorted(Comparator.comparing(FetcherStatistics::getFetcher))
+                    .toList();
+        }
+
         @Override
         @SneakyThrows
         public void run() {
             try {
                 // 等待应用启动之后再获取数据
-                Thread.sleep(Duration.ofSeconds(10).toMillis());
+                if (!this.context.started.await(10, TimeUnit.SECONDS)) {
+                    this.context.start();
+                }
 
                 while (true) {
                     var element = queue.take();
                     var type = element.getElement();
+                    if (type == null || this.scheduled.get(type) != element) {
+                        // 已被新的刷新任务替换
+                        continue;
+                    }
                     // 当前数据获取器已经不再包含的话，就不再获取数据了
                     // 由于没有重新加入 queue 队列，因此相当于移除了
                     if (!this.fetchers.contains(type)) {
-                        if (type != null) {
-                            // 数据已过期，移除
-                            this.context.data.remove(type.getValue());
-                        }
+                        // 数据已过期，移除
+                        this.scheduled.remove(type, element);
+                        this.context.data.remove(type.getValue());
                         continue;
                     }
 
+                    synchronized (this) {
+                        if (!this.running.add(type)) {
+                            // 上一次获取还没有完成
+                            this.pending.add(type);
+                            continue;
+                        }
+                    }
+
                     try {
-                        this.context.data.compute(type.getValue(), (key, container) -> {
-                            var fetcher = type.getFetcher().get();
-
-                            // 重新添加到队列里，这样就可以周期性执行获取数据的逻辑了
-                            queue.add(new DelayedElement<>(type, fetcher.getTimeout()));
-
-                            // 获取新数据
-                            fetcher.setSupplier(this.context.supplier);
-                            var data = (DataContainer) fetcher.get();
-
-                            // 通知观查者数据已变更
-                            this.context.notifyObservers(DataRefreshedEvent.of(context, type, data));
-                            return data;
-                        });
-                    } catch (Throwable throwable) {
-                        log.error("刷新数据出现异常: " + throwable.getLocalizedMessage(), throwable);
+                        this.workers.execute(() -> this.fetch(type));
+                    } catch (RejectedExecutionException ex) {
+                        // 线程池已关闭
+                        break;
                     }
                 }
             } catch (InterruptedException ex) {
                 Thread.currentThread().interrupt();
             }
         }
+
+        /**
+         * 获取数据
+         * <p>
+         * 获取数据的过程不在 Map 的锁内执行，每个数据获取器同时只会有一个任务在执行，因此不会出现并发写入
+         */
+        private void fetch(DataFetcherType type) {
+            var metrics = this.metrics.computeIfAbsent(type, key -> new Metrics());
+            var timeout = Duration.ofSeconds(30);
+            var start = System.nanoTime();
+            try {
+                @SuppressWarnings("unchecked")
+                var fetcher = (DataFetcher<DataContainer>) type.getFetcher().get();
+                timeout = fetcher.getTimeout();
+
+                // 获取新数据，支持增量同步的获取器会在上一次数据的基础上更新
+                fetcher.setSupplier(this.context.supplier);
+                var container = this.context.data.get(type.getValue());
+                var data = fetcher.get(container);
+
+                if (data != container && this.fetchers.contains(type)) {
+                    this.context.data.put(type.getValue(), data);
+                    // 通知观查者数据已变更
+                    this.context.notifyObservers(DataRefreshedEvent.of(context, type, data));
+
+                    var snapshot = this.context.snapshot;
+                    if (snapshot != null) {
+                        snapshot.save(type, data);
+                    }
+                }
+                metrics.success(System.nanoTime() - start);
+            } catch (Throwable throwable) {
+                metrics.failure(System.nanoTime() - start, throwable);
+                log.error(Stringx.format("刷新数据[{}]出现异常: {}", type.getValue(), throwable.getLocalizedMessage()), throwable);
+            } finally {
+                var elapsed = Duration.ofNanos(System.nanoTime() - start);
+                if (elapsed.compareTo(timeout) > 0) {
+                    log.warn(Stringx.format("刷新数据[{}]耗时 {}ms，超过了刷新间隔 {}ms", type.getValue(), elapsed.toMillis(), timeout.toMillis()));
+                }
+
+                // 重新添加到队列里，这样就可以周期性执行获取数据的逻辑了
+                // 数据变更订阅正常时，定时获取数据仅作为兜底
+                if (this.context.subscribed && timeout.compareTo(FALLBACK_TIMEOUT) < 0) {
+                    timeout = FALLBACK_TIMEOUT;
+                }
+                synchronized (this) {
+                    this.running.remove(type);
+                    if (this.pending.remove(type)) {
+                        this.schedule(type, Duration.ZERO);
+                    } else {
+                        this.schedule(type, jitter(timeout));
+                    }
+                }
+            }
+        }
+
+        /**
+         * 在刷新间隔上增加 ±10% 的随机抖动，避免多个节点同时请求数据服务中心
+         */
+        private static Duration jitter(Duration timeout) {
+            var millis = timeout.toMillis();
+            var bound = millis / 10;
+            if (bound <= 0) {
+                return timeout;
+            }
+            return Duration.ofMillis(millis + ThreadLocalRandom.current().nextLong(-bound, bound + 1));
+        }
+    }
+
+    /**
+     * 数据获取器执行统计
+     */
+    private static class Metrics {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalTime = new LongAdder();
+        private final AtomicLong maxTime = new AtomicLong();
+        private volatile long lastTime;
+        private volatile long lastSuccess;
+        private volatile String lastError;
+
+        private void record(long nanos) {
+            var millis = TimeUnit.NANOSECONDS.toMillis(nanos);
+            this.count.increment();
+            this.totalTime.add(millis);
+            this.maxTime.accumulateAndGet(millis, Math::max);
+            this.lastTime = millis;
+        }
+
+        public void success(long nanos) {
+            this.record(nanos);
+            this.lastSuccess = System.currentTimeMillis();
+        }
+
+        public void failure(long nanos, Throwable throwable) {
+            this.record(nanos);
+            this.failures.increment();
+            this.lastError = throwable.getLocalizedMessage();
+        }
+
+        public FetcherStatistics toStatistics(DataFetcherType type) {
+            var statistics = new FetcherStatistics();
+            statistics.setFetcher(type.getValue());
+            statistics.setCount(this.count.sum());
+            statistics.setFailures(this.failures.sum());
+            statistics.setTotalTime(this.totalTime.sum());
+            statistics.setMaxTime(this.maxTime.get());
+            statistics.setLastTime(this.lastTime);
+            statistics.setLastSuccess(this.lastSuccess);
+            statistics.setLastError(this.lastError);
+            return statistics;
+        }
     }
 }
@@ -27,6 +27,8 @@ package central.provider.scheduled.fetcher;
 import central.provider.scheduled.BeanSupplier;
 
 import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -47,4 +49,41 @@ public interface DataFetcher<T> extends Supplier<T> {
      * 获取数据超时时间
      */
     Duration getTimeout();
+
+    /**
+     * 增量获取数据
+     * <p>
+     * 默认全量获取。支持增量同步的获取器可以根据上一次的数据只获取变更的部分，
+     * 如果数据没有发生变化，直接返回 previous，此时不会再通知观察者
+     *
+     * @param previous 上一次获取的数据，首次获取时为空
+     */
+    default T get(T previous) {
+        return this.get();
+    }
+
+    /**
+     * 将多个租户的数据按租户分组
+     * <p>
+     * 指定的租户即使没有数据，也会有一个空列表；不属于指定租户的数据会被忽略
+     *
+     * @param tenants 租户标识
+     * @param data    数据
+     * @param tenant  获取数据所属的租户标识
+     */
+    static <E> Map<String, List<E>> groupByTenant(Collection<String> tenants, Collection<E> data, Function<? super E, String> tenant) {
+        var result = new HashMap<String, List<E>>(tenants.size());
+        for (var code : tenants) {
+            result.put(code, new ArrayList<>());
+        }
+        if (data != null) {
+            for (var it : data) {
+                var list = result.get(tenant.apply(it));
+                if (list != null) {
+                    list.add(it);
+                }
+            }
+        }
+        return result;
+    }
 }
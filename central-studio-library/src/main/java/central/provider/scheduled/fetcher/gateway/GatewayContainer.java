@@ -27,10 +27,9 @@ package central.provider.scheduled.fetcher.gateway;
 import central.provider.scheduled.DataContainer;
 import central.data.gateway.GatewayFilter;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
 import java.io.Serial;
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -41,7 +40,6 @@ import java.util.Map;
  * @author Alan Yeh
  * @since 2022/11/08
  */
-@NoArgsConstructor
 public class GatewayContainer extends DataContainer {
     @Serial
     private static final long serialVersionUID = -6116018017073023899L;
@@ -52,10 +50,24 @@ public class GatewayContainer extends DataContainer {
      * tenant -> filters
      */
     @Getter
-    private final Map<String, List<GatewayFilter>> filters = new HashMap<>();
+    private final Map<String, List<GatewayFilter>> filters;
+
+    /**
+     * 过滤器
+     * <p>
+     * tenant -> id -> filter
+     */
+    private final Map<String, Map<String, GatewayFilter>> filtersById;
+
+    public GatewayContainer() {
+        this(Map.of());
+    }
 
     public GatewayContainer(Map<String, List<GatewayFilter>> filters) {
-        this.filters.putAll(filters);
+        this.filtersById = index(filters, GatewayFilter::getId);
+        var lists = new HashMap<String, List<GatewayFilter>>(filters.size());
+        filters.forEach((tenant, values) -> lists.put(tenant, values == null ? List.of() : List.copyOf(values)));
+        this.filters = Collections.unmodifiableMap(lists);
     }
 
     /**
@@ -64,6 +76,22 @@ public class GatewayContainer extends DataContainer {
      * @param tenant 租户标识
      */
     public List<GatewayFilter> getFilters(String tenant) {
-        return new ArrayList<>(this.filters.computeIfAbsent(tenant, key -> new ArrayList<>()));
+        return this.filters.getOrDefault(tenant, List.of());
+    }
+
+    /**
+     * 获取过滤器
+     *
+     * @param tenant 租户标识
+     * @param id     主键
+     */
+    public GatewayFilter getFilter(String tenant, String id) {
+        var filters = this.filtersById.get(tenant);
+        return filters == null ? null : filters.get(id);
+    }
+
+    @Override
+    public boolean containsTenant(String tenant) {
+        return this.filters.containsKey(tenant);
     }
 }
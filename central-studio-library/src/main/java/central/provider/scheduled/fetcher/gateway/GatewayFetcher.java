@@ -29,11 +29,12 @@ import central.provider.graphql.saas.TenantProvider;
 import central.provider.scheduled.BeanSupplier;
 import central.provider.scheduled.fetcher.DataFetcher;
 import central.data.gateway.GatewayFilter;
+import central.data.saas.Tenant;
+import central.util.Listx;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 
@@ -59,19 +60,15 @@ public class GatewayFetcher implements DataFetcher<GatewayContainer> {
         var tenantProvider = supplier.get(TenantProvider.class);
         var filterProvider = supplier.get(GatewayFilterProvider.class);
 
-        // 获取所有租户，然后依次获取该租户下的所有过滤器
-        var tenants = tenantProvider.findBy(null, null, null, null);
+        // 获取所有租户，然后一次性获取这些租户下的所有过滤器
+        var tenants = tenantProvider.findBy(null, null, null, null).stream()
+                // 只获取分配了网关中心的租户
+                .filter(it -> Listx.asStream(it.getApplications()).anyMatch(app -> app.getApplication() != null && Objects.equals("central-gateway", app.getApplication().getCode())))
+                .map(Tenant::getCode)
+                .toList();
 
-        var filters = new HashMap<String, List<GatewayFilter>>();
-
-        for (var tenant : tenants) {
-            if (tenant.getApplications().stream().noneMatch(it -> Objects.equals("central-gateway", it.getApplication().getCode()))) {
-                // 该租户没有分配网关中心
-                continue;
-            }
-            var data = filterProvider.findBy(null, null, null, null, tenant.getCode());
-            filters.put(tenant.getCode(), data);
-        }
+        var data = tenants.isEmpty() ? List.<GatewayFilter>of() : filterProvider.findByTenants(tenants, "master");
+        var filters = DataFetcher.groupByTenant(tenants, data, GatewayFilter::getTenantCode);
 
         return new GatewayContainer(filters);
 
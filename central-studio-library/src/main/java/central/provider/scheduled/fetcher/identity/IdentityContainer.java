@@ -27,15 +27,10 @@ package central.provider.scheduled.fetcher.identity;
 import central.provider.scheduled.DataContainer;
 import central.data.identity.IdentityStrategy;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
 import java.io.Serial;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * 认证中心数据容器
@@ -43,7 +38,6 @@ import java.util.stream.Collectors;
  * @author Alan Yeh
  * @since 2022/11/05
  */
-@NoArgsConstructor
 public class IdentityContainer extends DataContainer {
     @Serial
     private static final long serialVersionUID = 6940307581203336301L;
@@ -54,14 +48,22 @@ public class IdentityContainer extends DataContainer {
      * tenant -> code -> strategy
      */
     @Getter
-    private final Map<String, Map<String, IdentityStrategy>> strategies = new HashMap<>();
+    private final Map<String, Map<String, IdentityStrategy>> strategies;
+
+    /**
+     * 安全策略
+     * <p>
+     * tenant -> strategies
+     */
+    private final Map<String, List<IdentityStrategy>> strategyList;
+
+    public IdentityContainer() {
+        this(Map.of());
+    }
 
     public IdentityContainer(Map<String, List<IdentityStrategy>> strategies) {
-        var idMap = strategies.entrySet().stream().map(it -> {
-            var value = it.getValue().stream().collect(Collectors.toMap(IdentityStrategy::getCode, Function.identity()));
-            return Map.entry(it.getKey(), value);
-        }).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        this.strategies.putAll(idMap);
+        this.strategies = index(strategies, IdentityStrategy::getCode);
+        this.strategyList = values(this.strategies);
     }
 
     /**
@@ -70,7 +72,7 @@ public class IdentityContainer extends DataContainer {
      * @param tenant 租户标识
      */
     public List<IdentityStrategy> getStrategies(String tenant) {
-        return new ArrayList<>(this.strategies.computeIfAbsent(tenant, key -> new HashMap<>()).values());
+        return this.strategyList.getOrDefault(tenant, List.of());
     }
 
     /**
@@ -80,7 +82,12 @@ public class IdentityContainer extends DataContainer {
      * @param code   标识
      */
     public IdentityStrategy getStrategy(String tenant, String code) {
-        return this.strategies.computeIfAbsent(tenant, key -> new HashMap<>()).get(code);
+        var strategies = this.strategies.get(tenant);
+        return strategies == null ? null : strategies.get(code);
     }
 
+    @Override
+    public boolean containsTenant(String tenant) {
+        return this.strategies.containsKey(tenant);
+    }
 }
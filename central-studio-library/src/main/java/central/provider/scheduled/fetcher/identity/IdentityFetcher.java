@@ -29,11 +29,11 @@ import central.provider.graphql.saas.TenantProvider;
 import central.provider.scheduled.BeanSupplier;
 import central.provider.scheduled.fetcher.DataFetcher;
 import central.data.identity.IdentityStrategy;
+import central.data.saas.Tenant;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.List;
 
 /**
@@ -58,15 +58,13 @@ public class IdentityFetcher implements DataFetcher<IdentityContainer> {
         var tenantProvider = supplier.get(TenantProvider.class);
         var strategyProvider = supplier.get(IdentityStrategyProvider.class);
 
-        // 获取所有租户，然后依次获取该租户下的所有安全策略
-        var tenants = tenantProvider.findBy(null, null, null, null);
+        // 获取所有租户，然后一次性获取这些租户下的所有安全策略
+        var tenants = tenantProvider.findBy(null, null, null, null).stream()
+                .map(Tenant::getCode)
+                .toList();
 
-        var strategies = new HashMap<String, List<IdentityStrategy>>();
-
-        for (var tenant : tenants) {
-            var data = strategyProvider.findBy(null, null, null, null, tenant.getCode());
-            strategies.put(tenant.getCode(), data);
-        }
+        var data = tenants.isEmpty() ? List.<IdentityStrategy>of() : strategyProvider.findByTenants(tenants, "master");
+        var strategies = DataFetcher.groupByTenant(tenants, data, IdentityStrategy::getTenantCode);
 
         return new IdentityContainer(strategies);
     }
@@ -28,7 +28,6 @@ import central.provider.scheduled.DataContainer;
 import central.data.log.LogCollector;
 import central.data.log.LogFilter;
 import central.data.log.LogStorage;
-import lombok.RequiredArgsConstructor;
 
 import java.io.Serial;
 import java.util.*;
@@ -39,7 +38,6 @@ import java.util.*;
  * @author Alan Yeh
  * @since 2022/10/25
  */
-@RequiredArgsConstructor
 public class LogContainer extends DataContainer {
     @Serial
     private static final long serialVersionUID = 254177024383905591L;
@@ -54,28 +52,41 @@ public class LogContainer extends DataContainer {
     /**
      * 日志过滤器数据
      * <p>
-     * id -> collector
+     * id -> filter
      */
     private final Map<String, LogFilter> filters;
 
     /**
      * 日志存储器数据
      * <p>
-     * id -> collector
+     * id -> storage
      */
     private final Map<String, LogStorage> storages;
 
+    private final List<LogCollector> collectorList;
+
+    private final List<LogFilter> filterList;
+
+    private final List<LogStorage> storageList;
+
     public LogContainer() {
-        this.collectors = Map.of();
-        this.filters = Map.of();
-        this.storages = Map.of();
+        this(Map.of(), Map.of(), Map.of());
+    }
+
+    public LogContainer(Map<String, LogCollector> collectors, Map<String, LogFilter> filters, Map<String, LogStorage> storages) {
+        this.collectors = Collections.unmodifiableMap(new HashMap<>(collectors));
+        this.filters = Collections.unmodifiableMap(new HashMap<>(filters));
+        this.storages = Collections.unmodifiableMap(new HashMap<>(storages));
+        this.collectorList = List.copyOf(collectors.values());
+        this.filterList = List.copyOf(filters.values());
+        this.storageList = List.copyOf(storages.values());
     }
 
     /**
      * 获取采集器数据
      */
     public List<LogCollector> getCollectors() {
-        return new ArrayList<>(this.collectors.values());
+        return this.collectorList;
     }
 
     /**
@@ -91,7 +102,7 @@ public class LogContainer extends DataContainer {
      * 获取过滤器数据
      */
     public List<LogFilter> getFilters() {
-        return new ArrayList<>(this.filters.values());
+        return this.filterList;
     }
 
     /**
@@ -107,7 +118,7 @@ public class LogContainer extends DataContainer {
      * 获取存储器数据
      */
     public List<LogStorage> getStorages() {
-        return new ArrayList<>(this.storages.values());
+        return this.storageList;
     }
 
     /**
@@ -27,15 +27,10 @@ package central.provider.scheduled.fetcher.multicast;
 import central.provider.scheduled.DataContainer;
 import central.data.multicast.MulticastBroadcaster;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
 import java.io.Serial;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * 广播中心数据容器
@@ -43,7 +38,6 @@ import java.util.stream.Collectors;
  * @author Alan Yeh
  * @since 2022/11/04
  */
-@NoArgsConstructor
 public class MulticastContainer extends DataContainer {
     @Serial
     private static final long serialVersionUID = 3072339257568188029L;
@@ -52,17 +46,25 @@ public class MulticastContainer extends DataContainer {
     /**
      * 广播器
      * <p>
-     * tenant -> id -> broadcaster
+     * tenant -> code -> broadcaster
      */
     @Getter
-    private final Map<String, Map<String, MulticastBroadcaster>> broadcasters = new HashMap<>();
+    private final Map<String, Map<String, MulticastBroadcaster>> broadcasters;
 
-    public MulticastContainer(Map<String, List<MulticastBroadcaster>> buckets) {
-        var idMap = buckets.entrySet().stream().map(it -> {
-            var value = it.getValue().stream().collect(Collectors.toMap(MulticastBroadcaster::getCode, Function.identity()));
-            return Map.entry(it.getKey(), value);
-        }).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        this.broadcasters.putAll(idMap);
+    /**
+     * 广播器
+     * <p>
+     * tenant -> broadcasters
+     */
+    private final Map<String, List<MulticastBroadcaster>> broadcasterList;
+
+    public MulticastContainer() {
+        this(Map.of());
+    }
+
+    public MulticastContainer(Map<String, List<MulticastBroadcaster>> broadcasters) {
+        this.broadcasters = index(broadcasters, MulticastBroadcaster::getCode);
+        this.broadcasterList = values(this.broadcasters);
     }
 
     /**
@@ -71,16 +73,22 @@ public class MulticastContainer extends DataContainer {
      * @param tenant 租户标识
      */
     public List<MulticastBroadcaster> getBroadcasters(String tenant) {
-        return new ArrayList<>(this.broadcasters.computeIfAbsent(tenant, key -> new HashMap<>()).values());
+        return this.broadcasterList.getOrDefault(tenant, List.of());
     }
 
     /**
      * 获取广播器
      *
      * @param tenant 租户标识
-     * @param id     主键
+     * @param code   标识
      */
-    public MulticastBroadcaster getBroadcaster(String tenant, String id) {
-        return this.broadcasters.computeIfAbsent(tenant, key -> new HashMap<>()).get(id);
+    public MulticastBroadcaster getBroadcaster(String tenant, String code) {
+        var broadcasters = this.broadcasters.get(tenant);
+        return broadcasters == null ? null : broadcasters.get(code);
+    }
+
+    @Override
+    public boolean containsTenant(String tenant) {
+        return this.broadcasters.containsKey(tenant);
     }
 }
@@ -29,11 +29,12 @@ import central.provider.graphql.saas.TenantProvider;
 import central.provider.scheduled.BeanSupplier;
 import central.provider.scheduled.fetcher.DataFetcher;
 import central.data.multicast.MulticastBroadcaster;
+import central.data.saas.Tenant;
+import central.util.Listx;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 
@@ -60,19 +61,15 @@ public class MulticastFetcher implements DataFetcher<MulticastContainer> {
         var tenantProvider = supplier.get(TenantProvider.class);
         var multicastProvider = supplier.get(MulticastBroadcasterProvider.class);
 
-        // 获取所有租户，然后依次获取该租户下的所有广播器
-        var tenants = tenantProvider.findBy(null, null, null, null);
+        // 获取所有租户，然后一次性获取这些租户下的所有广播器
+        var tenants = tenantProvider.findBy(null, null, null, null).stream()
+                // 只获取分配了广播中心的租户
+                .filter(it -> Listx.asStream(it.getApplications()).anyMatch(app -> app.getApplication() != null && Objects.equals("central-multicast", app.getApplication().getCode())))
+                .map(Tenant::getCode)
+                .toList();
 
-        var broadcasters = new HashMap<String, List<MulticastBroadcaster>>();
-
-        for (var tenant : tenants) {
-            if (tenant.getApplications().stream().noneMatch(it -> Objects.equals("central-storage", it.getApplication().getCode()))) {
-                // 该租户没有分配存储中心
-                continue;
-            }
-            var data = multicastProvider.findBy(null, null, null, null, tenant.getCode());
-            broadcasters.put(tenant.getCode(), data);
-        }
+        var data = tenants.isEmpty() ? List.<MulticastBroadcaster>of() : multicastProvider.findByTenants(tenants, "master");
+        var broadcasters = DataFetcher.groupByTenant(tenants, data, MulticastBroadcaster::getTenantCode);
 
         return new MulticastContainer(broadcasters);
     }
@@ -28,7 +28,6 @@ import central.provider.scheduled.DataContainer;
 import central.data.saas.Application;
 import central.data.saas.Tenant;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 
 import java.io.Serial;
 import java.util.*;
@@ -39,7 +38,6 @@ import java.util.*;
  * @author Alan Yeh
  * @since 2022/10/13
  */
-@RequiredArgsConstructor
 public class SaasContainer extends DataContainer {
     @Serial
     private static final long serialVersionUID = -1728549119085105086L;
@@ -50,9 +48,51 @@ public class SaasContainer extends DataContainer {
     @Getter
     private final List<Application> applications;
 
+    /**
+     * 租户索引
+     * <p>
+     * code -> tenant
+     */
+    private final Map<String, Tenant> tenantsByCode;
+
+    /**
+     * 应用索引
+     * <p>
+     * code -> application
+     */
+    private final Map<String, Application> applicationsByCode;
+
+    /**
+     * 应用索引
+     * <p>
+     * id -> application
+     */
+    private final Map<String, Application> applicationsById;
+
+    /**
+     * 数据最后修改时间，用于增量同步
+     */
+    @Getter
+    private final long watermark;
+
     public SaasContainer() {
-        this.tenants = Collections.emptyList();
-        this.applications = Collections.emptyList();
+        this(Collections.emptyList(), Collections.emptyList());
+    }
+
+    public SaasContainer(List<Tenant> tenants, List<Application> applications) {
+        this.tenants = tenants;
+        this.applications = applications;
+        this.tenantsByCode = index(tenants, Tenant::getCode);
+        this.applicationsByCode = index(applications, Application::getCode);
+        this.applicationsById = index(applications, Application::getId);
+
+        var watermark = Math.max(watermark(tenants), watermark(applications));
+        for (var tenant : tenants) {
+            if (tenant.getApplications() != null) {
+                watermark = Math.max(watermark, watermark(tenant.getApplications()));
+            }
+        }
+        this.watermark = watermark;
     }
 
     /**
@@ -62,7 +102,7 @@ public class SaasContainer extends DataContainer {
      * @return 租户数据
      */
     public Tenant getTenantByCode(String code) {
-        return this.tenants.stream().filter(it -> Objects.equals(code, it.getCode())).findFirst().orElse(null);
+        return code == null ? null : this.tenantsByCode.get(code);
     }
 
     /**
@@ -72,7 +112,7 @@ public class SaasContainer extends DataContainer {
      * @return 应用数据
      */
     public Application getApplicationByCode(String code) {
-        return this.applications.stream().filter(it -> Objects.equals(code, it.getCode())).findFirst().orElse(null);
+        return code == null ? null : this.applicationsByCode.get(code);
     }
 
     /**
@@ -82,6 +122,6 @@ public class SaasContainer extends DataContainer {
      * @return 应用
      */
     public Application getApplicationById(String id) {
-        return this.applications.stream().filter(it -> Objects.equals(id, it.getId())).findFirst().orElse(null);
+        return id == null ? null : this.applicationsById.get(id);
     }
 }
@@ -24,17 +24,27 @@
 
 package central.provider.scheduled.fetcher.saas;
 
+import central.data.saas.Application;
+import central.data.saas.Tenant;
+import central.data.saas.TenantApplication;
 import central.provider.graphql.saas.ApplicationProvider;
 import central.provider.graphql.saas.TenantProvider;
 import central.provider.scheduled.BeanSupplier;
 import central.provider.scheduled.fetcher.DataFetcher;
+import central.sql.data.ModifiableEntity;
+import central.util.Listx;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
 
 /**
  * 租户中心数据获取
+ * <p>
+ * 首次全量获取，之后每次通过一次请求获取所有数据的主键和修改时间不早于上次数据的记录，并合并到上一次的数据中。
+ * 通过主键集合检测被删除的租户；当应用或租户与应用的关联关系被删除、应用发生变更或距离上次全量获取超过指定时间时，重新全量获取
  *
  * @author Alan Yeh
  * @since 2022/10/13
@@ -47,6 +57,11 @@ public class SaasFetcher implements DataFetcher<SaasContainer> {
     @Getter
     private final Duration timeout = Duration.ofSeconds(5);
 
+    /**
+     * 全量获取间隔
+     */
+    private final Duration fullTimeout = Duration.ofMinutes(5);
+
     @Override
     public SaasContainer get() {
         if (supplier == null){
@@ -61,4 +76,83 @@ public class SaasFetcher implements DataFetcher<SaasContainer> {
 
         return new SaasContainer(tenants, applications);
     }
+
+    @Override
+    public SaasContainer get(SaasContainer previous) {
+        if (supplier == null || previous == null || previous.getWatermark() <= 0
+                || System.currentTimeMillis() - previous.getTimestamp() > this.fullTimeout.toMillis()) {
+            return this.get();
+        }
+
+        // 以上次数据的最后修改时间为水位线，一次请求获取所有数据的主键和变更的数据
+        // 服务端使用大于等于，避免遗漏同一毫秒内修改的数据，这里再通过修改时间过滤掉已经获取过的数据
+        var changes = this.supplier.get(TenantProvider.class).findChanges(previous.getWatermark(), "master");
+        if (changes == null) {
+            return this.get();
+        }
+
+        // 应用或关联关系被删除时需要全量获取（被删除的关联关系无法定位到需要更新的租户）
+        var applicationIds = previous.getApplications().stream().map(Application::getId).collect(Collectors.toSet());
+        var relationIds = previous.getTenants().stream().flatMap(it -> Listx.asStream(it.getApplications())).map(TenantApplication::getId).collect(Collectors.toSet());
+        if (!applicationIds.equals(Listx.asStream(changes.getApplicationIds()).collect(Collectors.toSet()))
+                || !Listx.asStream(changes.getRelationIds()).collect(Collectors.toSet()).containsAll(relationIds)) {
+            return this.get();
+        }
+
+        if (Listx.asStream(changes.getApplications()).anyMatch(it -> isChanged(it.getModifyDate(), previous.getApplicationById(it.getId())))) {
+            // 应用数据会冗余到租户的关联数据中，应用变更时需要全量获取
+            return this.get();
+        }
+
+        var tenantIds = Listx.asStream(changes.getTenantIds()).collect(Collectors.toSet());
+        var previousTenants = new HashMap<String, Tenant>();
+        for (var tenant : previous.getTenants()) {
+            previousTenants.put(tenant.getId(), tenant);
+        }
+
+        // 租户或租户与应用的关联关系有变更
+        var changed = new LinkedHashMap<String, Tenant>();
+        for (var tenant : Listx.asStream(changes.getTenants()).toList()) {
+            if (isChanged(tenant, previousTenants.get(tenant.getId()))) {
+                changed.put(tenant.getId(), tenant);
+            }
+        }
+
+        // 被删除的租户
+        var deleted = previousTenants.keySet().stream().filter(it -> !tenantIds.contains(it)).toList();
+
+        if (changed.isEmpty() && deleted.isEmpty()) {
+            // 数据没有变化
+            return previous;
+        }
+
+        var merged = new LinkedHashMap<>(previousTenants);
+        deleted.forEach(merged::remove);
+        merged.putAll(changed);
+
+        var result = merged.values().stream().sorted(Comparator.comparing(Tenant::getCode, Comparator.nullsLast(Comparator.naturalOrder()))).toList();
+        return new SaasContainer(result, previous.getApplications());
+    }
+
+    /**
+     * 判断租户及其关联关系是否比上一次获取的数据新
+     */
+    private static boolean isChanged(Tenant tenant, Tenant previous) {
+        if (isChanged(tenant.getModifyDate(), previous)) {
+            return true;
+        }
+        var relations = Listx.asStream(previous.getApplications()).collect(Collectors.toMap(TenantApplication::getId, it -> it));
+        var current = Listx.asStream(tenant.getApplications()).toList();
+        if (current.size() != relations.size()) {
+            return true;
+        }
+        return current.stream().anyMatch(it -> isChanged(it.getModifyDate(), relations.get(it.getId())));
+    }
+
+    /**
+     * 判断数据是否比上一次获取的数据新
+     */
+    private static boolean isChanged(Object modifyDate, ModifiableEntity previous) {
+        return previous == null || !Objects.equals(modifyDate, previous.getModifyDate());
+    }
 }
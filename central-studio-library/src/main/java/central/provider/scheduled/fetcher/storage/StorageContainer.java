@@ -27,15 +27,10 @@ package central.provider.scheduled.fetcher.storage;
 import central.provider.scheduled.DataContainer;
 import central.data.storage.StorageBucket;
 import lombok.Getter;
-import lombok.NoArgsConstructor;
 
 import java.io.Serial;
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * 存储中心数据容器
@@ -43,7 +38,6 @@ import java.util.stream.Collectors;
  * @author Alan Yeh
  * @since 2022/10/30
  */
-@NoArgsConstructor
 public class StorageContainer extends DataContainer {
     @Serial
     private static final long serialVersionUID = -4597030574643128388L;
@@ -51,17 +45,25 @@ public class StorageContainer extends DataContainer {
     /**
      * 存储桶
      * <p>
-     * tenant -> id -> bucket
+     * tenant -> code -> bucket
      */
     @Getter
-    private final Map<String, Map<String, StorageBucket>> buckets = new HashMap<>();
+    private final Map<String, Map<String, StorageBucket>> buckets;
+
+    /**
+     * 存储桶
+     * <p>
+     * tenant -> buckets
+     */
+    private final Map<String, List<StorageBucket>> bucketList;
+
+    public StorageContainer() {
+        this(Map.of());
+    }
 
     public StorageContainer(Map<String, List<StorageBucket>> buckets) {
-        var idMap = buckets.entrySet().stream().map(it -> {
-            var value = it.getValue().stream().collect(Collectors.toMap(StorageBucket::getCode, Function.identity()));
-            return Map.entry(it.getKey(), value);
-        }).collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        this.buckets.putAll(idMap);
+        this.buckets = index(buckets, StorageBucket::getCode);
+        this.bucketList = values(this.buckets);
     }
 
     /**
@@ -70,16 +72,22 @@ public class StorageContainer extends DataContainer {
      * @param tenant 租户标识
      */
     public List<StorageBucket> getBuckets(String tenant) {
-        return new ArrayList<>(this.buckets.computeIfAbsent(tenant, key -> new HashMap<>()).values());
+        return this.bucketList.getOrDefault(tenant, List.of());
     }
 
     /**
      * 获取存储桶
      *
      * @param tenant 租户标识
-     * @param id     主键
+     * @param code   标识
      */
-    public StorageBucket getBucket(String tenant, String id) {
-        return this.buckets.computeIfAbsent(tenant, key -> new HashMap<>()).get(id);
+    public StorageBucket getBucket(String tenant, String code) {
+        var buckets = this.buckets.get(tenant);
+        return buckets == null ? null : buckets.get(code);
+    }
+
+    @Override
+    public boolean containsTenant(String tenant) {
+        return this.buckets.containsKey(tenant);
     }
 }
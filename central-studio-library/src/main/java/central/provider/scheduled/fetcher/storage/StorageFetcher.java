@@ -29,11 +29,12 @@ import central.provider.graphql.storage.StorageBucketProvider;
 import central.provider.graphql.saas.TenantProvider;
 import central.provider.scheduled.BeanSupplier;
 import central.data.storage.StorageBucket;
+import central.data.saas.Tenant;
+import central.util.Listx;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.Duration;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Objects;
 
@@ -60,19 +61,15 @@ public class StorageFetcher implements DataFetcher<StorageContainer> {
         var tenantProvider = supplier.get(TenantProvider.class);
         var bucketProvider = supplier.get(StorageBucketProvider.class);
 
-        // 获取所有租户，然后依次获取该租户下的所有存储桶
-        var tenants = tenantProvider.findBy(null, null, null, null);
+        // 获取所有租户，然后一次性获取这些租户下的所有存储桶
+        var tenants = tenantProvider.findBy(null, null, null, null).stream()
+                // 只获取分配了存储中心的租户
+                .filter(it -> Listx.asStream(it.getApplications()).anyMatch(app -> app.getApplication() != null && Objects.equals("central-storage", app.getApplication().getCode())))
+                .map(Tenant::getCode)
+                .toList();
 
-        var buckets = new HashMap<String, List<StorageBucket>>();
-
-        for (var tenant : tenants) {
-            if (tenant.getApplications().stream().noneMatch(it -> Objects.equals("central-storage", it.getApplication().getCode()))) {
-                // 该租户没有分配存储中心
-                continue;
-            }
-            var data = bucketProvider.findBy(null, null, null, null, tenant.getCode());
-            buckets.put(tenant.getCode(), data);
-        }
+        var data = tenants.isEmpty() ? List.<StorageBucket>of() : bucketProvider.findByTenants(tenants, "master");
+        var buckets = DataFetcher.groupByTenant(tenants, data, StorageBucket::getTenantCode);
 
         return new StorageContainer(buckets);
     }
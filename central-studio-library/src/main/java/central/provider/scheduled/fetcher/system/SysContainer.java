@@ -26,9 +26,9 @@ package central.provider.scheduled.fetcher.system;
 
 import central.provider.scheduled.DataContainer;
 import central.data.system.Dictionary;
-import lombok.RequiredArgsConstructor;
 
 import java.io.Serial;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -38,7 +38,6 @@ import java.util.Map;
  * @author Alan Yeh
  * @since 2022/10/14
  */
-@RequiredArgsConstructor
 public class SysContainer extends DataContainer {
     @Serial
     private static final long serialVersionUID = 7527120121005302705L;
@@ -50,7 +49,17 @@ public class SysContainer extends DataContainer {
     private final Map<String, Map<String, Map<String, Dictionary>>> dictionaries;
 
     public SysContainer() {
-        this.dictionaries = new HashMap<>();
+        this(Map.of());
+    }
+
+    public SysContainer(Map<String, Map<String, Map<String, Dictionary>>> dictionaries) {
+        var tenants = new HashMap<String, Map<String, Map<String, Dictionary>>>(dictionaries.size());
+        dictionaries.forEach((tenant, applications) -> {
+            var values = new HashMap<String, Map<String, Dictionary>>(applications.size());
+            applications.forEach((application, dictionary) -> values.put(application, Collections.unmodifiableMap(new HashMap<>(dictionary))));
+            tenants.put(tenant, Collections.unmodifiableMap(values));
+        });
+        this.dictionaries = Collections.unmodifiableMap(tenants);
     }
 
     /**
@@ -61,8 +70,11 @@ public class SysContainer extends DataContainer {
      * @param dictionaryCode  字典标识
      */
     public Dictionary getDictionary(String tenantCode, String applicationCode, String dictionaryCode) {
-        return this.dictionaries.computeIfAbsent(tenantCode, key -> new HashMap<>())
-                .computeIfAbsent(applicationCode, key -> new HashMap<>())
-                .get(dictionaryCode);
+        var applications = this.dictionaries.get(tenantCode);
+        if (applications == null) {
+            return null;
+        }
+        var dictionaries = applications.get(applicationCode);
+        return dictionaries == null ? null : dictionaries.get(dictionaryCode);
     }
 }